@@ -6,6 +6,7 @@ import com.evaluationservice.api.dto.request.GenerateDynamicAssignmentsRequest;
 import com.evaluationservice.api.dto.request.LifecycleActionRequest;
 import com.evaluationservice.api.dto.request.LifecycleImpactPreviewRequest;
 import com.evaluationservice.api.dto.request.UpdateCampaignStepsRequest;
+import com.evaluationservice.api.dto.response.AssignmentCounterCheckResponse;
 import com.evaluationservice.api.dto.response.AssignmentParityReportResponse;
 import com.evaluationservice.api.dto.response.AssignmentReconciliationResponse;
 import com.evaluationservice.api.dto.response.AssignmentBackfillResponse;
@@ -14,10 +15,17 @@ import com.evaluationservice.api.dto.response.CampaignLifecycleEventResponse;
 import com.evaluationservice.api.dto.response.CampaignStepResponse;
 import com.evaluationservice.api.dto.response.DynamicAssignmentResponse;
 import com.evaluationservice.api.dto.response.LifecycleImpactPreviewResponse;
+import com.evaluationservice.api.dto.response.MyAssignmentPageResponse;
+import com.evaluationservice.api.dto.response.MyAssignmentResponse;
 import com.evaluationservice.api.mapper.ResponseMapper;
 import com.evaluationservice.application.port.in.CampaignManagementUseCase;
 import com.evaluationservice.application.port.in.CampaignManagementUseCase.AssignmentEntry;
 import com.evaluationservice.application.port.in.CampaignManagementUseCase.CreateCampaignCommand;
+import com.evaluationservice.application.port.in.CampaignProgressUseCase;
+import com.evaluationservice.application.port.in.CampaignProgressUseCase.StepProgress;
+import com.evaluationservice.application.port.in.EvaluatorInboxUseCase;
+import com.evaluationservice.application.port.in.EvaluatorInboxUseCase.InboxPage;
+import com.evaluationservice.application.port.out.EvaluatorInboxPort.InboxRow;
 import com.evaluationservice.domain.entity.Campaign;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.domain.value.DateRange;
@@ -29,13 +37,17 @@ import com.evaluationservice.infrastructure.service.AssignmentParityReportServic
 import com.evaluationservice.infrastructure.service.AssignmentReconciliationService;
 import com.evaluationservice.infrastructure.service.AssignmentBackfillService;
 import com.evaluationservice.infrastructure.service.CampaignLifecycleEventService;
+import com.evaluationservice.infrastructure.service.CampaignProgressBroadcaster;
 import com.evaluationservice.infrastructure.service.CampaignStepService;
 
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Instant;
 import java.util.List;
@@ -57,6 +69,9 @@ public class CampaignController {
     private final AssignmentBackfillService assignmentBackfillService;
     private final CampaignStepService campaignStepService;
     private final CampaignLifecycleEventService campaignLifecycleEventService;
+    private final EvaluatorInboxUseCase evaluatorInboxUseCase;
+    private final CampaignProgressUseCase campaignProgressUseCase;
+    private final CampaignProgressBroadcaster campaignProgressBroadcaster;
 
     public CampaignController(
             CampaignManagementUseCase campaignUseCase,
@@ -67,7 +82,10 @@ public class CampaignController {
             AssignmentParityReportService assignmentParityReportService,
             AssignmentBackfillService assignmentBackfillService,
             CampaignStepService campaignStepService,
-            CampaignLifecycleEventService campaignLifecycleEventService) {
+            CampaignLifecycleEventService campaignLifecycleEventService,
+            EvaluatorInboxUseCase evaluatorInboxUseCase,
+            CampaignProgressUseCase campaignProgressUseCase,
+            CampaignProgressBroadcaster campaignProgressBroadcaster) {
         this.campaignUseCase = campaignUseCase;
         this.responseMapper = responseMapper;
         this.userProvider = userProvider;
@@ -77,6 +95,9 @@ public class CampaignController {
         this.assignmentBackfillService = assignmentBackfillService;
         this.campaignStepService = campaignStepService;
         this.campaignLifecycleEventService = campaignLifecycleEventService;
+        this.evaluatorInboxUseCase = evaluatorInboxUseCase;
+        this.campaignProgressUseCase = campaignProgressUseCase;
+        this.campaignProgressBroadcaster = campaignProgressBroadcaster;
     }
 
     @PostMapping
@@ -135,9 +156,11 @@ public class CampaignController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(required = false) Integer size) {
         int pageSize = resolvePageSize(size);
-        List<CampaignResponse> campaigns = campaignUseCase.listCampaigns(status, page, pageSize)
-                .stream()
-                .map(responseMapper::toResponse)
+        List<Campaign> listed = campaignUseCase.listCampaigns(status, page, pageSize);
+        Map<CampaignId, StepProgress> totals = campaignProgressUseCase.getTotals(
+                listed.stream().map(Campaign::getId).toList());
+        List<CampaignResponse> campaigns = listed.stream()
+                .map(campaign -> responseMapper.toResponse(campaign, totals.get(campaign.getId())))
                 .toList();
         return ResponseEntity.ok(campaigns);
     }
@@ -145,13 +168,13 @@ public class CampaignController {
     @PostMapping("/{id}/activate")
     public ResponseEntity<CampaignResponse> activateCampaign(@PathVariable String id) {
         Campaign campaign = campaignUseCase.activateCampaign(CampaignId.of(id));
-        return ResponseEntity.ok(responseMapper.toResponse(campaign));
+        return ResponseEntity.ok(toCountedResponse(campaign));
     }
 
     @PostMapping("/{id}/close")
     public ResponseEntity<CampaignResponse> closeCampaign(@PathVariable String id) {
         Campaign campaign = campaignUseCase.closeCampaign(CampaignId.of(id));
-        return ResponseEntity.ok(responseMapper.toResponse(campaign));
+        return ResponseEntity.ok(toCountedResponse(campaign));
     }
 
     @PostMapping("/{id}/lifecycle/publish")
@@ -162,7 +185,7 @@ public class CampaignController {
         ensureFeatureEnabled("features.enable-pdf-lifecycle");
         String reason = request == null ? null : request.reason();
         Campaign campaign = campaignUseCase.publishCampaign(CampaignId.of(id), userProvider.getCurrentUserId(), reason);
-        return ResponseEntity.ok(responseMapper.toResponse(campaign));
+        return ResponseEntity.ok(toCountedResponse(campaign));
     }
 
     @PostMapping("/{id}/lifecycle/close")
@@ -173,7 +196,7 @@ public class CampaignController {
         ensureFeatureEnabled("features.enable-pdf-lifecycle");
         String reason = request == null ? null : request.reason();
         Campaign campaign = campaignUseCase.closeCampaign(CampaignId.of(id), userProvider.getCurrentUserId(), reason);
-        return ResponseEntity.ok(responseMapper.toResponse(campaign));
+        return ResponseEntity.ok(toCountedResponse(campaign));
     }
 
     @PostMapping("/{id}/lifecycle/reopen")
@@ -184,7 +207,7 @@ public class CampaignController {
         ensureFeatureEnabled("features.enable-pdf-lifecycle");
         String reason = request == null ? null : request.reason();
         Campaign campaign = campaignUseCase.reopenCampaign(CampaignId.of(id), userProvider.getCurrentUserId(), reason);
-        return ResponseEntity.ok(responseMapper.toResponse(campaign));
+        return ResponseEntity.ok(toCountedResponse(campaign));
     }
 
     @PostMapping("/{id}/lifecycle/publish-results")
@@ -198,7 +221,7 @@ public class CampaignController {
                 CampaignId.of(id),
                 userProvider.getCurrentUserId(),
                 reason);
-        return ResponseEntity.ok(responseMapper.toResponse(campaign));
+        return ResponseEntity.ok(toCountedResponse(campaign));
     }
 
     @PostMapping("/{id}/lifecycle/impact-preview")
@@ -228,7 +251,7 @@ public class CampaignController {
     @PostMapping("/{id}/archive")
     public ResponseEntity<CampaignResponse> archiveCampaign(@PathVariable String id) {
         Campaign campaign = campaignUseCase.archiveCampaign(CampaignId.of(id));
-        return ResponseEntity.ok(responseMapper.toResponse(campaign));
+        return ResponseEntity.ok(toCountedResponse(campaign));
     }
 
     @PostMapping("/{id}/assignments")
@@ -285,31 +308,38 @@ public class CampaignController {
 
     @GetMapping("/{id}/progress")
     public ResponseEntity<Map<String, Double>> getCampaignProgress(@PathVariable String id) {
-        double progress = campaignUseCase.getCampaignProgress(CampaignId.of(id));
+        double progress = campaignProgressUseCase.getProgress(CampaignId.of(id)).completionPercentage();
         return ResponseEntity.ok(Map.of("completionPercentage", progress));
     }
 
+    @GetMapping(path = "/{id}/progress/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCampaignProgress(@PathVariable String id) {
+        return campaignProgressBroadcaster.subscribe(CampaignId.of(id));
+    }
+
     @GetMapping("/assignments/me")
-    public ResponseEntity<List<com.evaluationservice.api.dto.response.MyAssignmentResponse>> getMyAssignments() {
+    public ResponseEntity<List<MyAssignmentResponse>> getMyAssignments() {
         String userId = userProvider.getCurrentUserId();
-        List<Campaign> campaigns = campaignUseCase.listCampaignsForEvaluator(userId);
-
-        List<com.evaluationservice.api.dto.response.MyAssignmentResponse> response = campaigns.stream()
-                .flatMap(c -> c.getAssignments().stream()
-                        .filter(a -> a.getEvaluatorId().equals(userId))
-                        // Only include incomplete assignments or those with evaluationId?
-                        // Let's include everything for now.
-                        .map(a -> new com.evaluationservice.api.dto.response.MyAssignmentResponse(
-                                a.getId(),
-                                c.getId().value(),
-                                c.getName(),
-                                c.getDateRange().endDate(),
-                                a.getEvaluateeId(),
-                                a.isCompleted() ? "COMPLETED" : "PENDING",
-                                a.getEvaluationId())))
-                .toList();
+        return ResponseEntity.ok(evaluatorInboxUseCase.listAllAssignments(userId).stream()
+                .map(CampaignController::toMyAssignment)
+                .toList());
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * Keyset-paginated variant of {@code /assignments/me}; pass the returned
+     * {@code nextCursor} to read the next page.
+     */
+    @GetMapping("/assignments/me/page")
+    public ResponseEntity<MyAssignmentPageResponse> getMyAssignmentsPage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant dueBefore,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        InboxPage page = evaluatorInboxUseCase.listAssignments(
+                userProvider.getCurrentUserId(), status, dueBefore, cursor, resolvePageSize(size));
+        return ResponseEntity.ok(new MyAssignmentPageResponse(
+                page.items().stream().map(CampaignController::toMyAssignment).toList(),
+                page.nextCursor()));
     }
 
     @GetMapping("/{id}/assignments/reconcile")
@@ -317,6 +347,16 @@ public class CampaignController {
         return ResponseEntity.ok(assignmentReconciliationService.reconcile(id));
     }
 
+    @GetMapping("/{id}/assignments/counters")
+    public ResponseEntity<AssignmentCounterCheckResponse> checkAssignmentCounters(@PathVariable String id) {
+        return ResponseEntity.ok(assignmentReconciliationService.checkCounters(id, false));
+    }
+
+    @PostMapping("/{id}/assignments/counters/repair")
+    public ResponseEntity<AssignmentCounterCheckResponse> repairAssignmentCounters(@PathVariable String id) {
+        return ResponseEntity.ok(assignmentReconciliationService.checkCounters(id, true));
+    }
+
     @GetMapping("/{id}/steps")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<CampaignStepResponse>> getCampaignSteps(@PathVariable String id) {
@@ -346,6 +386,27 @@ public class CampaignController {
         return ResponseEntity.ok(assignmentBackfillService.backfill(dryRun, maxCampaigns));
     }
 
+    private static MyAssignmentResponse toMyAssignment(InboxRow row) {
+        return new MyAssignmentResponse(
+                row.assignmentId(),
+                row.campaignId(),
+                row.campaignName(),
+                row.endDate(),
+                row.evaluateeId(),
+                row.completed() ? "COMPLETED" : "PENDING",
+                row.evaluationId(),
+                row.campaignStatus().name());
+    }
+
+    /**
+     * Response for a campaign returned without its assignments, with the
+     * assignment counts read from the counters.
+     */
+    private CampaignResponse toCountedResponse(Campaign campaign) {
+        return responseMapper.toResponse(campaign,
+                campaignProgressUseCase.getTotals(List.of(campaign.getId())).get(campaign.getId()));
+    }
+
     private int resolvePageSize(Integer requestedSize) {
         if (requestedSize == null) {
             return settingsResolver.resolveInt("pagination.default-page-size");
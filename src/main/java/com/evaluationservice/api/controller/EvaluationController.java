@@ -1,12 +1,20 @@
 package com.evaluationservice.api.controller;
 
+import com.evaluationservice.api.dto.request.AnswerRequest;
+import com.evaluationservice.api.dto.request.SubmitEvaluationBatchRequest;
 import com.evaluationservice.api.dto.request.SubmitEvaluationRequest;
+import com.evaluationservice.api.dto.response.BatchSubmissionResponse;
 import com.evaluationservice.api.dto.response.EvaluationResponse;
 import com.evaluationservice.api.dto.response.AdminSubmissionDetailResponse;
 import com.evaluationservice.api.dto.response.SubmissionReceiptResponse;
 import com.evaluationservice.api.dto.response.SubmissionValidationResponse;
 import com.evaluationservice.api.mapper.ResponseMapper;
 import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.BatchItemResult;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.BatchItemStatus;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.BatchSubmission;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.PatchAnswerCommand;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.SubmitEvaluationBatchCommand;
 import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.SubmitEvaluationCommand;
 import com.evaluationservice.domain.entity.Answer;
 import com.evaluationservice.domain.entity.Evaluation;
@@ -78,6 +86,50 @@ public class EvaluationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseMapper.toResponse(evaluation));
     }
 
+    /**
+     * Submits many evaluations of one campaign in a single request. Items are
+     * reported individually; a rejected item does not fail the others.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchSubmissionResponse> submitEvaluationBatch(
+            @Valid @RequestBody SubmitEvaluationBatchRequest request) {
+        List<BatchSubmission> submissions = request.submissions().stream()
+                .map(item -> new BatchSubmission(
+                        item.assignmentId(),
+                        resolveEvaluatorId(item.evaluatorId()),
+                        item.evaluateeId(),
+                        item.answers().stream()
+                                .map(a -> new Answer(
+                                        UUID.randomUUID().toString(),
+                                        a.questionId(),
+                                        a.value(),
+                                        a.selectedOptions(),
+                                        a.textResponse(),
+                                        a.metadata()))
+                                .toList()))
+                .toList();
+
+        List<BatchItemResult> results = evaluationUseCase.submitEvaluationBatch(new SubmitEvaluationBatchCommand(
+                CampaignId.of(request.campaignId()),
+                request.templateId(),
+                submissions));
+
+        List<BatchSubmissionResponse.Item> items = results.stream()
+                .map(r -> new BatchSubmissionResponse.Item(
+                        r.index(),
+                        r.assignmentId(),
+                        r.status().name(),
+                        r.evaluation() != null ? responseMapper.toResponse(r.evaluation()) : null,
+                        r.error()))
+                .toList();
+        return ResponseEntity.ok(new BatchSubmissionResponse(
+                request.campaignId(),
+                count(results, BatchItemStatus.SUBMITTED),
+                count(results, BatchItemStatus.ALREADY_SUBMITTED),
+                count(results, BatchItemStatus.REJECTED),
+                items));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EvaluationResponse> getEvaluation(@PathVariable String id) {
         Evaluation evaluation = evaluationUseCase.getEvaluation(EvaluationId.of(id));
@@ -146,6 +198,26 @@ public class EvaluationController {
         return ResponseEntity.ok(responseMapper.toResponse(evaluation));
     }
 
+    /**
+     * Autosaves one question's answer. The change is acknowledged before it is
+     * written; see the runbook for the durability window.
+     */
+    @PatchMapping("/{id}/answers/{questionId}")
+    public ResponseEntity<Void> patchAnswer(
+            @PathVariable String id,
+            @PathVariable String questionId,
+            @RequestBody AnswerRequest request) {
+        Answer answer = new Answer(
+                UUID.randomUUID().toString(),
+                questionId,
+                request.value(),
+                request.selectedOptions(),
+                request.textResponse(),
+                request.metadata());
+        evaluationUseCase.patchAnswer(new PatchAnswerCommand(EvaluationId.of(id), answer));
+        return ResponseEntity.accepted().build();
+    }
+
     @GetMapping("/campaign/{campaignId}")
     public ResponseEntity<List<EvaluationResponse>> listByCampaign(
             @PathVariable String campaignId,
@@ -200,6 +272,10 @@ public class EvaluationController {
         return Math.min(requestedSize, properties.getPagination().getMaxPageSize());
     }
 
+    private static int count(List<BatchItemResult> results, BatchItemStatus status) {
+        return (int) results.stream().filter(r -> r.status() == status).count();
+    }
+
     private String resolveEvaluatorId(String requestEvaluatorId) {
         String authenticatedUser = userProvider.getCurrentUserId();
         if (!"anonymous".equals(authenticatedUser)) {
@@ -1,15 +1,30 @@
 package com.evaluationservice.api.controller;
 
+import com.evaluationservice.application.port.in.GroupRollupUseCase;
+import com.evaluationservice.application.port.in.GroupRollupUseCase.GroupRollupResult;
 import com.evaluationservice.application.port.in.ReportGenerationUseCase;
+import com.evaluationservice.application.port.in.ReportGenerationUseCase.BulkReportExport;
 import com.evaluationservice.application.port.in.ReportGenerationUseCase.CampaignReportResult;
 import com.evaluationservice.application.port.in.ReportGenerationUseCase.IndividualReportResult;
+import com.evaluationservice.application.port.in.ReportGenerationUseCase.ResultsExport;
+import com.evaluationservice.application.port.in.ScoreTrendUseCase;
+import com.evaluationservice.application.port.in.ScoreTrendUseCase.EvaluateeTrend;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for report generation and export.
@@ -18,12 +33,20 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/reports")
 public class ReportController {
 
+    private static final Logger log = LoggerFactory.getLogger(ReportController.class);
+
     private final ReportGenerationUseCase reportUseCase;
+    private final GroupRollupUseCase groupRollupUseCase;
+    private final ScoreTrendUseCase scoreTrendUseCase;
     private final EvaluationServiceProperties properties;
 
     public ReportController(ReportGenerationUseCase reportUseCase,
+            GroupRollupUseCase groupRollupUseCase,
+            ScoreTrendUseCase scoreTrendUseCase,
             EvaluationServiceProperties properties) {
         this.reportUseCase = reportUseCase;
+        this.groupRollupUseCase = groupRollupUseCase;
+        this.scoreTrendUseCase = scoreTrendUseCase;
         this.properties = properties;
     }
 
@@ -48,6 +71,57 @@ public class ReportController {
         return ResponseEntity.ok(report);
     }
 
+    @PostMapping("/campaign/{campaignId}/aggregates/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildScoreAggregates(@PathVariable String campaignId) {
+        int aggregated = reportUseCase.rebuildScoreAggregates(CampaignId.of(campaignId));
+        return ResponseEntity.ok(Map.of("campaignId", campaignId, "evaluationsAggregated", aggregated));
+    }
+
+    @GetMapping("/campaign/{campaignId}/groups")
+    public ResponseEntity<List<GroupRollupResult>> listGroupRollups(
+            @PathVariable String campaignId,
+            @RequestParam(required = false) String parentGroupId) {
+        if (!properties.getFeatures().isEnableReports()) {
+            return ResponseEntity.status(403).build();
+        }
+        return ResponseEntity.ok(groupRollupUseCase.listGroupRollups(CampaignId.of(campaignId), parentGroupId));
+    }
+
+    @GetMapping("/campaign/{campaignId}/groups/{groupId}")
+    public ResponseEntity<GroupRollupResult> getGroupRollup(
+            @PathVariable String campaignId,
+            @PathVariable String groupId) {
+        if (!properties.getFeatures().isEnableReports()) {
+            return ResponseEntity.status(403).build();
+        }
+        return ResponseEntity.ok(groupRollupUseCase.getGroupRollup(CampaignId.of(campaignId), groupId));
+    }
+
+    @PostMapping("/campaign/{campaignId}/groups/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildGroupRollups(@PathVariable String campaignId) {
+        int groups = groupRollupUseCase.rebuildGroupRollups(CampaignId.of(campaignId));
+        return ResponseEntity.ok(Map.of("campaignId", campaignId, "groupsRolledUp", groups));
+    }
+
+    @GetMapping("/trends/{evaluateeId}")
+    public ResponseEntity<EvaluateeTrend> getEvaluateeTrend(
+            @PathVariable String evaluateeId,
+            @RequestParam(defaultValue = "8") int cycles) {
+        if (!properties.getFeatures().isEnableReports()) {
+            return ResponseEntity.status(403).build();
+        }
+        return ResponseEntity.ok(scoreTrendUseCase.getEvaluateeTrend(evaluateeId, cycles));
+    }
+
+    @PostMapping("/campaign/{campaignId}/trends/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> recordCampaignTrend(@PathVariable String campaignId) {
+        int evaluatees = scoreTrendUseCase.recordCampaignTrend(CampaignId.of(campaignId));
+        return ResponseEntity.ok(Map.of("campaignId", campaignId, "evaluateesRecorded", evaluatees));
+    }
+
     @GetMapping("/export/csv/{campaignId}")
     public ResponseEntity<byte[]> exportCampaignCsv(@PathVariable String campaignId) {
         if (!properties.getFeatures().isEnableCsvExport()) {
@@ -61,6 +135,73 @@ public class ReportController {
                 .body(csv);
     }
 
+    /**
+     * One row per completed evaluation with per-section score columns, streamed
+     * from a database cursor. {@code gzip=true} compresses the download.
+     */
+    @GetMapping("/export/csv/{campaignId}/evaluations")
+    public ResponseEntity<StreamingResponseBody> exportEvaluationResultsCsv(
+            @PathVariable String campaignId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        if (!properties.getFeatures().isEnableCsvExport()) {
+            return ResponseEntity.status(403).build();
+        }
+        ResultsExport export = reportUseCase.prepareResultsExport(CampaignId.of(campaignId));
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                reportUseCase.writeResultsCsv(export, compressed);
+                compressed.finish();
+            } else {
+                reportUseCase.writeResultsCsv(export, out);
+            }
+        };
+        String filename = "campaign-" + campaignId + "-evaluations.csv" + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("text/csv"))
+                .body(body);
+    }
+
+    /**
+     * Raw answers pivoted to one row per completed evaluation and one column per
+     * template question. {@code format} is {@code csv} or {@code ndjson}.
+     */
+    @GetMapping("/export/answers/{campaignId}")
+    public ResponseEntity<StreamingResponseBody> exportAnswers(
+            @PathVariable String campaignId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        if (!properties.getFeatures().isEnableCsvExport()) {
+            return ResponseEntity.status(403).build();
+        }
+        boolean ndjson = switch (format.toLowerCase()) {
+            case "csv" -> false;
+            case "ndjson" -> true;
+            default -> throw new IllegalArgumentException("Unsupported export format: " + format);
+        };
+        ResultsExport export = reportUseCase.prepareResultsExport(CampaignId.of(campaignId));
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+            if (ndjson) {
+                reportUseCase.writeAnswersNdjson(export, target);
+            } else {
+                reportUseCase.writeAnswersCsv(export, target);
+            }
+            if (target instanceof GZIPOutputStream compressed) {
+                compressed.finish();
+            }
+        };
+        String filename = "campaign-" + campaignId + "-answers." + (ndjson ? "ndjson" : "csv") + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(ndjson ? "application/x-ndjson" : "text/csv");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .contentType(contentType)
+                .body(body);
+    }
+
     @GetMapping("/export/pdf")
     public ResponseEntity<byte[]> exportIndividualPdf(
             @RequestParam String evaluateeId,
@@ -75,4 +216,30 @@ public class ReportController {
                 .contentType(MediaType.APPLICATION_PDF)
                 .body(pdf);
     }
+
+    /**
+     * Every individual report of the campaign as one ZIP of PDFs, written as
+     * the reports finish rendering. {@code X-Report-Count} carries the number
+     * of entries the archive will hold.
+     */
+    @GetMapping("/export/pdf/{campaignId}/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportCampaignPdfZip(@PathVariable String campaignId) {
+        if (!properties.getFeatures().isEnablePdfExport()) {
+            return ResponseEntity.status(403).build();
+        }
+        BulkReportExport export = reportUseCase.prepareBulkPdfExport(CampaignId.of(campaignId));
+        int total = export.reports().size();
+        int logEvery = Math.max(1, total / 10);
+        StreamingResponseBody body = out -> reportUseCase.writeBulkPdfZip(export, out, written -> {
+            if (written % logEvery == 0 || written == total) {
+                log.info("Bulk PDF export for campaign {}: {}/{} reports written", campaignId, written, total);
+            }
+        });
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=campaign-" + campaignId + "-reports.zip")
+                .header("X-Report-Count", String.valueOf(total))
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
+    }
 }
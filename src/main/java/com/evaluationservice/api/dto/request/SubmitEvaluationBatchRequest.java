@@ -0,0 +1,24 @@
+package com.evaluationservice.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Request DTO for submitting several evaluations of one campaign at once.
+ */
+public record SubmitEvaluationBatchRequest(
+        @NotBlank(message = "Campaign ID is required") String campaignId,
+        @NotBlank(message = "Template ID is required") String templateId,
+        @NotEmpty(message = "Submissions are required") @Valid List<Item> submissions) {
+
+    public record Item(
+            @NotBlank(message = "Assignment ID is required") String assignmentId,
+            @NotBlank(message = "Evaluator ID is required") String evaluatorId,
+            @NotBlank(message = "Evaluatee ID is required") String evaluateeId,
+            @NotNull(message = "Answers are required") List<AnswerRequest> answers) {
+    }
+}
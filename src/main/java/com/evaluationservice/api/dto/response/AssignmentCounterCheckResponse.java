@@ -0,0 +1,18 @@
+package com.evaluationservice.api.dto.response;
+
+import java.util.List;
+
+/**
+ * Response for checking a campaign's denormalized assignment counters
+ * against its assignment rows.
+ */
+public record AssignmentCounterCheckResponse(
+        String campaignId,
+        long storedTotal,
+        long countedTotal,
+        long storedCompleted,
+        long countedCompleted,
+        List<String> driftedSteps,
+        boolean consistent,
+        boolean repaired) {
+}
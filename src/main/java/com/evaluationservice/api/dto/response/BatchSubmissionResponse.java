@@ -0,0 +1,23 @@
+package com.evaluationservice.api.dto.response;
+
+import java.util.List;
+
+/**
+ * Per-item outcome of a batch submission, in request order.
+ * Item status is SUBMITTED, ALREADY_SUBMITTED or REJECTED.
+ */
+public record BatchSubmissionResponse(
+        String campaignId,
+        int submitted,
+        int alreadySubmitted,
+        int rejected,
+        List<Item> items) {
+
+    public record Item(
+            int index,
+            String assignmentId,
+            String status,
+            EvaluationResponse evaluation,
+            String error) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.evaluationservice.api.dto.response;
+
+import java.util.Map;
+
+public record CampaignProgressResponse(
+        String campaignId,
+        long totalAssignments,
+        long completedAssignments,
+        double completionPercentage,
+        Map<String, StepProgressResponse> steps) {
+
+    public record StepProgressResponse(long totalAssignments, long completedAssignments) {
+    }
+}
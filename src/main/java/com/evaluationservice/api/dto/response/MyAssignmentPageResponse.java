@@ -0,0 +1,8 @@
+package com.evaluationservice.api.dto.response;
+
+import java.util.List;
+
+public record MyAssignmentPageResponse(
+        List<MyAssignmentResponse> items,
+        String nextCursor) {
+}
@@ -9,5 +9,6 @@ public record MyAssignmentResponse(
         Instant endDate,
         String evaluateeId,
         String status,
-        String evaluationId) {
+        String evaluationId,
+        String campaignStatus) {
 }
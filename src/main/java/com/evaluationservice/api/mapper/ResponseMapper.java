@@ -3,6 +3,7 @@ package com.evaluationservice.api.mapper;
 import com.evaluationservice.api.dto.response.CampaignResponse;
 import com.evaluationservice.api.dto.response.EvaluationResponse;
 import com.evaluationservice.api.dto.response.TemplateResponse;
+import com.evaluationservice.application.port.in.CampaignProgressUseCase.StepProgress;
 import com.evaluationservice.domain.entity.Campaign;
 import com.evaluationservice.domain.entity.Evaluation;
 import com.evaluationservice.domain.entity.Template;
@@ -57,6 +58,18 @@ public class ResponseMapper {
     }
 
     public CampaignResponse toResponse(Campaign campaign) {
+        return toResponse(campaign, new StepProgress(
+                campaign.getAssignments().size(), campaign.getCompletedAssignmentCount()));
+    }
+
+    /**
+     * Maps a campaign loaded without its assignments, taking the assignment
+     * counts from the given totals.
+     */
+    public CampaignResponse toResponse(Campaign campaign, StepProgress totals) {
+        double completionPercentage = totals.totalAssignments() == 0
+                ? 0.0
+                : (double) totals.completedAssignments() / totals.totalAssignments() * 100;
         return new CampaignResponse(
                 campaign.getId().value(),
                 campaign.getName(),
@@ -72,9 +85,9 @@ public class ResponseMapper {
                 campaign.getAudienceSourceConfig(),
                 campaign.getAssignmentRuleType(),
                 campaign.getAssignmentRuleConfig(),
-                campaign.getAssignments().size(),
-                campaign.getCompletedAssignmentCount(),
-                campaign.getCompletionPercentage(),
+                (int) totals.totalAssignments(),
+                totals.completedAssignments(),
+                completionPercentage,
                 campaign.getPublishedAt(),
                 campaign.getReopenedAt(),
                 campaign.getResultsPublishedAt(),
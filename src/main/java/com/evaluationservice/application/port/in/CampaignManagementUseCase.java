@@ -87,6 +87,12 @@ public interface CampaignManagementUseCase {
 
         Campaign updateCampaign(UpdateCampaignCommand command);
 
+        /**
+         * Lifecycle transitions (activate, close, publish, reopen, publish
+         * results, archive) change only campaign-level state and return the
+         * campaign without its assignments; read the counts through
+         * {@link CampaignProgressUseCase}.
+         */
         Campaign activateCampaign(CampaignId campaignId);
 
         Campaign closeCampaign(CampaignId campaignId);
@@ -117,6 +123,9 @@ public interface CampaignManagementUseCase {
 
         Campaign getCampaign(CampaignId campaignId);
 
+        /**
+         * Lists campaigns without their assignments.
+         */
         List<Campaign> listCampaigns(String status, int page, int size);
 
         double getCampaignProgress(CampaignId campaignId);
@@ -0,0 +1,35 @@
+package com.evaluationservice.application.port.in;
+
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Inbound port for campaign completion progress.
+ */
+public interface CampaignProgressUseCase {
+
+    record StepProgress(long totalAssignments, long completedAssignments) {
+    }
+
+    /**
+     * Completion counts for the whole campaign and per step type, keyed as in
+     * {@link com.evaluationservice.application.port.out.CampaignProgressPort}.
+     */
+    record CampaignProgress(
+            CampaignId campaignId,
+            long totalAssignments,
+            long completedAssignments,
+            double completionPercentage,
+            Map<String, StepProgress> steps) {
+    }
+
+    CampaignProgress getProgress(CampaignId campaignId);
+
+    /**
+     * Total and completed assignment counts of each given campaign, read from
+     * the counters; campaigns without assignments map to zero counts.
+     */
+    Map<CampaignId, StepProgress> getTotals(Collection<CampaignId> campaignIds);
+}
@@ -21,21 +21,83 @@ public interface EvaluationSubmissionUseCase {
             List<Answer> answers) {
     }
 
+    /**
+     * A batch of submissions for one campaign, all scored against the same template.
+     */
+    record SubmitEvaluationBatchCommand(
+            CampaignId campaignId,
+            String templateId,
+            List<BatchSubmission> submissions) {
+    }
+
+    record BatchSubmission(
+            String assignmentId,
+            String evaluatorId,
+            String evaluateeId,
+            List<Answer> answers) {
+    }
+
+    enum BatchItemStatus {
+        SUBMITTED,
+        ALREADY_SUBMITTED,
+        REJECTED
+    }
+
+    /**
+     * Outcome of one batch item, in request order. {@code evaluation} is set
+     * unless the item was rejected, in which case {@code error} says why.
+     */
+    record BatchItemResult(
+            int index,
+            String assignmentId,
+            BatchItemStatus status,
+            Evaluation evaluation,
+            String error) {
+    }
+
     record SaveDraftCommand(
             EvaluationId evaluationId,
             List<Answer> answers) {
     }
 
+    /**
+     * Change to a single question's answer on a draft.
+     */
+    record PatchAnswerCommand(
+            EvaluationId evaluationId,
+            Answer answer) {
+    }
+
     /**
      * Submits and scores an evaluation (idempotent).
      */
     Evaluation submitEvaluation(SubmitEvaluationCommand command);
 
+    /**
+     * Submits and scores a batch of evaluations for one campaign. Each item has
+     * the same idempotency semantics as {@link #submitEvaluation}; validation
+     * failures reject only the affected item.
+     */
+    List<BatchItemResult> submitEvaluationBatch(SubmitEvaluationBatchCommand command);
+
     /**
      * Saves evaluation progress as a draft.
      */
     Evaluation saveDraft(SaveDraftCommand command);
 
+    /**
+     * Accepts a per-question draft change. Changes are coalesced and written
+     * behind; reads and submission see them before they are flushed.
+     */
+    void patchAnswer(PatchAnswerCommand command);
+
+    /**
+     * Writes any coalesced draft changes for the evaluation.
+     *
+     * @return {@code true} if changes were written
+     */
+    boolean flushDraft(EvaluationId evaluationId);
+
     Evaluation getEvaluation(EvaluationId evaluationId);
 
     List<Evaluation> listEvaluationsForCampaign(CampaignId campaignId, int page, int size);
@@ -0,0 +1,31 @@
+package com.evaluationservice.application.port.in;
+
+import com.evaluationservice.application.port.out.EvaluatorInboxPort.InboxRow;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Inbound port for the calling evaluator's assignment inbox.
+ */
+public interface EvaluatorInboxUseCase {
+
+    /**
+     * One page of the inbox. {@code nextCursor} continues after its last row
+     * and is {@code null} on the last page.
+     */
+    record InboxPage(List<InboxRow> items, String nextCursor) {
+    }
+
+    /**
+     * @param status    {@code PENDING} or {@code COMPLETED}; {@code null} for both
+     * @param dueBefore only assignments in campaigns ending at or before it
+     * @param cursor    {@code nextCursor} of the previous page, or {@code null}
+     */
+    InboxPage listAssignments(String evaluatorId, String status, Instant dueBefore, String cursor, int limit);
+
+    /**
+     * Every assignment of the evaluator, in inbox order.
+     */
+    List<InboxRow> listAllAssignments(String evaluatorId);
+}
@@ -0,0 +1,41 @@
+package com.evaluationservice.application.port.in;
+
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inbound port for organisational rollup reports: campaign scores summarised
+ * per audience group, where a group covers its own members and those of every
+ * descendant group.
+ */
+public interface GroupRollupUseCase {
+
+    record GroupRollupResult(
+            String groupId,
+            String name,
+            String groupType,
+            String parentGroupId,
+            int memberCount,
+            long evaluationCount,
+            double averageScore,
+            Map<String, Double> sectionAverages) {
+    }
+
+    /**
+     * Rollups of the direct children of a group, or of the root groups when
+     * {@code parentGroupId} is null, ordered by group name. Groups without
+     * scored members are left out.
+     */
+    List<GroupRollupResult> listGroupRollups(CampaignId campaignId, String parentGroupId);
+
+    GroupRollupResult getGroupRollup(CampaignId campaignId, String groupId);
+
+    /**
+     * Recomputes the campaign's rollup cube.
+     *
+     * @return number of groups with scored members
+     */
+    int rebuildGroupRollups(CampaignId campaignId);
+}
@@ -2,13 +2,21 @@ package com.evaluationservice.application.port.in;
 
 import com.evaluationservice.domain.value.CampaignId;
 
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Inbound port for report generation operations.
  */
 public interface ReportGenerationUseCase {
 
+    /**
+     * {@code totalEvaluations} and {@code respondentCount} count the
+     * evaluatee's completed evaluations; drafts and evaluations still being
+     * scored are not included.
+     */
     record IndividualReportResult(
             String evaluateeId,
             String evaluateeName,
@@ -18,7 +26,18 @@ public interface ReportGenerationUseCase {
             Map<String, String> strengths,
             Map<String, String> weaknesses,
             int totalEvaluations,
-            int respondentCount) {
+            int respondentCount,
+            Double campaignPercentile,
+            Map<String, Double> sectionPercentiles) {
+
+        /**
+         * Copy with the evaluatee's percentile ranks, from 0 to 100, of the
+         * overall and section scores within the campaign's distribution.
+         */
+        public IndividualReportResult withPercentiles(Double campaignPercentile, Map<String, Double> sectionPercentiles) {
+            return new IndividualReportResult(evaluateeId, evaluateeName, campaignId, overallScore, sectionScores,
+                    strengths, weaknesses, totalEvaluations, respondentCount, campaignPercentile, sectionPercentiles);
+        }
     }
 
     record CampaignReportResult(
@@ -28,14 +47,103 @@ public interface ReportGenerationUseCase {
             double completionPercentage,
             int totalAssignments,
             int completedAssignments,
-            Map<String, Double> sectionAverages) {
+            Map<String, Double> sectionAverages,
+            ScoreDistribution scoreDistribution,
+            Map<String, ScoreDistribution> sectionDistributions) {
+    }
+
+    /**
+     * Approximate 10th, 50th and 90th percentile of a campaign's scores.
+     */
+    record ScoreDistribution(double p10, double p50, double p90) {
+    }
+
+    /**
+     * Everything a results export needs besides the rows themselves, resolved
+     * up front so a missing campaign fails before any output is written.
+     */
+    record ResultsExport(
+            CampaignId campaignId,
+            boolean anonymous,
+            List<ExportSection> sections,
+            List<ExportQuestion> questions) {
+    }
+
+    record ExportSection(String sectionId, String title) {
+    }
+
+    record ExportQuestion(String questionId, String sectionTitle, String text) {
+    }
+
+    /**
+     * Individual reports of every evaluatee with completed evaluations, built
+     * from one read of the campaign's aggregates.
+     */
+    record BulkReportExport(CampaignId campaignId, List<IndividualReportResult> reports) {
     }
 
     IndividualReportResult generateIndividualReport(String evaluateeId, CampaignId campaignId);
 
     CampaignReportResult generateCampaignReport(CampaignId campaignId);
 
+    /**
+     * Recomputes the campaign's score aggregates from its completed evaluations.
+     *
+     * @return number of completed evaluations aggregated
+     */
+    int rebuildScoreAggregates(CampaignId campaignId);
+
+    /**
+     * Computes the campaign report and every individual report once and stores
+     * them as the campaign's frozen results. While the snapshot exists, report
+     * reads of the campaign are key lookups into it.
+     *
+     * @return number of individual reports frozen
+     */
+    int snapshotResults(CampaignId campaignId);
+
+    void discardResultsSnapshot(CampaignId campaignId);
+
     byte[] exportReportAsPdf(String evaluateeId, CampaignId campaignId);
 
     byte[] exportReportAsCsv(CampaignId campaignId);
+
+    BulkReportExport prepareBulkPdfExport(CampaignId campaignId);
+
+    /**
+     * Renders every report of the export as a PDF on virtual threads, with
+     * bounded parallelism, and writes each into a ZIP entry as soon as it is
+     * ready. {@code progress} receives the number of reports written so far.
+     * The stream is finished but not closed.
+     *
+     * @throws java.io.UncheckedIOException if writing to the stream fails
+     */
+    void writeBulkPdfZip(BulkReportExport export, OutputStream out, IntConsumer progress);
+
+    ResultsExport prepareResultsExport(CampaignId campaignId);
+
+    /**
+     * Writes one CSV row per completed evaluation, with a column per template
+     * section, streaming from the database. The stream is flushed but not closed.
+     *
+     * @throws java.io.UncheckedIOException if writing to the stream fails
+     */
+    void writeResultsCsv(ResultsExport export, OutputStream out);
+
+    /**
+     * Writes one CSV row per completed evaluation with a column per template
+     * question, in template order, headed "section: question". Numeric answers are written as numbers,
+     * choices joined with {@code |}, text as is.
+     *
+     * @throws java.io.UncheckedIOException if writing to the stream fails
+     */
+    void writeAnswersCsv(ResultsExport export, OutputStream out);
+
+    /**
+     * Writes one JSON object per line per completed evaluation, with answers
+     * keyed by question ID in template order.
+     *
+     * @throws java.io.UncheckedIOException if writing to the stream fails
+     */
+    void writeAnswersNdjson(ResultsExport export, OutputStream out);
 }
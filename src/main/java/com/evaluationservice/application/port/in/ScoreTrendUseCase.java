@@ -0,0 +1,38 @@
+package com.evaluationservice.application.port.in;
+
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inbound port for cycle-over-cycle score trends across closed campaigns.
+ */
+public interface ScoreTrendUseCase {
+
+    record TrendPoint(
+            CampaignId campaignId,
+            String campaignName,
+            Instant cycleEnd,
+            long evaluationCount,
+            double overallScore,
+            Map<String, Double> sectionScores) {
+    }
+
+    /**
+     * An evaluatee's scores in their most recent closed campaigns, oldest first.
+     */
+    record EvaluateeTrend(String evaluateeId, List<TrendPoint> cycles) {
+    }
+
+    EvaluateeTrend getEvaluateeTrend(String evaluateeId, int cycles);
+
+    /**
+     * Records a closed campaign's scores in the trend store, replacing any
+     * earlier record of it.
+     *
+     * @return number of evaluatees recorded
+     */
+    int recordCampaignTrend(CampaignId campaignId);
+}
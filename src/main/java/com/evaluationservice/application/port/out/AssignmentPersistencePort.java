@@ -3,7 +3,9 @@ package com.evaluationservice.application.port.out;
 import com.evaluationservice.domain.entity.CampaignAssignment;
 import com.evaluationservice.domain.value.CampaignId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,5 +20,17 @@ public interface AssignmentPersistencePort {
 
     void markCompleted(String assignmentId, String evaluationId);
 
+    /**
+     * Returns a completed assignment to open, clearing its evaluation link.
+     */
+    void markReopened(String assignmentId);
+
+    /**
+     * Batched {@link #markCompleted}, keyed by assignment ID.
+     */
+    void markCompletedAll(Map<String, String> evaluationIdsByAssignmentId);
+
     Optional<CampaignAssignment> findById(String assignmentId);
+
+    List<CampaignAssignment> findByIds(Collection<String> assignmentIds);
 }
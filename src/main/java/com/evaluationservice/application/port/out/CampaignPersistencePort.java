@@ -2,6 +2,7 @@ package com.evaluationservice.application.port.out;
 
 import com.evaluationservice.domain.entity.Campaign;
 import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.value.CampaignHeader;
 import com.evaluationservice.domain.value.CampaignId;
 
 import java.util.List;
@@ -14,12 +15,38 @@ public interface CampaignPersistencePort {
 
     Campaign save(Campaign campaign);
 
+    /**
+     * Writes only the lifecycle state (status, lock flag and lifecycle
+     * timestamps) of an existing campaign, leaving its assignments untouched.
+     * Returns the campaign without assignments.
+     */
+    Campaign saveLifecycleState(Campaign campaign);
+
     Optional<Campaign> findById(CampaignId campaignId);
 
+    /**
+     * Loads only the campaign header (status, date range, lock flag) without
+     * materializing assignments.
+     */
+    Optional<CampaignHeader> findHeaderById(CampaignId campaignId);
+
+    /**
+     * Loads the campaign without its assignments, for callers that read only
+     * campaign-level fields; assignment counts come from
+     * {@link CampaignProgressPort}.
+     */
+    Optional<Campaign> findByIdWithoutAssignments(CampaignId campaignId);
+
     List<Campaign> findByStatus(CampaignStatus status, int page, int size);
 
     List<Campaign> findAll(int page, int size);
 
+    /**
+     * Loads a page of campaigns, of the given status or of any status when it
+     * is {@code null}, without their assignments.
+     */
+    List<Campaign> findPageWithoutAssignments(CampaignStatus status, int page, int size);
+
     boolean existsById(CampaignId campaignId);
 
     List<Campaign> findByEvaluatorId(String evaluatorId);
@@ -0,0 +1,46 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbound port for a campaign's assignment counts, read without
+ * materializing the assignments.
+ */
+public interface CampaignProgressPort {
+
+    /**
+     * Step key for assignments that belong to no step.
+     */
+    String NO_STEP = "NONE";
+
+    record StepCount(String stepType, long totalAssignments, long completedAssignments) {
+    }
+
+    record AssignmentTotals(long totalAssignments, long completedAssignments) {
+
+        public static final AssignmentTotals NONE = new AssignmentTotals(0, 0);
+
+        /**
+         * Same calculation as {@code Campaign#getCompletionPercentage()}.
+         */
+        public double completionPercentage() {
+            return totalAssignments == 0 ? 0.0 : (double) completedAssignments / totalAssignments * 100;
+        }
+    }
+
+    /**
+     * Assignment counts per step type; empty for a campaign without
+     * assignments.
+     */
+    List<StepCount> countByStep(CampaignId campaignId);
+
+    /**
+     * Assignment totals of the given campaigns. Campaigns without assignments
+     * are absent.
+     */
+    Map<CampaignId, AssignmentTotals> countAssignments(Collection<CampaignId> campaignIds);
+}
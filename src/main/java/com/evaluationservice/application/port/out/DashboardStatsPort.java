@@ -0,0 +1,81 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Outbound port for the counters behind the admin dashboard.
+ * <p>
+ * Each campaign's contribution is kept as its own row, so a campaign can be
+ * refreshed by replacing that row and adding the difference to the totals.
+ * Writers take the totals row lock first, which orders refreshes against
+ * each other and against reconciliation.
+ */
+public interface DashboardStatsPort {
+
+    record DashboardCounters(
+            long totalCampaigns,
+            long activeCampaigns,
+            long totalTemplates,
+            long totalAssignments,
+            long completedAssignments,
+            Instant reconciledAt) {
+    }
+
+    /**
+     * A campaign's contribution to the totals. A {@code null} status means
+     * the campaign is not counted yet.
+     */
+    record CampaignCounters(CampaignStatus status, long totalAssignments, long completedAssignments) {
+
+        public static final CampaignCounters NONE = new CampaignCounters(null, 0, 0);
+    }
+
+    /**
+     * The totals, or empty until they have first been reconciled.
+     */
+    Optional<DashboardCounters> find();
+
+    /**
+     * Locks the totals row for the rest of the transaction, creating it if
+     * needed.
+     */
+    void lockTotals();
+
+    /**
+     * The campaign's counted contribution, {@link CampaignCounters#NONE} if
+     * it has none.
+     */
+    CampaignCounters findCampaign(CampaignId campaignId);
+
+    /**
+     * Stores the campaign's new contribution and adds its difference from
+     * {@code previous} to the totals.
+     */
+    void updateCampaign(CampaignId campaignId, CampaignCounters previous, CampaignCounters current);
+
+    void updateTemplates(long totalTemplates);
+
+    /**
+     * Current contributions of the given campaigns, counted without loading
+     * their assignments. Campaigns that no longer exist are absent.
+     */
+    Map<CampaignId, CampaignCounters> countCampaigns(Collection<CampaignId> campaignIds);
+
+    /**
+     * Current contributions of every campaign, counted from the assignment
+     * source of truth.
+     */
+    Map<CampaignId, CampaignCounters> countAllCampaigns();
+
+    /**
+     * Replaces every campaign's contribution and recomputes the totals from
+     * them, marking the totals reconciled.
+     */
+    DashboardCounters replaceAll(Map<CampaignId, CampaignCounters> campaigns, long totalTemplates);
+}
@@ -0,0 +1,44 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.value.EvaluationId;
+
+import java.util.List;
+
+/**
+ * Outbound port for coalescing per-question draft changes before they are
+ * written to the evaluation row.
+ */
+public interface DraftAnswerBufferPort {
+
+    /**
+     * Buffers an answer change, replacing any pending change to the same question.
+     *
+     * @return {@code false} if the buffer is full and the caller must write through
+     */
+    boolean buffer(EvaluationId evaluationId, Answer answer);
+
+    boolean isBuffered(EvaluationId evaluationId);
+
+    /**
+     * Pending changes without removing them, in first-changed order.
+     */
+    List<Answer> pending(EvaluationId evaluationId);
+
+    /**
+     * Removes and returns the pending changes.
+     */
+    List<Answer> drain(EvaluationId evaluationId);
+
+    /**
+     * Removes and returns the pending changes for a write in the current
+     * transaction; they are put back as by {@link #restore} if it rolls back.
+     */
+    List<Answer> drainForTransaction(EvaluationId evaluationId);
+
+    /**
+     * Puts back drained changes after a failed write. Questions changed again
+     * since the drain keep their newer change.
+     */
+    void restore(EvaluationId evaluationId, List<Answer> answers);
+}
@@ -0,0 +1,55 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Outbound port for streaming evaluation results out of storage without
+ * materializing them.
+ */
+public interface EvaluationExportPort {
+
+    /**
+     * One completed evaluation, with section scores keyed by section ID.
+     */
+    record EvaluationResultRow(
+            String evaluationId,
+            String assignmentId,
+            String evaluatorId,
+            String evaluateeId,
+            BigDecimal totalScore,
+            Instant submittedAt,
+            Map<String, BigDecimal> sectionScores) {
+    }
+
+    /**
+     * One completed evaluation with its raw answers.
+     */
+    record EvaluationAnswersRow(
+            String evaluationId,
+            String assignmentId,
+            String evaluatorId,
+            String evaluateeId,
+            Instant submittedAt,
+            List<Answer> answers) {
+    }
+
+    /**
+     * Hands each completed evaluation of the campaign to the consumer as it is
+     * read. Rows are not retained, so memory use does not grow with the campaign.
+     * Must run inside a transaction so the database can keep a cursor open.
+     */
+    void forEachCompleted(CampaignId campaignId, Consumer<EvaluationResultRow> consumer);
+
+    /**
+     * Same as {@link #forEachCompleted} but decodes the answers instead of the
+     * section scores, one evaluation at a time.
+     */
+    void forEachCompletedAnswers(CampaignId campaignId, Consumer<EvaluationAnswersRow> consumer);
+}
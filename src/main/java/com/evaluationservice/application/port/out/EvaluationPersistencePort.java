@@ -4,6 +4,8 @@ import com.evaluationservice.domain.entity.Evaluation;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.domain.value.EvaluationId;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,10 +16,48 @@ public interface EvaluationPersistencePort {
 
     Evaluation save(Evaluation evaluation);
 
+    /**
+     * Persists new and existing evaluations using batched statements.
+     */
+    void saveAll(List<Evaluation> evaluations);
+
+    /**
+     * Records the score of an evaluation that is still in SCORING.
+     *
+     * @return {@code false} if the row left SCORING in the meantime
+     */
+    boolean completeScoring(Evaluation evaluation);
+
+    /**
+     * Evaluations in SCORING last updated before the cutoff, oldest first,
+     * skipping dead-lettered ones and those whose retry is not yet due.
+     */
+    List<EvaluationId> findScoringDue(Instant updatedBefore, Instant now, int limit);
+
+    /**
+     * Records a failed scoring attempt.
+     *
+     * @return number of failed attempts so far, including this one
+     */
+    int recordScoringFailure(EvaluationId evaluationId, String error);
+
+    /**
+     * Holds the evaluation back from the recovery sweep until the given time,
+     * or for good when {@code nextAttemptAt} is {@code null}.
+     */
+    void deferScoring(EvaluationId evaluationId, Instant nextAttemptAt);
+
     Optional<Evaluation> findById(EvaluationId evaluationId);
 
+    /**
+     * Loads the evaluation and locks its row until the transaction ends.
+     */
+    Optional<Evaluation> findByIdForUpdate(EvaluationId evaluationId);
+
     Optional<Evaluation> findByAssignmentId(String assignmentId);
 
+    List<Evaluation> findByAssignmentIds(Collection<String> assignmentIds);
+
     List<Evaluation> findByCampaignId(CampaignId campaignId, int page, int size);
 
     List<Evaluation> findByEvaluateeId(String evaluateeId, int page, int size);
@@ -0,0 +1,55 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.enums.CampaignStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outbound port for an evaluator's own assignments, read without loading
+ * the campaigns they belong to.
+ * <p>
+ * Rows are ordered by campaign end date, then campaign ID, then assignment
+ * ID, and pages continue after the last row of the previous page.
+ */
+public interface EvaluatorInboxPort {
+
+    /**
+     * {@code completed} and {@code dueBefore} are optional; {@code dueBefore}
+     * is inclusive.
+     */
+    record InboxFilter(Boolean completed, Instant dueBefore) {
+    }
+
+    /**
+     * Position of the last row of a page.
+     */
+    record InboxPosition(Instant endDate, String campaignId, String assignmentId) {
+    }
+
+    record InboxRow(
+            String assignmentId,
+            String campaignId,
+            String campaignName,
+            CampaignStatus campaignStatus,
+            Instant endDate,
+            String evaluateeId,
+            boolean completed,
+            String evaluationId) {
+
+        public InboxPosition position() {
+            return new InboxPosition(endDate, campaignId, assignmentId);
+        }
+    }
+
+    /**
+     * Up to {@code limit} rows after {@code after}, or from the start when it
+     * is {@code null}.
+     */
+    List<InboxRow> findPage(String evaluatorId, InboxFilter filter, InboxPosition after, int limit);
+
+    /**
+     * Every matching row, in page order.
+     */
+    List<InboxRow> findAll(String evaluatorId, InboxFilter filter);
+}
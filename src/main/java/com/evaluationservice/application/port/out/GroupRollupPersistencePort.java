@@ -0,0 +1,79 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.ScoreAggregate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbound port for the organisational rollup cube and the parts of the
+ * canonical audience model it is built from.
+ * <p>
+ * The cube holds one score aggregate per (campaign, group, section key), with
+ * section keys as in {@link ScoreAggregatePersistencePort}.
+ */
+public interface GroupRollupPersistencePort {
+
+    /**
+     * An audience group and its place in the hierarchy.
+     */
+    record GroupNode(String groupId, String parentGroupId, String groupType, String name) {
+    }
+
+    /**
+     * One cell of the cube. {@code memberCount} is the number of evaluatees
+     * with completed evaluations covered by the group.
+     */
+    record GroupRollupRow(GroupNode group, String sectionKey, int memberCount, ScoreAggregate aggregate) {
+    }
+
+    /**
+     * IDs of the groups each person is currently an active member of, keyed
+     * by person ID. Persons without memberships are absent.
+     */
+    Map<String, List<String>> findGroupIdsByPerson(Collection<String> personIds);
+
+    /**
+     * The given groups keyed by ID; unknown IDs are absent.
+     */
+    Map<String, GroupNode> findGroups(Collection<String> groupIds);
+
+    boolean isBuilt(CampaignId campaignId);
+
+    /**
+     * Replaces the campaign's cube and marks it built.
+     */
+    void replace(CampaignId campaignId, List<GroupRollupRow> rows);
+
+    /**
+     * Records that the campaign's cube is out of date. The rows stay until the
+     * next {@link #replace}; a pending request keeps the time it was first made.
+     */
+    void requestRebuild(CampaignId campaignId);
+
+    /**
+     * Campaigns with a rebuild requested before the given time, oldest first.
+     */
+    List<CampaignId> findRebuildRequests(Instant requestedBefore, int limit);
+
+    /**
+     * Removes the campaign's rebuild request.
+     *
+     * @return {@code false} if there was none, e.g. because another node took it
+     */
+    boolean claimRebuild(CampaignId campaignId);
+
+    /**
+     * Cells of one group, with its group details.
+     */
+    List<GroupRollupRow> findByGroup(CampaignId campaignId, String groupId);
+
+    /**
+     * Cells of the direct children of a group, or of the root groups when
+     * {@code parentGroupId} is null, ordered by group name.
+     */
+    List<GroupRollupRow> findByParent(CampaignId campaignId, String parentGroupId);
+}
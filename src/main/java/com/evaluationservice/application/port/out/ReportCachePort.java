@@ -0,0 +1,20 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.util.function.Supplier;
+
+/**
+ * Outbound port for caching computed report results. Entries are invalidated
+ * by the implementation from domain events, so callers only read through it.
+ */
+public interface ReportCachePort {
+
+    /**
+     * Returns the cached report of the campaign ({@code evaluateeId} null) or
+     * of one evaluatee, computing and storing it with {@code loader} on a miss.
+     * Concurrent misses for the same entry may share a single computation;
+     * implementations state the scope, such as per node.
+     */
+    <T> T get(CampaignId campaignId, String evaluateeId, Class<T> type, Supplier<T> loader);
+}
@@ -0,0 +1,37 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Outbound port for frozen report results of a campaign whose results have
+ * been published: the campaign report plus one report per evaluatee, stored
+ * once and afterwards only read by key.
+ */
+public interface ReportSnapshotPort {
+
+    /**
+     * Replaces the campaign's snapshot with the given campaign report and
+     * individual reports keyed by evaluatee ID.
+     */
+    <C, I> void replace(CampaignId campaignId, C campaignReport, Map<String, I> individualReports);
+
+    /**
+     * The frozen campaign report ({@code evaluateeId} null) or individual
+     * report, if the campaign has a snapshot containing it.
+     */
+    <T> Optional<T> find(CampaignId campaignId, String evaluateeId, Class<T> type);
+
+    /**
+     * Every frozen individual report of the campaign in evaluatee order, or
+     * empty if the campaign has no snapshot.
+     */
+    <T> Optional<List<T>> findAllIndividual(CampaignId campaignId, Class<T> type);
+
+    boolean exists(CampaignId campaignId);
+
+    void delete(CampaignId campaignId);
+}
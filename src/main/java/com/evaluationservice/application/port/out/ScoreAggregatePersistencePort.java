@@ -0,0 +1,117 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.QuantileSketch;
+import com.evaluationservice.domain.value.ScoreAggregate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * Outbound port for the incremental score aggregate store.
+ * <p>
+ * One aggregate is kept per (campaign, evaluatee, section key). The section key
+ * is the section title, or {@link #OVERALL} for the evaluation total score.
+ * Alongside, a {@link QuantileSketch} per (campaign, section key) tracks the
+ * distribution of the individual scores.
+ */
+public interface ScoreAggregatePersistencePort {
+
+    /** Section key of the aggregate over total scores. */
+    String OVERALL = "";
+
+    /**
+     * A single score to add to the (evaluatee, section key) aggregate.
+     */
+    record Contribution(String evaluateeId, String sectionKey, double score) {
+    }
+
+    /**
+     * Adds the scores to their aggregates, creating missing rows, and buffers
+     * them for the campaign's sketches. Safe under concurrent writers to the
+     * same row.
+     */
+    void increment(CampaignId campaignId, List<Contribution> contributions);
+
+    /**
+     * Locks every aggregate row of the evaluatee until the transaction ends,
+     * in section key order as {@link #increment} takes them. Taken before
+     * the evaluatee's evaluations are read for a recompute, so an increment
+     * still in flight commits first and is part of what is read.
+     */
+    void lockEvaluatee(CampaignId campaignId, String evaluateeId);
+
+    /**
+     * Replaces every aggregate of the evaluatee with the given ones, keyed by
+     * section key.
+     */
+    void replaceEvaluatee(CampaignId campaignId, String evaluateeId, Map<String, ScoreAggregate> aggregates);
+
+    /**
+     * Replaces every aggregate of the campaign, keyed by evaluatee and then by
+     * section key.
+     */
+    void replaceCampaign(CampaignId campaignId, Map<String, Map<String, ScoreAggregate>> aggregatesByEvaluatee);
+
+    /**
+     * Recomputes every aggregate of the campaign from its completed evaluations
+     * inside the database, when the store supports it.
+     *
+     * @return number of completed evaluations aggregated, or empty when the
+     *         caller has to rebuild in memory and {@link #replaceCampaign} instead
+     */
+    OptionalInt rebuildFromEvaluations(CampaignId campaignId);
+
+    /**
+     * Merges up to {@code limit} buffered scores, oldest first, into the
+     * sketches. Concurrent merges never merge a score twice.
+     *
+     * @return number of scores merged
+     */
+    int mergeSketchBuffer(int limit);
+
+    /**
+     * Marks the campaign's sketches for a rebuild. Sketches cannot drop a
+     * score, so removals are applied by rebuilding.
+     */
+    void requestSketchRebuild(CampaignId campaignId);
+
+    /**
+     * Campaigns whose latest rebuild request is older than
+     * {@code requestedBefore}, oldest first.
+     */
+    List<CampaignId> findSketchRebuilds(Instant requestedBefore, int limit);
+
+    /**
+     * Recomputes the campaign's sketches from its completed evaluations,
+     * absorbing its buffered scores, and clears its rebuild request. Must run
+     * in a repeatable-read transaction, so the evaluations read and the
+     * buffered scores absorbed come from the same snapshot.
+     */
+    void rebuildSketches(CampaignId campaignId);
+
+    /**
+     * Score distribution sketches of the campaign keyed by section key,
+     * including buffered scores.
+     */
+    Map<String, QuantileSketch> findSketches(CampaignId campaignId);
+
+    /**
+     * Aggregates of one evaluatee keyed by section key.
+     */
+    Map<String, ScoreAggregate> findByEvaluatee(CampaignId campaignId, String evaluateeId);
+
+    /**
+     * Aggregates of the whole campaign keyed by section key, merged across
+     * evaluatees.
+     */
+    Map<String, ScoreAggregate> findByCampaign(CampaignId campaignId);
+
+    /**
+     * Aggregates of every evaluatee in the campaign, keyed by evaluatee ID and
+     * then section key, in evaluatee order.
+     */
+    Map<String, Map<String, ScoreAggregate>> findAllByEvaluatee(CampaignId campaignId);
+}
@@ -0,0 +1,46 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.ScoreAggregate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbound port for the cross-campaign trend store: each evaluatee's score
+ * aggregates per closed campaign, keyed by section as in
+ * {@link ScoreAggregatePersistencePort}.
+ */
+public interface ScoreTrendPersistencePort {
+
+    /**
+     * One evaluatee's aggregates in one campaign, placed in time by the
+     * campaign's end date.
+     */
+    record TrendEntry(
+            CampaignId campaignId,
+            String campaignName,
+            Instant cycleEnd,
+            Map<String, ScoreAggregate> aggregates) {
+    }
+
+    /**
+     * Records the campaign's aggregates keyed by evaluatee ID, replacing any
+     * earlier record of the same campaign.
+     */
+    void record(
+            CampaignId campaignId,
+            String campaignName,
+            Instant cycleEnd,
+            Map<String, Map<String, ScoreAggregate>> aggregatesByEvaluatee);
+
+    /**
+     * The evaluatee's most recent {@code limit} cycles, latest first.
+     */
+    List<TrendEntry> findByEvaluatee(String evaluateeId, int limit);
+
+    boolean exists(CampaignId campaignId);
+
+    void delete(CampaignId campaignId);
+}
@@ -0,0 +1,22 @@
+package com.evaluationservice.application.port.out;
+
+import com.evaluationservice.domain.value.EvaluationId;
+
+/**
+ * Outbound port for deferred (asynchronous) scoring of submitted evaluations.
+ */
+public interface ScoringQueuePort {
+
+    /**
+     * Whether the queue can take another evaluation right now. Callers score
+     * inline when this returns {@code false}.
+     */
+    boolean hasCapacity();
+
+    /**
+     * Queues the evaluation once the current transaction commits, or
+     * immediately when there is none. Evaluations that do not fit are left in
+     * SCORING for the recovery sweep.
+     */
+    void enqueueAfterCommit(EvaluationId evaluationId);
+}
@@ -429,6 +429,7 @@ public class AudienceIngestionService implements AudienceIngestionUseCase {
             String groupType = firstPresent(record.fields(), "group_type");
             String name = firstPresent(record.fields(), "name", "display_name");
             String externalRef = firstPresent(record.fields(), "external_ref");
+            String parentGroupId = firstPresent(record.fields(), "parent_group_id");
             if (groupType == null || groupType.isBlank()) {
                 saveRejection(runId, tenantId, record.rowNumber(), "Missing group_type", record.rawData());
                 rejected++;
@@ -456,6 +457,18 @@ public class AudienceIngestionService implements AudienceIngestionUseCase {
                 continue;
             }
 
+            if (parentGroupId != null && !parentGroupId.isBlank()
+                    && (!isValidPersonId(parentGroupId.trim()) || parentGroupId.trim().equals(groupId))) {
+                saveRejection(
+                        runId,
+                        tenantId,
+                        record.rowNumber(),
+                        "Invalid parent_group_id: " + parentGroupId,
+                        record.rawData());
+                rejected++;
+                continue;
+            }
+
             Boolean activeValue = parseActive(firstPresent(record.fields(), "active"));
             if (activeValue == null) {
                 saveRejection(
@@ -486,6 +499,7 @@ public class AudienceIngestionService implements AudienceIngestionUseCase {
                 group.setGroupType(groupType);
                 group.setName(name);
                 group.setExternalRef(externalRef);
+                group.setParentGroupId(parentGroupId == null || parentGroupId.isBlank() ? null : parentGroupId.trim());
                 group.setActive(activeValue);
                 Instant now = Instant.now();
                 group.setUpdatedAt(now);
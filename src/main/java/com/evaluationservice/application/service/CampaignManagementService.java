@@ -3,10 +3,14 @@ package com.evaluationservice.application.service;
 import com.evaluationservice.application.port.in.CampaignManagementUseCase;
 import com.evaluationservice.application.port.out.AssignmentPersistencePort;
 import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.CampaignProgressPort;
+import com.evaluationservice.application.port.out.CampaignProgressPort.AssignmentTotals;
+import com.evaluationservice.application.port.out.CampaignProgressPort.StepCount;
 import com.evaluationservice.application.port.out.TemplatePersistencePort;
 import com.evaluationservice.domain.entity.Campaign;
 import com.evaluationservice.domain.entity.CampaignAssignment;
 import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.event.CampaignChangedEvent;
 import com.evaluationservice.domain.exception.EntityNotFoundException;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.domain.value.Timestamp;
@@ -35,6 +39,7 @@ public class CampaignManagementService implements CampaignManagementUseCase {
     private final ApplicationEventPublisher eventPublisher;
     private final DynamicAssignmentEngine dynamicAssignmentEngine;
     private final CampaignLifecycleEventService campaignLifecycleEventService;
+    private final CampaignProgressPort campaignProgressPort;
 
     public CampaignManagementService(
             CampaignPersistencePort campaignPersistencePort,
@@ -42,13 +47,15 @@ public class CampaignManagementService implements CampaignManagementUseCase {
             AssignmentPersistencePort assignmentPersistencePort,
             ApplicationEventPublisher eventPublisher,
             DynamicAssignmentEngine dynamicAssignmentEngine,
-            CampaignLifecycleEventService campaignLifecycleEventService) {
+            CampaignLifecycleEventService campaignLifecycleEventService,
+            CampaignProgressPort campaignProgressPort) {
         this.campaignPersistencePort = Objects.requireNonNull(campaignPersistencePort);
         this.templatePersistencePort = Objects.requireNonNull(templatePersistencePort);
         this.assignmentPersistencePort = Objects.requireNonNull(assignmentPersistencePort);
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
         this.dynamicAssignmentEngine = Objects.requireNonNull(dynamicAssignmentEngine);
         this.campaignLifecycleEventService = Objects.requireNonNull(campaignLifecycleEventService);
+        this.campaignProgressPort = Objects.requireNonNull(campaignProgressPort);
     }
 
     @Override
@@ -80,7 +87,9 @@ public class CampaignManagementService implements CampaignManagementUseCase {
                 command.createdBy(),
                 Timestamp.now(),
                 Timestamp.now());
-        return campaignPersistencePort.save(campaign);
+        Campaign saved = campaignPersistencePort.save(campaign);
+        eventPublisher.publishEvent(CampaignChangedEvent.of(saved.getId(), "CREATE"));
+        return saved;
     }
 
     @Override
@@ -100,15 +109,17 @@ public class CampaignManagementService implements CampaignManagementUseCase {
                 command.assignmentRuleType(),
                 command.assignmentRuleConfig());
 
-        return campaignPersistencePort.save(campaign);
+        Campaign saved = campaignPersistencePort.save(campaign);
+        eventPublisher.publishEvent(CampaignChangedEvent.of(saved.getId(), "UPDATE"));
+        return saved;
     }
 
     @Override
     public Campaign activateCampaign(CampaignId campaignId) {
-        var campaign = findCampaignOrThrow(campaignId);
+        var campaign = findWithoutAssignmentsOrThrow(campaignId);
         String from = campaign.getStatus().name();
         campaign.activate();
-        Campaign saved = campaignPersistencePort.save(campaign);
+        Campaign saved = campaignPersistencePort.saveLifecycleState(campaign);
         logLifecycle(saved, from, saved.getStatus().name(), "ACTIVATE", null, null);
         return saved;
     }
@@ -120,17 +131,18 @@ public class CampaignManagementService implements CampaignManagementUseCase {
 
     @Override
     public Campaign closeCampaign(CampaignId campaignId, String actor, String reason) {
-        var campaign = findCampaignOrThrow(campaignId);
+        var campaign = findWithoutAssignmentsOrThrow(campaignId);
         String from = campaign.getStatus().name();
         campaign.close();
-        Campaign saved = campaignPersistencePort.save(campaign);
-        logLifecycle(saved, from, saved.getStatus().name(), "CLOSE", actor, reason);
+        Campaign saved = campaignPersistencePort.saveLifecycleState(campaign);
+        AssignmentTotals totals = assignmentTotals(campaignId);
+        logLifecycle(saved, from, saved.getStatus().name(), "CLOSE", actor, reason, totals);
 
         eventPublisher.publishEvent(new com.evaluationservice.domain.event.CampaignClosedEvent(
                 campaignId,
-                saved.getCompletionPercentage(),
-                saved.getAssignments().size(),
-                saved.getCompletedAssignmentCount(),
+                totals.completionPercentage(),
+                totals.totalAssignments(),
+                totals.completedAssignments(),
                 Instant.now()));
         return saved;
     }
@@ -142,10 +154,10 @@ public class CampaignManagementService implements CampaignManagementUseCase {
 
     @Override
     public Campaign publishCampaign(CampaignId campaignId, String actor, String reason) {
-        var campaign = findCampaignOrThrow(campaignId);
+        var campaign = findWithoutAssignmentsOrThrow(campaignId);
         String from = campaign.getStatus().name();
         campaign.publishOpen();
-        Campaign saved = campaignPersistencePort.save(campaign);
+        Campaign saved = campaignPersistencePort.saveLifecycleState(campaign);
         logLifecycle(saved, from, saved.getStatus().name(), "PUBLISH", actor, reason);
         return saved;
     }
@@ -157,10 +169,10 @@ public class CampaignManagementService implements CampaignManagementUseCase {
 
     @Override
     public Campaign reopenCampaign(CampaignId campaignId, String actor, String reason) {
-        var campaign = findCampaignOrThrow(campaignId);
+        var campaign = findWithoutAssignmentsOrThrow(campaignId);
         String from = campaign.getStatus().name();
         campaign.reopen();
-        Campaign saved = campaignPersistencePort.save(campaign);
+        Campaign saved = campaignPersistencePort.saveLifecycleState(campaign);
         logLifecycle(saved, from, saved.getStatus().name(), "REOPEN", actor, reason);
         return saved;
     }
@@ -172,10 +184,10 @@ public class CampaignManagementService implements CampaignManagementUseCase {
 
     @Override
     public Campaign publishResults(CampaignId campaignId, String actor, String reason) {
-        var campaign = findCampaignOrThrow(campaignId);
+        var campaign = findWithoutAssignmentsOrThrow(campaignId);
         String from = campaign.getStatus().name();
         campaign.publishResults();
-        Campaign saved = campaignPersistencePort.save(campaign);
+        Campaign saved = campaignPersistencePort.saveLifecycleState(campaign);
         logLifecycle(saved, from, saved.getStatus().name(), "PUBLISH_RESULTS", actor, reason);
         return saved;
     }
@@ -183,9 +195,9 @@ public class CampaignManagementService implements CampaignManagementUseCase {
     @Override
     @Transactional(readOnly = true)
     public LifecycleImpactPreview previewLifecycleImpact(CampaignId campaignId, String action) {
-        var campaign = findCampaignOrThrow(campaignId);
-        long total = campaign.getAssignments().size();
-        long completed = campaign.getCompletedAssignmentCount();
+        long[] counts = countAssignments(campaignId);
+        long total = counts[0];
+        long completed = counts[1];
         long pending = Math.max(0, total - completed);
         String normalizedAction = action == null ? "UNKNOWN" : action.trim().toUpperCase();
         String summary = switch (normalizedAction) {
@@ -200,10 +212,10 @@ public class CampaignManagementService implements CampaignManagementUseCase {
 
     @Override
     public Campaign archiveCampaign(CampaignId campaignId) {
-        var campaign = findCampaignOrThrow(campaignId);
+        var campaign = findWithoutAssignmentsOrThrow(campaignId);
         String from = campaign.getStatus().name();
         campaign.archive();
-        Campaign saved = campaignPersistencePort.save(campaign);
+        Campaign saved = campaignPersistencePort.saveLifecycleState(campaign);
         logLifecycle(saved, from, saved.getStatus().name(), "ARCHIVE", null, null);
         return saved;
     }
@@ -212,7 +224,9 @@ public class CampaignManagementService implements CampaignManagementUseCase {
     public Campaign extendDeadline(CampaignId campaignId, Instant newEndDate) {
         var campaign = findCampaignOrThrow(campaignId);
         campaign.extendDeadline(newEndDate);
-        return campaignPersistencePort.save(campaign);
+        Campaign saved = campaignPersistencePort.save(campaign);
+        eventPublisher.publishEvent(CampaignChangedEvent.of(campaignId, "EXTEND_DEADLINE"));
+        return saved;
     }
 
     @Override
@@ -233,6 +247,7 @@ public class CampaignManagementService implements CampaignManagementUseCase {
         campaign.addAssignments(assignments);
         Campaign saved = campaignPersistencePort.save(campaign);
         assignmentPersistencePort.upsertAssignments(campaignId, assignments);
+        eventPublisher.publishEvent(CampaignChangedEvent.of(campaignId, "ASSIGNMENTS"));
         return saved;
     }
 
@@ -263,6 +278,7 @@ public class CampaignManagementService implements CampaignManagementUseCase {
                 assignmentPersistencePort.upsertAssignments(campaignId, generated);
             }
             campaign = campaignPersistencePort.save(campaign);
+            eventPublisher.publishEvent(CampaignChangedEvent.of(campaignId, "ASSIGNMENTS"));
         }
 
         return new DynamicAssignmentResult(
@@ -283,18 +299,17 @@ public class CampaignManagementService implements CampaignManagementUseCase {
     @Override
     @Transactional(readOnly = true)
     public List<Campaign> listCampaigns(String status, int page, int size) {
-        if (status != null && !status.isBlank()) {
-            CampaignStatus campaignStatus = CampaignStatus.valueOf(status.toUpperCase());
-            return campaignPersistencePort.findByStatus(campaignStatus, page, size);
-        }
-        return campaignPersistencePort.findAll(page, size);
+        CampaignStatus campaignStatus = status != null && !status.isBlank()
+                ? CampaignStatus.valueOf(status.toUpperCase())
+                : null;
+        return campaignPersistencePort.findPageWithoutAssignments(campaignStatus, page, size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public double getCampaignProgress(CampaignId campaignId) {
-        var campaign = findCampaignOrThrow(campaignId);
-        return campaign.getCompletionPercentage();
+        long[] counts = countAssignments(campaignId);
+        return counts[0] == 0 ? 0.0 : (double) counts[1] / counts[0] * 100;
     }
 
     @Override
@@ -303,11 +318,40 @@ public class CampaignManagementService implements CampaignManagementUseCase {
         return campaignPersistencePort.findByEvaluatorId(evaluatorId);
     }
 
+    /**
+     * Total and completed assignment counts from the stored counters, without
+     * loading the campaign's assignments.
+     */
+    private long[] countAssignments(CampaignId campaignId) {
+        if (!campaignPersistencePort.existsById(campaignId)) {
+            throw new EntityNotFoundException("Campaign", campaignId.value());
+        }
+        long[] counts = new long[2];
+        for (StepCount count : campaignProgressPort.countByStep(campaignId)) {
+            counts[0] += count.totalAssignments();
+            counts[1] += count.completedAssignments();
+        }
+        return counts;
+    }
+
+    private AssignmentTotals assignmentTotals(CampaignId campaignId) {
+        return campaignProgressPort.countAssignments(List.of(campaignId))
+                .getOrDefault(campaignId, AssignmentTotals.NONE);
+    }
+
     private Campaign findCampaignOrThrow(CampaignId campaignId) {
         return campaignPersistencePort.findById(campaignId)
                 .orElseThrow(() -> new EntityNotFoundException("Campaign", campaignId.value()));
     }
 
+    /**
+     * For lifecycle transitions, which change only campaign-level state.
+     */
+    private Campaign findWithoutAssignmentsOrThrow(CampaignId campaignId) {
+        return campaignPersistencePort.findByIdWithoutAssignments(campaignId)
+                .orElseThrow(() -> new EntityNotFoundException("Campaign", campaignId.value()));
+    }
+
     private void logLifecycle(
             Campaign campaign,
             String fromStatus,
@@ -315,6 +359,17 @@ public class CampaignManagementService implements CampaignManagementUseCase {
             String action,
             String actor,
             String reason) {
+        logLifecycle(campaign, fromStatus, toStatus, action, actor, reason, assignmentTotals(campaign.getId()));
+    }
+
+    private void logLifecycle(
+            Campaign campaign,
+            String fromStatus,
+            String toStatus,
+            String action,
+            String actor,
+            String reason,
+            AssignmentTotals totals) {
         campaignLifecycleEventService.logTransition(
                 campaign.getId().value(),
                 fromStatus,
@@ -324,6 +379,7 @@ public class CampaignManagementService implements CampaignManagementUseCase {
                 reason,
                 Map.of(
                         "campaignName", campaign.getName(),
-                        "completionPercentage", campaign.getCompletionPercentage()));
+                        "completionPercentage", totals.completionPercentage()));
+        eventPublisher.publishEvent(CampaignChangedEvent.of(campaign.getId(), action));
     }
 }
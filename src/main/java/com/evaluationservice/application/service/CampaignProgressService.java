@@ -0,0 +1,64 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.CampaignProgressUseCase;
+import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.CampaignProgressPort;
+import com.evaluationservice.application.port.out.CampaignProgressPort.AssignmentTotals;
+import com.evaluationservice.application.port.out.CampaignProgressPort.StepCount;
+import com.evaluationservice.domain.exception.EntityNotFoundException;
+import com.evaluationservice.domain.value.CampaignId;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Computes campaign progress from assignment counts instead of loading the
+ * campaign with its assignments.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CampaignProgressService implements CampaignProgressUseCase {
+
+    private final CampaignProgressPort campaignProgressPort;
+    private final CampaignPersistencePort campaignPersistencePort;
+
+    public CampaignProgressService(
+            CampaignProgressPort campaignProgressPort,
+            CampaignPersistencePort campaignPersistencePort) {
+        this.campaignProgressPort = Objects.requireNonNull(campaignProgressPort);
+        this.campaignPersistencePort = Objects.requireNonNull(campaignPersistencePort);
+    }
+
+    @Override
+    public CampaignProgress getProgress(CampaignId campaignId) {
+        if (!campaignPersistencePort.existsById(campaignId)) {
+            throw new EntityNotFoundException("Campaign", campaignId.value());
+        }
+        long total = 0;
+        long completed = 0;
+        Map<String, StepProgress> steps = new LinkedHashMap<>();
+        for (StepCount count : campaignProgressPort.countByStep(campaignId)) {
+            total += count.totalAssignments();
+            completed += count.completedAssignments();
+            steps.put(count.stepType(), new StepProgress(count.totalAssignments(), count.completedAssignments()));
+        }
+        double percentage = total == 0 ? 0.0 : (double) completed / total * 100;
+        return new CampaignProgress(campaignId, total, completed, percentage, steps);
+    }
+
+    @Override
+    public Map<CampaignId, StepProgress> getTotals(Collection<CampaignId> campaignIds) {
+        Map<CampaignId, AssignmentTotals> counted = campaignProgressPort.countAssignments(campaignIds);
+        Map<CampaignId, StepProgress> totals = new LinkedHashMap<>();
+        for (CampaignId campaignId : campaignIds) {
+            AssignmentTotals count = counted.getOrDefault(campaignId, AssignmentTotals.NONE);
+            totals.put(campaignId, new StepProgress(count.totalAssignments(), count.completedAssignments()));
+        }
+        return totals;
+    }
+}
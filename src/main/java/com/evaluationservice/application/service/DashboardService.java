@@ -2,9 +2,8 @@ package com.evaluationservice.application.service;
 
 import com.evaluationservice.api.dto.response.DashboardStatsResponse;
 import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.DashboardStatsPort.DashboardCounters;
 import com.evaluationservice.application.port.out.EvaluationPersistencePort;
-import com.evaluationservice.application.port.out.TemplatePersistencePort;
-import com.evaluationservice.domain.enums.CampaignStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,25 +15,31 @@ public class DashboardService {
 
     private final CampaignPersistencePort campaignPort;
     private final EvaluationPersistencePort evaluationPort;
-    private final TemplatePersistencePort templatePort;
+    private final DashboardStatsService dashboardStatsService;
 
     public DashboardService(
             CampaignPersistencePort campaignPort,
             EvaluationPersistencePort evaluationPort,
-            TemplatePersistencePort templatePort) {
+            DashboardStatsService dashboardStatsService) {
         this.campaignPort = campaignPort;
         this.evaluationPort = evaluationPort;
-        this.templatePort = templatePort;
+        this.dashboardStatsService = dashboardStatsService;
     }
 
+    /**
+     * Totals come from the maintained counters; a request that finds them
+     * never reconciled reconciles them first.
+     */
     @Transactional(readOnly = true)
     public DashboardStatsResponse getStats() {
-        long totalCampaigns = campaignPort.count();
-        long activeCampaigns = campaignPort.countByStatus(CampaignStatus.ACTIVE);
-        long totalTemplates = templatePort.count();
+        DashboardCounters counters = dashboardStatsService.find()
+                .orElseGet(() -> dashboardStatsService.reconcile().current());
+        long totalCampaigns = counters.totalCampaigns();
+        long activeCampaigns = counters.activeCampaigns();
+        long totalTemplates = counters.totalTemplates();
 
-        long totalAssignments = campaignPort.countTotalAssignments();
-        long completedAssignments = campaignPort.countCompletedAssignments();
+        long totalAssignments = counters.totalAssignments();
+        long completedAssignments = counters.completedAssignments();
         long pendingAssignments = totalAssignments - completedAssignments;
 
         double completionRate = 0.0;
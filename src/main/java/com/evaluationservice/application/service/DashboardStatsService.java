@@ -0,0 +1,148 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.out.DashboardStatsPort;
+import com.evaluationservice.application.port.out.DashboardStatsPort.CampaignCounters;
+import com.evaluationservice.application.port.out.DashboardStatsPort.DashboardCounters;
+import com.evaluationservice.application.port.out.TemplatePersistencePort;
+import com.evaluationservice.domain.event.CampaignChangedEvent;
+import com.evaluationservice.domain.event.EvaluationSubmittedEvent;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
+import com.evaluationservice.domain.event.TemplateChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maintains the admin dashboard counters so the dashboard never counts the
+ * source tables.
+ * <p>
+ * Committed changes only mark their campaign as changed; a periodic flush
+ * folds each changed campaign's current state into the counters in one
+ * transaction, so bursts of submissions in a campaign cost one refresh.
+ * Reconciliation recomputes everything from the source tables and repairs
+ * whatever drift a lost mark or failed flush left behind.
+ */
+@Service
+public class DashboardStatsService {
+
+    /**
+     * Totals before and after a reconciliation; {@code previous} is
+     * {@code null} if they had never been reconciled.
+     */
+    public record Reconciliation(DashboardCounters previous, DashboardCounters current) {
+
+        public boolean drifted() {
+            return previous == null
+                    || previous.totalCampaigns() != current.totalCampaigns()
+                    || previous.activeCampaigns() != current.activeCampaigns()
+                    || previous.totalTemplates() != current.totalTemplates()
+                    || previous.totalAssignments() != current.totalAssignments()
+                    || previous.completedAssignments() != current.completedAssignments();
+        }
+    }
+
+    private final DashboardStatsPort dashboardStatsPort;
+    private final TemplatePersistencePort templatePersistencePort;
+
+    private final Set<CampaignId> changedCampaigns = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean templatesChanged = new AtomicBoolean();
+
+    public DashboardStatsService(
+            DashboardStatsPort dashboardStatsPort,
+            TemplatePersistencePort templatePersistencePort) {
+        this.dashboardStatsPort = Objects.requireNonNull(dashboardStatsPort);
+        this.templatePersistencePort = Objects.requireNonNull(templatePersistencePort);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DashboardCounters> find() {
+        return dashboardStatsPort.find();
+    }
+
+    /**
+     * Folds the campaigns changed since the last flush into the counters.
+     * If the flush fails they stay marked and are retried on the next one.
+     *
+     * @return number of campaigns refreshed
+     */
+    @Transactional
+    public int flush() {
+        List<CampaignId> campaignIds = changedCampaigns.stream()
+                .sorted(Comparator.comparing(CampaignId::value))
+                .toList();
+        boolean templates = templatesChanged.getAndSet(false);
+        if (campaignIds.isEmpty() && !templates) {
+            return 0;
+        }
+        campaignIds.forEach(changedCampaigns::remove);
+        try {
+            dashboardStatsPort.lockTotals();
+            Map<CampaignId, CampaignCounters> current = dashboardStatsPort.countCampaigns(campaignIds);
+            for (CampaignId campaignId : campaignIds) {
+                CampaignCounters counters = current.get(campaignId);
+                if (counters != null) {
+                    dashboardStatsPort.updateCampaign(campaignId, dashboardStatsPort.findCampaign(campaignId), counters);
+                }
+            }
+            if (templates) {
+                dashboardStatsPort.updateTemplates(templatePersistencePort.count());
+            }
+            return campaignIds.size();
+        } catch (RuntimeException ex) {
+            changedCampaigns.addAll(campaignIds);
+            if (templates) {
+                templatesChanged.set(true);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Recomputes every counter from the source tables. Runs in its own
+     * transaction so the read-only dashboard can trigger the first one.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Reconciliation reconcile() {
+        dashboardStatsPort.lockTotals();
+        DashboardCounters previous = dashboardStatsPort.find().orElse(null);
+        DashboardCounters current = dashboardStatsPort.replaceAll(
+                dashboardStatsPort.countAllCampaigns(), templatePersistencePort.count());
+        return new Reconciliation(previous, current);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        changedCampaigns.add(event.campaignId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEvaluationSubmitted(EvaluationSubmittedEvent event) {
+        changedCampaigns.add(event.campaignId());
+    }
+
+    /**
+     * Flagging or invalidating an evaluation can reopen its assignment.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScoreAggregatesChanged(ScoreAggregatesChangedEvent event) {
+        changedCampaigns.add(event.campaignId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTemplateChanged(TemplateChangedEvent event) {
+        templatesChanged.set(true);
+    }
+}
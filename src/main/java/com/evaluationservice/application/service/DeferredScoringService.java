@@ -0,0 +1,110 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.TemplatePersistencePort;
+import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.event.EvaluationSubmittedEvent;
+import com.evaluationservice.domain.event.ScoreComputedEvent;
+import com.evaluationservice.domain.exception.EntityNotFoundException;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.TemplateId;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Completes evaluations that were accepted with deferred scoring.
+ * Scoring an evaluation is idempotent: only a row still in SCORING is
+ * completed, so a redelivered or concurrently resumed job is a no-op.
+ */
+@Service
+@Transactional
+public class DeferredScoringService {
+
+    private final EvaluationPersistencePort evaluationPersistencePort;
+    private final TemplatePersistencePort templatePersistencePort;
+    private final ScoringService scoringService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScoreAggregateService scoreAggregateService;
+
+    public DeferredScoringService(
+            EvaluationPersistencePort evaluationPersistencePort,
+            TemplatePersistencePort templatePersistencePort,
+            ScoringService scoringService,
+            ApplicationEventPublisher eventPublisher,
+            ScoreAggregateService scoreAggregateService) {
+        this.evaluationPersistencePort = Objects.requireNonNull(evaluationPersistencePort);
+        this.templatePersistencePort = Objects.requireNonNull(templatePersistencePort);
+        this.scoringService = Objects.requireNonNull(scoringService);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.scoreAggregateService = Objects.requireNonNull(scoreAggregateService);
+    }
+
+    /**
+     * Scores and completes the evaluation, then publishes
+     * {@link EvaluationSubmittedEvent} and {@link ScoreComputedEvent}.
+     *
+     * @return {@code false} if the evaluation was no longer waiting for a score
+     */
+    public boolean completeScoring(EvaluationId evaluationId) {
+        Evaluation evaluation = evaluationPersistencePort.findById(evaluationId).orElse(null);
+        if (evaluation == null || evaluation.getStatus() != EvaluationStatus.SCORING) {
+            return false;
+        }
+
+        var template = templatePersistencePort.findById(TemplateId.of(evaluation.getTemplateId()))
+                .orElseThrow(() -> new EntityNotFoundException("Template", evaluation.getTemplateId()));
+        List<SectionScore> sectionScores = scoringService.computeSectionScores(evaluation, template);
+        Score totalScore = scoringService.computeTotalScore(sectionScores, template);
+        evaluation.complete(totalScore, sectionScores);
+
+        if (!evaluationPersistencePort.completeScoring(evaluation)) {
+            return false;
+        }
+        scoreAggregateService.recordCompleted(evaluation);
+
+        eventPublisher.publishEvent(EvaluationSubmittedEvent.of(
+                evaluation.getId(), evaluation.getCampaignId(), evaluation.getEvaluatorId(), evaluation.getEvaluateeId()));
+        eventPublisher.publishEvent(new ScoreComputedEvent(
+                evaluation.getId(), template.getId(), totalScore, Instant.now()));
+        return true;
+    }
+
+    /**
+     * Records a failed scoring attempt. The evaluation stays in SCORING and is
+     * retried after {@code firstRetryDelay}, doubling with each further
+     * failure, until {@code maxAttempts} attempts have failed; it is then
+     * dead-lettered and left for an operator.
+     *
+     * @return {@code true} if the evaluation was dead-lettered
+     */
+    public boolean recordFailure(EvaluationId evaluationId, String error, int maxAttempts, Duration firstRetryDelay) {
+        int attempts = evaluationPersistencePort.recordScoringFailure(evaluationId, error);
+        if (attempts >= Math.max(1, maxAttempts)) {
+            evaluationPersistencePort.deferScoring(evaluationId, null);
+            return true;
+        }
+        Duration delay = firstRetryDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        evaluationPersistencePort.deferScoring(evaluationId, Instant.now().plus(delay));
+        return false;
+    }
+
+    /**
+     * Evaluations still in SCORING whose last update is older than the cutoff,
+     * oldest first. Dead-lettered evaluations and retries that are not yet due
+     * are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<EvaluationId> findStalledScoring(Instant updatedBefore, int limit) {
+        return evaluationPersistencePort.findScoringDue(updatedBefore, Instant.now(), limit);
+    }
+}
@@ -3,17 +3,26 @@ package com.evaluationservice.application.service;
 import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase;
 import com.evaluationservice.application.port.out.AssignmentPersistencePort;
 import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.DraftAnswerBufferPort;
 import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.ScoringQueuePort;
 import com.evaluationservice.application.port.out.TemplatePersistencePort;
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.entity.Campaign;
+import com.evaluationservice.domain.entity.CampaignAssignment;
 import com.evaluationservice.domain.entity.Evaluation;
 import com.evaluationservice.domain.entity.SectionScore;
 import com.evaluationservice.domain.entity.Template;
 import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.exception.DomainException;
 import com.evaluationservice.domain.exception.EntityNotFoundException;
+import com.evaluationservice.domain.value.CampaignHeader;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.domain.value.EvaluationId;
 import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.TemplateId;
 import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.infrastructure.entity.CampaignStepEntity;
 import com.evaluationservice.infrastructure.repository.CampaignStepRepository;
 
 import org.springframework.context.ApplicationEventPublisher;
@@ -22,8 +31,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Application service implementing evaluation submission use cases.
@@ -41,6 +58,9 @@ public class EvaluationSubmissionService implements EvaluationSubmissionUseCase
     private final ApplicationEventPublisher eventPublisher;
     private final SettingsResolverService settingsResolverService;
     private final CampaignStepRepository campaignStepRepository;
+    private final ScoringQueuePort scoringQueuePort;
+    private final DraftAnswerBufferPort draftAnswerBufferPort;
+    private final ScoreAggregateService scoreAggregateService;
 
     public EvaluationSubmissionService(
             EvaluationPersistencePort evaluationPersistencePort,
@@ -50,7 +70,10 @@ public class EvaluationSubmissionService implements EvaluationSubmissionUseCase
             ScoringService scoringService,
             ApplicationEventPublisher eventPublisher,
             SettingsResolverService settingsResolverService,
-            CampaignStepRepository campaignStepRepository) {
+            CampaignStepRepository campaignStepRepository,
+            ScoringQueuePort scoringQueuePort,
+            DraftAnswerBufferPort draftAnswerBufferPort,
+            ScoreAggregateService scoreAggregateService) {
         this.evaluationPersistencePort = Objects.requireNonNull(evaluationPersistencePort);
         this.campaignPersistencePort = Objects.requireNonNull(campaignPersistencePort);
         this.assignmentPersistencePort = Objects.requireNonNull(assignmentPersistencePort);
@@ -59,63 +82,75 @@ public class EvaluationSubmissionService implements EvaluationSubmissionUseCase
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
         this.settingsResolverService = Objects.requireNonNull(settingsResolverService);
         this.campaignStepRepository = Objects.requireNonNull(campaignStepRepository);
+        this.scoringQueuePort = Objects.requireNonNull(scoringQueuePort);
+        this.draftAnswerBufferPort = Objects.requireNonNull(draftAnswerBufferPort);
+        this.scoreAggregateService = Objects.requireNonNull(scoreAggregateService);
     }
 
     @Override
     public Evaluation submitEvaluation(SubmitEvaluationCommand command) {
-        // Idempotency check — if already submitted, return existing
+        // Idempotency check — if already submitted (scored or awaiting a score), return existing
         var existing = evaluationPersistencePort.findByAssignmentId(command.assignmentId());
-        if (existing.isPresent() && existing.get().isCompleted()) {
+        if (existing.isPresent() && (existing.get().isCompleted() || existing.get().isAwaitingScore())) {
             return existing.get();
         }
 
-        // Verify campaign is active
-        var campaign = campaignPersistencePort.findById(command.campaignId())
-                .orElseThrow(() -> new EntityNotFoundException("Campaign", command.campaignId().value()));
-        campaign.ensureActive();
-        validateAssignmentOwnership(command, campaign);
+        // Verify campaign is active. Lean mode gates on the header projection only and
+        // never materializes the campaign's assignments; an assignment without a
+        // relational row (not yet backfilled in DUAL mode) takes the legacy path.
+        Campaign campaign = null;
+        CampaignAssignment relationalAssignment = settingsResolverService.resolveBoolean("submission.lean-mode", command.campaignId())
+                ? assignmentPersistencePort.findById(command.assignmentId()).orElse(null)
+                : null;
+        if (relationalAssignment != null) {
+            CampaignHeader header = campaignPersistencePort.findHeaderById(command.campaignId())
+                    .orElseThrow(() -> new EntityNotFoundException("Campaign", command.campaignId().value()));
+            header.ensureActive();
+            validateAssignmentOwnership(command, relationalAssignment, List.of());
+        } else {
+            campaign = campaignPersistencePort.findById(command.campaignId())
+                    .orElseThrow(() -> new EntityNotFoundException("Campaign", command.campaignId().value()));
+            campaign.ensureActive();
+            validateAssignmentOwnership(command, campaign.getAssignments());
+        }
         validateStepWindow(command.assignmentId(), command.campaignId());
 
         // Get template for scoring
-        var template = templatePersistencePort.findById(
-                com.evaluationservice.domain.value.TemplateId.of(command.templateId()))
+        var template = templatePersistencePort.findById(TemplateId.of(command.templateId()))
                 .orElseThrow(() -> new EntityNotFoundException("Template", command.templateId()));
 
-        // Create or update evaluation
-        Evaluation evaluation;
-        if (existing.isPresent()) {
-            evaluation = existing.get();
-            evaluation.saveDraft(command.answers());
+        // Create or update evaluation, then submit and score. In async mode scoring is
+        // handed to the worker pool unless it is saturated, in which case the request
+        // scores inline as before.
+        Evaluation evaluation = prepareForSubmit(command, existing.orElse(null));
+        boolean deferred = settingsResolverService.resolveBoolean("submission.async-scoring")
+                && scoringQueuePort.hasCapacity();
+        if (deferred) {
+            evaluation.startScoring();
         } else {
-            evaluation = new Evaluation(
-                    EvaluationId.generate(),
-                    command.campaignId(),
-                    command.assignmentId(),
-                    command.evaluatorId(),
-                    command.evaluateeId(),
-                    command.templateId(),
-                    EvaluationStatus.DRAFT,
-                    command.answers(),
-                    null,
-                    null,
-                    Timestamp.now(),
-                    Timestamp.now(),
-                    null);
+            List<SectionScore> sectionScores = scoringService.computeSectionScores(evaluation, template);
+            Score totalScore = scoringService.computeTotalScore(sectionScores, template);
+            evaluation.complete(totalScore, sectionScores);
         }
 
-        // Submit and score
-        evaluation.submit();
-        List<SectionScore> sectionScores = scoringService.computeSectionScores(evaluation, template);
-        Score totalScore = scoringService.computeTotalScore(sectionScores, template);
-        evaluation.complete(totalScore, sectionScores);
-
         Evaluation saved = evaluationPersistencePort.save(evaluation);
         assignmentPersistencePort.markCompleted(command.assignmentId(), saved.getId().value());
-        campaign.getAssignments().stream()
-                .filter(a -> a.getId().equals(command.assignmentId()))
-                .findFirst()
-                .ifPresent(a -> a.markCompleted(saved.getId().value()));
-        campaignPersistencePort.save(campaign);
+        if (campaign != null) {
+            // Legacy path: keep the embedded assignment copy in sync
+            campaign.getAssignments().stream()
+                    .filter(a -> a.getId().equals(command.assignmentId()))
+                    .findFirst()
+                    .ifPresent(a -> a.markCompleted(saved.getId().value()));
+            campaignPersistencePort.save(campaign);
+        }
+
+        if (deferred) {
+            // The worker publishes the submitted event once the score is recorded
+            scoringQueuePort.enqueueAfterCommit(saved.getId());
+            return saved;
+        }
+
+        scoreAggregateService.recordCompleted(saved);
 
         // Publish domain event
         eventPublisher.publishEvent(
@@ -125,17 +160,185 @@ public class EvaluationSubmissionService implements EvaluationSubmissionUseCase
         return saved;
     }
 
+    /**
+     * Resolves the campaign, template, assignments, existing evaluations and step
+     * windows once for the whole batch, scores the accepted items in parallel and
+     * writes evaluations and assignment completions as JDBC batches. Validation
+     * failures reject single items; persistence failures roll back the batch.
+     * Batches are always scored inline, also in async scoring mode.
+     */
+    @Override
+    public List<BatchItemResult> submitEvaluationBatch(SubmitEvaluationBatchCommand command) {
+        List<BatchSubmission> submissions = command.submissions() != null ? command.submissions() : List.of();
+        int maxBatchSize = settingsResolverService.resolveInt("submission.max-batch-size");
+        if (submissions.size() > maxBatchSize) {
+            throw new IllegalArgumentException(
+                    "Batch size " + submissions.size() + " exceeds the maximum of " + maxBatchSize);
+        }
+        if (submissions.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> assignmentIds = submissions.stream()
+                .map(BatchSubmission::assignmentId)
+                .collect(Collectors.toSet());
+        Map<String, CampaignAssignment> assignmentsById = assignmentPersistencePort.findByIds(assignmentIds)
+                .stream()
+                .collect(Collectors.toMap(CampaignAssignment::getId, Function.identity()));
+
+        // Lean mode only holds when every item has a relational row; otherwise (DUAL mode
+        // before backfill) the batch validates against the embedded assignments.
+        Campaign campaign = null;
+        List<CampaignAssignment> legacyAssignments = List.of();
+        if (settingsResolverService.resolveBoolean("submission.lean-mode", command.campaignId())
+                && assignmentsById.keySet().containsAll(assignmentIds)) {
+            CampaignHeader header = campaignPersistencePort.findHeaderById(command.campaignId())
+                    .orElseThrow(() -> new EntityNotFoundException("Campaign", command.campaignId().value()));
+            header.ensureActive();
+        } else {
+            campaign = campaignPersistencePort.findById(command.campaignId())
+                    .orElseThrow(() -> new EntityNotFoundException("Campaign", command.campaignId().value()));
+            campaign.ensureActive();
+            legacyAssignments = campaign.getAssignments();
+        }
+
+        Template template = templatePersistencePort.findById(TemplateId.of(command.templateId()))
+                .orElseThrow(() -> new EntityNotFoundException("Template", command.templateId()));
+
+        Map<String, Evaluation> existingByAssignment = evaluationPersistencePort.findByAssignmentIds(assignmentIds)
+                .stream()
+                .collect(Collectors.toMap(Evaluation::getAssignmentId, Function.identity()));
+        Map<String, CampaignStepEntity> stepsByType = settingsResolverService.resolveBoolean("features.enable-step-windows")
+                ? campaignStepRepository.findByCampaignIdOrderByDisplayOrderAsc(command.campaignId().value()).stream()
+                        .collect(Collectors.toMap(
+                                step -> step.getStepType().trim().toUpperCase(), Function.identity(), (a, b) -> a))
+                : null;
+
+        BatchItemResult[] results = new BatchItemResult[submissions.size()];
+        List<Integer> accepted = new ArrayList<>();
+        Evaluation[] evaluations = new Evaluation[submissions.size()];
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < submissions.size(); i++) {
+            BatchSubmission submission = submissions.get(i);
+            if (!seen.add(submission.assignmentId())) {
+                results[i] = rejected(i, submission, "Assignment appears more than once in the batch");
+                continue;
+            }
+            Evaluation existing = existingByAssignment.get(submission.assignmentId());
+            if (existing != null && (existing.isCompleted() || existing.isAwaitingScore())) {
+                results[i] = new BatchItemResult(
+                        i, submission.assignmentId(), BatchItemStatus.ALREADY_SUBMITTED, existing, null);
+                continue;
+            }
+            try {
+                var itemCommand = new SubmitEvaluationCommand(
+                        command.campaignId(),
+                        submission.assignmentId(),
+                        submission.evaluatorId(),
+                        submission.evaluateeId(),
+                        command.templateId(),
+                        submission.answers());
+                CampaignAssignment assignment = assignmentsById.get(submission.assignmentId());
+                validateAssignmentOwnership(itemCommand, assignment, legacyAssignments);
+                if (stepsByType != null) {
+                    validateStepWindow(assignment, stepsByType::get);
+                }
+                evaluations[i] = prepareForSubmit(itemCommand, existing);
+                accepted.add(i);
+            } catch (IllegalArgumentException | IllegalStateException | DomainException e) {
+                results[i] = rejected(i, submission, e.getMessage());
+            }
+        }
+
+        // Scored on the request thread: the shared pool would let one large batch starve
+        // every other caller, and an item that fails to score only rejects that item.
+        for (Iterator<Integer> it = accepted.iterator(); it.hasNext();) {
+            int i = it.next();
+            try {
+                Evaluation evaluation = evaluations[i];
+                List<SectionScore> sectionScores = scoringService.computeSectionScores(evaluation, template);
+                Score totalScore = scoringService.computeTotalScore(sectionScores, template);
+                evaluation.complete(totalScore, sectionScores);
+            } catch (IllegalArgumentException | IllegalStateException | DomainException e) {
+                results[i] = rejected(i, submissions.get(i), e.getMessage());
+                it.remove();
+            }
+        }
+
+        List<Evaluation> toSave = new ArrayList<>(accepted.size());
+        Map<String, String> completions = new LinkedHashMap<>();
+        for (int i : accepted) {
+            toSave.add(evaluations[i]);
+            completions.put(evaluations[i].getAssignmentId(), evaluations[i].getId().value());
+        }
+        evaluationPersistencePort.saveAll(toSave);
+        assignmentPersistencePort.markCompletedAll(completions);
+        scoreAggregateService.recordCompleted(command.campaignId(), toSave);
+        if (campaign != null && !completions.isEmpty()) {
+            // Legacy path: keep the embedded assignment copies in sync with one campaign save
+            campaign.getAssignments().stream()
+                    .filter(a -> completions.containsKey(a.getId()))
+                    .forEach(a -> a.markCompleted(completions.get(a.getId())));
+            campaignPersistencePort.save(campaign);
+        }
+
+        for (int i : accepted) {
+            Evaluation saved = evaluations[i];
+            results[i] = new BatchItemResult(i, saved.getAssignmentId(), BatchItemStatus.SUBMITTED, saved, null);
+            eventPublisher.publishEvent(
+                    com.evaluationservice.domain.event.EvaluationSubmittedEvent.of(
+                            saved.getId(), command.campaignId(), saved.getEvaluatorId(), saved.getEvaluateeId()));
+        }
+        return List.of(results);
+    }
+
     @Override
     public Evaluation saveDraft(SaveDraftCommand command) {
         var evaluation = findEvaluationOrThrow(command.evaluationId());
         evaluation.saveDraft(command.answers());
-        return evaluationPersistencePort.save(evaluation);
+        Evaluation saved = evaluationPersistencePort.save(evaluation);
+        // A full save supersedes any per-question changes still waiting to be written
+        draftAnswerBufferPort.drainForTransaction(command.evaluationId());
+        eventPublisher.publishEvent(com.evaluationservice.domain.event.EvaluationDraftSavedEvent.of(
+                saved.getId(), saved.getCampaignId(), saved.getEvaluatorId()));
+        return saved;
+    }
+
+    @Override
+    public void patchAnswer(PatchAnswerCommand command) {
+        // Only the first change in a coalescing window reads the row
+        if (!draftAnswerBufferPort.isBuffered(command.evaluationId())) {
+            findEvaluationOrThrow(command.evaluationId()).ensureDraftEditable();
+        }
+        if (!draftAnswerBufferPort.buffer(command.evaluationId(), command.answer())) {
+            // Buffer is full: write through instead of dropping the change
+            writeDraftAnswers(command.evaluationId(), List.of(command.answer()));
+        }
+    }
+
+    @Override
+    public boolean flushDraft(EvaluationId evaluationId) {
+        List<Answer> pending = draftAnswerBufferPort.drain(evaluationId);
+        if (pending.isEmpty()) {
+            return false;
+        }
+        try {
+            return writeDraftAnswers(evaluationId, pending);
+        } catch (RuntimeException ex) {
+            draftAnswerBufferPort.restore(evaluationId, pending);
+            throw ex;
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Evaluation getEvaluation(EvaluationId evaluationId) {
-        return findEvaluationOrThrow(evaluationId);
+        Evaluation evaluation = findEvaluationOrThrow(evaluationId);
+        List<Answer> pending = draftAnswerBufferPort.pending(evaluationId);
+        if (!pending.isEmpty() && evaluation.getStatus() == EvaluationStatus.DRAFT) {
+            evaluation.mergeDraftAnswers(pending);
+        }
+        return evaluation;
     }
 
     @Override
@@ -153,22 +356,86 @@ public class EvaluationSubmissionService implements EvaluationSubmissionUseCase
     @Override
     public void flagEvaluation(EvaluationId evaluationId) {
         var evaluation = findEvaluationOrThrow(evaluationId);
+        boolean wasCompleted = evaluation.isCompleted();
         evaluation.flag();
-        evaluationPersistencePort.save(evaluation);
+        Evaluation saved = evaluationPersistencePort.save(evaluation);
+        withdrawFromAggregates(saved, wasCompleted);
     }
 
     @Override
     public void invalidateEvaluation(EvaluationId evaluationId) {
         var evaluation = findEvaluationOrThrow(evaluationId);
+        boolean wasCompleted = evaluation.isCompleted();
         evaluation.invalidate();
-        evaluationPersistencePort.save(evaluation);
+        Evaluation saved = evaluationPersistencePort.save(evaluation);
+        withdrawFromAggregates(saved, wasCompleted);
     }
 
     @Override
     public Evaluation reopenEvaluation(EvaluationId evaluationId) {
         var evaluation = findEvaluationOrThrow(evaluationId);
+        boolean wasCompleted = evaluation.isCompleted();
         evaluation.reopenForRevision();
-        return evaluationPersistencePort.save(evaluation);
+        Evaluation saved = evaluationPersistencePort.save(evaluation);
+        withdrawFromAggregates(saved, wasCompleted);
+        return saved;
+    }
+
+    private void withdrawFromAggregates(Evaluation evaluation, boolean wasCompleted) {
+        if (wasCompleted) {
+            scoreAggregateService.recordWithdrawn(evaluation);
+        }
+    }
+
+    /**
+     * Merges draft changes under a row lock so concurrent flushes from other nodes
+     * apply per question, last writer wins. Changes to an evaluation that is no
+     * longer editable are dropped.
+     */
+    private boolean writeDraftAnswers(EvaluationId evaluationId, List<Answer> answers) {
+        Evaluation evaluation = evaluationPersistencePort.findByIdForUpdate(evaluationId).orElse(null);
+        if (evaluation == null || evaluation.getStatus().isTerminal() || evaluation.isAwaitingScore()) {
+            return false;
+        }
+        evaluation.mergeDraftAnswers(answers);
+        evaluationPersistencePort.save(evaluation);
+        return true;
+    }
+
+    private Evaluation prepareForSubmit(SubmitEvaluationCommand command, Evaluation existing) {
+        Evaluation evaluation;
+        if (existing != null) {
+            evaluation = existing;
+            // Autosaved changes not yet written are submitted with the draft when the
+            // request carries no answers; an explicit answer list replaces the draft.
+            List<Answer> pending = draftAnswerBufferPort.drainForTransaction(existing.getId());
+            if (command.answers().isEmpty() && !pending.isEmpty()) {
+                evaluation.mergeDraftAnswers(pending);
+            } else {
+                evaluation.saveDraft(command.answers());
+            }
+        } else {
+            evaluation = new Evaluation(
+                    EvaluationId.generate(),
+                    command.campaignId(),
+                    command.assignmentId(),
+                    command.evaluatorId(),
+                    command.evaluateeId(),
+                    command.templateId(),
+                    EvaluationStatus.DRAFT,
+                    command.answers(),
+                    null,
+                    null,
+                    Timestamp.now(),
+                    Timestamp.now(),
+                    null);
+        }
+        evaluation.submit();
+        return evaluation;
+    }
+
+    private static BatchItemResult rejected(int index, BatchSubmission submission, String error) {
+        return new BatchItemResult(index, submission.assignmentId(), BatchItemStatus.REJECTED, null, error);
     }
 
     private Evaluation findEvaluationOrThrow(EvaluationId evaluationId) {
@@ -176,15 +443,23 @@ public class EvaluationSubmissionService implements EvaluationSubmissionUseCase
                 .orElseThrow(() -> new EntityNotFoundException("Evaluation", evaluationId.value()));
     }
 
-    private void validateAssignmentOwnership(SubmitEvaluationCommand command, com.evaluationservice.domain.entity.Campaign campaign) {
-        boolean valid = assignmentPersistencePort.findById(command.assignmentId())
-                .map(assignment -> assignment.getCampaignId().equals(command.campaignId())
-                        && assignment.getEvaluatorId().equals(command.evaluatorId())
-                        && assignment.getEvaluateeId().equals(command.evaluateeId()))
-                .orElseGet(() -> campaign.getAssignments().stream()
+    private void validateAssignmentOwnership(SubmitEvaluationCommand command, List<CampaignAssignment> legacyAssignments) {
+        validateAssignmentOwnership(
+                command, assignmentPersistencePort.findById(command.assignmentId()).orElse(null), legacyAssignments);
+    }
+
+    private void validateAssignmentOwnership(
+            SubmitEvaluationCommand command,
+            CampaignAssignment relationalAssignment,
+            List<CampaignAssignment> legacyAssignments) {
+        boolean valid = relationalAssignment != null
+                ? relationalAssignment.getCampaignId().equals(command.campaignId())
+                        && relationalAssignment.getEvaluatorId().equals(command.evaluatorId())
+                        && relationalAssignment.getEvaluateeId().equals(command.evaluateeId())
+                : legacyAssignments.stream()
                         .anyMatch(assignment -> assignment.getId().equals(command.assignmentId())
                                 && assignment.getEvaluatorId().equals(command.evaluatorId())
-                                && assignment.getEvaluateeId().equals(command.evaluateeId())));
+                                && assignment.getEvaluateeId().equals(command.evaluateeId()));
 
         if (!valid) {
             throw new IllegalArgumentException("Assignment does not match campaign/evaluator/evaluatee");
@@ -197,6 +472,15 @@ public class EvaluationSubmissionService implements EvaluationSubmissionUseCase
         }
 
         var assignment = assignmentPersistencePort.findById(assignmentId).orElse(null);
+        validateStepWindow(assignment, stepType -> campaignStepRepository
+                .findByCampaignIdAndStepType(campaignId.value(), stepType)
+                .orElse(null));
+    }
+
+    /**
+     * @param stepLookup resolves an upper-cased step type to its step, or {@code null}
+     */
+    private void validateStepWindow(CampaignAssignment assignment, Function<String, CampaignStepEntity> stepLookup) {
         if (assignment == null) {
             return;
         }
@@ -208,11 +492,10 @@ public class EvaluationSubmissionService implements EvaluationSubmissionUseCase
             return;
         }
 
-        var stepOpt = campaignStepRepository.findByCampaignIdAndStepType(campaignId.value(), stepType.trim().toUpperCase());
-        if (stepOpt.isEmpty()) {
+        var step = stepLookup.apply(stepType.trim().toUpperCase());
+        if (step == null) {
             return;
         }
-        var step = stepOpt.get();
         if (!step.isEnabled()) {
             throw new IllegalStateException("Submission blocked: step is disabled (" + step.getStepType() + ")");
         }
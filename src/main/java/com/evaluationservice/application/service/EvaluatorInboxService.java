@@ -0,0 +1,91 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.EvaluatorInboxUseCase;
+import com.evaluationservice.application.port.out.EvaluatorInboxPort;
+import com.evaluationservice.application.port.out.EvaluatorInboxPort.InboxFilter;
+import com.evaluationservice.application.port.out.EvaluatorInboxPort.InboxPosition;
+import com.evaluationservice.application.port.out.EvaluatorInboxPort.InboxRow;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Serves the evaluator inbox in keyset-paginated pages. Cursors encode the
+ * position of a page's last row, so a page costs the same however deep it is.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EvaluatorInboxService implements EvaluatorInboxUseCase {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final EvaluatorInboxPort evaluatorInboxPort;
+
+    public EvaluatorInboxService(EvaluatorInboxPort evaluatorInboxPort) {
+        this.evaluatorInboxPort = Objects.requireNonNull(evaluatorInboxPort);
+    }
+
+    @Override
+    public InboxPage listAssignments(String evaluatorId, String status, Instant dueBefore, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        InboxFilter filter = new InboxFilter(completedFilter(status), dueBefore);
+        // One extra row tells whether another page follows
+        List<InboxRow> rows = evaluatorInboxPort.findPage(evaluatorId, filter, decodeCursor(cursor), pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new InboxPage(rows, null);
+        }
+        List<InboxRow> page = rows.subList(0, pageSize);
+        return new InboxPage(List.copyOf(page), encodeCursor(page.getLast().position()));
+    }
+
+    @Override
+    public List<InboxRow> listAllAssignments(String evaluatorId) {
+        return evaluatorInboxPort.findAll(evaluatorId, new InboxFilter(null, null));
+    }
+
+    private static Boolean completedFilter(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        return switch (status.trim().toUpperCase(Locale.ROOT)) {
+            case "PENDING" -> false;
+            case "COMPLETED" -> true;
+            default -> throw new IllegalArgumentException("Unsupported status: " + status);
+        };
+    }
+
+    static String encodeCursor(InboxPosition position) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return String.join(".",
+                encoder.encodeToString(position.endDate().toString().getBytes(StandardCharsets.UTF_8)),
+                encoder.encodeToString(position.campaignId().getBytes(StandardCharsets.UTF_8)),
+                encoder.encodeToString(position.assignmentId().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static InboxPosition decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.trim().split("\\.", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            return new InboxPosition(
+                    Instant.parse(new String(decoder.decode(parts[0]), StandardCharsets.UTF_8)),
+                    new String(decoder.decode(parts[1]), StandardCharsets.UTF_8),
+                    new String(decoder.decode(parts[2]), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
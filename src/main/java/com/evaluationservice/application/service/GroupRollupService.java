@@ -0,0 +1,348 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.GroupRollupUseCase;
+import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.GroupRollupPersistencePort;
+import com.evaluationservice.application.port.out.GroupRollupPersistencePort.GroupNode;
+import com.evaluationservice.application.port.out.GroupRollupPersistencePort.GroupRollupRow;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
+import com.evaluationservice.domain.exception.EntityNotFoundException;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.ScoreAggregate;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Organisational rollups over the canonical audience model.
+ * <p>
+ * The cube is built in one pass over the campaign's per-evaluatee aggregates:
+ * each evaluatee's aggregates are merged into every group it belongs to and
+ * every ancestor of those groups, once per group even when several of its
+ * memberships lead there. Slices of evaluatees are folded on virtual threads
+ * and the partial cubes merged, since aggregates over disjoint evaluatees
+ * combine. A campaign's first read builds its cube; after that, score changes
+ * request a rebuild that runs in the background once the request is older
+ * than the rebuild delay, and reads serve the last built cube meanwhile.
+ * Score changes are marked in memory per node and written as requests by the
+ * scheduler's periodic flush.
+ * Changes to group structure or memberships are picked up by the rebuild
+ * endpoint or the next rebuild.
+ */
+@Service
+@Transactional
+public class GroupRollupService implements GroupRollupUseCase {
+
+    /** Evaluatees per slice below which a rebuild stays on one thread. */
+    private static final int MIN_SLICE_SIZE = 256;
+
+    private final GroupRollupPersistencePort groupRollupPersistencePort;
+    private final ScoreAggregateService scoreAggregateService;
+    private final CampaignPersistencePort campaignPersistencePort;
+    private final Set<CampaignId> changedCampaigns = ConcurrentHashMap.newKeySet();
+
+    public GroupRollupService(
+            GroupRollupPersistencePort groupRollupPersistencePort,
+            ScoreAggregateService scoreAggregateService,
+            CampaignPersistencePort campaignPersistencePort) {
+        this.groupRollupPersistencePort = Objects.requireNonNull(groupRollupPersistencePort);
+        this.scoreAggregateService = Objects.requireNonNull(scoreAggregateService);
+        this.campaignPersistencePort = Objects.requireNonNull(campaignPersistencePort);
+    }
+
+    @Override
+    public List<GroupRollupResult> listGroupRollups(CampaignId campaignId, String parentGroupId) {
+        ensureBuilt(campaignId);
+        return toResults(groupRollupPersistencePort.findByParent(campaignId, parentGroupId));
+    }
+
+    @Override
+    public GroupRollupResult getGroupRollup(CampaignId campaignId, String groupId) {
+        ensureBuilt(campaignId);
+        List<GroupRollupResult> results = toResults(groupRollupPersistencePort.findByGroup(campaignId, groupId));
+        if (!results.isEmpty()) {
+            return results.getFirst();
+        }
+        GroupNode group = groupRollupPersistencePort.findGroups(List.of(groupId)).get(groupId);
+        if (group == null) {
+            throw new EntityNotFoundException("AudienceGroup", groupId);
+        }
+        return new GroupRollupResult(group.groupId(), group.name(), group.groupType(), group.parentGroupId(),
+                0, 0, 0.0, Map.of());
+    }
+
+    @Override
+    public int rebuildGroupRollups(CampaignId campaignId) {
+        findCampaignOrThrow(campaignId);
+        return rebuild(campaignId);
+    }
+
+    /**
+     * Marks the campaign once the score change commits. The request row is
+     * written by the next {@link #flushRebuildRequests}, so submissions never
+     * write it or wait on each other for it. A mark lost to a crash before the
+     * flush is covered by the next change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onScoreAggregatesChanged(ScoreAggregatesChangedEvent event) {
+        changedCampaigns.add(event.campaignId());
+    }
+
+    /**
+     * Requests a rebuild for each campaign marked since the last flush, in
+     * campaign order. If the flush fails they stay marked and are retried on
+     * the next one.
+     *
+     * @return number of campaigns requested
+     */
+    public int flushRebuildRequests() {
+        List<CampaignId> campaignIds = changedCampaigns.stream()
+                .sorted(Comparator.comparing(CampaignId::value))
+                .toList();
+        if (campaignIds.isEmpty()) {
+            return 0;
+        }
+        campaignIds.forEach(changedCampaigns::remove);
+        try {
+            campaignIds.forEach(groupRollupPersistencePort::requestRebuild);
+            return campaignIds.size();
+        } catch (RuntimeException ex) {
+            changedCampaigns.addAll(campaignIds);
+            throw ex;
+        }
+    }
+
+    /**
+     * Campaigns whose rebuild was requested before the given time, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<CampaignId> findRebuildRequests(Instant requestedBefore, int limit) {
+        return groupRollupPersistencePort.findRebuildRequests(requestedBefore, limit);
+    }
+
+    /**
+     * Claims the campaign's rebuild request and rebuilds its cube. The claim
+     * comes first, so a score change committed after it requests another
+     * rebuild; a failed rebuild rolls the claim back and is retried.
+     *
+     * @return {@code false} if there was no request to claim
+     */
+    public boolean rebuildRequested(CampaignId campaignId) {
+        if (!groupRollupPersistencePort.claimRebuild(campaignId)) {
+            return false;
+        }
+        if (campaignPersistencePort.findById(campaignId).isPresent()) {
+            rebuild(campaignId);
+        }
+        return true;
+    }
+
+    private void ensureBuilt(CampaignId campaignId) {
+        if (!groupRollupPersistencePort.isBuilt(campaignId)) {
+            findCampaignOrThrow(campaignId);
+            rebuild(campaignId);
+        }
+    }
+
+    int rebuild(CampaignId campaignId) {
+        Map<String, Map<String, ScoreAggregate>> aggregatesByEvaluatee =
+                scoreAggregateService.findAllByEvaluatee(campaignId);
+        Map<String, List<String>> memberships =
+                groupRollupPersistencePort.findGroupIdsByPerson(aggregatesByEvaluatee.keySet());
+        Set<String> directGroupIds = new HashSet<>();
+        memberships.values().forEach(directGroupIds::addAll);
+        Map<String, GroupNode> groups = findWithAncestors(directGroupIds);
+        Map<String, List<String>> coverage = new HashMap<>();
+        for (String groupId : directGroupIds) {
+            coverage.put(groupId, selfAndAncestors(groupId, groups));
+        }
+
+        List<String> evaluateeIds = new ArrayList<>(memberships.keySet());
+        PartialCube cube = fold(evaluateeIds, memberships, coverage, aggregatesByEvaluatee);
+
+        List<GroupRollupRow> rows = new ArrayList<>();
+        cube.cells.forEach((groupId, sections) -> {
+            GroupNode group = groups.get(groupId);
+            int memberCount = cube.members.getOrDefault(groupId, 0);
+            sections.forEach((sectionKey, aggregate) ->
+                    rows.add(new GroupRollupRow(group, sectionKey, memberCount, aggregate)));
+        });
+        groupRollupPersistencePort.replace(campaignId, rows);
+        return cube.cells.size();
+    }
+
+    /**
+     * Loads the given groups and every ancestor, one query per level of the
+     * hierarchy.
+     */
+    private Map<String, GroupNode> findWithAncestors(Set<String> groupIds) {
+        Map<String, GroupNode> groups = new HashMap<>();
+        Set<String> pending = new HashSet<>(groupIds);
+        while (!pending.isEmpty()) {
+            Map<String, GroupNode> found = groupRollupPersistencePort.findGroups(pending);
+            groups.putAll(found);
+            pending = new HashSet<>();
+            for (GroupNode group : found.values()) {
+                String parentGroupId = group.parentGroupId();
+                if (parentGroupId != null && !groups.containsKey(parentGroupId)) {
+                    pending.add(parentGroupId);
+                }
+            }
+        }
+        return groups;
+    }
+
+    private static List<String> selfAndAncestors(String groupId, Map<String, GroupNode> groups) {
+        List<String> chain = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        String current = groupId;
+        // Stops at a root, an unknown parent or a cycle in the imported hierarchy
+        while (current != null && groups.containsKey(current) && visited.add(current)) {
+            chain.add(current);
+            current = groups.get(current).parentGroupId();
+        }
+        return chain;
+    }
+
+    private static PartialCube fold(
+            List<String> evaluateeIds,
+            Map<String, List<String>> memberships,
+            Map<String, List<String>> coverage,
+            Map<String, Map<String, ScoreAggregate>> aggregatesByEvaluatee) {
+        int workers = Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors(), evaluateeIds.size() / MIN_SLICE_SIZE));
+        if (workers == 1) {
+            PartialCube cube = new PartialCube();
+            evaluateeIds.forEach(evaluateeId -> cube.add(
+                    memberships.get(evaluateeId), coverage, aggregatesByEvaluatee.get(evaluateeId)));
+            return cube;
+        }
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("group-rollup-", 0).factory())) {
+            List<Future<PartialCube>> slices = new ArrayList<>(workers);
+            for (int worker = 0; worker < workers; worker++) {
+                int first = worker;
+                slices.add(executor.submit(() -> {
+                    PartialCube cube = new PartialCube();
+                    for (int i = first; i < evaluateeIds.size(); i += workers) {
+                        String evaluateeId = evaluateeIds.get(i);
+                        cube.add(memberships.get(evaluateeId), coverage, aggregatesByEvaluatee.get(evaluateeId));
+                    }
+                    return cube;
+                }));
+            }
+            PartialCube merged = new PartialCube();
+            for (Future<PartialCube> slice : slices) {
+                merged.merge(slice.get());
+            }
+            return merged;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building group rollups", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to build group rollups", e.getCause());
+        }
+    }
+
+    private static List<GroupRollupResult> toResults(List<GroupRollupRow> rows) {
+        Map<String, List<GroupRollupRow>> byGroup = new LinkedHashMap<>();
+        for (GroupRollupRow row : rows) {
+            byGroup.computeIfAbsent(row.group().groupId(), ignored -> new ArrayList<>()).add(row);
+        }
+        List<GroupRollupResult> results = new ArrayList<>(byGroup.size());
+        byGroup.values().forEach(cells -> {
+            GroupNode group = cells.getFirst().group();
+            ScoreAggregate overall = ScoreAggregate.EMPTY;
+            Map<String, Double> sectionAverages = new TreeMap<>();
+            for (GroupRollupRow cell : cells) {
+                if (ScoreAggregatePersistencePort.OVERALL.equals(cell.sectionKey())) {
+                    overall = cell.aggregate();
+                } else {
+                    sectionAverages.put(cell.sectionKey(), round(cell.aggregate().mean()));
+                }
+            }
+            results.add(new GroupRollupResult(
+                    group.groupId(),
+                    group.name(),
+                    group.groupType(),
+                    group.parentGroupId(),
+                    cells.getFirst().memberCount(),
+                    overall.count(),
+                    round(overall.mean()),
+                    sectionAverages));
+        });
+        return results;
+    }
+
+    private void findCampaignOrThrow(CampaignId campaignId) {
+        if (campaignPersistencePort.findById(campaignId).isEmpty()) {
+            throw new EntityNotFoundException("Campaign", campaignId.value());
+        }
+    }
+
+    private static double round(double value) {
+        return BigDecimal.valueOf(value)
+                .setScale(2, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+
+    /**
+     * Cube cells and member counts over a subset of evaluatees.
+     */
+    private static final class PartialCube {
+        private final Map<String, Map<String, ScoreAggregate>> cells = new HashMap<>();
+        private final Map<String, Integer> members = new HashMap<>();
+
+        void add(List<String> groupIds, Map<String, List<String>> coverage, Map<String, ScoreAggregate> aggregates) {
+            if (aggregates == null || aggregates.isEmpty()) {
+                return;
+            }
+            Set<String> covered = new HashSet<>();
+            for (String groupId : groupIds) {
+                covered.addAll(coverage.getOrDefault(groupId, List.of()));
+            }
+            for (String groupId : covered) {
+                members.merge(groupId, 1, Integer::sum);
+                Map<String, ScoreAggregate> sections = cells.computeIfAbsent(groupId, ignored -> new HashMap<>());
+                aggregates.forEach((sectionKey, aggregate) ->
+                        sections.merge(sectionKey, aggregate, ScoreAggregate::merge));
+            }
+        }
+
+        void merge(PartialCube other) {
+            other.members.forEach((groupId, count) -> members.merge(groupId, count, Integer::sum));
+            other.cells.forEach((groupId, sections) -> {
+                Map<String, ScoreAggregate> merged = cells.computeIfAbsent(groupId, ignored -> new HashMap<>());
+                sections.forEach((sectionKey, aggregate) ->
+                        merged.merge(sectionKey, aggregate, ScoreAggregate::merge));
+            });
+        }
+    }
+}
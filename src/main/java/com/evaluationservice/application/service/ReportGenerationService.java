@@ -2,59 +2,161 @@ package com.evaluationservice.application.service;
 
 import com.evaluationservice.application.port.in.ReportGenerationUseCase;
 import com.evaluationservice.application.port.out.CampaignPersistencePort;
-import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.CampaignProgressPort;
+import com.evaluationservice.application.port.out.CampaignProgressPort.AssignmentTotals;
+import com.evaluationservice.application.port.out.EvaluationExportPort;
+import com.evaluationservice.application.port.out.EvaluationExportPort.EvaluationAnswersRow;
+import com.evaluationservice.application.port.out.EvaluationExportPort.EvaluationResultRow;
+import com.evaluationservice.application.port.out.ReportCachePort;
+import com.evaluationservice.application.port.out.ReportSnapshotPort;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.application.port.out.TemplatePersistencePort;
+import com.evaluationservice.application.service.report.StreamingPdfWriter;
+import com.evaluationservice.domain.entity.Answer;
 import com.evaluationservice.domain.entity.Campaign;
-import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.Question;
+import com.evaluationservice.domain.entity.Section;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.event.CampaignChangedEvent;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
 import com.evaluationservice.domain.exception.EntityNotFoundException;
 import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.QuantileSketch;
+import com.evaluationservice.domain.value.ScoreAggregate;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Application service implementing report generation use cases.
- * Aggregates evaluation data to produce individual and campaign-level reports.
+ * Reads the incremental score aggregates, so report cost depends on the number
+ * of sections rather than the number of evaluations. Campaign and individual
+ * reports are additionally served through the report cache.
+ * <p>
+ * Publishing a campaign's results freezes every report into a snapshot in the
+ * same transaction. Reads are then key lookups. Aggregate changes after
+ * publishing rewrite the snapshot and reopening the campaign drops it.
  */
 @Service
 @Transactional(readOnly = true)
 public class ReportGenerationService implements ReportGenerationUseCase {
 
-    private static final int REPORT_PAGE_SIZE = 500;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final Set<CampaignStatus> SNAPSHOT_STATUSES =
+            EnumSet.of(CampaignStatus.RESULTS_PUBLISHED, CampaignStatus.ARCHIVED);
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
 
-    private final EvaluationPersistencePort evaluationPersistencePort;
     private final CampaignPersistencePort campaignPersistencePort;
+    private final TemplatePersistencePort templatePersistencePort;
+    private final ScoreAggregateService scoreAggregateService;
+    private final EvaluationExportPort evaluationExportPort;
+    private final EvaluationServiceProperties properties;
+    private final ReportCachePort reportCachePort;
+    private final ReportSnapshotPort reportSnapshotPort;
+    private final CampaignProgressPort campaignProgressPort;
 
     public ReportGenerationService(
-            EvaluationPersistencePort evaluationPersistencePort,
-            CampaignPersistencePort campaignPersistencePort) {
-        this.evaluationPersistencePort = Objects.requireNonNull(evaluationPersistencePort);
+            CampaignPersistencePort campaignPersistencePort,
+            TemplatePersistencePort templatePersistencePort,
+            ScoreAggregateService scoreAggregateService,
+            EvaluationExportPort evaluationExportPort,
+            EvaluationServiceProperties properties,
+            ReportCachePort reportCachePort,
+            ReportSnapshotPort reportSnapshotPort,
+            CampaignProgressPort campaignProgressPort) {
         this.campaignPersistencePort = Objects.requireNonNull(campaignPersistencePort);
+        this.templatePersistencePort = Objects.requireNonNull(templatePersistencePort);
+        this.scoreAggregateService = Objects.requireNonNull(scoreAggregateService);
+        this.evaluationExportPort = Objects.requireNonNull(evaluationExportPort);
+        this.properties = Objects.requireNonNull(properties);
+        this.reportCachePort = Objects.requireNonNull(reportCachePort);
+        this.reportSnapshotPort = Objects.requireNonNull(reportSnapshotPort);
+        this.campaignProgressPort = Objects.requireNonNull(campaignProgressPort);
     }
 
     @Override
     public IndividualReportResult generateIndividualReport(String evaluateeId, CampaignId campaignId) {
-        Campaign campaign = findCampaignOrThrow(campaignId);
+        Optional<IndividualReportResult> frozen =
+                reportSnapshotPort.find(campaignId, evaluateeId, IndividualReportResult.class);
+        if (frozen.isPresent()) {
+            return frozen.get();
+        }
+        IndividualReportResult report = reportCachePort.get(campaignId, evaluateeId, IndividualReportResult.class, () -> {
+            if (!campaignPersistencePort.existsById(campaignId)) {
+                throw new EntityNotFoundException("Campaign", campaignId.value());
+            }
+            return individualReport(evaluateeId, campaignId,
+                    scoreAggregateService.findByEvaluatee(campaignId, evaluateeId));
+        });
+        // Percentiles move with every submission in the campaign, so they are
+        // resolved from the sketches on each read rather than cached
+        return withPercentiles(report, scoreAggregateService.findSketches(campaignId));
+    }
 
-        List<Evaluation> evaluations = fetchCampaignEvaluations(campaignId)
-                .stream()
-                .filter(e -> evaluateeId.equals(e.getEvaluateeId()))
-                .toList();
+    private IndividualReportResult withPercentiles(IndividualReportResult report, Map<String, QuantileSketch> sketches) {
+        if (report.totalEvaluations() == 0) {
+            return report;
+        }
+        QuantileSketch overall = sketches.get(ScoreAggregatePersistencePort.OVERALL);
+        Map<String, Double> sectionPercentiles = new HashMap<>();
+        report.sectionScores().forEach((section, score) -> {
+            QuantileSketch sketch = sketches.get(section);
+            if (sketch != null) {
+                sectionPercentiles.put(section, round(sketch.rank(score) * 100.0));
+            }
+        });
+        return report.withPercentiles(
+                overall != null ? round(overall.rank(report.overallScore()) * 100.0) : null,
+                sectionPercentiles);
+    }
 
-        double overallScore = evaluations.stream()
-                .filter(e -> e.getTotalScore() != null)
-                .mapToDouble(e -> e.getTotalScore().value().doubleValue())
-                .average()
-                .orElse(0.0);
+    private IndividualReportResult individualReport(
+            String evaluateeId, CampaignId campaignId, Map<String, ScoreAggregate> aggregates) {
+        ScoreAggregate overall = aggregates.getOrDefault(ScoreAggregatePersistencePort.OVERALL, ScoreAggregate.EMPTY);
+        // Completed evaluations only, the same population as the scores
+        int evaluationCount = (int) overall.count();
 
-        Map<String, Double> sectionScores = aggregateSectionScores(evaluations);
+        Map<String, Double> sectionScores = sectionAverages(aggregates);
         Map<String, String> strengths = identifyTopSections(sectionScores, true);
         Map<String, String> weaknesses = identifyTopSections(sectionScores, false);
 
@@ -62,52 +164,133 @@ public class ReportGenerationService implements ReportGenerationUseCase {
                 evaluateeId,
                 evaluateeId, // name resolution would require a user service
                 campaignId,
-                round(overallScore),
+                round(overall.mean()),
                 sectionScores,
                 strengths,
                 weaknesses,
-                evaluations.size(),
-                evaluations.size());
+                evaluationCount,
+                evaluationCount,
+                null,
+                Map.of());
     }
 
     @Override
     public CampaignReportResult generateCampaignReport(CampaignId campaignId) {
-        Campaign campaign = findCampaignOrThrow(campaignId);
+        return reportSnapshotPort.find(campaignId, null, CampaignReportResult.class)
+                .orElseGet(() -> reportCachePort.get(campaignId, null, CampaignReportResult.class,
+                        () -> campaignReport(campaignId)));
+    }
 
-        List<Evaluation> evaluations = fetchCampaignEvaluations(campaignId);
+    private CampaignReportResult campaignReport(CampaignId campaignId) {
+        Campaign campaign = findCampaignOrThrow(campaignId);
 
-        int totalAssignments = campaign.getAssignments().size();
-        int completedAssignments = (int) evaluations.stream()
-                .filter(Evaluation::isCompleted)
-                .count();
+        Map<String, ScoreAggregate> aggregates = scoreAggregateService.findByCampaign(campaignId);
+        Map<String, QuantileSketch> sketches = scoreAggregateService.findSketches(campaignId);
+        ScoreAggregate overall = aggregates.getOrDefault(ScoreAggregatePersistencePort.OVERALL, ScoreAggregate.EMPTY);
 
-        double averageScore = evaluations.stream()
-                .filter(e -> e.getTotalScore() != null)
-                .mapToDouble(e -> e.getTotalScore().value().doubleValue())
-                .average()
-                .orElse(0.0);
+        // Total from the assignment counters, so the report never loads the assignments
+        AssignmentTotals totals = campaignProgressPort.countAssignments(List.of(campaignId))
+                .getOrDefault(campaignId, AssignmentTotals.NONE);
+        int totalAssignments = (int) totals.totalAssignments();
+        int completedAssignments = (int) overall.count();
 
         double completionPercentage = totalAssignments > 0
                 ? (double) completedAssignments / totalAssignments * 100.0
                 : 0.0;
 
-        Map<String, Double> sectionAverages = aggregateSectionScores(evaluations);
-
         return new CampaignReportResult(
                 campaignId,
                 campaign.getName(),
-                round(averageScore),
+                round(overall.mean()),
                 round(completionPercentage),
                 totalAssignments,
                 completedAssignments,
-                sectionAverages);
+                sectionAverages(aggregates),
+                distribution(sketches.get(ScoreAggregatePersistencePort.OVERALL)),
+                sectionDistributions(sketches));
+    }
+
+    private ScoreDistribution distribution(QuantileSketch sketch) {
+        if (sketch == null || sketch.isEmpty()) {
+            return null;
+        }
+        return new ScoreDistribution(
+                round(sketch.quantile(0.1)),
+                round(sketch.quantile(0.5)),
+                round(sketch.quantile(0.9)));
+    }
+
+    private Map<String, ScoreDistribution> sectionDistributions(Map<String, QuantileSketch> sketches) {
+        Map<String, ScoreDistribution> distributions = new HashMap<>();
+        sketches.forEach((sectionKey, sketch) -> {
+            if (!ScoreAggregatePersistencePort.OVERALL.equals(sectionKey)) {
+                distributions.put(sectionKey, distribution(sketch));
+            }
+        });
+        return distributions;
+    }
+
+    @Override
+    @Transactional
+    public int snapshotResults(CampaignId campaignId) {
+        CampaignReportResult campaignReport = campaignReport(campaignId);
+        Map<String, IndividualReportResult> individualReports = new LinkedHashMap<>();
+        for (IndividualReportResult report : liveIndividualReports(campaignId)) {
+            individualReports.put(report.evaluateeId(), report);
+        }
+        reportSnapshotPort.replace(campaignId, campaignReport, individualReports);
+        return individualReports.size();
+    }
+
+    @Override
+    @Transactional
+    public void discardResultsSnapshot(CampaignId campaignId) {
+        reportSnapshotPort.delete(campaignId);
+    }
+
+    /**
+     * Freezes results as part of the publishing transaction, and drops them
+     * when the campaign is reopened for submissions.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        switch (event.change()) {
+            case "PUBLISH_RESULTS" -> snapshotResults(event.campaignId());
+            case "REOPEN" -> discardResultsSnapshot(event.campaignId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Rewrites a published snapshot when evaluations are flagged, invalidated
+     * or reopened after publishing. Snapshots exist only once results are
+     * published, so changes in an open campaign, such as every submission,
+     * stop at the header the transaction has already read.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onScoreAggregatesChanged(ScoreAggregatesChangedEvent event) {
+        boolean published = campaignPersistencePort.findHeaderById(event.campaignId())
+                .map(header -> SNAPSHOT_STATUSES.contains(header.status()))
+                .orElse(false);
+        if (published && reportSnapshotPort.exists(event.campaignId())) {
+            snapshotResults(event.campaignId());
+        }
+    }
+
+    @Override
+    @Transactional
+    public int rebuildScoreAggregates(CampaignId campaignId) {
+        findCampaignOrThrow(campaignId);
+        return scoreAggregateService.rebuild(campaignId);
     }
 
     @Override
     public byte[] exportReportAsPdf(String evaluateeId, CampaignId campaignId) {
         IndividualReportResult report = generateIndividualReport(evaluateeId, campaignId);
-        String content = formatReportAsText(report);
-        return toSimplePdf(content);
+        return renderPdf(report);
     }
 
     @Override
@@ -132,47 +315,341 @@ public class ReportGenerationService implements ReportGenerationUseCase {
         return csv.toString().getBytes(StandardCharsets.UTF_8);
     }
 
+    @Override
+    public BulkReportExport prepareBulkPdfExport(CampaignId campaignId) {
+        Optional<List<IndividualReportResult>> frozen =
+                reportSnapshotPort.findAllIndividual(campaignId, IndividualReportResult.class);
+        if (frozen.isPresent()) {
+            return new BulkReportExport(campaignId, List.copyOf(frozen.get()));
+        }
+        if (!campaignPersistencePort.existsById(campaignId)) {
+            throw new EntityNotFoundException("Campaign", campaignId.value());
+        }
+        return new BulkReportExport(campaignId, liveIndividualReports(campaignId));
+    }
+
+    private List<IndividualReportResult> liveIndividualReports(CampaignId campaignId) {
+        List<IndividualReportResult> reports = new ArrayList<>();
+        Map<String, QuantileSketch> sketches = scoreAggregateService.findSketches(campaignId);
+        scoreAggregateService.findAllByEvaluatee(campaignId).forEach((evaluateeId, aggregates) ->
+                reports.add(withPercentiles(individualReport(evaluateeId, campaignId, aggregates), sketches)));
+        return List.copyOf(reports);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeBulkPdfZip(BulkReportExport export, OutputStream out, IntConsumer progress) {
+        List<IndividualReportResult> reports = export.reports();
+        int parallelism = Math.max(1, properties.getReports().getPdfExportParallelism());
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, EXPORT_BUFFER_SIZE));
+        Set<String> entryNames = new HashSet<>();
+        // Only the calling thread touches the ZIP; renderers hand back finished
+        // PDFs, and at most `parallelism` of them are in flight or waiting.
+        try (ExecutorService renderers = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("report-pdf-", 0).factory())) {
+            CompletionService<RenderedReport> rendered = new ExecutorCompletionService<>(renderers);
+            int submitted = 0;
+            while (submitted < Math.min(parallelism, reports.size())) {
+                submitRender(rendered, reports.get(submitted++));
+            }
+            for (int written = 0; written < reports.size(); written++) {
+                RenderedReport report = rendered.take().get();
+                if (submitted < reports.size()) {
+                    submitRender(rendered, reports.get(submitted++));
+                }
+                zip.putNextEntry(new ZipEntry(uniqueEntryName(entryNames, report.evaluateeId())));
+                zip.write(report.pdf());
+                zip.closeEntry();
+                progress.accept(written + 1);
+            }
+            zip.finish();
+            zip.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk PDF export interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to render report PDF", e.getCause());
+        }
+    }
+
+    @Override
+    public ResultsExport prepareResultsExport(CampaignId campaignId) {
+        Campaign campaign = findCampaignOrThrow(campaignId);
+        List<Section> templateSections = templatePersistencePort.findById(campaign.getTemplateId())
+                .map(template -> template.getSections().stream()
+                        .sorted(Comparator.comparingInt(Section::getOrderIndex))
+                        .toList())
+                .orElse(List.of());
+        List<ExportSection> sections = templateSections.stream()
+                .map(section -> new ExportSection(section.getId(), section.getTitle()))
+                .toList();
+        List<ExportQuestion> questions = templateSections.stream()
+                .flatMap(section -> section.getQuestions().stream()
+                        .sorted(Comparator.comparingInt(Question::getOrderIndex))
+                        .map(question -> new ExportQuestion(question.getId(), section.getTitle(), question.getText())))
+                .toList();
+        return new ResultsExport(campaignId, campaign.isAnonymousMode(), sections, questions);
+    }
+
+    @Override
+    public void writeResultsCsv(ResultsExport export, OutputStream out) {
+        Writer writer = exportWriter(out);
+        StringBuilder line = new StringBuilder(256);
+        try {
+            line.append("Evaluation ID,Assignment ID,Evaluator ID,Evaluatee ID,Submitted At,Total Score");
+            for (ExportSection section : export.sections()) {
+                line.append(',');
+                appendCsv(line, section.title());
+            }
+            writer.write(line.append('\n').toString());
+
+            evaluationExportPort.forEachCompleted(export.campaignId(), row -> {
+                line.setLength(0);
+                appendResultRow(line, row, export);
+                try {
+                    writer.write(line.toString());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeAnswersCsv(ResultsExport export, OutputStream out) {
+        Writer writer = exportWriter(out);
+        StringBuilder line = new StringBuilder(1024);
+        AnswerPivot pivot = new AnswerPivot(export.questions());
+        try {
+            line.append("Evaluation ID,Assignment ID,Evaluator ID,Evaluatee ID,Submitted At");
+            for (ExportQuestion question : export.questions()) {
+                line.append(',');
+                appendCsv(line, question.sectionTitle() + ": " + question.text());
+            }
+            writer.write(line.append('\n').toString());
+
+            evaluationExportPort.forEachCompletedAnswers(export.campaignId(), row -> {
+                line.setLength(0);
+                appendAnswersRow(line, row, pivot.slot(row.answers()), export.anonymous());
+                try {
+                    writer.write(line.toString());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeAnswersNdjson(ResultsExport export, OutputStream out) {
+        AnswerPivot pivot = new AnswerPivot(export.questions());
+        try {
+            JsonGenerator json = JSON_FACTORY.createGenerator(exportWriter(out));
+            evaluationExportPort.forEachCompletedAnswers(export.campaignId(), row -> {
+                try {
+                    writeAnswersObject(json, row, pivot.slot(row.answers()), export);
+                    json.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            json.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // --- Helpers ---
 
-    private Campaign findCampaignOrThrow(CampaignId campaignId) {
-        return campaignPersistencePort.findById(campaignId)
-                .orElseThrow(() -> new EntityNotFoundException("Campaign", campaignId.value()));
+    private record RenderedReport(String evaluateeId, byte[] pdf) {
     }
 
-    private List<Evaluation> fetchCampaignEvaluations(CampaignId campaignId) {
-        List<Evaluation> all = new java.util.ArrayList<>();
-        int page = 0;
-        while (true) {
-            List<Evaluation> chunk = evaluationPersistencePort.findByCampaignId(campaignId, page, REPORT_PAGE_SIZE);
-            if (chunk.isEmpty()) {
-                break;
+    private void submitRender(CompletionService<RenderedReport> rendered, IndividualReportResult report) {
+        rendered.submit(() -> new RenderedReport(report.evaluateeId(), renderPdf(report)));
+    }
+
+    private static String uniqueEntryName(Set<String> used, String evaluateeId) {
+        String base = "report-" + evaluateeId.replaceAll("[^A-Za-z0-9._-]", "_");
+        String name = base + ".pdf";
+        for (int i = 2; !used.add(name); i++) {
+            name = base + "-" + i + ".pdf";
+        }
+        return name;
+    }
+
+    /**
+     * Places each evaluation's answers into a reused array indexed by template
+     * question order, so pivoting a row allocates nothing per question.
+     */
+    private static final class AnswerPivot {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final Answer[] slots;
+
+        AnswerPivot(List<ExportQuestion> questions) {
+            for (int i = 0; i < questions.size(); i++) {
+                columns.putIfAbsent(questions.get(i).questionId(), i);
             }
-            all.addAll(chunk);
-            if (chunk.size() < REPORT_PAGE_SIZE) {
-                break;
+            this.slots = new Answer[questions.size()];
+        }
+
+        Answer[] slot(List<Answer> answers) {
+            Arrays.fill(slots, null);
+            for (Answer answer : answers) {
+                // Answers to questions no longer in the template have no column
+                Integer column = columns.get(answer.questionId());
+                if (column != null) {
+                    slots[column] = answer;
+                }
             }
-            page++;
+            return slots;
         }
-        return all;
     }
 
-    private Map<String, Double> aggregateSectionScores(List<Evaluation> evaluations) {
-        Map<String, List<Double>> sectionScoresMap = new HashMap<>();
+    private static Writer exportWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+    }
 
-        for (Evaluation evaluation : evaluations) {
-            if (evaluation.getSectionScores() != null) {
-                evaluation.getSectionScores().forEach(ss -> {
-                    sectionScoresMap
-                            .computeIfAbsent(ss.sectionTitle(), k -> new java.util.ArrayList<>())
-                            .add(ss.score().value().doubleValue());
-                });
+    private static void appendAnswersRow(StringBuilder line, EvaluationAnswersRow row, Answer[] answers,
+            boolean anonymous) {
+        appendCsv(line, row.evaluationId());
+        line.append(',');
+        appendCsv(line, row.assignmentId());
+        line.append(',');
+        appendCsv(line, anonymous ? "" : row.evaluatorId());
+        line.append(',');
+        appendCsv(line, row.evaluateeId());
+        line.append(',');
+        if (row.submittedAt() != null) {
+            line.append(row.submittedAt());
+        }
+        for (Answer answer : answers) {
+            line.append(',');
+            if (answer == null) {
+                continue;
+            }
+            if (!answer.selectedOptions().isEmpty()) {
+                appendCsv(line, String.join("|", answer.selectedOptions()));
+            } else if (answer.value() instanceof Number number) {
+                line.append(formatNumber(number));
+            } else if (answer.value() != null) {
+                appendCsv(line, answer.value().toString());
+            } else {
+                appendCsv(line, answer.textResponse());
             }
         }
+        line.append('\n');
+    }
 
+    private static void writeAnswersObject(JsonGenerator json, EvaluationAnswersRow row, Answer[] answers,
+            ResultsExport export) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("evaluationId", row.evaluationId());
+        json.writeStringField("assignmentId", row.assignmentId());
+        json.writeStringField("evaluatorId", export.anonymous() ? null : row.evaluatorId());
+        json.writeStringField("evaluateeId", row.evaluateeId());
+        json.writeStringField("submittedAt", row.submittedAt() != null ? row.submittedAt().toString() : null);
+        json.writeObjectFieldStart("answers");
+        for (int i = 0; i < answers.length; i++) {
+            Answer answer = answers[i];
+            json.writeFieldName(export.questions().get(i).questionId());
+            if (answer == null) {
+                json.writeNull();
+            } else if (!answer.selectedOptions().isEmpty()) {
+                json.writeStartArray();
+                for (String option : answer.selectedOptions()) {
+                    json.writeString(option);
+                }
+                json.writeEndArray();
+            } else if (answer.value() instanceof Number number) {
+                json.writeNumber(formatNumber(number));
+            } else if (answer.value() instanceof Boolean flag) {
+                json.writeBoolean(flag);
+            } else if (answer.value() != null) {
+                json.writeString(answer.value().toString());
+            } else {
+                json.writeString(answer.textResponse());
+            }
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static String formatNumber(Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            return BigDecimal.valueOf(number.doubleValue()).stripTrailingZeros().toPlainString();
+        }
+        return number.toString();
+    }
+
+    private Campaign findCampaignOrThrow(CampaignId campaignId) {
+        return campaignPersistencePort.findByIdWithoutAssignments(campaignId)
+                .orElseThrow(() -> new EntityNotFoundException("Campaign", campaignId.value()));
+    }
+
+    private static void appendResultRow(StringBuilder line, EvaluationResultRow row, ResultsExport export) {
+        appendCsv(line, row.evaluationId());
+        line.append(',');
+        appendCsv(line, row.assignmentId());
+        line.append(',');
+        // Anonymous campaigns never reveal who evaluated whom
+        appendCsv(line, export.anonymous() ? "" : row.evaluatorId());
+        line.append(',');
+        appendCsv(line, row.evaluateeId());
+        line.append(',');
+        if (row.submittedAt() != null) {
+            line.append(row.submittedAt());
+        }
+        line.append(',');
+        appendScore(line, row.totalScore());
+        for (ExportSection section : export.sections()) {
+            line.append(',');
+            appendScore(line, row.sectionScores().get(section.sectionId()));
+        }
+        line.append('\n');
+    }
+
+    private static void appendScore(StringBuilder line, BigDecimal score) {
+        if (score != null) {
+            line.append(score.setScale(2, RoundingMode.HALF_UP).toPlainString());
+        }
+    }
+
+    private static void appendCsv(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private Map<String, Double> sectionAverages(Map<String, ScoreAggregate> aggregates) {
         Map<String, Double> averages = new HashMap<>();
-        sectionScoresMap.forEach((section, scores) -> {
-            double avg = scores.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-            averages.put(section, round(avg));
+        aggregates.forEach((sectionKey, aggregate) -> {
+            if (!ScoreAggregatePersistencePort.OVERALL.equals(sectionKey)) {
+                averages.put(sectionKey, round(aggregate.mean()));
+            }
         });
         return averages;
     }
@@ -189,69 +666,37 @@ public class ReportGenerationService implements ReportGenerationUseCase {
         return result;
     }
 
-    private String formatReportAsText(IndividualReportResult report) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Individual Evaluation Report\n");
-        sb.append("===========================\n");
-        sb.append("Evaluatee: ").append(report.evaluateeId()).append("\n");
-        sb.append("Campaign: ").append(report.campaignId().value()).append("\n");
-        sb.append("Overall Score: ").append(String.format("%.2f", report.overallScore())).append("\n");
-        sb.append("Total Evaluations: ").append(report.totalEvaluations()).append("\n\n");
-        sb.append("Section Scores:\n");
-        report.sectionScores().forEach((section, score) -> sb.append("  ").append(section).append(": ")
-                .append(String.format("%.2f", score)).append("\n"));
-        return sb.toString();
-    }
-
-    private byte[] toSimplePdf(String text) {
-        String escaped = text.replace("\\", "\\\\")
-                .replace("(", "\\(")
-                .replace(")", "\\)");
-
-        String[] lines = escaped.split("\\R");
-        StringBuilder stream = new StringBuilder();
-        stream.append("BT\n/F1 10 Tf\n50 780 Td\n");
-        for (int i = 0; i < lines.length; i++) {
-            if (i > 0) {
-                stream.append("0 -14 Td\n");
-            }
-            stream.append("(").append(lines[i]).append(") Tj\n");
+    private static byte[] renderPdf(IndividualReportResult report) {
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream(4096);
+        StreamingPdfWriter writer = new StreamingPdfWriter(pdf);
+        writer.heading("Individual Evaluation Report")
+                .text("Evaluatee: " + report.evaluateeId())
+                .text("Campaign: " + report.campaignId().value())
+                .text("Overall Score: " + String.format("%.2f", report.overallScore()))
+                .text("Total Evaluations: " + report.totalEvaluations());
+        if (report.campaignPercentile() != null) {
+            writer.text("Campaign Percentile: " + String.format("%.0f", report.campaignPercentile()));
+        }
+
+        writer.heading("Section Scores").beginTable(new String[] { "Section", "Score" }, 0.8f, 0.2f);
+        report.sectionScores().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> writer.row(e.getKey(), String.format("%.2f", e.getValue())));
+
+        writeHighlights(writer, "Strengths", report.strengths());
+        writeHighlights(writer, "Areas for Improvement", report.weaknesses());
+        writer.finish();
+        return pdf.toByteArray();
+    }
+
+    private static void writeHighlights(StreamingPdfWriter writer, String title, Map<String, String> highlights) {
+        if (highlights.isEmpty()) {
+            return;
         }
-        stream.append("ET");
-
-        String obj1 = "1 0 obj << /Type /Catalog /Pages 2 0 R >> endobj\n";
-        String obj2 = "2 0 obj << /Type /Pages /Kids [3 0 R] /Count 1 >> endobj\n";
-        String obj3 = "3 0 obj << /Type /Page /Parent 2 0 R /MediaBox [0 0 595 842] "
-                + "/Resources << /Font << /F1 4 0 R >> >> /Contents 5 0 R >> endobj\n";
-        String obj4 = "4 0 obj << /Type /Font /Subtype /Type1 /BaseFont /Helvetica >> endobj\n";
-        String obj5 = "5 0 obj << /Length " + stream.length() + " >> stream\n"
-                + stream + "\nendstream endobj\n";
-
-        StringBuilder pdf = new StringBuilder();
-        pdf.append("%PDF-1.4\n");
-        int off1 = pdf.length();
-        pdf.append(obj1);
-        int off2 = pdf.length();
-        pdf.append(obj2);
-        int off3 = pdf.length();
-        pdf.append(obj3);
-        int off4 = pdf.length();
-        pdf.append(obj4);
-        int off5 = pdf.length();
-        pdf.append(obj5);
-        int xref = pdf.length();
-
-        pdf.append("xref\n0 6\n");
-        pdf.append("0000000000 65535 f \n");
-        pdf.append(String.format("%010d 00000 n \n", off1));
-        pdf.append(String.format("%010d 00000 n \n", off2));
-        pdf.append(String.format("%010d 00000 n \n", off3));
-        pdf.append(String.format("%010d 00000 n \n", off4));
-        pdf.append(String.format("%010d 00000 n \n", off5));
-        pdf.append("trailer << /Size 6 /Root 1 0 R >>\n");
-        pdf.append("startxref\n").append(xref).append("\n%%EOF");
-
-        return pdf.toString().getBytes(StandardCharsets.UTF_8);
+        writer.heading(title);
+        highlights.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> writer.text(e.getKey() + " - " + e.getValue()));
     }
 
     private double round(double value) {
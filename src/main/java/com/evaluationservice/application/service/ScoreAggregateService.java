@@ -0,0 +1,225 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort.Contribution;
+import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.QuantileSketch;
+import com.evaluationservice.domain.value.ScoreAggregate;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps the per-campaign, per-evaluatee and per-section score aggregates in
+ * step with evaluation state.
+ * <p>
+ * Only COMPLETED evaluations contribute. Completions are added incrementally;
+ * an evaluation that leaves COMPLETED (flagged, invalidated or reopened) has
+ * its evaluatee's aggregates recomputed from that evaluatee's remaining
+ * completed evaluations, since a range cannot be shrunk incrementally. The
+ * evaluatee's aggregate rows are locked before that read, so a concurrent
+ * completion is either read or applied on top of the recompute. All
+ * updates join the caller's transaction and raise a
+ * {@link ScoreAggregatesChangedEvent} naming the evaluatees touched.
+ * <p>
+ * The campaign's distribution sketches are maintained off the request path:
+ * completions are buffered and merged in the background, and a withdrawal
+ * only requests a sketch rebuild, which runs in the background once the
+ * campaign has been quiet for a while. Until then percentiles may still
+ * include the withdrawn score.
+ */
+@Service
+@Transactional
+public class ScoreAggregateService {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final ScoreAggregatePersistencePort scoreAggregatePersistencePort;
+    private final EvaluationPersistencePort evaluationPersistencePort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ScoreAggregateService(
+            ScoreAggregatePersistencePort scoreAggregatePersistencePort,
+            EvaluationPersistencePort evaluationPersistencePort,
+            ApplicationEventPublisher eventPublisher) {
+        this.scoreAggregatePersistencePort = Objects.requireNonNull(scoreAggregatePersistencePort);
+        this.evaluationPersistencePort = Objects.requireNonNull(evaluationPersistencePort);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+    }
+
+    /**
+     * Adds completed evaluations of one campaign to the aggregates. Others are ignored.
+     */
+    public void recordCompleted(CampaignId campaignId, List<Evaluation> evaluations) {
+        List<Contribution> contributions = new ArrayList<>();
+        for (Evaluation evaluation : evaluations) {
+            if (evaluation.isCompleted() && evaluation.getTotalScore() != null) {
+                contributions.addAll(contributions(evaluation));
+            }
+        }
+        if (contributions.isEmpty()) {
+            return;
+        }
+        // A fixed row order keeps concurrent batches from deadlocking each other
+        contributions.sort(Comparator.comparing(Contribution::evaluateeId).thenComparing(Contribution::sectionKey));
+        scoreAggregatePersistencePort.increment(campaignId, contributions);
+        Set<String> evaluateeIds = new TreeSet<>();
+        contributions.forEach(contribution -> evaluateeIds.add(contribution.evaluateeId()));
+        eventPublisher.publishEvent(ScoreAggregatesChangedEvent.forEvaluatees(campaignId, evaluateeIds));
+    }
+
+    public void recordCompleted(Evaluation evaluation) {
+        recordCompleted(evaluation.getCampaignId(), List.of(evaluation));
+    }
+
+    /**
+     * Removes an evaluation that has left COMPLETED from its evaluatee's aggregates.
+     */
+    public void recordWithdrawn(Evaluation evaluation) {
+        CampaignId campaignId = evaluation.getCampaignId();
+        String evaluateeId = evaluation.getEvaluateeId();
+        // Under read committed the read below then sees any completion that held the rows
+        scoreAggregatePersistencePort.lockEvaluatee(campaignId, evaluateeId);
+        Map<String, ScoreAggregate> aggregates = new HashMap<>();
+        for (Evaluation remaining : evaluationPersistencePort.findCompletedByCampaignAndEvaluatee(campaignId, evaluateeId)) {
+            // The withdrawn row may not be flushed yet
+            if (!remaining.getId().equals(evaluation.getId())) {
+                accumulate(aggregates, remaining);
+            }
+        }
+        scoreAggregatePersistencePort.replaceEvaluatee(campaignId, evaluateeId, aggregates);
+        scoreAggregatePersistencePort.requestSketchRebuild(campaignId);
+        eventPublisher.publishEvent(ScoreAggregatesChangedEvent.forEvaluatees(campaignId, Set.of(evaluateeId)));
+    }
+
+    /**
+     * Recomputes the campaign's aggregates from its completed evaluations,
+     * in the database when the store supports it.
+     *
+     * @return number of completed evaluations aggregated
+     */
+    public int rebuild(CampaignId campaignId) {
+        OptionalInt pushedDown = scoreAggregatePersistencePort.rebuildFromEvaluations(campaignId);
+        int aggregated = pushedDown.isPresent() ? pushedDown.getAsInt() : rebuildInMemory(campaignId);
+        scoreAggregatePersistencePort.requestSketchRebuild(campaignId);
+        eventPublisher.publishEvent(ScoreAggregatesChangedEvent.forCampaign(campaignId));
+        return aggregated;
+    }
+
+    /**
+     * Merges up to {@code limit} buffered scores into the sketches.
+     *
+     * @return number of scores merged
+     */
+    public int mergeSketchBuffer(int limit) {
+        return scoreAggregatePersistencePort.mergeSketchBuffer(limit);
+    }
+
+    /**
+     * Campaigns with a sketch rebuild requested before {@code requestedBefore}.
+     */
+    @Transactional(readOnly = true)
+    public List<CampaignId> findSketchRebuilds(Instant requestedBefore, int limit) {
+        return scoreAggregatePersistencePort.findSketchRebuilds(requestedBefore, limit);
+    }
+
+    /**
+     * Rebuilds the campaign's sketches from one snapshot of its evaluations
+     * and buffered scores.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void rebuildSketches(CampaignId campaignId) {
+        scoreAggregatePersistencePort.rebuildSketches(campaignId);
+    }
+
+    /**
+     * Rebuild that pages completed evaluations through the application.
+     */
+    int rebuildInMemory(CampaignId campaignId) {
+        Map<String, Map<String, ScoreAggregate>> aggregatesByEvaluatee = new LinkedHashMap<>();
+        int aggregated = 0;
+        int page = 0;
+        while (true) {
+            List<Evaluation> chunk = evaluationPersistencePort.findByCampaignId(campaignId, page, REBUILD_PAGE_SIZE);
+            for (Evaluation evaluation : chunk) {
+                if (evaluation.isCompleted() && evaluation.getTotalScore() != null) {
+                    accumulate(aggregatesByEvaluatee.computeIfAbsent(
+                            evaluation.getEvaluateeId(), k -> new HashMap<>()), evaluation);
+                    aggregated++;
+                }
+            }
+            if (chunk.size() < REBUILD_PAGE_SIZE) {
+                break;
+            }
+            page++;
+        }
+        scoreAggregatePersistencePort.replaceCampaign(campaignId, aggregatesByEvaluatee);
+        return aggregated;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, ScoreAggregate> findByEvaluatee(CampaignId campaignId, String evaluateeId) {
+        return scoreAggregatePersistencePort.findByEvaluatee(campaignId, evaluateeId);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, ScoreAggregate> findByCampaign(CampaignId campaignId) {
+        return scoreAggregatePersistencePort.findByCampaign(campaignId);
+    }
+
+    /**
+     * Distribution sketches of the campaign's scores keyed by section key.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, QuantileSketch> findSketches(CampaignId campaignId) {
+        return scoreAggregatePersistencePort.findSketches(campaignId);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Map<String, ScoreAggregate>> findAllByEvaluatee(CampaignId campaignId) {
+        return scoreAggregatePersistencePort.findAllByEvaluatee(campaignId);
+    }
+
+    private static void accumulate(Map<String, ScoreAggregate> aggregates, Evaluation evaluation) {
+        if (evaluation.getTotalScore() == null) {
+            return;
+        }
+        for (Contribution contribution : contributions(evaluation)) {
+            aggregates.merge(contribution.sectionKey(), ScoreAggregate.of(contribution.score()), ScoreAggregate::merge);
+        }
+    }
+
+    private static List<Contribution> contributions(Evaluation evaluation) {
+        String evaluateeId = evaluation.getEvaluateeId();
+        List<Contribution> contributions = new ArrayList<>();
+        contributions.add(new Contribution(
+                evaluateeId,
+                ScoreAggregatePersistencePort.OVERALL,
+                evaluation.getTotalScore().value().doubleValue()));
+        if (evaluation.getSectionScores() != null) {
+            for (SectionScore sectionScore : evaluation.getSectionScores()) {
+                contributions.add(new Contribution(
+                        evaluateeId, sectionScore.sectionTitle(), sectionScore.score().value().doubleValue()));
+            }
+        }
+        return contributions;
+    }
+}
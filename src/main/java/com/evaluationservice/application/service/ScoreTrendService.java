@@ -0,0 +1,136 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.ScoreTrendUseCase;
+import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.application.port.out.ScoreTrendPersistencePort;
+import com.evaluationservice.application.port.out.ScoreTrendPersistencePort.TrendEntry;
+import com.evaluationservice.domain.entity.Campaign;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.event.CampaignChangedEvent;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
+import com.evaluationservice.domain.exception.EntityNotFoundException;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.ScoreAggregate;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keeps the cross-campaign trend store in step with campaign lifecycle.
+ * <p>
+ * A campaign's per-evaluatee aggregates are recorded when it closes, in the
+ * closing transaction. Score changes after that (flag, invalidate) rewrite
+ * the record; reopening drops it until the next close.
+ */
+@Service
+@Transactional
+public class ScoreTrendService implements ScoreTrendUseCase {
+
+    private static final int MAX_CYCLES = 50;
+
+    private static final Set<CampaignStatus> CLOSED_STATUSES =
+            Set.of(CampaignStatus.CLOSED, CampaignStatus.RESULTS_PUBLISHED, CampaignStatus.ARCHIVED);
+
+    private final ScoreTrendPersistencePort scoreTrendPersistencePort;
+    private final ScoreAggregateService scoreAggregateService;
+    private final CampaignPersistencePort campaignPersistencePort;
+
+    public ScoreTrendService(
+            ScoreTrendPersistencePort scoreTrendPersistencePort,
+            ScoreAggregateService scoreAggregateService,
+            CampaignPersistencePort campaignPersistencePort) {
+        this.scoreTrendPersistencePort = Objects.requireNonNull(scoreTrendPersistencePort);
+        this.scoreAggregateService = Objects.requireNonNull(scoreAggregateService);
+        this.campaignPersistencePort = Objects.requireNonNull(campaignPersistencePort);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EvaluateeTrend getEvaluateeTrend(String evaluateeId, int cycles) {
+        int limit = Math.max(1, Math.min(cycles, MAX_CYCLES));
+        List<TrendEntry> entries = scoreTrendPersistencePort.findByEvaluatee(evaluateeId, limit);
+        List<TrendPoint> points = new ArrayList<>(entries.size());
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            points.add(toPoint(entries.get(i)));
+        }
+        return new EvaluateeTrend(evaluateeId, points);
+    }
+
+    @Override
+    public int recordCampaignTrend(CampaignId campaignId) {
+        Campaign campaign = campaignPersistencePort.findByIdWithoutAssignments(campaignId)
+                .orElseThrow(() -> new EntityNotFoundException("Campaign", campaignId.value()));
+        if (!CLOSED_STATUSES.contains(campaign.getStatus())) {
+            throw new IllegalStateException(
+                    "Trends are recorded for closed campaigns only; campaign is " + campaign.getStatus());
+        }
+        Map<String, Map<String, ScoreAggregate>> aggregatesByEvaluatee =
+                scoreAggregateService.findAllByEvaluatee(campaignId);
+        scoreTrendPersistencePort.record(campaignId, campaign.getName(),
+                campaign.getDateRange().endDate(), aggregatesByEvaluatee);
+        return aggregatesByEvaluatee.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        switch (event.change()) {
+            case "CLOSE" -> recordCampaignTrend(event.campaignId());
+            case "REOPEN" -> scoreTrendPersistencePort.delete(event.campaignId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Rewrites a recorded campaign when evaluations are flagged, invalidated
+     * or rebuilt after it closed. Changes in an open campaign, such as every
+     * submission, stop at the header the transaction has already read.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onScoreAggregatesChanged(ScoreAggregatesChangedEvent event) {
+        boolean closed = campaignPersistencePort.findHeaderById(event.campaignId())
+                .map(header -> CLOSED_STATUSES.contains(header.status()))
+                .orElse(false);
+        if (closed && scoreTrendPersistencePort.exists(event.campaignId())) {
+            recordCampaignTrend(event.campaignId());
+        }
+    }
+
+    private static TrendPoint toPoint(TrendEntry entry) {
+        ScoreAggregate overall = entry.aggregates()
+                .getOrDefault(ScoreAggregatePersistencePort.OVERALL, ScoreAggregate.EMPTY);
+        Map<String, Double> sectionScores = new TreeMap<>();
+        entry.aggregates().forEach((sectionKey, aggregate) -> {
+            if (!ScoreAggregatePersistencePort.OVERALL.equals(sectionKey)) {
+                sectionScores.put(sectionKey, round(aggregate.mean()));
+            }
+        });
+        return new TrendPoint(
+                entry.campaignId(),
+                entry.campaignName(),
+                entry.cycleEnd(),
+                overall.count(),
+                round(overall.mean()),
+                sectionScores);
+    }
+
+    private static double round(double value) {
+        return BigDecimal.valueOf(value)
+                .setScale(2, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+}
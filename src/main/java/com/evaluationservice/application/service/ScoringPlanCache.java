@@ -0,0 +1,72 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.domain.entity.Template;
+import com.evaluationservice.domain.event.TemplatePublishedEvent;
+import com.evaluationservice.domain.rule.ScoringPlan;
+import com.evaluationservice.domain.value.TemplateId;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of compiled {@link ScoringPlan}s keyed by template ID and version.
+ * <p>
+ * Entries are validated against the template on every lookup, so a draft edit
+ * on another node (which keeps the version number) still triggers a recompile.
+ * Local publish and update paths evict eagerly to release superseded plans.
+ */
+@Component
+public class ScoringPlanCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringPlanCache.class);
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final Map<PlanKey, ScoringPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached plan for the template, compiling it on first use or
+     * when the cached plan no longer matches the template.
+     */
+    public ScoringPlan planFor(Template template) {
+        PlanKey key = new PlanKey(template.getId().value(), template.getCurrentVersion());
+        ScoringPlan cached = plans.get(key);
+        if (cached != null && cached.isCompiledFrom(template)) {
+            return cached;
+        }
+
+        ScoringPlan compiled = ScoringPlan.compile(template);
+        if (compiled.getFormulaFallbackReason() != null) {
+            log.warn("Custom formula of template {} v{} does not compile, scoring as WEIGHTED: {}",
+                    key.templateId(), key.version(), compiled.getFormulaFallbackReason());
+        }
+        if (plans.size() >= MAX_ENTRIES) {
+            plans.clear();
+        }
+        plans.put(key, compiled);
+        return compiled;
+    }
+
+    /**
+     * Drops every cached version of the template.
+     */
+    public void evict(TemplateId templateId) {
+        plans.keySet().removeIf(key -> key.templateId().equals(templateId.value()));
+    }
+
+    @EventListener
+    public void onTemplatePublished(TemplatePublishedEvent event) {
+        evict(event.templateId());
+    }
+
+    public int size() {
+        return plans.size();
+    }
+
+    private record PlanKey(String templateId, int version) {
+    }
+}
@@ -4,13 +4,20 @@ import com.evaluationservice.application.port.out.CampaignSettingsPersistencePor
 import com.evaluationservice.application.port.out.SystemSettingsPersistencePort;
 import com.evaluationservice.domain.entity.CampaignSettingOverride;
 import com.evaluationservice.domain.entity.SystemSetting;
+import com.evaluationservice.domain.event.SettingsChangedEvent;
 import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
 import com.evaluationservice.domain.value.CampaignId;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Resolves the effective value for any setting key using a 3-level hierarchy:
@@ -19,14 +26,28 @@ import java.util.Optional;
  * <li>System-level DB setting</li>
  * <li>application.yml default (via {@link EvaluationServiceProperties})</li>
  * </ol>
+ * Lookups are served from an immutable in-memory snapshot of the system
+ * settings; campaign overrides are loaded into it per campaign on first use.
+ * Typed resolvers also cache the parsed value. Writes through
+ * {@link SystemSettingsService} swap in a fresh snapshot after commit, other
+ * nodes are invalidated by the infrastructure relay, and the snapshot is
+ * reloaded after {@code evaluation.service.settings.snapshot-ttl-ms} as a
+ * backstop.
  */
 @Service
 public class SettingsResolverService {
 
+    private static final String LEAN_MODE_KEY = "submission.lean-mode";
+
     private final SystemSettingsPersistencePort systemSettingsPort;
     private final CampaignSettingsPersistencePort campaignSettingsPort;
     private final EvaluationServiceProperties defaultProperties;
 
+    private final Object loadLock = new Object();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
     public SettingsResolverService(
             SystemSettingsPersistencePort systemSettingsPort,
             CampaignSettingsPersistencePort campaignSettingsPort,
@@ -40,18 +61,26 @@ public class SettingsResolverService {
      * Resolves a setting for a specific campaign (3-level fallback).
      */
     public String resolve(String key, CampaignId campaignId) {
+        if (LEAN_MODE_KEY.equals(key) && defaultProperties.getAssignment().getStorageMode()
+                == EvaluationServiceProperties.AssignmentStorageMode.JSON) {
+            // Lean submits read relational assignment rows, which JSON storage never writes,
+            // so no override may switch it on
+            return "false";
+        }
+        Snapshot current = snapshot();
+
         // Level 1: Campaign override
         if (campaignId != null) {
-            Optional<CampaignSettingOverride> override = campaignSettingsPort.findByCampaignIdAndKey(campaignId, key);
-            if (override.isPresent()) {
-                return override.get().getSettingValue();
+            String override = current.campaign(campaignId).overrides().get(key);
+            if (override != null) {
+                return override;
             }
         }
 
         // Level 2: System DB setting
-        Optional<SystemSetting> systemSetting = systemSettingsPort.findByKey(key);
-        if (systemSetting.isPresent()) {
-            return systemSetting.get().getSettingValue();
+        String systemValue = current.systemValues().get(key);
+        if (systemValue != null) {
+            return systemValue;
         }
 
         // Level 3: application.yml default
@@ -68,7 +97,7 @@ public class SettingsResolverService {
     // --- Typed resolvers ---
 
     public int resolveInt(String key, CampaignId campaignId) {
-        return Integer.parseInt(resolve(key, campaignId));
+        return parsedValues(campaignId).ints().computeIfAbsent(key, k -> Integer.parseInt(resolve(k, campaignId)));
     }
 
     public int resolveInt(String key) {
@@ -76,7 +105,8 @@ public class SettingsResolverService {
     }
 
     public double resolveDouble(String key, CampaignId campaignId) {
-        return Double.parseDouble(resolve(key, campaignId));
+        return parsedValues(campaignId).doubles()
+                .computeIfAbsent(key, k -> Double.parseDouble(resolve(k, campaignId)));
     }
 
     public double resolveDouble(String key) {
@@ -84,13 +114,173 @@ public class SettingsResolverService {
     }
 
     public boolean resolveBoolean(String key, CampaignId campaignId) {
-        return Boolean.parseBoolean(resolve(key, campaignId));
+        return parsedValues(campaignId).booleans()
+                .computeIfAbsent(key, k -> Boolean.parseBoolean(resolve(k, campaignId)));
     }
 
     public boolean resolveBoolean(String key) {
         return resolveBoolean(key, null);
     }
 
+    // --- Snapshot maintenance ---
+
+    /**
+     * Drops cached values after a settings change. A {@code null} campaign
+     * means a system-level change and reloads the whole snapshot; otherwise
+     * only that campaign's overrides are reloaded on next use.
+     */
+    public void invalidate(CampaignId campaignId) {
+        generation.incrementAndGet();
+        if (campaignId == null) {
+            try {
+                install(load());
+            } catch (RuntimeException ex) {
+                // Never keep serving values known to be stale
+                synchronized (loadLock) {
+                    snapshot = null;
+                }
+                throw ex;
+            }
+            return;
+        }
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.campaigns().remove(campaignId.value());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSettingsChanged(SettingsChangedEvent event) {
+        invalidate(event.campaignId());
+    }
+
+    private ParsedValues parsedValues(CampaignId campaignId) {
+        Snapshot current = snapshot();
+        return campaignId != null ? current.campaign(campaignId).parsed() : current.parsed();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (loadLock) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    install(current);
+                }
+            }
+            return current;
+        }
+        if (current.isExpired(defaultProperties.getSettings().getSnapshotTtlMs())
+                && reloading.compareAndSet(false, true)) {
+            // One caller reloads; everyone else keeps reading the expiring snapshot
+            try {
+                current = load();
+                install(current);
+            } finally {
+                reloading.set(false);
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        long loadedGeneration = generation.get();
+        Map<String, String> values = new HashMap<>();
+        for (SystemSetting setting : systemSettingsPort.findAll()) {
+            if (setting.getSettingValue() != null) {
+                values.put(setting.getSettingKey(), setting.getSettingValue());
+            }
+        }
+        return new Snapshot(Map.copyOf(values), loadedGeneration, System.nanoTime());
+    }
+
+    /**
+     * Installs the snapshot unless an invalidation arrived while it was loading.
+     */
+    private void install(Snapshot loaded) {
+        synchronized (loadLock) {
+            if (loaded.generation() == generation.get()) {
+                snapshot = loaded;
+            }
+        }
+    }
+
+    private CampaignOverrides loadCampaign(CampaignId campaignId) {
+        Map<String, String> overrides = new HashMap<>();
+        for (CampaignSettingOverride override : campaignSettingsPort.findByCampaignId(campaignId)) {
+            if (override.getSettingValue() != null) {
+                overrides.put(override.getSettingKey(), override.getSettingValue());
+            }
+        }
+        return new CampaignOverrides(Map.copyOf(overrides), new ParsedValues());
+    }
+
+    private final class Snapshot {
+        private final Map<String, String> systemValues;
+        private final long generation;
+        private final long loadedAtNanos;
+        private final ParsedValues parsed = new ParsedValues();
+        private final Map<String, CampaignOverrides> campaigns = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<String, String> systemValues, long generation, long loadedAtNanos) {
+            this.systemValues = systemValues;
+            this.generation = generation;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+
+        Map<String, String> systemValues() {
+            return systemValues;
+        }
+
+        long generation() {
+            return generation;
+        }
+
+        ParsedValues parsed() {
+            return parsed;
+        }
+
+        Map<String, CampaignOverrides> campaigns() {
+            return campaigns;
+        }
+
+        boolean isExpired(long ttlMs) {
+            return ttlMs > 0 && System.nanoTime() - loadedAtNanos > ttlMs * 1_000_000L;
+        }
+
+        CampaignOverrides campaign(CampaignId campaignId) {
+            CampaignOverrides cached = campaigns.get(campaignId.value());
+            if (cached != null) {
+                return cached;
+            }
+            long loadedGeneration = SettingsResolverService.this.generation.get();
+            CampaignOverrides loaded = loadCampaign(campaignId);
+            CampaignOverrides raced = campaigns.putIfAbsent(campaignId.value(), loaded);
+            if (raced != null) {
+                return raced;
+            }
+            if (loadedGeneration != SettingsResolverService.this.generation.get()) {
+                // Invalidated while loading: serve this read, but do not keep it
+                campaigns.remove(campaignId.value(), loaded);
+            }
+            return loaded;
+        }
+    }
+
+    private record CampaignOverrides(Map<String, String> overrides, ParsedValues parsed) {
+    }
+
+    /** Parsed typed values, one map per type so a key can be read as more than one type. */
+    private record ParsedValues(
+            Map<String, Integer> ints,
+            Map<String, Double> doubles,
+            Map<String, Boolean> booleans) {
+        ParsedValues() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
     /**
      * Falls back to application.yml defaults via EvaluationServiceProperties.
      */
@@ -135,6 +325,11 @@ public class SettingsResolverService {
             case "features.enable-notification-rule-engine" ->
                 String.valueOf(defaultProperties.getFeatures().isEnableNotificationRuleEngine());
 
+            // Submission
+            case LEAN_MODE_KEY -> String.valueOf(defaultProperties.getSubmission().isLeanMode());
+            case "submission.max-batch-size" -> String.valueOf(defaultProperties.getSubmission().getMaxBatchSize());
+            case "submission.async-scoring" -> String.valueOf(defaultProperties.getSubmission().isAsyncScoring());
+
             // Pagination
             case "pagination.default-page-size" ->
                 String.valueOf(defaultProperties.getPagination().getDefaultPageSize());
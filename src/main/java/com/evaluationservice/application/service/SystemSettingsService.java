@@ -6,9 +6,11 @@ import com.evaluationservice.application.port.out.SystemSettingsPersistencePort;
 import com.evaluationservice.domain.entity.CampaignSettingOverride;
 import com.evaluationservice.domain.entity.SystemSetting;
 import com.evaluationservice.domain.enums.SystemSettingCategory;
+import com.evaluationservice.domain.event.SettingsChangedEvent;
 import com.evaluationservice.domain.exception.EntityNotFoundException;
 import com.evaluationservice.domain.value.CampaignId;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,12 +27,15 @@ public class SystemSettingsService implements SystemSettingsUseCase {
 
     private final SystemSettingsPersistencePort systemSettingsPort;
     private final CampaignSettingsPersistencePort campaignSettingsPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SystemSettingsService(
             SystemSettingsPersistencePort systemSettingsPort,
-            CampaignSettingsPersistencePort campaignSettingsPort) {
+            CampaignSettingsPersistencePort campaignSettingsPort,
+            ApplicationEventPublisher eventPublisher) {
         this.systemSettingsPort = Objects.requireNonNull(systemSettingsPort);
         this.campaignSettingsPort = Objects.requireNonNull(campaignSettingsPort);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
     // --- System-wide Settings ---
@@ -59,7 +64,9 @@ public class SystemSettingsService implements SystemSettingsUseCase {
         SystemSetting setting = systemSettingsPort.findByKey(key)
                 .orElseThrow(() -> new EntityNotFoundException("SystemSetting", key));
         setting.updateValue(value, updatedBy);
-        return systemSettingsPort.save(setting);
+        SystemSetting saved = systemSettingsPort.save(setting);
+        eventPublisher.publishEvent(new SettingsChangedEvent(key, null, null));
+        return saved;
     }
 
     // --- Campaign Overrides ---
@@ -87,11 +94,14 @@ public class SystemSettingsService implements SystemSettingsUseCase {
                 .orElseGet(() -> new CampaignSettingOverride(
                         campaignId, key, value, updatedBy, null));
 
-        return campaignSettingsPort.save(override);
+        CampaignSettingOverride saved = campaignSettingsPort.save(override);
+        eventPublisher.publishEvent(new SettingsChangedEvent(key, campaignId, null));
+        return saved;
     }
 
     @Override
     public void removeCampaignOverride(CampaignId campaignId, String key) {
         campaignSettingsPort.deleteByCampaignIdAndKey(campaignId, key);
+        eventPublisher.publishEvent(new SettingsChangedEvent(key, campaignId, null));
     }
 }
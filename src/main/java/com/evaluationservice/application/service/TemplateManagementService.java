@@ -3,8 +3,11 @@ package com.evaluationservice.application.service;
 import com.evaluationservice.application.port.in.TemplateManagementUseCase;
 import com.evaluationservice.application.port.out.TemplatePersistencePort;
 import com.evaluationservice.domain.entity.Template;
+import com.evaluationservice.domain.enums.ScoringMethod;
 import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.event.TemplateChangedEvent;
 import com.evaluationservice.domain.exception.EntityNotFoundException;
+import com.evaluationservice.domain.rule.formula.Formula;
 import com.evaluationservice.domain.value.TemplateId;
 import com.evaluationservice.domain.value.Timestamp;
 
@@ -24,12 +27,15 @@ public class TemplateManagementService implements TemplateManagementUseCase {
 
     private final TemplatePersistencePort templatePersistencePort;
     private final ApplicationEventPublisher eventPublisher;
+    private final ScoringPlanCache scoringPlanCache;
 
     public TemplateManagementService(
             TemplatePersistencePort templatePersistencePort,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            ScoringPlanCache scoringPlanCache) {
         this.templatePersistencePort = Objects.requireNonNull(templatePersistencePort);
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.scoringPlanCache = Objects.requireNonNull(scoringPlanCache);
     }
 
     @Override
@@ -47,7 +53,9 @@ public class TemplateManagementService implements TemplateManagementUseCase {
                 Timestamp.now(),
                 Timestamp.now(),
                 null);
-        return templatePersistencePort.save(template);
+        Template saved = templatePersistencePort.save(template);
+        eventPublisher.publishEvent(TemplateChangedEvent.of(saved.getId(), "CREATE"));
+        return saved;
     }
 
     @Override
@@ -55,11 +63,16 @@ public class TemplateManagementService implements TemplateManagementUseCase {
         var template = findTemplateOrThrow(command.templateId());
         template.updateDetails(command.name(), command.description(), command.category());
         if (command.scoringMethod() != null) {
+            if (command.scoringMethod() == ScoringMethod.CUSTOM_FORMULA) {
+                // Reject malformed formulas here rather than at the first submission.
+                Formula.compile(command.customFormula());
+            }
             template.setScoringMethod(command.scoringMethod(), command.customFormula());
         }
         if (command.sections() != null) {
             template.replaceSections(command.sections());
         }
+        scoringPlanCache.evict(command.templateId());
         return templatePersistencePort.save(template);
     }
 
@@ -103,6 +116,8 @@ public class TemplateManagementService implements TemplateManagementUseCase {
             throw new IllegalStateException("Cannot delete a published template. Deprecate it instead.");
         }
         templatePersistencePort.deleteById(templateId);
+        scoringPlanCache.evict(templateId);
+        eventPublisher.publishEvent(TemplateChangedEvent.of(templateId, "DELETE"));
     }
 
     private Template findTemplateOrThrow(TemplateId templateId) {
@@ -0,0 +1,427 @@
+package com.evaluationservice.application.service.report;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Minimal PDF 1.4 writer that streams each page to the target as soon as it is
+ * full, so only one page of content is ever buffered.
+ *
+ * <p>Text is set in the standard Helvetica fonts with WinAnsiEncoding, which
+ * covers Latin-1 and the common Windows punctuation; other characters render
+ * as {@code ?}. Cross-reference offsets are counted in bytes as they are
+ * written. The two fonts and the resource dictionary are written once and
+ * shared by every page.
+ *
+ * <p>Not thread-safe; one instance writes one document.
+ */
+public final class StreamingPdfWriter {
+
+    private static final Charset WIN_ANSI = Charset.forName("windows-1252");
+
+    private static final float PAGE_WIDTH = 595;
+    private static final float PAGE_HEIGHT = 842;
+    private static final float MARGIN = 50;
+    private static final float BODY_SIZE = 10;
+    private static final float HEADING_SIZE = 14;
+    private static final float LEADING = 14;
+    private static final float CELL_PADDING = 4;
+
+    private static final int CATALOG = 1;
+    private static final int PAGES = 2;
+    private static final int FONT_REGULAR = 3;
+    private static final int FONT_BOLD = 4;
+    private static final int RESOURCES = 5;
+
+    /** Helvetica advance widths for ASCII 32..126, in 1/1000 em. */
+    private static final short[] HELVETICA_WIDTHS = {
+            278, 278, 355, 556, 556, 889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278,
+            556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584, 556,
+            1015, 667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667, 556, 833, 722, 778,
+            667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 278, 278, 278, 469, 556,
+            333, 556, 556, 500, 556, 556, 278, 556, 556, 222, 222, 500, 222, 833, 556, 556,
+            556, 556, 333, 500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334, 584 };
+    private static final short DEFAULT_WIDTH = 556;
+
+    private final CountingOutputStream out;
+    private final ByteArrayOutputStream page = new ByteArrayOutputStream(16 * 1024);
+    private final List<Integer> pageObjects = new ArrayList<>();
+    private long[] offsets = new long[64];
+    private int nextObject = RESOURCES + 1;
+
+    private boolean pageOpen;
+    private float y;
+    private float[] columnWidths;
+    private String[] tableHeader;
+    private boolean finished;
+
+    public StreamingPdfWriter(OutputStream target) {
+        this.out = new CountingOutputStream(Objects.requireNonNull(target));
+        writeAscii("%PDF-1.4\n");
+        // Binary marker so transfer tools treat the file as binary
+        write(new byte[] { '%', (byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n' });
+        writeObject(FONT_REGULAR,
+                "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+        writeObject(FONT_BOLD,
+                "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+        writeObject(RESOURCES,
+                "<< /Font << /F1 " + FONT_REGULAR + " 0 R /F2 " + FONT_BOLD + " 0 R >> >>");
+    }
+
+    /**
+     * Bold heading with some space above it. Ends any open table.
+     */
+    public StreamingPdfWriter heading(String text) {
+        endTable();
+        if (pageOpen && y < PAGE_HEIGHT - MARGIN) {
+            y -= LEADING / 2;
+        }
+        ensureSpace(LEADING * 2);
+        showText(MARGIN, y - HEADING_SIZE, "/F2", HEADING_SIZE, text);
+        y -= LEADING * 1.5f;
+        return this;
+    }
+
+    /**
+     * Body text, wrapped at the right margin.
+     */
+    public StreamingPdfWriter text(String text) {
+        endTable();
+        for (String line : wrap(text == null ? "" : text, PAGE_WIDTH - 2 * MARGIN, BODY_SIZE)) {
+            ensureSpace(LEADING);
+            showText(MARGIN, y - BODY_SIZE, "/F1", BODY_SIZE, line);
+            y -= LEADING;
+        }
+        return this;
+    }
+
+    /**
+     * Starts a table. The header row is repeated at the top of every page the
+     * table continues onto. Widths are fractions of the text width.
+     */
+    public StreamingPdfWriter beginTable(String[] header, float... widthFractions) {
+        if (header.length != widthFractions.length) {
+            throw new IllegalArgumentException("Header and column width counts differ");
+        }
+        endTable();
+        float textWidth = PAGE_WIDTH - 2 * MARGIN;
+        columnWidths = new float[widthFractions.length];
+        for (int i = 0; i < widthFractions.length; i++) {
+            columnWidths[i] = widthFractions[i] * textWidth;
+        }
+        tableHeader = header.clone();
+        // A fresh page already carries the header
+        if (!ensureSpace(LEADING * 2)) {
+            drawTableHeader();
+        }
+        return this;
+    }
+
+    /**
+     * One table row; cells wider than their column are cut with an ellipsis.
+     */
+    public StreamingPdfWriter row(String... cells) {
+        if (tableHeader == null) {
+            throw new IllegalStateException("row() called outside a table");
+        }
+        ensureSpace(LEADING);
+        drawCells("/F1", cells);
+        return this;
+    }
+
+    public StreamingPdfWriter endTable() {
+        columnWidths = null;
+        tableHeader = null;
+        return this;
+    }
+
+    public int pageCount() {
+        return pageObjects.size() + (pageOpen ? 1 : 0);
+    }
+
+    /**
+     * Writes the last page, page tree, catalog, cross-reference table and
+     * trailer, then flushes. The target stream is not closed.
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        if (!pageOpen && pageObjects.isEmpty()) {
+            newPage();
+        }
+        flushPage();
+        StringBuilder kids = new StringBuilder(pageObjects.size() * 8);
+        for (int pageObject : pageObjects) {
+            kids.append(pageObject).append(" 0 R ");
+        }
+        writeObject(PAGES, "<< /Type /Pages /Kids [" + kids + "] /Count " + pageObjects.size() + " >>");
+        writeObject(CATALOG, "<< /Type /Catalog /Pages " + PAGES + " 0 R >>");
+
+        long xref = out.count;
+        StringBuilder table = new StringBuilder(32 + nextObject * 20);
+        table.append("xref\n0 ").append(nextObject).append('\n');
+        table.append("0000000000 65535 f \n");
+        for (int object = 1; object < nextObject; object++) {
+            String offset = Long.toString(offsets[object]);
+            table.append("0".repeat(10 - offset.length())).append(offset).append(" 00000 n \n");
+        }
+        table.append("trailer\n<< /Size ").append(nextObject).append(" /Root ").append(CATALOG).append(" 0 R >>\n");
+        table.append("startxref\n").append(xref).append("\n%%EOF\n");
+        writeAscii(table.toString());
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finished = true;
+    }
+
+    // --- Layout ---
+
+    /**
+     * Starts a new page, repeating the table header if a table is open, when
+     * the current one cannot fit {@code height} more points.
+     *
+     * @return whether a new page was started
+     */
+    private boolean ensureSpace(float height) {
+        if (finished) {
+            throw new IllegalStateException("Document already finished");
+        }
+        if (pageOpen && y - height >= MARGIN) {
+            return false;
+        }
+        newPage();
+        if (tableHeader != null) {
+            drawTableHeader();
+        }
+        return true;
+    }
+
+    private void newPage() {
+        if (pageOpen) {
+            flushPage();
+        }
+        page.reset();
+        pageOpen = true;
+        y = PAGE_HEIGHT - MARGIN;
+    }
+
+    private void drawTableHeader() {
+        drawCells("/F2", tableHeader);
+        float ruleY = y + 2;
+        appendPage("0.5 w ");
+        appendNumber(MARGIN);
+        appendPage(" ");
+        appendNumber(ruleY);
+        appendPage(" m ");
+        appendNumber(PAGE_WIDTH - MARGIN);
+        appendPage(" ");
+        appendNumber(ruleY);
+        appendPage(" l S\n");
+    }
+
+    private void drawCells(String font, String[] cells) {
+        float x = MARGIN;
+        for (int i = 0; i < columnWidths.length; i++) {
+            String cell = i < cells.length && cells[i] != null ? cells[i] : "";
+            showText(x, y - BODY_SIZE, font, BODY_SIZE, fit(cell, columnWidths[i] - CELL_PADDING, BODY_SIZE));
+            x += columnWidths[i];
+        }
+        y -= LEADING;
+    }
+
+    private void showText(float x, float baseline, String font, float size, String text) {
+        appendPage("BT ");
+        appendPage(font);
+        appendPage(" ");
+        appendNumber(size);
+        appendPage(" Tf ");
+        appendNumber(x);
+        appendPage(" ");
+        appendNumber(baseline);
+        appendPage(" Td (");
+        for (byte b : text.getBytes(WIN_ANSI)) {
+            if (b == '(' || b == ')' || b == '\\') {
+                page.write('\\');
+                page.write(b);
+            } else if (b >= 0 && b < 0x20) {
+                page.write(' ');
+            } else {
+                page.write(b);
+            }
+        }
+        appendPage(") Tj ET\n");
+    }
+
+    private static List<String> wrap(String text, float maxWidth, float size) {
+        List<String> lines = new ArrayList<>();
+        for (String paragraph : text.split("\\R", -1)) {
+            StringBuilder line = new StringBuilder();
+            float lineWidth = 0;
+            for (String word : paragraph.split(" ")) {
+                float wordWidth = width(word, size);
+                float spaceWidth = line.isEmpty() ? 0 : width(" ", size);
+                if (!line.isEmpty() && lineWidth + spaceWidth + wordWidth > maxWidth) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                    lineWidth = 0;
+                    spaceWidth = 0;
+                }
+                if (wordWidth > maxWidth) {
+                    // A single word wider than the line is broken by character
+                    for (int i = 0; i < word.length(); i++) {
+                        float charWidth = width(word.charAt(i), size);
+                        if (!line.isEmpty() && lineWidth + charWidth > maxWidth) {
+                            lines.add(line.toString());
+                            line.setLength(0);
+                            lineWidth = 0;
+                        }
+                        line.append(word.charAt(i));
+                        lineWidth += charWidth;
+                    }
+                    continue;
+                }
+                if (spaceWidth > 0) {
+                    line.append(' ');
+                    lineWidth += spaceWidth;
+                }
+                line.append(word);
+                lineWidth += wordWidth;
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    private static String fit(String text, float maxWidth, float size) {
+        if (width(text, size) <= maxWidth) {
+            return text;
+        }
+        float available = maxWidth - width("...", size);
+        float used = 0;
+        int end = 0;
+        while (end < text.length() && used + width(text.charAt(end), size) <= available) {
+            used += width(text.charAt(end), size);
+            end++;
+        }
+        return text.substring(0, end) + "...";
+    }
+
+    private static float width(String text, float size) {
+        float total = 0;
+        for (int i = 0; i < text.length(); i++) {
+            total += width(text.charAt(i), size);
+        }
+        return total;
+    }
+
+    private static float width(char c, float size) {
+        short units = c >= 32 && c <= 126 ? HELVETICA_WIDTHS[c - 32] : DEFAULT_WIDTH;
+        return units * size / 1000f;
+    }
+
+    // --- Output ---
+
+    private void flushPage() {
+        if (!pageOpen) {
+            return;
+        }
+        int contents = nextObject++;
+        int pageObject = nextObject++;
+        markObject(contents);
+        writeAscii(contents + " 0 obj\n<< /Length " + page.size() + " >>\nstream\n");
+        try {
+            page.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writeAscii("\nendstream\nendobj\n");
+        writeObject(pageObject, "<< /Type /Page /Parent " + PAGES + " 0 R /MediaBox [0 0 "
+                + (int) PAGE_WIDTH + " " + (int) PAGE_HEIGHT + "] /Resources " + RESOURCES
+                + " 0 R /Contents " + contents + " 0 R >>");
+        pageObjects.add(pageObject);
+        pageOpen = false;
+    }
+
+    private void writeObject(int object, String body) {
+        markObject(object);
+        writeAscii(object + " 0 obj\n" + body + "\nendobj\n");
+    }
+
+    private void markObject(int object) {
+        if (object >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(object + 1, offsets.length * 2));
+        }
+        offsets[object] = out.count;
+    }
+
+    private void appendPage(String ascii) {
+        for (int i = 0; i < ascii.length(); i++) {
+            page.write(ascii.charAt(i));
+        }
+    }
+
+    /**
+     * Writes a coordinate with at most two decimals and no exponent.
+     */
+    private void appendNumber(float value) {
+        long hundredths = Math.round(value * 100.0);
+        if (hundredths < 0) {
+            page.write('-');
+            hundredths = -hundredths;
+        }
+        appendPage(Long.toString(hundredths / 100));
+        long fraction = hundredths % 100;
+        if (fraction != 0) {
+            page.write('.');
+            page.write('0' + (int) (fraction / 10));
+            if (fraction % 10 != 0) {
+                page.write('0' + (int) (fraction % 10));
+            }
+        }
+    }
+
+    private void writeAscii(String ascii) {
+        write(ascii.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void write(byte[] bytes) {
+        try {
+            out.write(bytes, 0, bytes.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -63,14 +63,42 @@ public class Evaluation {
      * Saves answers as a draft (partial completion).
      */
     public void saveDraft(List<Answer> newAnswers) {
-        if (this.status.isTerminal()) {
-            throw new IllegalStateException("Cannot modify a completed or invalidated evaluation");
-        }
+        ensureDraftEditable();
         this.answers = new ArrayList<>(newAnswers);
         this.status = EvaluationStatus.DRAFT;
         this.updatedAt = Timestamp.now();
     }
 
+    /**
+     * Applies per-question answer changes to the draft. Each change replaces the
+     * current answer to the same question; other answers are kept.
+     */
+    public void mergeDraftAnswers(Collection<Answer> changedAnswers) {
+        ensureDraftEditable();
+        Map<String, Answer> byQuestion = new LinkedHashMap<>();
+        for (Answer answer : this.answers) {
+            byQuestion.putIfAbsent(answer.questionId(), answer);
+        }
+        for (Answer answer : changedAnswers) {
+            byQuestion.put(answer.questionId(), answer);
+        }
+        this.answers = new ArrayList<>(byQuestion.values());
+        this.status = EvaluationStatus.DRAFT;
+        this.updatedAt = Timestamp.now();
+    }
+
+    /**
+     * @throws IllegalStateException if the draft can no longer be changed
+     */
+    public void ensureDraftEditable() {
+        if (this.status.isTerminal()) {
+            throw new IllegalStateException("Cannot modify a completed or invalidated evaluation");
+        }
+        if (this.status == EvaluationStatus.SCORING) {
+            throw new IllegalStateException("Cannot modify an evaluation that is being scored");
+        }
+    }
+
     /**
      * Submits the evaluation for scoring.
      */
@@ -87,6 +115,18 @@ public class Evaluation {
         this.updatedAt = Timestamp.now();
     }
 
+    /**
+     * Hands a submitted evaluation over to deferred scoring.
+     */
+    public void startScoring() {
+        if (this.status != EvaluationStatus.SUBMITTED) {
+            throw new IllegalStateException(
+                    "Only SUBMITTED evaluations can be queued for scoring, current: " + this.status);
+        }
+        this.status = EvaluationStatus.SCORING;
+        this.updatedAt = Timestamp.now();
+    }
+
     /**
      * Records the scoring result after processing.
      */
@@ -138,6 +178,10 @@ public class Evaluation {
         return this.status == EvaluationStatus.COMPLETED;
     }
 
+    public boolean isAwaitingScore() {
+        return this.status.isAwaitingScore();
+    }
+
     // --- Getters ---
 
     public EvaluationId getId() {
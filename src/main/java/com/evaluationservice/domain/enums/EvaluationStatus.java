@@ -24,4 +24,9 @@ public enum EvaluationStatus {
     public boolean canSubmit() {
         return this == DRAFT;
     }
+
+    /** Submitted and accepted, but the score has not been recorded yet. */
+    public boolean isAwaitingScore() {
+        return this == SUBMITTED || this == SCORING;
+    }
 }
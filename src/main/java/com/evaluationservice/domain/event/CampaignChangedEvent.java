@@ -0,0 +1,26 @@
+package com.evaluationservice.domain.event;
+
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Domain event raised when a campaign's definition, lifecycle state or
+ * assignment set changes. {@code change} names the operation, e.g.
+ * {@code UPDATE}, {@code CLOSE} or {@code ASSIGNMENTS}.
+ */
+public record CampaignChangedEvent(
+        CampaignId campaignId,
+        String change,
+        Instant occurredAt) {
+    public CampaignChangedEvent {
+        Objects.requireNonNull(campaignId);
+        Objects.requireNonNull(change);
+        occurredAt = occurredAt != null ? occurredAt : Instant.now();
+    }
+
+    public static CampaignChangedEvent of(CampaignId campaignId, String change) {
+        return new CampaignChangedEvent(campaignId, change, Instant.now());
+    }
+}
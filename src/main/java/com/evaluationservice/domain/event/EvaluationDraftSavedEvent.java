@@ -0,0 +1,27 @@
+package com.evaluationservice.domain.event;
+
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.EvaluationId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Domain event raised when an evaluator saves a full draft.
+ */
+public record EvaluationDraftSavedEvent(
+        EvaluationId evaluationId,
+        CampaignId campaignId,
+        String evaluatorId,
+        Instant occurredAt) {
+    public EvaluationDraftSavedEvent {
+        Objects.requireNonNull(evaluationId);
+        Objects.requireNonNull(campaignId);
+        Objects.requireNonNull(evaluatorId);
+        occurredAt = occurredAt != null ? occurredAt : Instant.now();
+    }
+
+    public static EvaluationDraftSavedEvent of(EvaluationId evalId, CampaignId campId, String evaluatorId) {
+        return new EvaluationDraftSavedEvent(evalId, campId, evaluatorId, Instant.now());
+    }
+}
@@ -0,0 +1,34 @@
+package com.evaluationservice.domain.event;
+
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Domain event raised when score aggregates of a campaign change. An empty
+ * {@code evaluateeIds} set means every evaluatee of the campaign changed.
+ */
+public record ScoreAggregatesChangedEvent(
+        CampaignId campaignId,
+        Set<String> evaluateeIds,
+        Instant occurredAt) {
+    public ScoreAggregatesChangedEvent {
+        Objects.requireNonNull(campaignId);
+        evaluateeIds = evaluateeIds != null ? Set.copyOf(evaluateeIds) : Set.of();
+        occurredAt = occurredAt != null ? occurredAt : Instant.now();
+    }
+
+    public static ScoreAggregatesChangedEvent forEvaluatees(CampaignId campaignId, Set<String> evaluateeIds) {
+        return new ScoreAggregatesChangedEvent(campaignId, evaluateeIds, Instant.now());
+    }
+
+    public static ScoreAggregatesChangedEvent forCampaign(CampaignId campaignId) {
+        return new ScoreAggregatesChangedEvent(campaignId, Set.of(), Instant.now());
+    }
+
+    public boolean wholeCampaign() {
+        return evaluateeIds.isEmpty();
+    }
+}
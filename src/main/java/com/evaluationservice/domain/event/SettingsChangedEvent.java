@@ -0,0 +1,20 @@
+package com.evaluationservice.domain.event;
+
+import com.evaluationservice.domain.value.CampaignId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Domain event raised when a system setting or a campaign override changes.
+ * {@code campaignId} is {@code null} for system-level changes.
+ */
+public record SettingsChangedEvent(
+        String settingKey,
+        CampaignId campaignId,
+        Instant occurredAt) {
+    public SettingsChangedEvent {
+        Objects.requireNonNull(settingKey);
+        occurredAt = occurredAt != null ? occurredAt : Instant.now();
+    }
+}
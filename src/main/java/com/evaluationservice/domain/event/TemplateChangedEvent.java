@@ -0,0 +1,25 @@
+package com.evaluationservice.domain.event;
+
+import com.evaluationservice.domain.value.TemplateId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Domain event raised when a template is created or deleted.
+ * {@code change} names the operation, {@code CREATE} or {@code DELETE}.
+ */
+public record TemplateChangedEvent(
+        TemplateId templateId,
+        String change,
+        Instant occurredAt) {
+    public TemplateChangedEvent {
+        Objects.requireNonNull(templateId);
+        Objects.requireNonNull(change);
+        occurredAt = occurredAt != null ? occurredAt : Instant.now();
+    }
+
+    public static TemplateChangedEvent of(TemplateId templateId, String change) {
+        return new TemplateChangedEvent(templateId, change, Instant.now());
+    }
+}
@@ -2,36 +2,83 @@ package com.evaluationservice.domain.rule;
 
 import com.evaluationservice.domain.entity.Answer;
 import com.evaluationservice.domain.entity.Question;
+import com.evaluationservice.domain.rule.formula.Formula;
+import com.evaluationservice.domain.rule.formula.FormulaContext;
 import com.evaluationservice.domain.value.Score;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Custom formula scoring strategy.
- * Evaluates admin-defined formulas with question-level score variables.
+ * Evaluates an admin-defined {@link Formula} per section, with section
+ * aggregates, question-level variables, arithmetic and conditionals.
  * <p>
- * Supported formula syntax:
- * <ul>
- * <li>{@code AVG} — average of all answer scores</li>
- * <li>{@code WEIGHTED} — weighted combination using question weights</li>
- * <li>{@code MIN} — minimum score</li>
- * <li>{@code MAX} — maximum score</li>
- * </ul>
- * Falls back to weighted average if formula is unrecognised.
+ * A formula that is just one of the keywords {@code AVG}, {@code WEIGHTED},
+ * {@code MIN} or {@code MAX} keeps the exact decimal implementation those
+ * keywords always had; everything else is evaluated in {@code double} and
+ * rounded to {@link Score#SCALE} at the end. Sections without numeric
+ * answers score zero.
+ * <p>
+ * Stored formulas are scored with {@link #lenient(String)}: one that does not
+ * compile scores as {@code WEIGHTED}, as unrecognised formulas always did, and
+ * reports why through {@link #getFallbackReason()}.
  */
 public class CustomFormulaScoring implements ScoringStrategy {
 
-    private final String formula;
+    private static final Set<Formula.SectionVariable> EXACT_KEYWORDS = EnumSet.of(
+            Formula.SectionVariable.AVG,
+            Formula.SectionVariable.WEIGHTED,
+            Formula.SectionVariable.MIN,
+            Formula.SectionVariable.MAX);
+
+    private static final ThreadLocal<FormulaContext> CONTEXT = ThreadLocal.withInitial(FormulaContext::new);
 
+    private final Formula formula;
+    private final Formula.SectionVariable keyword;
+    private final String fallbackReason;
+
+    /**
+     * @throws IllegalArgumentException if the formula is blank or malformed
+     */
     public CustomFormulaScoring(String formula) {
-        if (formula == null || formula.isBlank()) {
-            throw new IllegalArgumentException("Custom formula cannot be null or blank");
+        this(Formula.compile(formula), null);
+    }
+
+    private CustomFormulaScoring(Formula formula, String fallbackReason) {
+        this.formula = formula;
+        this.fallbackReason = fallbackReason;
+        Formula.SectionVariable variable = formula.singleVariable();
+        this.keyword = variable != null && EXACT_KEYWORDS.contains(variable) ? variable : null;
+    }
+
+    /**
+     * Compiles a stored formula without rejecting it. Scoring must not fail for a
+     * formula that was accepted when it was saved, so a formula that does not
+     * compile scores as {@code WEIGHTED} instead.
+     */
+    public static CustomFormulaScoring lenient(String formula) {
+        try {
+            return new CustomFormulaScoring(formula);
+        } catch (IllegalArgumentException e) {
+            return new CustomFormulaScoring(Formula.compile("WEIGHTED"), e.getMessage());
         }
-        this.formula = formula.trim().toUpperCase();
+    }
+
+    public Formula getFormula() {
+        return formula;
+    }
+
+    /**
+     * Why the formula fell back to {@code WEIGHTED}, or {@code null} if it compiled.
+     */
+    public String getFallbackReason() {
+        return fallbackReason;
     }
 
     @Override
@@ -40,36 +87,159 @@ public class CustomFormulaScoring implements ScoringStrategy {
             return Score.ZERO;
         }
 
+        if (keyword != null) {
+            Map<String, BigDecimal> questionScores = new HashMap<>();
+            Map<String, BigDecimal> questionWeights = new HashMap<>();
+            for (Question question : questions) {
+                collect(question, firstAnswer(answers, question), questionScores, questionWeights);
+            }
+            return score(questionScores, questionWeights);
+        }
+
+        Map<String, Integer> slots = new HashMap<>();
+        for (int slot = 0; slot < questions.size(); slot++) {
+            slots.putIfAbsent(questions.get(slot).getId(), slot);
+        }
+        // Without a compiled section the section weight is unknown; SECTION_WEIGHT reads as 1.
+        FormulaContext context = CONTEXT.get();
+        context.reset(id -> slots.getOrDefault(id, -1), questions.size(), 1.0);
+        for (int slot = 0; slot < questions.size(); slot++) {
+            Question question = questions.get(slot);
+            context.weight(slot, question.getWeight().value().doubleValue());
+            if (firstAnswer(answers, question) instanceof Answer answer && answer.value() instanceof Number num) {
+                context.answer(slot, num.doubleValue());
+            }
+        }
+        return evaluate(context);
+    }
+
+    @Override
+    public Score compute(List<Answer> answers, ScoringPlan.SectionPlan section) {
+        if (answers.isEmpty() || section.questionCount() == 0) {
+            return Score.ZERO;
+        }
+
+        Answer[] firstAnswerBySlot = new Answer[section.questionCount()];
+        for (Answer answer : answers) {
+            int slot = section.slotOf(answer.questionId());
+            if (slot >= 0 && firstAnswerBySlot[slot] == null) {
+                firstAnswerBySlot[slot] = answer;
+            }
+        }
+
+        if (keyword == null) {
+            FormulaContext context = CONTEXT.get();
+            context.reset(section, section.questionCount(), section.weight().doubleValue());
+            for (int slot = 0; slot < firstAnswerBySlot.length; slot++) {
+                context.weight(slot, section.questionWeight(slot));
+                if (firstAnswerBySlot[slot] != null && firstAnswerBySlot[slot].value() instanceof Number num) {
+                    context.answer(slot, num.doubleValue());
+                }
+            }
+            return evaluate(context);
+        }
+
+        if (section.hasFixedPointWeights() && section.hasDistinctQuestionIds()
+                && section.questionCount() <= FixedPointKernel.MAX_TERMS) {
+            Score score = scoreFixedPoint(firstAnswerBySlot, section);
+            if (score != null) {
+                return score;
+            }
+        }
+
         Map<String, BigDecimal> questionScores = new HashMap<>();
         Map<String, BigDecimal> questionWeights = new HashMap<>();
+        for (int slot = 0; slot < firstAnswerBySlot.length; slot++) {
+            Question question = section.question(slot);
+            collect(question, firstAnswerBySlot[section.slotOf(question.getId())], questionScores, questionWeights);
+        }
+        return score(questionScores, questionWeights);
+    }
 
-        for (Question question : questions) {
-            Answer answer = answers.stream()
-                    .filter(a -> a.questionId().equals(question.getId()))
-                    .findFirst()
-                    .orElse(null);
+    private Score evaluate(FormulaContext context) {
+        if (context.answeredCount() == 0) {
+            return Score.ZERO;
+        }
+        double result = formula.evaluate(context);
+        return Double.isFinite(result) ? Score.of(result) : Score.ZERO;
+    }
 
-            if (answer != null && answer.value() instanceof Number num) {
-                questionScores.put(question.getId(), BigDecimal.valueOf(num.doubleValue()));
-                questionWeights.put(question.getId(), question.getWeight().value());
-            }
+    private static Answer firstAnswer(List<Answer> answers, Question question) {
+        return answers.stream()
+                .filter(a -> a.questionId().equals(question.getId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Fixed-point variant of {@link #score}: one pass accumulates every keyword's
+     * inputs. Returns {@code null} if an answer value cannot be represented exactly.
+     */
+    private Score scoreFixedPoint(Answer[] firstAnswerBySlot, ScoringPlan.SectionPlan section) {
+        int count = 0;
+        long sum = 0;
+        long weightedSum = 0;
+        long totalWeight = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        for (int slot = 0; slot < firstAnswerBySlot.length; slot++) {
+            Answer answer = firstAnswerBySlot[slot];
+            if (answer == null || !(answer.value() instanceof Number num))
+                continue;
+
+            long value = FixedPointKernel.toUnits(num.doubleValue());
+            if (value == FixedPointKernel.UNREPRESENTABLE)
+                return null;
+
+            long weight = section.questionWeightUnits(slot);
+            count++;
+            sum += value;
+            weightedSum += value * weight;
+            totalWeight += weight;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        if (count == 0) {
+            return Score.ZERO;
         }
 
+        long result = switch (keyword) {
+            case AVG -> FixedPointKernel.divideHalfUp(sum, count);
+            case MIN -> min;
+            case MAX -> max;
+            default -> FixedPointKernel.divideHalfUp(weightedSum, totalWeight);
+        };
+        return FixedPointKernel.toScore(result);
+    }
+
+    private void collect(
+            Question question,
+            Answer answer,
+            Map<String, BigDecimal> questionScores,
+            Map<String, BigDecimal> questionWeights) {
+        if (answer != null && answer.value() instanceof Number num) {
+            questionScores.put(question.getId(), BigDecimal.valueOf(num.doubleValue()));
+            questionWeights.put(question.getId(), question.getWeight().value());
+        }
+    }
+
+    private Score score(Map<String, BigDecimal> questionScores, Map<String, BigDecimal> questionWeights) {
         if (questionScores.isEmpty()) {
             return Score.ZERO;
         }
 
-        BigDecimal result = evaluateFormula(questionScores, questionWeights);
+        BigDecimal result = evaluateKeyword(questionScores, questionWeights);
         return Score.of(result);
     }
 
-    private BigDecimal evaluateFormula(Map<String, BigDecimal> scores, Map<String, BigDecimal> weights) {
-        return switch (formula) {
-            case "AVG" -> computeAverage(scores);
-            case "WEIGHTED" -> computeWeighted(scores, weights);
-            case "MIN" -> computeMin(scores);
-            case "MAX" -> computeMax(scores);
-            default -> computeWeighted(scores, weights); // safe fallback
+    private BigDecimal evaluateKeyword(Map<String, BigDecimal> scores, Map<String, BigDecimal> weights) {
+        return switch (keyword) {
+            case AVG -> computeAverage(scores);
+            case MIN -> computeMin(scores);
+            case MAX -> computeMax(scores);
+            default -> computeWeighted(scores, weights);
         };
     }
 
@@ -0,0 +1,101 @@
+package com.evaluationservice.domain.rule;
+
+import com.evaluationservice.domain.value.Score;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point arithmetic shared by the scoring strategies.
+ * <p>
+ * Values are carried as {@code long} units of 10<sup>-{@value Score#SCALE}</sup>
+ * and only turned into a {@link Score} at the end of a computation. The
+ * rounding contract mirrors the {@code BigDecimal} code it replaces:
+ * <ul>
+ * <li>A {@code double} is accepted only if {@code BigDecimal.valueOf(value)}
+ * is exactly representable at scale 4 and within {@link #MAX_MAGNITUDE}.
+ * Anything else returns {@link #UNREPRESENTABLE} and callers fall back to
+ * {@code BigDecimal}.</li>
+ * <li>Sums and products are exact; the single division rounds HALF_UP, as
+ * {@code BigDecimal.divide(divisor, SCALE, HALF_UP)} does.</li>
+ * </ul>
+ * Under this contract results are bit-identical to the {@code BigDecimal} path.
+ */
+final class FixedPointKernel {
+
+    /** Units per whole number at {@link Score#SCALE}. */
+    static final long ONE = 10_000L;
+
+    /** Returned when a value cannot be represented exactly. */
+    static final long UNREPRESENTABLE = Long.MIN_VALUE;
+
+    /**
+     * Largest accepted magnitude. Together with weights of at most 1 this
+     * keeps a product below 10<sup>14</sup> units, so {@link #MAX_TERMS}
+     * products can be summed without overflow.
+     */
+    static final double MAX_MAGNITUDE = 1_000_000d;
+
+    /** Maximum number of products one accumulator may sum. */
+    static final int MAX_TERMS = 90_000;
+
+    private FixedPointKernel() {
+    }
+
+    /**
+     * Converts a double to units, or {@link #UNREPRESENTABLE} if
+     * {@code BigDecimal.valueOf(value)} has more than four decimals or is out
+     * of range.
+     */
+    static long toUnits(double value) {
+        if (!(Math.abs(value) <= MAX_MAGNITUDE)) {
+            return UNREPRESENTABLE;
+        }
+        long units = Math.round(value * ONE);
+        // At this magnitude the rounding interval of a double is far narrower than
+        // one unit, so a round trip proves the shortest decimal form is units / ONE.
+        return units / (double) ONE == value ? units : UNREPRESENTABLE;
+    }
+
+    /**
+     * Converts a BigDecimal to units, or {@link #UNREPRESENTABLE} if it has
+     * more than four significant decimals or is out of range.
+     */
+    static long toUnits(BigDecimal value) {
+        if (value.scale() > Score.SCALE && value.stripTrailingZeros().scale() > Score.SCALE) {
+            return UNREPRESENTABLE;
+        }
+        if (value.abs().compareTo(BigDecimal.valueOf(MAX_MAGNITUDE)) > 0) {
+            return UNREPRESENTABLE;
+        }
+        return value.movePointRight(Score.SCALE).longValueExact();
+    }
+
+    /**
+     * Returns the units of a score, or {@link #UNREPRESENTABLE} if it is out
+     * of range. Scores always carry scale 4, so only the magnitude is checked.
+     */
+    static long toUnits(Score score) {
+        double value = score.value().doubleValue();
+        if (!(Math.abs(value) <= MAX_MAGNITUDE)) {
+            return UNREPRESENTABLE;
+        }
+        // The double is within one ulp of units / ONE, far less than half a unit.
+        return Math.round(value * ONE);
+    }
+
+    /**
+     * Divides with HALF_UP rounding. The divisor must be positive.
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder >= divisor - remainder) {
+            quotient += dividend < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    static Score toScore(long units) {
+        return units == 0 ? Score.ZERO : Score.ofUnscaled(units);
+    }
+}
@@ -7,8 +7,8 @@ import com.evaluationservice.domain.value.Score;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Percentile rank scoring strategy.
@@ -19,6 +19,10 @@ import java.util.List;
  */
 public class PercentileRankScoring implements ScoringStrategy {
 
+    private static final int CACHED_SIZES = 1024;
+
+    private final AtomicReferenceArray<Score> meanPercentileBySize = new AtomicReferenceArray<>(CACHED_SIZES);
+
     @Override
     public Score compute(List<Answer> answers, List<Question> questions) {
         List<BigDecimal> rawScores = new ArrayList<>();
@@ -33,13 +37,53 @@ public class PercentileRankScoring implements ScoringStrategy {
                 rawScores.add(BigDecimal.valueOf(num.doubleValue()));
             }
         }
+        return meanPercentile(rawScores);
+    }
 
-        if (rawScores.isEmpty()) {
-            return Score.ZERO;
+    @Override
+    public Score compute(List<Answer> answers, ScoringPlan.SectionPlan section) {
+        Answer[] firstAnswerBySlot = new Answer[section.questionCount()];
+        for (Answer answer : answers) {
+            int slot = section.slotOf(answer.questionId());
+            if (slot >= 0 && firstAnswerBySlot[slot] == null) {
+                firstAnswerBySlot[slot] = answer;
+            }
+        }
+
+        int numericAnswers = 0;
+        for (int slot = 0; slot < firstAnswerBySlot.length; slot++) {
+            Answer answer = firstAnswerBySlot[section.slotOf(section.question(slot).getId())];
+            if (answer != null && answer.value() instanceof Number) {
+                numericAnswers++;
+            }
         }
+        return meanPercentile(numericAnswers);
+    }
+
+    private Score meanPercentile(List<BigDecimal> rawScores) {
+        return meanPercentile(rawScores.size());
+    }
 
-        Collections.sort(rawScores);
-        int n = rawScores.size();
+    /**
+     * The mean percentile rank only depends on how many scores there are, so
+     * results for common sizes are computed once and reused.
+     */
+    private Score meanPercentile(int n) {
+        if (n >= CACHED_SIZES) {
+            return computeMeanPercentile(n);
+        }
+        Score cached = meanPercentileBySize.get(n);
+        if (cached == null) {
+            cached = computeMeanPercentile(n);
+            meanPercentileBySize.set(n, cached);
+        }
+        return cached;
+    }
+
+    private static Score computeMeanPercentile(int n) {
+        if (n == 0) {
+            return Score.ZERO;
+        }
 
         BigDecimal percentileSum = BigDecimal.ZERO;
         for (int i = 0; i < n; i++) {
@@ -0,0 +1,352 @@
+package com.evaluationservice.domain.rule;
+
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.entity.Question;
+import com.evaluationservice.domain.entity.Section;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.entity.Template;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.rule.formula.QuestionSlots;
+import com.evaluationservice.domain.value.Score;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Scoring plan compiled once per template version.
+ * <p>
+ * Every question of the template is assigned a slot; slots of one section are
+ * contiguous. Scoring an evaluation is a single pass over its answers that
+ * buckets them per section into preallocated arrays, followed by one strategy
+ * call per section. Results are identical to scoring section by section
+ * against the template directly.
+ * <p>
+ * Weights are also compiled to fixed-point units so strategies and the total
+ * can accumulate in {@code long} (see {@link FixedPointKernel}).
+ */
+public final class ScoringPlan {
+
+    private final String templateId;
+    private final int templateVersion;
+    private final Instant templateUpdatedAt;
+    private final ScoringMethod scoringMethod;
+    private final String customFormula;
+    private final ScoringStrategy strategy;
+    private final Map<String, Integer> slotByQuestionId;
+    private final int[] sectionOfSlot;
+    private final SectionPlan[] sections;
+    private final boolean sharedQuestionIds;
+    private final boolean fixedPointSectionWeights;
+
+    private ScoringPlan(Template template, ScoringStrategy strategy) {
+        this.templateId = template.getId().value();
+        this.templateVersion = template.getCurrentVersion();
+        this.templateUpdatedAt = template.getUpdatedAt().value();
+        this.scoringMethod = template.getScoringMethod();
+        this.customFormula = template.getCustomFormula();
+        this.strategy = strategy;
+
+        List<Section> templateSections = template.getSections();
+        int slotCount = template.getTotalQuestionCount();
+        this.slotByQuestionId = new HashMap<>(Math.max(16, slotCount * 2));
+        this.sectionOfSlot = new int[slotCount];
+        this.sections = new SectionPlan[templateSections.size()];
+
+        boolean shared = false;
+        int slot = 0;
+        for (int s = 0; s < templateSections.size(); s++) {
+            Section section = templateSections.get(s);
+            sections[s] = new SectionPlan(section, slot);
+            for (Question question : section.getQuestions()) {
+                if (slotByQuestionId.putIfAbsent(question.getId(), slot) != null) {
+                    shared = true;
+                }
+                sectionOfSlot[slot++] = s;
+            }
+        }
+        this.sharedQuestionIds = shared;
+        this.fixedPointSectionWeights = sections.length <= FixedPointKernel.MAX_TERMS
+                && Arrays.stream(sections).allMatch(section -> section.weightUnits != FixedPointKernel.UNREPRESENTABLE);
+    }
+
+    /**
+     * Compiles a plan for the template's current scoring configuration.
+     */
+    public static ScoringPlan compile(Template template) {
+        Objects.requireNonNull(template, "Template cannot be null");
+        ScoringStrategy strategy = template.getScoringMethod() == ScoringMethod.CUSTOM_FORMULA
+                ? ScoringStrategyFactory.forCustomFormula(template.getCustomFormula())
+                : ScoringStrategyFactory.forMethod(template.getScoringMethod());
+        return new ScoringPlan(template, strategy);
+    }
+
+    /**
+     * Whether this plan still reflects the given template. Draft edits keep the
+     * version number, so the update timestamp and scoring configuration are
+     * compared as well.
+     */
+    public boolean isCompiledFrom(Template template) {
+        return templateId.equals(template.getId().value())
+                && templateVersion == template.getCurrentVersion()
+                && templateUpdatedAt.equals(template.getUpdatedAt().value())
+                && scoringMethod == template.getScoringMethod()
+                && Objects.equals(customFormula, template.getCustomFormula());
+    }
+
+    /**
+     * Computes section scores for the given answers in template section order.
+     */
+    public List<SectionScore> scoreSections(List<Answer> answers) {
+        Answer[][] buckets = sharedQuestionIds ? bucketBySectionMembership(answers) : bucketBySlot(answers);
+        List<SectionScore> sectionScores = new ArrayList<>(sections.length);
+        for (int s = 0; s < sections.length; s++) {
+            SectionPlan section = sections[s];
+            List<Answer> sectionAnswers = Arrays.asList(buckets[s]);
+            sectionScores.add(new SectionScore(
+                    section.id,
+                    section.title,
+                    strategy.compute(sectionAnswers, section),
+                    section.maxPossible,
+                    sectionAnswers.size(),
+                    section.questionCount));
+        }
+        return sectionScores;
+    }
+
+    /**
+     * Computes the overall weighted total from section scores produced by this plan.
+     */
+    public Score totalScore(List<SectionScore> sectionScores) {
+        if (sectionScores.isEmpty())
+            return Score.ZERO;
+
+        if (fixedPointSectionWeights) {
+            long weightedSum = 0;
+            long totalWeight = 0;
+            int count = Math.min(sectionScores.size(), sections.length);
+            for (int i = 0; i < count; i++) {
+                long score = FixedPointKernel.toUnits(sectionScores.get(i).score());
+                if (score == FixedPointKernel.UNREPRESENTABLE) {
+                    return totalScoreExact(sectionScores);
+                }
+                weightedSum += score * sections[i].weightUnits;
+                totalWeight += sections[i].weightUnits;
+            }
+            // Same two roundings as the BigDecimal path: the weighted sum is held as
+            // a Score first, then divided by the total weight.
+            long roundedSum = FixedPointKernel.divideHalfUp(weightedSum, FixedPointKernel.ONE);
+            return FixedPointKernel.toScore(
+                    FixedPointKernel.divideHalfUp(roundedSum * FixedPointKernel.ONE, totalWeight));
+        }
+        return totalScoreExact(sectionScores);
+    }
+
+    private Score totalScoreExact(List<SectionScore> sectionScores) {
+        BigDecimal weightedSum = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+        for (int i = 0; i < sectionScores.size() && i < sections.length; i++) {
+            BigDecimal weight = sections[i].weight;
+            weightedSum = weightedSum.add(sectionScores.get(i).score().value().multiply(weight));
+            totalWeight = totalWeight.add(weight);
+        }
+
+        if (totalWeight.compareTo(BigDecimal.ZERO) == 0)
+            return Score.ZERO;
+        return Score.of(weightedSum).divide(totalWeight);
+    }
+
+    private Answer[][] bucketBySlot(List<Answer> answers) {
+        int answerCount = answers.size();
+        int[] answerSection = new int[answerCount];
+        int[] counts = new int[sections.length];
+        for (int i = 0; i < answerCount; i++) {
+            Integer slot = slotByQuestionId.get(answers.get(i).questionId());
+            int s = slot == null ? -1 : sectionOfSlot[slot];
+            answerSection[i] = s;
+            if (s >= 0) {
+                counts[s]++;
+            }
+        }
+
+        Answer[][] buckets = new Answer[sections.length][];
+        for (int s = 0; s < sections.length; s++) {
+            buckets[s] = new Answer[counts[s]];
+        }
+        int[] fill = new int[sections.length];
+        for (int i = 0; i < answerCount; i++) {
+            int s = answerSection[i];
+            if (s >= 0) {
+                buckets[s][fill[s]++] = answers.get(i);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Fallback for templates that reuse a question ID across sections, where an
+     * answer must be counted in every section containing the question.
+     */
+    private Answer[][] bucketBySectionMembership(List<Answer> answers) {
+        Answer[][] buckets = new Answer[sections.length][];
+        for (int s = 0; s < sections.length; s++) {
+            Set<String> questionIds = sections[s].questionIds;
+            buckets[s] = answers.stream()
+                    .filter(a -> questionIds.contains(a.questionId()))
+                    .toArray(Answer[]::new);
+        }
+        return buckets;
+    }
+
+    // --- Getters ---
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public int getTemplateVersion() {
+        return templateVersion;
+    }
+
+    public ScoringStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Why the template's custom formula fell back to {@code WEIGHTED}, or
+     * {@code null} if it compiled or the template does not use one.
+     */
+    public String getFormulaFallbackReason() {
+        return strategy instanceof CustomFormulaScoring custom ? custom.getFallbackReason() : null;
+    }
+
+    public int getSlotCount() {
+        return sectionOfSlot.length;
+    }
+
+    public List<SectionPlan> getSections() {
+        return List.of(sections);
+    }
+
+    /**
+     * Compiled view of one template section: its questions by local slot
+     * and the section-level scoring constants.
+     */
+    public static final class SectionPlan implements QuestionSlots {
+
+        private final String id;
+        private final String title;
+        private final List<Question> questions;
+        private final Question[] questionBySlot;
+        private final Map<String, Integer> localSlotByQuestionId;
+        private final Set<String> questionIds;
+        private final int firstSlot;
+        private final int questionCount;
+        private final BigDecimal weight;
+        private final long weightUnits;
+        private final long[] questionWeightUnitsBySlot;
+        private final double[] questionWeightBySlot;
+        private final boolean fixedPointWeights;
+        private final boolean distinctQuestionIds;
+        private final Score maxPossible;
+
+        private SectionPlan(Section section, int firstSlot) {
+            this.id = section.getId();
+            this.title = section.getTitle();
+            this.questions = section.getQuestions();
+            this.questionCount = questions.size();
+            this.questionBySlot = questions.toArray(Question[]::new);
+            this.localSlotByQuestionId = new HashMap<>(Math.max(16, questionCount * 2));
+            this.questionIds = new HashSet<>();
+            for (int i = 0; i < questionCount; i++) {
+                Question question = questionBySlot[i];
+                localSlotByQuestionId.putIfAbsent(question.getId(), i);
+                questionIds.add(question.getId());
+            }
+            this.firstSlot = firstSlot;
+            this.weight = section.getWeight().value();
+            this.weightUnits = FixedPointKernel.toUnits(weight);
+            this.questionWeightUnitsBySlot = new long[questionCount];
+            this.questionWeightBySlot = new double[questionCount];
+            boolean representable = weightUnits != FixedPointKernel.UNREPRESENTABLE;
+            for (int i = 0; i < questionCount; i++) {
+                long units = FixedPointKernel.toUnits(questionBySlot[i].getWeight().value());
+                questionWeightUnitsBySlot[i] = units;
+                questionWeightBySlot[i] = questionBySlot[i].getWeight().value().doubleValue();
+                representable &= units != FixedPointKernel.UNREPRESENTABLE;
+            }
+            this.fixedPointWeights = representable;
+            this.distinctQuestionIds = questionIds.size() == questionCount;
+            this.maxPossible = Score.of(questionCount * 10.0); // assuming max per question is 10
+        }
+
+        /**
+         * Returns the section-local slot of a question, or -1 if the question
+         * does not belong to this section.
+         */
+        @Override
+        public int slotOf(String questionId) {
+            Integer slot = localSlotByQuestionId.get(questionId);
+            return slot == null ? -1 : slot;
+        }
+
+        public Question question(int slot) {
+            return questionBySlot[slot];
+        }
+
+        /**
+         * Whether the section and all of its question weights have at most four
+         * decimals, which the fixed-point kernels require.
+         */
+        boolean hasFixedPointWeights() {
+            return fixedPointWeights;
+        }
+
+        boolean hasDistinctQuestionIds() {
+            return distinctQuestionIds;
+        }
+
+        long questionWeightUnits(int slot) {
+            return questionWeightUnitsBySlot[slot];
+        }
+
+        double questionWeight(int slot) {
+            return questionWeightBySlot[slot];
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String title() {
+            return title;
+        }
+
+        public List<Question> questions() {
+            return questions;
+        }
+
+        public int firstSlot() {
+            return firstSlot;
+        }
+
+        public int questionCount() {
+            return questionCount;
+        }
+
+        public BigDecimal weight() {
+            return weight;
+        }
+
+        public Score maxPossible() {
+            return maxPossible;
+        }
+    }
+}
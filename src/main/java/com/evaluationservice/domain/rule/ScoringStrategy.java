@@ -20,4 +20,17 @@ public interface ScoringStrategy {
      * @return the computed score
      */
     Score compute(List<Answer> answers, List<Question> questions);
+
+    /**
+     * Computes a score for the answers of one compiled section. Strategies that
+     * look answers up by question override this to use the plan's slot index
+     * instead of rebuilding lookup structures on every call.
+     *
+     * @param answers the answers belonging to the section
+     * @param section the compiled section from a {@link ScoringPlan}
+     * @return the computed score
+     */
+    default Score compute(List<Answer> answers, ScoringPlan.SectionPlan section) {
+        return compute(answers, section.questions());
+    }
 }
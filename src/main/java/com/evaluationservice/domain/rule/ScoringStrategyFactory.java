@@ -2,6 +2,9 @@ package com.evaluationservice.domain.rule;
 
 import com.evaluationservice.domain.enums.ScoringMethod;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Factory for obtaining the appropriate ScoringStrategy based on ScoringMethod.
  * <p>
@@ -18,6 +21,9 @@ public final class ScoringStrategyFactory {
     private static final MedianScoring MEDIAN = new MedianScoring();
     private static final PercentileRankScoring PERCENTILE_RANK = new PercentileRankScoring();
 
+    private static final int MAX_CACHED_FORMULAS = 1000;
+    private static final Map<String, ScoringStrategy> CUSTOM_FORMULAS = new ConcurrentHashMap<>();
+
     /**
      * Returns the scoring strategy for the given method.
      * For {@code CUSTOM_FORMULA}, use {@link #forCustomFormula(String)} instead.
@@ -37,10 +43,24 @@ public final class ScoringStrategyFactory {
     /**
      * Returns a scoring strategy that evaluates the given custom formula.
      *
-     * @param formula the formula keyword (AVG, WEIGHTED, MIN, MAX)
+     * Strategies are stateless and cached by formula text. The formula is
+     * compiled leniently (see {@link CustomFormulaScoring#lenient(String)}), so
+     * callers accepting a new formula must validate it themselves.
+     *
+     * @param formula the formula text, see {@link com.evaluationservice.domain.rule.formula.Formula}
      * @return the custom formula scoring strategy
      */
     public static ScoringStrategy forCustomFormula(String formula) {
-        return new CustomFormulaScoring(formula);
+        if (formula == null) {
+            return CustomFormulaScoring.lenient(null);
+        }
+        ScoringStrategy cached = CUSTOM_FORMULAS.get(formula);
+        if (cached != null) {
+            return cached;
+        }
+        if (CUSTOM_FORMULAS.size() >= MAX_CACHED_FORMULAS) {
+            CUSTOM_FORMULAS.clear();
+        }
+        return CUSTOM_FORMULAS.computeIfAbsent(formula, CustomFormulaScoring::lenient);
     }
 }
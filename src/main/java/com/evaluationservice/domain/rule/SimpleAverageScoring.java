@@ -23,6 +23,11 @@ public class SimpleAverageScoring implements ScoringStrategy {
                 .mapToDouble(Answer::numericValue)
                 .sum();
 
+        long sumUnits = FixedPointKernel.toUnits(sum);
+        if (sumUnits != FixedPointKernel.UNREPRESENTABLE) {
+            return FixedPointKernel.toScore(FixedPointKernel.divideHalfUp(sumUnits, answers.size()));
+        }
+
         BigDecimal average = BigDecimal.valueOf(sum)
                 .divide(BigDecimal.valueOf(answers.size()), Score.SCALE, RoundingMode.HALF_UP);
 
@@ -27,12 +27,61 @@ public class WeightedAverageScoring implements ScoringStrategy {
 
         Map<String, Question> questionMap = questions.stream()
                 .collect(Collectors.toMap(Question::getId, Function.identity()));
+        return computeWeighted(answers, questionMap::get);
+    }
+
+    @Override
+    public Score compute(List<Answer> answers, ScoringPlan.SectionPlan section) {
+        if (answers.isEmpty() || section.questionCount() == 0) {
+            return Score.ZERO;
+        }
+        if (section.hasFixedPointWeights() && answers.size() <= FixedPointKernel.MAX_TERMS) {
+            Score score = computeFixedPoint(answers, section);
+            if (score != null) {
+                return score;
+            }
+        }
+        return computeWeighted(answers, questionId -> {
+            int slot = section.slotOf(questionId);
+            return slot < 0 ? null : section.question(slot);
+        });
+    }
+
+    /**
+     * Fixed-point variant of {@link #computeWeighted}; returns {@code null} if an
+     * answer value cannot be represented exactly.
+     */
+    private Score computeFixedPoint(List<Answer> answers, ScoringPlan.SectionPlan section) {
+        long weightedSum = 0;
+        long totalWeight = 0;
+
+        for (Answer answer : answers) {
+            int slot = section.slotOf(answer.questionId());
+            if (slot < 0)
+                continue;
+
+            long value = FixedPointKernel.toUnits(answer.numericValue());
+            if (value == FixedPointKernel.UNREPRESENTABLE)
+                return null;
+
+            long weight = section.questionWeightUnits(slot);
+            weightedSum += value * weight;
+            totalWeight += weight;
+        }
+
+        if (totalWeight == 0) {
+            return Score.ZERO;
+        }
+        // value and weight are both in units, so the quotient is back in units.
+        return FixedPointKernel.toScore(FixedPointKernel.divideHalfUp(weightedSum, totalWeight));
+    }
 
+    private Score computeWeighted(List<Answer> answers, Function<String, Question> questionLookup) {
         BigDecimal weightedSum = BigDecimal.ZERO;
         BigDecimal totalWeight = BigDecimal.ZERO;
 
         for (Answer answer : answers) {
-            Question question = questionMap.get(answer.questionId());
+            Question question = questionLookup.apply(answer.questionId());
             if (question == null)
                 continue;
 
@@ -0,0 +1,104 @@
+package com.evaluationservice.domain.rule.formula;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A custom scoring formula compiled into an evaluator tree.
+ * <p>
+ * Formulas are parsed once and cached by their text; a compiled formula is
+ * immutable and can be evaluated concurrently, each thread bringing its own
+ * {@link FormulaContext}. Evaluation does not allocate.
+ * <p>
+ * Language (identifiers and keywords are case-insensitive):
+ * <ul>
+ * <li>Numbers: {@code 7}, {@code 2.5}</li>
+ * <li>Section variables, over the section's numerically answered questions:
+ * {@code AVG}, {@code WEIGHTED}, {@code MIN}, {@code MAX}, {@code MEDIAN},
+ * {@code SUM}, {@code COUNT}; plus {@code QUESTIONS} (question count) and
+ * {@code SECTION_WEIGHT}. Aggregates are 0 when nothing is answered.</li>
+ * <li>Question variables: {@code q('id')} (answer value, 0 if unanswered),
+ * {@code w('id')} (question weight), {@code answered('id')} (1 or 0)</li>
+ * <li>Arithmetic: {@code + - * / % ^}; division and modulo by zero yield 0</li>
+ * <li>Comparison and logic: {@code < <= > >= == !=}, {@code && and},
+ * {@code || or}, {@code ! not}, yielding 1 or 0</li>
+ * <li>Conditionals: {@code cond ? a : b} and {@code if(cond, a, b)}</li>
+ * <li>Functions: {@code min(...)}, {@code max(...)}, {@code avg(...)},
+ * {@code sum(...)}, {@code median(...)}, {@code abs(x)}, {@code round(x)},
+ * {@code round(x, digits)}, {@code clamp(x, lo, hi)}</li>
+ * </ul>
+ * Example: {@code answered('q7') ? 0.7 * WEIGHTED + 0.3 * q('q7') : WEIGHTED}
+ */
+public final class Formula {
+
+    /**
+     * Variables describing the section being scored.
+     */
+    public enum SectionVariable {
+        AVG, WEIGHTED, MIN, MAX, MEDIAN, SUM, COUNT, QUESTIONS, SECTION_WEIGHT
+    }
+
+    private static final int MAX_CACHED_FORMULAS = 1000;
+    private static final Map<String, Formula> CACHE = new ConcurrentHashMap<>();
+
+    private final String text;
+    private final FormulaNode root;
+    private final int scratchSize;
+
+    Formula(String text, FormulaNode root, int scratchSize) {
+        this.text = text;
+        this.root = root;
+        this.scratchSize = scratchSize;
+    }
+
+    /**
+     * Compiles the formula, reusing a previous compilation of the same text.
+     *
+     * @throws IllegalArgumentException if the formula is blank or malformed
+     */
+    public static Formula compile(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Custom formula cannot be null or blank");
+        }
+        Formula cached = CACHE.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        Formula compiled = FormulaParser.parse(text);
+        if (CACHE.size() >= MAX_CACHED_FORMULAS) {
+            CACHE.clear();
+        }
+        CACHE.putIfAbsent(text, compiled);
+        return compiled;
+    }
+
+    /**
+     * Evaluates the formula against a populated context.
+     */
+    public double evaluate(FormulaContext context) {
+        Objects.requireNonNull(context, "Formula context cannot be null");
+        if (scratchSize > 0) {
+            context.scratch(scratchSize);
+        }
+        return root.eval(context);
+    }
+
+    /**
+     * Returns the section variable if the whole formula is just that variable
+     * (e.g. the legacy keyword {@code AVG}), otherwise {@code null}. Callers use
+     * this to keep the exact decimal implementations of those keywords.
+     */
+    public SectionVariable singleVariable() {
+        return root instanceof FormulaNode.SectionRef ref ? ref.variable() : null;
+    }
+
+    public String text() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,165 @@
+package com.evaluationservice.domain.rule.formula;
+
+import java.util.Arrays;
+
+/**
+ * Mutable inputs for evaluating a {@link Formula} against one section.
+ * <p>
+ * A context is meant to be reused: {@link #reset} only grows its arrays when a
+ * larger section comes along, so evaluating many sections in a row does not
+ * allocate. Instances are not thread-safe; keep one per thread.
+ */
+public final class FormulaContext {
+
+    private QuestionSlots slots;
+    private int questionCount;
+    private double sectionWeight;
+
+    private double[] values = new double[0];
+    private double[] weights = new double[0];
+    private boolean[] answered = new boolean[0];
+    private double[] sorted = new double[0];
+    private double[] scratch = new double[0];
+
+    private boolean aggregated;
+    private int answeredCount;
+    private double sum;
+    private double weightedSum;
+    private double totalWeight;
+    private double min;
+    private double max;
+    private double median;
+    private boolean medianSorted;
+
+    /**
+     * Prepares the context for a section with the given number of questions.
+     * All questions start unanswered with weight 1.
+     */
+    public void reset(QuestionSlots slots, int questionCount, double sectionWeight) {
+        this.slots = slots;
+        this.questionCount = questionCount;
+        this.sectionWeight = sectionWeight;
+        if (values.length < questionCount) {
+            int capacity = Math.max(questionCount, values.length * 2);
+            values = new double[capacity];
+            weights = new double[capacity];
+            answered = new boolean[capacity];
+            sorted = new double[capacity];
+        }
+        Arrays.fill(weights, 0, questionCount, 1.0);
+        Arrays.fill(answered, 0, questionCount, false);
+        aggregated = false;
+    }
+
+    /**
+     * Sets the weight of the question in the given slot.
+     */
+    public void weight(int slot, double weight) {
+        weights[slot] = weight;
+        aggregated = false;
+    }
+
+    /**
+     * Records the numeric answer for the question in the given slot.
+     */
+    public void answer(int slot, double value) {
+        values[slot] = value;
+        answered[slot] = true;
+        aggregated = false;
+    }
+
+    /**
+     * Number of questions with a numeric answer.
+     */
+    public int answeredCount() {
+        aggregate();
+        return answeredCount;
+    }
+
+    double variable(Formula.SectionVariable variable) {
+        if (variable == Formula.SectionVariable.QUESTIONS)
+            return questionCount;
+        if (variable == Formula.SectionVariable.SECTION_WEIGHT)
+            return sectionWeight;
+
+        aggregate();
+        if (answeredCount == 0)
+            return 0;
+        return switch (variable) {
+            case AVG -> sum / answeredCount;
+            case WEIGHTED -> totalWeight > 0 ? weightedSum / totalWeight : 0;
+            case MIN -> min;
+            case MAX -> max;
+            case MEDIAN -> median();
+            case SUM -> sum;
+            case COUNT -> answeredCount;
+            case QUESTIONS, SECTION_WEIGHT -> throw new IllegalStateException();
+        };
+    }
+
+    double questionValue(String questionId) {
+        int slot = slots.slotOf(questionId);
+        return slot >= 0 && slot < questionCount && answered[slot] ? values[slot] : 0;
+    }
+
+    double questionWeight(String questionId) {
+        int slot = slots.slotOf(questionId);
+        return slot >= 0 && slot < questionCount ? weights[slot] : 0;
+    }
+
+    boolean isAnswered(String questionId) {
+        int slot = slots.slotOf(questionId);
+        return slot >= 0 && slot < questionCount && answered[slot];
+    }
+
+    double[] scratch(int size) {
+        if (scratch.length < size) {
+            scratch = new double[size];
+        }
+        return scratch;
+    }
+
+    private void aggregate() {
+        if (aggregated)
+            return;
+
+        answeredCount = 0;
+        sum = 0;
+        weightedSum = 0;
+        totalWeight = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        for (int slot = 0; slot < questionCount; slot++) {
+            if (!answered[slot])
+                continue;
+            double value = values[slot];
+            sorted[answeredCount++] = value;
+            sum += value;
+            weightedSum += value * weights[slot];
+            totalWeight += weights[slot];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        medianSorted = false;
+        aggregated = true;
+    }
+
+    private double median() {
+        if (!medianSorted) {
+            median = median(sorted, 0, answeredCount);
+            medianSorted = true;
+        }
+        return median;
+    }
+
+    /**
+     * Sorts the range in place and returns its median, or 0 if it is empty.
+     */
+    static double median(double[] values, int from, int length) {
+        if (length == 0)
+            return 0;
+        Arrays.sort(values, from, from + length);
+        int middle = from + length / 2;
+        return length % 2 == 0 ? (values[middle - 1] + values[middle]) / 2.0 : values[middle];
+    }
+}
@@ -0,0 +1,216 @@
+package com.evaluationservice.domain.rule.formula;
+
+/**
+ * Node of a compiled formula tree. Evaluation works on primitives only, so
+ * evaluating a tree never allocates.
+ */
+sealed interface FormulaNode {
+
+    double eval(FormulaContext context);
+
+    /**
+     * Whether the node's value does not depend on the context, which lets the
+     * parser fold it into a {@link Constant}.
+     */
+    default boolean isConstant() {
+        return false;
+    }
+
+    static boolean truthy(double value) {
+        return value != 0 && !Double.isNaN(value);
+    }
+
+    static double bool(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    record Constant(double value) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            return value;
+        }
+
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+    }
+
+    record SectionRef(Formula.SectionVariable variable) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            return context.variable(variable);
+        }
+    }
+
+    record QuestionValue(String questionId) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            return context.questionValue(questionId);
+        }
+    }
+
+    record QuestionWeight(String questionId) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            return context.questionWeight(questionId);
+        }
+    }
+
+    record QuestionAnswered(String questionId) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            return bool(context.isAnswered(questionId));
+        }
+    }
+
+    enum UnaryOperator {
+        NEGATE, NOT, ABS
+    }
+
+    record Unary(UnaryOperator operator, FormulaNode operand) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            double value = operand.eval(context);
+            return switch (operator) {
+                case NEGATE -> -value;
+                case NOT -> bool(!truthy(value));
+                case ABS -> Math.abs(value);
+            };
+        }
+
+        @Override
+        public boolean isConstant() {
+            return operand.isConstant();
+        }
+    }
+
+    enum BinaryOperator {
+        ADD, SUBTRACT, MULTIPLY, DIVIDE, MODULO, POWER,
+        LESS, LESS_OR_EQUAL, GREATER, GREATER_OR_EQUAL, EQUAL, NOT_EQUAL
+    }
+
+    record Binary(BinaryOperator operator, FormulaNode left, FormulaNode right) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            double l = left.eval(context);
+            double r = right.eval(context);
+            return switch (operator) {
+                case ADD -> l + r;
+                case SUBTRACT -> l - r;
+                case MULTIPLY -> l * r;
+                // Division by zero yields 0 so an unanswered section never poisons the score.
+                case DIVIDE -> r == 0 ? 0 : l / r;
+                case MODULO -> r == 0 ? 0 : l % r;
+                case POWER -> Math.pow(l, r);
+                case LESS -> bool(l < r);
+                case LESS_OR_EQUAL -> bool(l <= r);
+                case GREATER -> bool(l > r);
+                case GREATER_OR_EQUAL -> bool(l >= r);
+                case EQUAL -> bool(l == r);
+                case NOT_EQUAL -> bool(l != r);
+            };
+        }
+
+        @Override
+        public boolean isConstant() {
+            return left.isConstant() && right.isConstant();
+        }
+    }
+
+    record And(FormulaNode left, FormulaNode right) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            return bool(truthy(left.eval(context)) && truthy(right.eval(context)));
+        }
+
+        @Override
+        public boolean isConstant() {
+            return left.isConstant() && right.isConstant();
+        }
+    }
+
+    record Or(FormulaNode left, FormulaNode right) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            return bool(truthy(left.eval(context)) || truthy(right.eval(context)));
+        }
+
+        @Override
+        public boolean isConstant() {
+            return left.isConstant() && right.isConstant();
+        }
+    }
+
+    record Conditional(FormulaNode condition, FormulaNode whenTrue, FormulaNode whenFalse) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            return truthy(condition.eval(context)) ? whenTrue.eval(context) : whenFalse.eval(context);
+        }
+
+        @Override
+        public boolean isConstant() {
+            return condition.isConstant() && whenTrue.isConstant() && whenFalse.isConstant();
+        }
+    }
+
+    record Round(FormulaNode value, FormulaNode digits) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            double v = value.eval(context);
+            double scale = Math.pow(10, Math.rint(digits.eval(context)));
+            // Half away from zero, matching HALF_UP used for stored scores.
+            return Math.signum(v) * Math.floor(Math.abs(v) * scale + 0.5) / scale;
+        }
+
+        @Override
+        public boolean isConstant() {
+            return value.isConstant() && digits.isConstant();
+        }
+    }
+
+    enum Reduction {
+        MIN, MAX, AVG, SUM
+    }
+
+    record Reduce(Reduction reduction, FormulaNode[] arguments) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            double result = arguments[0].eval(context);
+            for (int i = 1; i < arguments.length; i++) {
+                double value = arguments[i].eval(context);
+                result = switch (reduction) {
+                    case MIN -> Math.min(result, value);
+                    case MAX -> Math.max(result, value);
+                    case AVG, SUM -> result + value;
+                };
+            }
+            return reduction == Reduction.AVG ? result / arguments.length : result;
+        }
+
+        @Override
+        public boolean isConstant() {
+            for (FormulaNode argument : arguments) {
+                if (!argument.isConstant())
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Median of its arguments. Each median node owns a fixed range of the
+     * context's scratch buffer, assigned by the parser, so nested medians do
+     * not overwrite each other.
+     */
+    record Median(FormulaNode[] arguments, int scratchOffset) implements FormulaNode {
+        @Override
+        public double eval(FormulaContext context) {
+            double[] scratch = context.scratch(scratchOffset + arguments.length);
+            for (int i = 0; i < arguments.length; i++) {
+                scratch[scratchOffset + i] = arguments[i].eval(context);
+            }
+            return FormulaContext.median(scratch, scratchOffset, arguments.length);
+        }
+    }
+}
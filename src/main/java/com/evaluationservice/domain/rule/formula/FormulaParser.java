@@ -0,0 +1,314 @@
+package com.evaluationservice.domain.rule.formula;
+
+import com.evaluationservice.domain.rule.formula.FormulaNode.BinaryOperator;
+import com.evaluationservice.domain.rule.formula.FormulaNode.Reduction;
+import com.evaluationservice.domain.rule.formula.FormulaNode.UnaryOperator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recursive-descent parser for the formula language described on
+ * {@link Formula}. Precedence, lowest first: {@code ?:}, {@code ||},
+ * {@code &&}, comparisons, {@code + -}, {@code * / %}, unary, {@code ^}.
+ */
+final class FormulaParser {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final String text;
+    private int position;
+    private int depth;
+    private int scratchSize;
+
+    private FormulaParser(String text) {
+        this.text = text;
+    }
+
+    static Formula parse(String text) {
+        FormulaParser parser = new FormulaParser(text);
+        FormulaNode root = parser.expression();
+        parser.skipWhitespace();
+        if (parser.position < text.length()) {
+            throw parser.error("unexpected '" + text.charAt(parser.position) + "'");
+        }
+        return new Formula(text, root, parser.scratchSize);
+    }
+
+    private FormulaNode expression() {
+        enter();
+        FormulaNode condition = or();
+        FormulaNode result = condition;
+        if (accept("?")) {
+            FormulaNode whenTrue = expression();
+            expect(":");
+            FormulaNode whenFalse = expression();
+            result = fold(new FormulaNode.Conditional(condition, whenTrue, whenFalse));
+        }
+        depth--;
+        return result;
+    }
+
+    private FormulaNode or() {
+        FormulaNode left = and();
+        while (accept("||") || acceptKeyword("or")) {
+            left = fold(new FormulaNode.Or(left, and()));
+        }
+        return left;
+    }
+
+    private FormulaNode and() {
+        FormulaNode left = comparison();
+        while (accept("&&") || acceptKeyword("and")) {
+            left = fold(new FormulaNode.And(left, comparison()));
+        }
+        return left;
+    }
+
+    private FormulaNode comparison() {
+        FormulaNode left = additive();
+        while (true) {
+            BinaryOperator operator;
+            if (accept("<=")) operator = BinaryOperator.LESS_OR_EQUAL;
+            else if (accept(">=")) operator = BinaryOperator.GREATER_OR_EQUAL;
+            else if (accept("==")) operator = BinaryOperator.EQUAL;
+            else if (accept("!=")) operator = BinaryOperator.NOT_EQUAL;
+            else if (accept("<")) operator = BinaryOperator.LESS;
+            else if (accept(">")) operator = BinaryOperator.GREATER;
+            else return left;
+            left = fold(new FormulaNode.Binary(operator, left, additive()));
+        }
+    }
+
+    private FormulaNode additive() {
+        FormulaNode left = multiplicative();
+        while (true) {
+            BinaryOperator operator;
+            if (accept("+")) operator = BinaryOperator.ADD;
+            else if (accept("-")) operator = BinaryOperator.SUBTRACT;
+            else return left;
+            left = fold(new FormulaNode.Binary(operator, left, multiplicative()));
+        }
+    }
+
+    private FormulaNode multiplicative() {
+        FormulaNode left = unary();
+        while (true) {
+            BinaryOperator operator;
+            if (accept("*")) operator = BinaryOperator.MULTIPLY;
+            else if (accept("/")) operator = BinaryOperator.DIVIDE;
+            else if (accept("%")) operator = BinaryOperator.MODULO;
+            else return left;
+            left = fold(new FormulaNode.Binary(operator, left, unary()));
+        }
+    }
+
+    private FormulaNode unary() {
+        enter();
+        FormulaNode result = unaryOperand();
+        depth--;
+        return result;
+    }
+
+    private FormulaNode unaryOperand() {
+        if (accept("-")) {
+            return fold(new FormulaNode.Unary(UnaryOperator.NEGATE, unary()));
+        }
+        if (accept("+")) {
+            return unary();
+        }
+        if ((!peek("!=") && accept("!")) || acceptKeyword("not")) {
+            return fold(new FormulaNode.Unary(UnaryOperator.NOT, unary()));
+        }
+        FormulaNode base = primary();
+        if (accept("^")) {
+            // Right-associative and binds tighter than unary minus: -2^2 == -4.
+            return fold(new FormulaNode.Binary(BinaryOperator.POWER, base, unary()));
+        }
+        return base;
+    }
+
+    private FormulaNode primary() {
+        skipWhitespace();
+        if (position >= text.length()) {
+            throw error("unexpected end of formula");
+        }
+        char c = text.charAt(position);
+        if (accept("(")) {
+            FormulaNode inner = expression();
+            expect(")");
+            return inner;
+        }
+        if (Character.isDigit(c) || c == '.') {
+            return number();
+        }
+        if (Character.isLetter(c) || c == '_') {
+            int start = position;
+            String name = identifier();
+            if (accept("(")) {
+                return function(name, start);
+            }
+            return variable(name, start);
+        }
+        throw error("unexpected '" + c + "'");
+    }
+
+    private FormulaNode number() {
+        int start = position;
+        while (position < text.length()
+                && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+            position++;
+        }
+        try {
+            return new FormulaNode.Constant(Double.parseDouble(text.substring(start, position)));
+        } catch (NumberFormatException e) {
+            throw error(start, "invalid number '" + text.substring(start, position) + "'");
+        }
+    }
+
+    private FormulaNode variable(String name, int start) {
+        try {
+            return new FormulaNode.SectionRef(Formula.SectionVariable.valueOf(name.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            throw error(start, "unknown variable '" + name + "'");
+        }
+    }
+
+    private FormulaNode function(String name, int start) {
+        String function = name.toLowerCase(Locale.ROOT);
+        return switch (function) {
+            case "q", "w", "answered" -> {
+                String questionId = string();
+                expect(")");
+                yield switch (function) {
+                    case "q" -> new FormulaNode.QuestionValue(questionId);
+                    case "w" -> new FormulaNode.QuestionWeight(questionId);
+                    default -> new FormulaNode.QuestionAnswered(questionId);
+                };
+            }
+            case "if" -> {
+                List<FormulaNode> args = arguments(function, start, 3, 3);
+                yield fold(new FormulaNode.Conditional(args.get(0), args.get(1), args.get(2)));
+            }
+            case "abs" -> fold(new FormulaNode.Unary(UnaryOperator.ABS, arguments(function, start, 1, 1).get(0)));
+            case "round" -> {
+                List<FormulaNode> args = arguments(function, start, 1, 2);
+                FormulaNode digits = args.size() == 2 ? args.get(1) : new FormulaNode.Constant(0);
+                yield fold(new FormulaNode.Round(args.get(0), digits));
+            }
+            case "clamp" -> {
+                List<FormulaNode> args = arguments(function, start, 3, 3);
+                FormulaNode atLeast = fold(new FormulaNode.Reduce(
+                        Reduction.MAX, new FormulaNode[] { args.get(0), args.get(1) }));
+                yield fold(new FormulaNode.Reduce(Reduction.MIN, new FormulaNode[] { atLeast, args.get(2) }));
+            }
+            case "min", "max", "avg", "sum" -> fold(new FormulaNode.Reduce(
+                    Reduction.valueOf(function.toUpperCase(Locale.ROOT)),
+                    arguments(function, start, 1, Integer.MAX_VALUE).toArray(FormulaNode[]::new)));
+            case "median" -> {
+                FormulaNode[] args = arguments(function, start, 1, Integer.MAX_VALUE).toArray(FormulaNode[]::new);
+                int offset = scratchSize;
+                scratchSize += args.length;
+                yield new FormulaNode.Median(args, offset);
+            }
+            default -> throw error(start, "unknown function '" + name + "'");
+        };
+    }
+
+    private List<FormulaNode> arguments(String function, int start, int min, int max) {
+        List<FormulaNode> args = new ArrayList<>();
+        if (!accept(")")) {
+            do {
+                args.add(expression());
+            } while (accept(","));
+            expect(")");
+        }
+        if (args.size() < min || args.size() > max) {
+            String expected = min == max ? String.valueOf(min)
+                    : max == Integer.MAX_VALUE ? "at least " + min : min + " to " + max;
+            throw error(start, function + "() expects " + expected + " argument(s), got " + args.size());
+        }
+        return args;
+    }
+
+    private String string() {
+        skipWhitespace();
+        if (position >= text.length() || (text.charAt(position) != '\'' && text.charAt(position) != '"')) {
+            throw error("expected a quoted question ID");
+        }
+        char quote = text.charAt(position);
+        int end = text.indexOf(quote, position + 1);
+        if (end < 0) {
+            throw error("unterminated string");
+        }
+        String value = text.substring(position + 1, end);
+        position = end + 1;
+        return value;
+    }
+
+    private String identifier() {
+        int start = position;
+        while (position < text.length()
+                && (Character.isLetterOrDigit(text.charAt(position)) || text.charAt(position) == '_')) {
+            position++;
+        }
+        return text.substring(start, position);
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw error("formula is nested too deeply");
+        }
+    }
+
+    private static FormulaNode fold(FormulaNode node) {
+        return node.isConstant() && !(node instanceof FormulaNode.Constant)
+                ? new FormulaNode.Constant(node.eval(null))
+                : node;
+    }
+
+    private boolean peek(String token) {
+        skipWhitespace();
+        return text.startsWith(token, position);
+    }
+
+    private boolean accept(String token) {
+        if (peek(token)) {
+            position += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        skipWhitespace();
+        int end = position + keyword.length();
+        if (text.regionMatches(true, position, keyword, 0, keyword.length())
+                && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)) && text.charAt(end) != '_')) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String token) {
+        if (!accept(token)) {
+            throw error("expected '" + token + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return error(position, message);
+    }
+
+    private IllegalArgumentException error(int at, String message) {
+        return new IllegalArgumentException("Invalid custom formula at position " + (at + 1) + ": " + message);
+    }
+}
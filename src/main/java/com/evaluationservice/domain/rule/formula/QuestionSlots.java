@@ -0,0 +1,13 @@
+package com.evaluationservice.domain.rule.formula;
+
+/**
+ * Resolves question IDs to the section-local slots of a {@link FormulaContext}.
+ */
+@FunctionalInterface
+public interface QuestionSlots {
+
+    /**
+     * Returns the slot of the question, or -1 if it is not part of the section.
+     */
+    int slotOf(String questionId);
+}
@@ -0,0 +1,35 @@
+package com.evaluationservice.domain.value;
+
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.exception.CampaignNotActiveException;
+
+import java.util.Objects;
+
+/**
+ * Lightweight read model of a campaign carrying only the fields needed to
+ * gate a submission. Loading it never touches the campaign's assignments.
+ */
+public record CampaignHeader(
+        CampaignId id,
+        TemplateId templateId,
+        int templateVersion,
+        CampaignStatus status,
+        DateRange dateRange,
+        boolean locked) {
+
+    public CampaignHeader {
+        Objects.requireNonNull(id, "Campaign ID cannot be null");
+        Objects.requireNonNull(templateId, "Template ID cannot be null");
+        Objects.requireNonNull(status, "Campaign status cannot be null");
+        Objects.requireNonNull(dateRange, "Date range cannot be null");
+    }
+
+    /**
+     * Mirrors {@code Campaign#ensureActive()} for callers holding only the header.
+     */
+    public void ensureActive() {
+        if (status != CampaignStatus.ACTIVE && status != CampaignStatus.PUBLISHED_OPEN) {
+            throw new CampaignNotActiveException(id);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.evaluationservice.domain.value;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * KLL quantile sketch over a stream of scores.
+ * <p>
+ * Items live in levels of compactors; an item at level {@code h} stands for
+ * {@code 2^h} scores. A full level is sorted and every other item, from a
+ * random offset, moves up a level. With the default {@code k = 200} ranks are
+ * off by about 1.5% of the count, in a few kilobytes regardless of how many
+ * scores were added. Sketches over disjoint streams combine with
+ * {@link #merge}. Not thread-safe.
+ */
+public final class QuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+    private final List<Level> levels = new ArrayList<>();
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("Sketch k must be at least 8: " + k);
+        }
+        this.k = k;
+        levels.add(new Level());
+    }
+
+    public void add(double score) {
+        if (Double.isNaN(score)) {
+            throw new IllegalArgumentException("Cannot add NaN to a sketch");
+        }
+        levels.get(0).add(score);
+        count++;
+        min = Double.isNaN(min) ? score : Math.min(min, score);
+        max = Double.isNaN(max) ? score : Math.max(max, score);
+        compress();
+    }
+
+    /**
+     * Adds every score of the other sketch to this one.
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return this;
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            while (levels.size() <= h) {
+                levels.add(new Level());
+            }
+            Level source = other.levels.get(h);
+            levels.get(h).addAll(source.items, source.size);
+        }
+        count += other.count;
+        min = Double.isNaN(min) ? other.min : Math.min(min, other.min);
+        max = Double.isNaN(max) ? other.max : Math.max(max, other.max);
+        compress();
+        return this;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Approximate score at the given fraction of the distribution; the exact
+     * minimum and maximum at 0 and 1.
+     */
+    public double quantile(double fraction) {
+        if (fraction < 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException("Quantile fraction must be within [0, 1]: " + fraction);
+        }
+        if (count == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        if (fraction == 0.0) {
+            return min;
+        }
+        if (fraction == 1.0) {
+            return max;
+        }
+        int size = retained();
+        double[] values = new double[size];
+        long[] weights = new long[size];
+        int n = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                values[n] = level.items[i];
+                weights[n++] = 1L << h;
+            }
+        }
+        Integer[] order = new Integer[size];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        double target = fraction * count;
+        long cumulative = 0;
+        for (Integer i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Approximate fraction of scores below the given one, counting equal
+     * scores as half below, in {@code [0, 1]}.
+     */
+    public double rank(double score) {
+        if (count == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        double below = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            long weight = 1L << h;
+            for (int i = 0; i < level.size; i++) {
+                double item = level.items[i];
+                if (item < score) {
+                    below += weight;
+                } else if (item == score) {
+                    below += weight / 2.0;
+                }
+            }
+        }
+        return Math.min(1.0, below / count);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(
+                1 + Integer.BYTES * 2 + Long.BYTES + Double.BYTES * 2
+                        + levels.size() * Integer.BYTES + retained() * Double.BYTES);
+        buffer.put(FORMAT_VERSION).putInt(k).putLong(count).putDouble(min).putDouble(max).putInt(levels.size());
+        for (Level level : levels) {
+            buffer.putInt(level.size);
+            for (int i = 0; i < level.size; i++) {
+                buffer.putDouble(level.items[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported sketch format: " + version);
+            }
+            QuantileSketch sketch = new QuantileSketch(buffer.getInt());
+            sketch.count = buffer.getLong();
+            sketch.min = buffer.getDouble();
+            sketch.max = buffer.getDouble();
+            int levelCount = buffer.getInt();
+            sketch.levels.clear();
+            for (int h = 0; h < levelCount; h++) {
+                Level level = new Level();
+                int size = buffer.getInt();
+                for (int i = 0; i < size; i++) {
+                    level.add(buffer.getDouble());
+                }
+                sketch.levels.add(level);
+            }
+            if (sketch.levels.isEmpty()) {
+                sketch.levels.add(new Level());
+            }
+            return sketch;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated sketch", e);
+        }
+    }
+
+    private int retained() {
+        int size = 0;
+        for (Level level : levels) {
+            size += level.size;
+        }
+        return size;
+    }
+
+    private int capacity(int h) {
+        int depth = levels.size() - 1 - h;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void compress() {
+        for (int h = 0; h < levels.size(); h++) {
+            if (levels.get(h).size >= capacity(h)) {
+                if (h + 1 == levels.size()) {
+                    levels.add(new Level());
+                }
+                compact(levels.get(h), levels.get(h + 1));
+            }
+        }
+    }
+
+    private static void compact(Level level, Level above) {
+        Arrays.sort(level.items, 0, level.size);
+        // An odd item out stays behind so the total weight is unchanged
+        int kept = level.size % 2;
+        double leftover = level.items[level.size - 1];
+        int offset = ThreadLocalRandom.current().nextInt(2);
+        for (int i = offset; i < level.size - kept; i += 2) {
+            above.add(level.items[i]);
+        }
+        level.size = 0;
+        if (kept == 1) {
+            level.add(leftover);
+        }
+    }
+
+    private static final class Level {
+        private double[] items = new double[16];
+        private int size;
+
+        void add(double item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = item;
+        }
+
+        void addAll(double[] source, int length) {
+            if (size + length > items.length) {
+                items = Arrays.copyOf(items, Math.max(items.length * 2, size + length));
+            }
+            System.arraycopy(source, 0, items, size, length);
+            size += length;
+        }
+    }
+}
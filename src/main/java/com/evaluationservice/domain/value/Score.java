@@ -26,6 +26,13 @@ public record Score(BigDecimal value) {
         return new Score(value);
     }
 
+    /**
+     * Creates a score from its unscaled value at {@link #SCALE}, e.g. 12345 for 1.2345.
+     */
+    public static Score ofUnscaled(long unscaledValue) {
+        return new Score(BigDecimal.valueOf(unscaledValue, SCALE));
+    }
+
     public Score add(Score other) {
         return new Score(this.value.add(other.value));
     }
@@ -0,0 +1,56 @@
+package com.evaluationservice.domain.value;
+
+/**
+ * Running summary of a set of scores: count, sum, sum of squares and range.
+ * Aggregates over disjoint sets combine with {@link #merge}, so a campaign
+ * summary is the merge of its evaluatee summaries.
+ */
+public record ScoreAggregate(long count, double sum, double sumOfSquares, double min, double max) {
+
+    public static final ScoreAggregate EMPTY = new ScoreAggregate(0, 0.0, 0.0, 0.0, 0.0);
+
+    public ScoreAggregate {
+        if (count < 0) {
+            throw new IllegalArgumentException("Aggregate count cannot be negative: " + count);
+        }
+    }
+
+    public static ScoreAggregate of(double score) {
+        return new ScoreAggregate(1, score, score * score, score, score);
+    }
+
+    public ScoreAggregate plus(double score) {
+        return merge(of(score));
+    }
+
+    public ScoreAggregate merge(ScoreAggregate other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        return new ScoreAggregate(
+                count + other.count,
+                sum + other.sum,
+                sumOfSquares + other.sumOfSquares,
+                Math.min(min, other.min),
+                Math.max(max, other.max));
+    }
+
+    public double mean() {
+        return count > 0 ? sum / count : 0.0;
+    }
+
+    /**
+     * Population standard deviation; zero for fewer than two scores.
+     */
+    public double standardDeviation() {
+        if (count < 2) {
+            return 0.0;
+        }
+        double mean = mean();
+        // Guard against small negative values from floating-point cancellation
+        return Math.sqrt(Math.max(0.0, sumOfSquares / count - mean * mean));
+    }
+}
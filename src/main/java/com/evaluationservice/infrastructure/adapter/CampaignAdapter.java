@@ -5,7 +5,11 @@ import com.evaluationservice.domain.entity.Campaign;
 import com.evaluationservice.domain.entity.CampaignAssignment;
 import com.evaluationservice.domain.enums.CampaignStatus;
 import com.evaluationservice.domain.enums.EvaluatorRole;
+import com.evaluationservice.domain.exception.EntityNotFoundException;
+import com.evaluationservice.domain.value.CampaignHeader;
 import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.DateRange;
+import com.evaluationservice.domain.value.TemplateId;
 import com.evaluationservice.domain.value.Timestamp;
 import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
 import com.evaluationservice.infrastructure.entity.CampaignEntity;
@@ -44,13 +48,42 @@ public class CampaignAdapter implements CampaignPersistencePort {
     public Campaign save(Campaign campaign) {
         var entity = mapper.toJpaEntity(campaign);
         var saved = repository.save(entity);
-        return toDomainCampaign(saved);
+        UnitOfWorkCache.evict(UnitOfWorkCache.CAMPAIGN_HEADERS, saved.getId());
+        return UnitOfWorkCache.remember(UnitOfWorkCache.CAMPAIGNS, saved.getId(), toDomainCampaign(saved));
+    }
+
+    @Override
+    public Campaign saveLifecycleState(Campaign campaign) {
+        CampaignEntity entity = repository.findById(campaign.getId().value())
+                .orElseThrow(() -> new EntityNotFoundException("Campaign", campaign.getId().value()));
+        entity.setStatus(campaign.getStatus().name());
+        entity.setLocked(campaign.isLocked());
+        entity.setPublishedAt(campaign.getPublishedAt());
+        entity.setReopenedAt(campaign.getReopenedAt());
+        entity.setResultsPublishedAt(campaign.getResultsPublishedAt());
+        entity.setUpdatedAt(campaign.getUpdatedAt().value());
+        var saved = repository.save(entity);
+        UnitOfWorkCache.evict(UnitOfWorkCache.CAMPAIGN_HEADERS, saved.getId());
+        UnitOfWorkCache.evict(UnitOfWorkCache.CAMPAIGNS, saved.getId());
+        return withAssignments(mapper.toDomainCampaign(saved), List.of());
     }
 
     @Override
     public Optional<Campaign> findById(CampaignId campaignId) {
+        return UnitOfWorkCache.readThrough(UnitOfWorkCache.CAMPAIGNS, campaignId.value(),
+                () -> repository.findById(campaignId.value()).map(this::toDomainCampaign));
+    }
+
+    @Override
+    public Optional<CampaignHeader> findHeaderById(CampaignId campaignId) {
+        return UnitOfWorkCache.readThrough(UnitOfWorkCache.CAMPAIGN_HEADERS, campaignId.value(),
+                () -> loadHeader(campaignId));
+    }
+
+    @Override
+    public Optional<Campaign> findByIdWithoutAssignments(CampaignId campaignId) {
         return repository.findById(campaignId.value())
-                .map(this::toDomainCampaign);
+                .map(entity -> withAssignments(mapper.toDomainCampaign(entity), List.of()));
     }
 
     @Override
@@ -67,6 +100,16 @@ public class CampaignAdapter implements CampaignPersistencePort {
                 .getContent();
     }
 
+    @Override
+    public List<Campaign> findPageWithoutAssignments(CampaignStatus status, int page, int size) {
+        var entities = status != null
+                ? repository.findByStatus(status.name(), PageRequest.of(page, size))
+                : repository.findAll(PageRequest.of(page, size));
+        return entities
+                .map(entity -> withAssignments(mapper.toDomainCampaign(entity), List.of()))
+                .getContent();
+    }
+
     @Override
     public boolean existsById(CampaignId campaignId) {
         return repository.existsById(campaignId.value());
@@ -122,6 +165,17 @@ public class CampaignAdapter implements CampaignPersistencePort {
                 .toList();
     }
 
+    private Optional<CampaignHeader> loadHeader(CampaignId campaignId) {
+        return repository.findHeaderById(campaignId.value())
+                .map(view -> new CampaignHeader(
+                        CampaignId.of(view.getId()),
+                        TemplateId.of(view.getTemplateId()),
+                        view.getTemplateVersion() != null ? view.getTemplateVersion() : 0,
+                        CampaignStatus.valueOf(view.getStatus()),
+                        DateRange.of(view.getStartDate(), view.getEndDate()),
+                        Boolean.TRUE.equals(view.getLocked())));
+    }
+
     private boolean usesRelationalAssignments() {
         return assignmentStorageMode != EvaluationServiceProperties.AssignmentStorageMode.JSON;
     }
@@ -143,6 +197,10 @@ public class CampaignAdapter implements CampaignPersistencePort {
                         a.getEvaluationId()))
                 .toList();
 
+        return withAssignments(mapped, assignments);
+    }
+
+    private Campaign withAssignments(Campaign mapped, List<CampaignAssignment> assignments) {
         return new Campaign(
                 mapped.getId(),
                 mapped.getName(),
@@ -6,22 +6,59 @@ import com.evaluationservice.domain.enums.EvaluatorRole;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity;
 import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 public class CampaignAssignmentAdapter implements AssignmentPersistencePort {
 
+    private static final String MARK_COMPLETED_SQL = """
+            UPDATE campaign_assignments
+               SET completed = TRUE,
+                   evaluation_id = ?,
+                   status = 'COMPLETED',
+                   updated_at = ?
+             WHERE id = ?
+            """;
+
+    /**
+     * Completes only assignments still open, so each completion is counted
+     * once: a concurrent completion of the same row waits on its lock and
+     * then matches nothing.
+     */
+    private static final String MARK_OPEN_COMPLETED_SQL = """
+            UPDATE campaign_assignments
+               SET completed = TRUE,
+                   evaluation_id = ?,
+                   status = 'COMPLETED',
+                   updated_at = ?
+             WHERE id = ?
+               AND completed = FALSE
+            """;
+
     private final CampaignAssignmentRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CampaignAssignmentCounters counters;
 
-    public CampaignAssignmentAdapter(CampaignAssignmentRepository repository) {
+    public CampaignAssignmentAdapter(
+            CampaignAssignmentRepository repository,
+            JdbcTemplate jdbcTemplate,
+            CampaignAssignmentCounters counters) {
         this.repository = Objects.requireNonNull(repository);
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.counters = Objects.requireNonNull(counters);
     }
 
     @Override
@@ -40,26 +77,124 @@ public class CampaignAssignmentAdapter implements AssignmentPersistencePort {
                 .map(assignment -> toEntity(campaignId, assignment, now, existingCreatedAt.get(assignment.getId())))
                 .toList();
         repository.saveAll(entities);
+        // The counter recount reads the rows with JDBC
+        repository.flush();
+        counters.recount(campaignId.value());
+        evictAssignmentsAndCampaigns();
     }
 
     @Override
     public void replaceAssignments(CampaignId campaignId, List<CampaignAssignment> assignments) {
         repository.deleteByCampaignId(campaignId.value());
+        evictAssignmentsAndCampaigns();
+        if (assignments == null || assignments.isEmpty()) {
+            counters.recount(campaignId.value());
+            return;
+        }
         upsertAssignments(campaignId, assignments);
     }
 
     @Override
     public void markCompleted(String assignmentId, String evaluationId) {
-        int updated = repository.markCompleted(assignmentId, evaluationId, Instant.now());
+        Instant now = Instant.now();
+        int updated = repository.markCompletedIfOpen(assignmentId, evaluationId, now);
+        if (updated > 0) {
+            counters.adjustCompleted(List.of(assignmentId), 1);
+        } else {
+            updated = repository.markCompleted(assignmentId, evaluationId, now);
+        }
+        UnitOfWorkCache.evict(UnitOfWorkCache.ASSIGNMENTS, assignmentId);
+        UnitOfWorkCache.evictRegion(UnitOfWorkCache.CAMPAIGNS);
         if (updated == 0) {
             throw new IllegalStateException("Assignment not found for completion update: " + assignmentId);
         }
     }
 
+    @Override
+    public void markReopened(String assignmentId) {
+        Instant now = Instant.now();
+        int updated = repository.markReopenedIfCompleted(assignmentId, now);
+        if (updated > 0) {
+            counters.adjustCompleted(List.of(assignmentId), -1);
+        } else {
+            updated = repository.markReopened(assignmentId, now);
+        }
+        UnitOfWorkCache.evict(UnitOfWorkCache.ASSIGNMENTS, assignmentId);
+        UnitOfWorkCache.evictRegion(UnitOfWorkCache.CAMPAIGNS);
+        if (updated == 0) {
+            throw new IllegalStateException("Assignment not found for reopen: " + assignmentId);
+        }
+    }
+
+    @Override
+    public void markCompletedAll(Map<String, String> evaluationIdsByAssignmentId) {
+        if (evaluationIdsByAssignmentId == null || evaluationIdsByAssignmentId.isEmpty()) {
+            return;
+        }
+        var updatedAt = Instant.now().atOffset(ZoneOffset.UTC);
+        List<String> assignmentIds = new ArrayList<>(evaluationIdsByAssignmentId.keySet());
+        List<Object[]> args = assignmentIds.stream()
+                .map(id -> new Object[] { evaluationIdsByAssignmentId.get(id), updatedAt, id })
+                .toList();
+        int[] completed = jdbcTemplate.batchUpdate(MARK_OPEN_COMPLETED_SQL, args);
+        List<String> newlyCompleted = new ArrayList<>(assignmentIds.size());
+        List<Object[]> alreadyCompleted = new ArrayList<>();
+        for (int i = 0; i < completed.length; i++) {
+            if (completed[i] == 0) {
+                alreadyCompleted.add(args.get(i));
+            } else {
+                newlyCompleted.add(assignmentIds.get(i));
+            }
+        }
+        counters.adjustCompleted(newlyCompleted, 1);
+        // Already completed (or missing): refresh the evaluation link as before
+        int[] updated = jdbcTemplate.batchUpdate(MARK_COMPLETED_SQL, alreadyCompleted);
+        assignmentIds.forEach(id -> UnitOfWorkCache.evict(UnitOfWorkCache.ASSIGNMENTS, id));
+        UnitOfWorkCache.evictRegion(UnitOfWorkCache.CAMPAIGNS);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                throw new IllegalStateException(
+                        "Assignment not found for completion update: " + alreadyCompleted.get(i)[2]);
+            }
+        }
+    }
+
     @Override
     public Optional<CampaignAssignment> findById(String assignmentId) {
-        return repository.findById(assignmentId)
-                .map(this::toDomain);
+        return UnitOfWorkCache.readThrough(UnitOfWorkCache.ASSIGNMENTS, assignmentId,
+                () -> repository.findById(assignmentId).map(this::toDomain));
+    }
+
+    @Override
+    public List<CampaignAssignment> findByIds(Collection<String> assignmentIds) {
+        if (assignmentIds == null || assignmentIds.isEmpty()) {
+            return List.of();
+        }
+        List<CampaignAssignment> found = new ArrayList<>(assignmentIds.size());
+        Set<String> missing = new LinkedHashSet<>();
+        for (String assignmentId : assignmentIds) {
+            Optional<?> cached = UnitOfWorkCache.peek(UnitOfWorkCache.ASSIGNMENTS, assignmentId);
+            if (cached == null) {
+                missing.add(assignmentId);
+            } else if (cached.orElse(null) instanceof CampaignAssignment assignment) {
+                found.add(assignment);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        for (CampaignAssignmentEntity entity : repository.findAllById(missing)) {
+            found.add(UnitOfWorkCache.remember(UnitOfWorkCache.ASSIGNMENTS, entity.getId(), toDomain(entity)));
+            missing.remove(entity.getId());
+        }
+        missing.forEach(id -> UnitOfWorkCache.remember(UnitOfWorkCache.ASSIGNMENTS, id, null));
+        return found;
+    }
+
+    private static void evictAssignmentsAndCampaigns() {
+        // Campaigns embed their assignment list in relational mode
+        UnitOfWorkCache.evictRegion(UnitOfWorkCache.ASSIGNMENTS);
+        UnitOfWorkCache.evictRegion(UnitOfWorkCache.CAMPAIGNS);
     }
 
     private CampaignAssignmentEntity toEntity(
@@ -0,0 +1,278 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.CampaignProgressPort.AssignmentTotals;
+import com.evaluationservice.application.port.out.CampaignProgressPort.StepCount;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Denormalized assignment counters per step type in
+ * {@code campaign_step_counters}; campaign totals are their sum.
+ * <p>
+ * Completing or reopening assignments only appends +1/-1 rows to
+ * {@code campaign_counter_deltas} in the caller's transaction, so submissions
+ * take no shared row lock. {@link #fold(int)} later adds the deltas to the
+ * step counters, and reads add the deltas not folded yet. Bulk writes
+ * recount the campaign from {@code campaign_assignments} and discard its
+ * pending deltas; a completion committing while a recount runs can be
+ * counted twice or not at all, which assignment reconciliation repairs.
+ */
+@Component
+public class CampaignAssignmentCounters {
+
+    /**
+     * Counter values; {@code steps} are ordered by step type.
+     */
+    public record Counters(long totalAssignments, long completedAssignments, List<StepCount> steps) {
+
+        static Counters of(List<StepCount> steps) {
+            return new Counters(
+                    steps.stream().mapToLong(StepCount::totalAssignments).sum(),
+                    steps.stream().mapToLong(StepCount::completedAssignments).sum(),
+                    steps);
+        }
+    }
+
+    private static final String APPEND_DELTA_SQL = """
+            INSERT INTO campaign_counter_deltas (campaign_id, step_type, completed_delta, created_at)
+            SELECT campaign_id, COALESCE(step_type, 'NONE'), ?, ?
+              FROM campaign_assignments
+             WHERE id = ?
+            """;
+
+    private static final String PENDING_DELTAS_SQL = """
+            SELECT id, campaign_id, step_type, completed_delta
+              FROM campaign_counter_deltas
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String CLAIM_DELTA_SQL = "DELETE FROM campaign_counter_deltas WHERE id = ?";
+
+    private static final String FOLD_DELTA_SQL = """
+            UPDATE campaign_step_counters
+               SET completed_assignments = completed_assignments + ?
+             WHERE campaign_id = ?
+               AND step_type = ?
+            """;
+
+    private static final String CAMPAIGN_DELTAS_SQL = """
+            SELECT id
+              FROM campaign_counter_deltas
+             WHERE campaign_id = ?
+             ORDER BY id
+            """;
+
+    private static final String DELETE_STEPS_SQL = "DELETE FROM campaign_step_counters WHERE campaign_id = ?";
+
+    private static final String RECOUNT_STEPS_SQL = """
+            INSERT INTO campaign_step_counters (campaign_id, step_type, total_assignments, completed_assignments)
+            SELECT campaign_id,
+                   COALESCE(step_type, 'NONE'),
+                   COUNT(*),
+                   SUM(CASE WHEN completed THEN 1 ELSE 0 END)
+              FROM campaign_assignments
+             WHERE campaign_id = ?
+             GROUP BY campaign_id, COALESCE(step_type, 'NONE')
+            """;
+
+    private static final String CAMPAIGN_EXISTS_SQL = "SELECT COUNT(*) FROM campaigns WHERE id = ?";
+
+    private static final String FIND_STEPS_SQL = """
+            SELECT s.step_type,
+                   s.total_assignments,
+                   s.completed_assignments + COALESCE(d.pending, 0) AS completed_assignments
+              FROM campaign_step_counters s
+              LEFT JOIN (SELECT step_type, SUM(completed_delta) AS pending
+                           FROM campaign_counter_deltas
+                          WHERE campaign_id = ?
+                          GROUP BY step_type) d
+                ON d.step_type = s.step_type
+             WHERE s.campaign_id = ?
+             ORDER BY s.step_type
+            """;
+
+    private static final String COUNT_STEPS_SQL = """
+            SELECT COALESCE(step_type, 'NONE') AS step_type,
+                   COUNT(*) AS total_assignments,
+                   SUM(CASE WHEN completed THEN 1 ELSE 0 END) AS completed_assignments
+              FROM campaign_assignments
+             WHERE campaign_id = ?
+             GROUP BY COALESCE(step_type, 'NONE')
+             ORDER BY 1
+            """;
+
+    /** Step counters summed per campaign, plus completion deltas not folded yet. */
+    private static final String FIND_TOTALS_SQL = """
+            SELECT s.campaign_id,
+                   s.total_assignments,
+                   s.completed_assignments + COALESCE(d.pending, 0) AS completed_assignments
+              FROM (SELECT campaign_id,
+                           SUM(total_assignments) AS total_assignments,
+                           SUM(completed_assignments) AS completed_assignments
+                      FROM campaign_step_counters
+                     WHERE campaign_id IN (%1$s)
+                     GROUP BY campaign_id) s
+              LEFT JOIN (SELECT campaign_id, SUM(completed_delta) AS pending
+                           FROM campaign_counter_deltas
+                          WHERE campaign_id IN (%1$s)
+                          GROUP BY campaign_id) d
+                ON d.campaign_id = s.campaign_id
+            """;
+
+    private static final int IN_CHUNK_SIZE = 500;
+
+    private record Delta(long id, String campaignId, String stepType, int completedDelta) {
+    }
+
+    private record StepKey(String campaignId, String stepType) implements Comparable<StepKey> {
+
+        @Override
+        public int compareTo(StepKey other) {
+            int byCampaign = campaignId.compareTo(other.campaignId);
+            return byCampaign != 0 ? byCampaign : stepType.compareTo(other.stepType);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CampaignAssignmentCounters(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    /**
+     * Records {@code delta} against the completed counter of each
+     * assignment's campaign and step; +1 when assignments complete, -1 when
+     * they reopen.
+     */
+    public void adjustCompleted(Collection<String> assignmentIds, int delta) {
+        if (assignmentIds.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(APPEND_DELTA_SQL, assignmentIds.stream()
+                .map(id -> new Object[] { delta, now, id })
+                .toList());
+    }
+
+    /**
+     * Adds up to {@code limit} pending deltas, oldest first, to the step
+     * counters and deletes them. Deltas are claimed by deleting them, so
+     * concurrent folds on several nodes never apply one twice; counter rows
+     * are updated in (campaign, step) order.
+     *
+     * @return number of deltas folded
+     */
+    @Transactional
+    public int fold(int limit) {
+        List<Delta> pending = jdbcTemplate.query(PENDING_DELTAS_SQL, (rs, rowNum) -> new Delta(
+                rs.getLong("id"),
+                rs.getString("campaign_id"),
+                rs.getString("step_type"),
+                rs.getInt("completed_delta")), limit);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        int[] claimed = jdbcTemplate.batchUpdate(CLAIM_DELTA_SQL, pending.stream()
+                .map(delta -> new Object[] { delta.id() })
+                .toList());
+        Map<StepKey, Integer> sums = new TreeMap<>();
+        int folded = 0;
+        for (int i = 0; i < claimed.length; i++) {
+            if (claimed[i] > 0) {
+                Delta delta = pending.get(i);
+                sums.merge(new StepKey(delta.campaignId(), delta.stepType()), delta.completedDelta(), Integer::sum);
+                folded++;
+            }
+        }
+        jdbcTemplate.batchUpdate(FOLD_DELTA_SQL, sums.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> new Object[] { entry.getValue(), entry.getKey().campaignId(), entry.getKey().stepType() })
+                .toList());
+        return folded;
+    }
+
+    /**
+     * Rewrites a campaign's counters from its assignment rows. Pending deltas
+     * are deleted in id order, the order {@link #fold(int)} claims them in.
+     */
+    public void recount(String campaignId) {
+        jdbcTemplate.batchUpdate(CLAIM_DELTA_SQL, jdbcTemplate.queryForList(CAMPAIGN_DELTAS_SQL, Long.class, campaignId)
+                .stream()
+                .map(id -> new Object[] { id })
+                .toList());
+        jdbcTemplate.update(DELETE_STEPS_SQL, campaignId);
+        jdbcTemplate.update(RECOUNT_STEPS_SQL, campaignId);
+    }
+
+    /**
+     * The stored counters including pending deltas, or empty when the
+     * campaign does not exist.
+     */
+    public Optional<Counters> find(String campaignId) {
+        Long campaigns = jdbcTemplate.queryForObject(CAMPAIGN_EXISTS_SQL, Long.class, campaignId);
+        if (campaigns == null || campaigns == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Counters.of(findSteps(campaignId)));
+    }
+
+    /**
+     * The stored per-step counters including pending deltas, ordered by step
+     * type.
+     */
+    public List<StepCount> findSteps(String campaignId) {
+        return querySteps(FIND_STEPS_SQL, campaignId, campaignId);
+    }
+
+    /**
+     * The stored totals including pending deltas per campaign ID; campaigns
+     * without counter rows are absent.
+     */
+    public Map<String, AssignmentTotals> findTotals(Collection<String> campaignIds) {
+        Map<String, AssignmentTotals> totals = new HashMap<>();
+        List<String> ids = campaignIds.stream().distinct().toList();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + IN_CHUNK_SIZE));
+            List<Object> args = new ArrayList<>(chunk.size() * 2);
+            args.addAll(chunk);
+            args.addAll(chunk);
+            jdbcTemplate.query(FIND_TOTALS_SQL.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?"))),
+                    rs -> {
+                        totals.put(rs.getString("campaign_id"), new AssignmentTotals(
+                                rs.getLong("total_assignments"),
+                                rs.getLong("completed_assignments")));
+                    }, args.toArray());
+        }
+        return totals;
+    }
+
+    /**
+     * Counts a campaign's assignment rows directly, for checking the stored
+     * counters.
+     */
+    public Counters count(String campaignId) {
+        return Counters.of(querySteps(COUNT_STEPS_SQL, campaignId));
+    }
+
+    private List<StepCount> querySteps(String sql, Object... args) {
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new StepCount(
+                rs.getString("step_type"),
+                rs.getLong("total_assignments"),
+                rs.getLong("completed_assignments")), args);
+    }
+}
@@ -0,0 +1,86 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.CampaignProgressPort;
+import com.evaluationservice.domain.entity.CampaignAssignment;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Reads a campaign's assignment counts per step from the denormalized
+ * counters maintained by {@link CampaignAssignmentCounters}. In JSON
+ * assignment storage mode the embedded assignments remain the source of
+ * truth, so the campaign is loaded and counted in memory.
+ */
+@Component
+public class CampaignProgressAdapter implements CampaignProgressPort {
+
+    private final CampaignAssignmentCounters counters;
+    private final CampaignPersistencePort campaignPersistencePort;
+    private final EvaluationServiceProperties.AssignmentStorageMode assignmentStorageMode;
+
+    public CampaignProgressAdapter(
+            CampaignAssignmentCounters counters,
+            CampaignPersistencePort campaignPersistencePort,
+            EvaluationServiceProperties properties) {
+        this.counters = Objects.requireNonNull(counters);
+        this.campaignPersistencePort = Objects.requireNonNull(campaignPersistencePort);
+        this.assignmentStorageMode = properties.getAssignment().getStorageMode();
+    }
+
+    @Override
+    public List<StepCount> countByStep(CampaignId campaignId) {
+        if (assignmentStorageMode == EvaluationServiceProperties.AssignmentStorageMode.JSON) {
+            return countInCampaign(campaignId);
+        }
+        return counters.findSteps(campaignId.value());
+    }
+
+    @Override
+    public Map<CampaignId, AssignmentTotals> countAssignments(Collection<CampaignId> campaignIds) {
+        Map<CampaignId, AssignmentTotals> totals = new HashMap<>();
+        if (assignmentStorageMode == EvaluationServiceProperties.AssignmentStorageMode.JSON) {
+            for (CampaignId campaignId : campaignIds) {
+                long total = 0;
+                long completed = 0;
+                for (StepCount step : countInCampaign(campaignId)) {
+                    total += step.totalAssignments();
+                    completed += step.completedAssignments();
+                }
+                if (total > 0) {
+                    totals.put(campaignId, new AssignmentTotals(total, completed));
+                }
+            }
+            return totals;
+        }
+        counters.findTotals(campaignIds.stream().map(CampaignId::value).toList())
+                .forEach((campaignId, counts) -> totals.put(CampaignId.of(campaignId), counts));
+        return totals;
+    }
+
+    private List<StepCount> countInCampaign(CampaignId campaignId) {
+        Map<String, long[]> counts = new TreeMap<>();
+        campaignPersistencePort.findById(campaignId).ifPresent(campaign -> {
+            for (CampaignAssignment assignment : campaign.getAssignments()) {
+                String step = assignment.getStepType() != null ? assignment.getStepType() : NO_STEP;
+                long[] count = counts.computeIfAbsent(step, key -> new long[2]);
+                count[0]++;
+                if (assignment.isCompleted()) {
+                    count[1]++;
+                }
+            }
+        });
+        return counts.entrySet().stream()
+                .map(entry -> new StepCount(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .toList();
+    }
+}
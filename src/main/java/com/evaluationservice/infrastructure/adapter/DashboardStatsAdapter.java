@@ -0,0 +1,303 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.DashboardStatsPort;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import com.evaluationservice.infrastructure.entity.CampaignStatsEntity;
+import com.evaluationservice.infrastructure.repository.CampaignStatsRepository;
+import com.evaluationservice.infrastructure.repository.DashboardStatsRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Dashboard counters over {@code campaign_stats} and the single
+ * {@code dashboard_stats} row. Reading the dashboard is one primary-key
+ * lookup; refreshing a campaign touches its own row and the totals row.
+ * Rows are read, and a campaign's row saved, through Spring Data; the totals
+ * row is created with {@code ON CONFLICT DO NOTHING}, locked with
+ * {@code FOR UPDATE} and adjusted in place with JDBC, and reconciliation
+ * inserts every campaign's row in one JDBC batch.
+ * Flushes take a campaign's counts from the maintained assignment counters,
+ * reconciliation counts {@code campaign_assignments}; neither loads
+ * assignments.
+ */
+@Component
+public class DashboardStatsAdapter implements DashboardStatsPort {
+
+    private static final short TOTALS_ID = 1;
+
+    private static final String INSERT_TOTALS_SQL = """
+            INSERT INTO dashboard_stats (id, total_campaigns, active_campaigns, total_templates,
+                                         total_assignments, completed_assignments, updated_at)
+            VALUES (?, 0, 0, 0, 0, 0, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String LOCK_TOTALS_SQL = "SELECT id FROM dashboard_stats WHERE id = ? FOR UPDATE";
+
+    private static final String INSERT_CAMPAIGN_SQL = """
+            INSERT INTO campaign_stats (status, total_assignments, completed_assignments, updated_at, campaign_id)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String ADD_TOTALS_SQL = """
+            UPDATE dashboard_stats
+               SET total_campaigns = total_campaigns + ?,
+                   active_campaigns = active_campaigns + ?,
+                   total_assignments = total_assignments + ?,
+                   completed_assignments = completed_assignments + ?,
+                   updated_at = ?
+             WHERE id = ?
+            """;
+
+    private static final String UPDATE_TEMPLATES_SQL = """
+            UPDATE dashboard_stats
+               SET total_templates = ?, updated_at = ?
+             WHERE id = ?
+            """;
+
+    private static final String REPLACE_TOTALS_SQL = """
+            UPDATE dashboard_stats
+               SET total_campaigns = ?, active_campaigns = ?, total_templates = ?,
+                   total_assignments = ?, completed_assignments = ?, reconciled_at = ?, updated_at = ?
+             WHERE id = ?
+            """;
+
+    /** Maintained step counters plus completion deltas not folded yet. */
+    private static final String COUNT_CAMPAIGNS_SQL = """
+            SELECT c.id, c.status,
+                   COALESCE(s.total_assignments, 0) AS total_assignments,
+                   COALESCE(s.completed_assignments, 0) + COALESCE(d.pending, 0) AS completed_assignments
+              FROM campaigns c
+              LEFT JOIN (SELECT campaign_id,
+                                SUM(total_assignments) AS total_assignments,
+                                SUM(completed_assignments) AS completed_assignments
+                           FROM campaign_step_counters
+                          WHERE campaign_id IN (%1$s)
+                          GROUP BY campaign_id) s
+                ON s.campaign_id = c.id
+              LEFT JOIN (SELECT campaign_id, SUM(completed_delta) AS pending
+                           FROM campaign_counter_deltas
+                          WHERE campaign_id IN (%1$s)
+                          GROUP BY campaign_id) d
+                ON d.campaign_id = c.id
+             WHERE c.id IN (%1$s)
+            """;
+
+    private static final String COUNT_ALL_CAMPAIGNS_SQL = """
+            SELECT c.id, c.status,
+                   COUNT(a.id) AS total_assignments,
+                   COALESCE(SUM(CASE WHEN a.completed THEN 1 ELSE 0 END), 0) AS completed_assignments
+              FROM campaigns c
+              LEFT JOIN campaign_assignments a ON a.campaign_id = c.id
+             GROUP BY c.id, c.status
+            """;
+
+    private static final String JSON_CAMPAIGNS_SQL = "SELECT id, status, assignments_json FROM campaigns";
+
+    private static final int IN_CHUNK_SIZE = 500;
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final DashboardStatsRepository totalsRepository;
+    private final CampaignStatsRepository campaignRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean relationalAssignments;
+
+    public DashboardStatsAdapter(
+            DashboardStatsRepository totalsRepository,
+            CampaignStatsRepository campaignRepository,
+            JdbcTemplate jdbcTemplate,
+            EvaluationServiceProperties properties) {
+        this.totalsRepository = Objects.requireNonNull(totalsRepository);
+        this.campaignRepository = Objects.requireNonNull(campaignRepository);
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.relationalAssignments = properties.getAssignment().getStorageMode()
+                != EvaluationServiceProperties.AssignmentStorageMode.JSON;
+    }
+
+    @Override
+    public Optional<DashboardCounters> find() {
+        return totalsRepository.findByIdAndReconciledAtIsNotNull(TOTALS_ID).map(row -> new DashboardCounters(
+                row.getTotalCampaigns(),
+                row.getActiveCampaigns(),
+                row.getTotalTemplates(),
+                row.getTotalAssignments(),
+                row.getCompletedAssignments(),
+                row.getReconciledAt()));
+    }
+
+    @Override
+    public void lockTotals() {
+        jdbcTemplate.update(INSERT_TOTALS_SQL, TOTALS_ID, OffsetDateTime.now(ZoneOffset.UTC));
+        jdbcTemplate.queryForList(LOCK_TOTALS_SQL, Short.class, TOTALS_ID);
+    }
+
+    @Override
+    public CampaignCounters findCampaign(CampaignId campaignId) {
+        return campaignRepository.findById(campaignId.value()).map(row -> new CampaignCounters(
+                row.getStatus() == null ? null : CampaignStatus.valueOf(row.getStatus()),
+                row.getTotalAssignments(),
+                row.getCompletedAssignments())).orElse(CampaignCounters.NONE);
+    }
+
+    @Override
+    public void updateCampaign(CampaignId campaignId, CampaignCounters previous, CampaignCounters current) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        // Usually already loaded by findCampaign in this transaction
+        CampaignStatsEntity row = campaignRepository.findById(campaignId.value()).orElseGet(() -> {
+            CampaignStatsEntity created = new CampaignStatsEntity();
+            created.setCampaignId(campaignId.value());
+            return created;
+        });
+        row.setStatus(current.status() == null ? null : current.status().name());
+        row.setTotalAssignments(current.totalAssignments());
+        row.setCompletedAssignments(current.completedAssignments());
+        row.setUpdatedAt(now.toInstant());
+        campaignRepository.save(row);
+        jdbcTemplate.update(ADD_TOTALS_SQL,
+                counted(current) - counted(previous),
+                active(current) - active(previous),
+                current.totalAssignments() - previous.totalAssignments(),
+                current.completedAssignments() - previous.completedAssignments(),
+                now,
+                TOTALS_ID);
+    }
+
+    @Override
+    public void updateTemplates(long totalTemplates) {
+        jdbcTemplate.update(UPDATE_TEMPLATES_SQL, totalTemplates, OffsetDateTime.now(ZoneOffset.UTC), TOTALS_ID);
+    }
+
+    @Override
+    public Map<CampaignId, CampaignCounters> countCampaigns(Collection<CampaignId> campaignIds) {
+        Map<CampaignId, CampaignCounters> counters = new LinkedHashMap<>();
+        List<String> ids = campaignIds.stream().map(CampaignId::value).distinct().toList();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + IN_CHUNK_SIZE));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            if (relationalAssignments) {
+                List<Object> args = new ArrayList<>(chunk.size() * 3);
+                args.addAll(chunk);
+                args.addAll(chunk);
+                args.addAll(chunk);
+                jdbcTemplate.query(COUNT_CAMPAIGNS_SQL.formatted(placeholders),
+                        rs -> { counters.put(campaignId(rs), counted(rs)); }, args.toArray());
+            } else {
+                jdbcTemplate.query(JSON_CAMPAIGNS_SQL + " WHERE id IN (" + placeholders + ")",
+                        rs -> { counters.put(campaignId(rs), countedFromJson(rs)); }, chunk.toArray());
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * In JSON storage mode the assignment array is read as a tree and
+     * counted, one campaign at a time, without building assignments.
+     */
+    @Override
+    public Map<CampaignId, CampaignCounters> countAllCampaigns() {
+        Map<CampaignId, CampaignCounters> counters = new LinkedHashMap<>();
+        if (relationalAssignments) {
+            jdbcTemplate.query(COUNT_ALL_CAMPAIGNS_SQL, rs -> { counters.put(campaignId(rs), counted(rs)); });
+        } else {
+            jdbcTemplate.query(JSON_CAMPAIGNS_SQL, rs -> { counters.put(campaignId(rs), countedFromJson(rs)); });
+        }
+        return counters;
+    }
+
+    @Override
+    public DashboardCounters replaceAll(Map<CampaignId, CampaignCounters> campaigns, long totalTemplates) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        long totalCampaigns = 0;
+        long activeCampaigns = 0;
+        long totalAssignments = 0;
+        long completedAssignments = 0;
+        List<Object[]> rows = new ArrayList<>(campaigns.size());
+        for (Map.Entry<CampaignId, CampaignCounters> entry : campaigns.entrySet()) {
+            CampaignCounters counters = entry.getValue();
+            rows.add(campaignRow(entry.getKey(), counters, now));
+            totalCampaigns += counted(counters);
+            activeCampaigns += active(counters);
+            totalAssignments += counters.totalAssignments();
+            completedAssignments += counters.completedAssignments();
+        }
+        campaignRepository.deleteAllInBatch();
+        jdbcTemplate.batchUpdate(INSERT_CAMPAIGN_SQL, rows);
+        jdbcTemplate.update(REPLACE_TOTALS_SQL,
+                totalCampaigns,
+                activeCampaigns,
+                totalTemplates,
+                totalAssignments,
+                completedAssignments,
+                now,
+                now,
+                TOTALS_ID);
+        return new DashboardCounters(totalCampaigns, activeCampaigns, totalTemplates,
+                totalAssignments, completedAssignments, now.toInstant());
+    }
+
+    private static CampaignId campaignId(ResultSet rs) throws SQLException {
+        return CampaignId.of(rs.getString("id"));
+    }
+
+    private static CampaignCounters counted(ResultSet rs) throws SQLException {
+        return new CampaignCounters(
+                CampaignStatus.valueOf(rs.getString("status")),
+                rs.getLong("total_assignments"),
+                rs.getLong("completed_assignments"));
+    }
+
+    private static CampaignCounters countedFromJson(ResultSet rs) throws SQLException {
+        String json = rs.getString("assignments_json");
+        long total = 0;
+        long completed = 0;
+        if (json != null && !json.isBlank()) {
+            try {
+                for (JsonNode assignment : JSON.readTree(json)) {
+                    total++;
+                    if (assignment.path("completed").asBoolean(false)) {
+                        completed++;
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to read assignments of campaign " + rs.getString("id"), e);
+            }
+        }
+        return new CampaignCounters(CampaignStatus.valueOf(rs.getString("status")), total, completed);
+    }
+
+    private static Object[] campaignRow(CampaignId campaignId, CampaignCounters counters, OffsetDateTime now) {
+        return new Object[] {
+                counters.status() == null ? null : counters.status().name(),
+                counters.totalAssignments(),
+                counters.completedAssignments(),
+                now,
+                campaignId.value() };
+    }
+
+    private static long counted(CampaignCounters counters) {
+        return counters.status() == null ? 0 : 1;
+    }
+
+    private static long active(CampaignCounters counters) {
+        return counters.status() == CampaignStatus.ACTIVE ? 1 : 0;
+    }
+}
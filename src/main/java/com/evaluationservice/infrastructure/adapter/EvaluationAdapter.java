@@ -5,24 +5,86 @@ import com.evaluationservice.domain.entity.Evaluation;
 import com.evaluationservice.domain.enums.EvaluationStatus;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.infrastructure.entity.EvaluationEntity;
 import com.evaluationservice.infrastructure.mapper.DomainEntityMapper;
 import com.evaluationservice.infrastructure.repository.EvaluationJpaRepository;
 
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Component
 public class EvaluationAdapter implements EvaluationPersistencePort {
 
+    private static final String UPDATE_SQL = """
+            UPDATE evaluations
+               SET status = ?,
+                   answers_json = ?,
+                   total_score = ?,
+                   section_scores_json = ?,
+                   updated_at = ?,
+                   submitted_at = ?
+             WHERE id = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO evaluations (
+                id, campaign_id, assignment_id, evaluator_id, evaluatee_id, template_id, status,
+                answers_json, total_score, section_scores_json, created_at, updated_at, submitted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String UPDATE_FAILURE_SQL = """
+            UPDATE scoring_failures
+               SET attempts = attempts + 1,
+                   last_error = ?,
+                   updated_at = ?
+             WHERE evaluation_id = ?
+            """;
+
+    private static final String INSERT_FAILURE_SQL = """
+            INSERT INTO scoring_failures (evaluation_id, attempts, last_error, updated_at)
+            VALUES (?, 1, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SELECT_ATTEMPTS_SQL = """
+            SELECT attempts FROM scoring_failures WHERE evaluation_id = ?
+            """;
+
+    private static final String RETRY_FAILURE_SQL = """
+            UPDATE scoring_failures
+               SET next_attempt_at = ?,
+                   updated_at = ?
+             WHERE evaluation_id = ?
+            """;
+
+    private static final String DEAD_LETTER_SQL = """
+            UPDATE scoring_failures
+               SET next_attempt_at = NULL,
+                   dead_lettered_at = ?,
+                   updated_at = ?
+             WHERE evaluation_id = ?
+            """;
+
     private final EvaluationJpaRepository repository;
     private final DomainEntityMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
-    public EvaluationAdapter(EvaluationJpaRepository repository, DomainEntityMapper mapper) {
+    public EvaluationAdapter(EvaluationJpaRepository repository, DomainEntityMapper mapper, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -32,18 +94,130 @@ public class EvaluationAdapter implements EvaluationPersistencePort {
         return mapper.toDomainEvaluation(saved);
     }
 
+    /**
+     * One batched UPDATE for all rows, then one batched INSERT for the rows it
+     * did not find. Bypasses the persistence context, so callers must not rely
+     * on entities loaded earlier in the same transaction afterwards.
+     */
+    @Override
+    public void saveAll(List<Evaluation> evaluations) {
+        if (evaluations == null || evaluations.isEmpty()) {
+            return;
+        }
+        List<EvaluationEntity> entities = evaluations.stream()
+                .map(mapper::toJpaEntity)
+                .toList();
+
+        List<Object[]> updates = entities.stream()
+                .map(e -> new Object[] {
+                        e.getStatus(),
+                        e.getAnswersJson(),
+                        e.getTotalScore(),
+                        e.getSectionScoresJson(),
+                        utc(e.getUpdatedAt()),
+                        utc(e.getSubmittedAt()),
+                        e.getId() })
+                .toList();
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            if (updated[i] != 0) {
+                continue;
+            }
+            EvaluationEntity e = entities.get(i);
+            inserts.add(new Object[] {
+                    e.getId(),
+                    e.getCampaignId(),
+                    e.getAssignmentId(),
+                    e.getEvaluatorId(),
+                    e.getEvaluateeId(),
+                    e.getTemplateId(),
+                    e.getStatus(),
+                    e.getAnswersJson(),
+                    e.getTotalScore(),
+                    e.getSectionScoresJson(),
+                    utc(e.getCreatedAt()),
+                    utc(e.getUpdatedAt()),
+                    utc(e.getSubmittedAt()) });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    @Override
+    public boolean completeScoring(Evaluation evaluation) {
+        var entity = mapper.toJpaEntity(evaluation);
+        return repository.completeScoring(
+                entity.getId(),
+                entity.getTotalScore(),
+                entity.getSectionScoresJson(),
+                entity.getUpdatedAt()) > 0;
+    }
+
+    @Override
+    public List<EvaluationId> findScoringDue(Instant updatedBefore, Instant now, int limit) {
+        return repository.findScoringDue(updatedBefore, now, PageRequest.of(0, Math.max(limit, 1)))
+                .stream()
+                .map(EvaluationId::of)
+                .toList();
+    }
+
+    @Override
+    public int recordScoringFailure(EvaluationId evaluationId, String error) {
+        String id = evaluationId.value();
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        if (jdbcTemplate.update(UPDATE_FAILURE_SQL, lastError, now, id) == 0
+                && jdbcTemplate.update(INSERT_FAILURE_SQL, id, lastError, now) == 0) {
+            // Another worker inserted the row first.
+            jdbcTemplate.update(UPDATE_FAILURE_SQL, lastError, now, id);
+        }
+        Integer attempts = jdbcTemplate.queryForObject(SELECT_ATTEMPTS_SQL, Integer.class, id);
+        return attempts != null ? attempts : 1;
+    }
+
+    @Override
+    public void deferScoring(EvaluationId evaluationId, Instant nextAttemptAt) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        if (nextAttemptAt != null) {
+            jdbcTemplate.update(RETRY_FAILURE_SQL, utc(nextAttemptAt), now, evaluationId.value());
+        } else {
+            jdbcTemplate.update(DEAD_LETTER_SQL, now, now, evaluationId.value());
+        }
+    }
+
     @Override
     public Optional<Evaluation> findById(EvaluationId evaluationId) {
         return repository.findById(evaluationId.value())
                 .map(mapper::toDomainEvaluation);
     }
 
+    @Override
+    public Optional<Evaluation> findByIdForUpdate(EvaluationId evaluationId) {
+        return repository.findByIdForUpdate(evaluationId.value())
+                .map(mapper::toDomainEvaluation);
+    }
+
     @Override
     public Optional<Evaluation> findByAssignmentId(String assignmentId) {
         return repository.findByAssignmentId(assignmentId)
                 .map(mapper::toDomainEvaluation);
     }
 
+    @Override
+    public List<Evaluation> findByAssignmentIds(Collection<String> assignmentIds) {
+        if (assignmentIds == null || assignmentIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findByAssignmentIdIn(assignmentIds).stream()
+                .map(mapper::toDomainEvaluation)
+                .toList();
+    }
+
     @Override
     public List<Evaluation> findByCampaignId(CampaignId campaignId, int page, int size) {
         return repository.findByCampaignId(campaignId.value(), PageRequest.of(page, size))
@@ -88,4 +262,8 @@ public class EvaluationAdapter implements EvaluationPersistencePort {
                 .map(mapper::toDomainEvaluation)
                 .toList();
     }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+    }
 }
@@ -0,0 +1,129 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.EvaluationExportPort;
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Streams evaluations through a forward-only, read-only JDBC cursor. With a
+ * fetch size inside a transaction the PostgreSQL driver pulls rows in batches
+ * instead of buffering the whole result. Rows come in storage order so the
+ * first one is available without a sort.
+ */
+@Component
+public class EvaluationExportAdapter implements EvaluationExportPort {
+
+    private static final String COMPLETED_SQL = """
+            SELECT id, assignment_id, evaluator_id, evaluatee_id, total_score, submitted_at, section_scores_json
+              FROM evaluations
+             WHERE campaign_id = ?
+               AND status = 'COMPLETED'
+            """;
+
+    private static final String COMPLETED_ANSWERS_SQL = """
+            SELECT id, assignment_id, evaluator_id, evaluatee_id, submitted_at, answers_json
+              FROM evaluations
+             WHERE campaign_id = ?
+               AND status = 'COMPLETED'
+            """;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final ObjectReader ANSWERS_READER = JSON.readerFor(new TypeReference<List<Answer>>() {
+    });
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public EvaluationExportAdapter(JdbcTemplate jdbcTemplate, EvaluationServiceProperties properties) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.fetchSize = Math.max(1, properties.getReports().getExportFetchSize());
+    }
+
+    @Override
+    public void forEachCompleted(CampaignId campaignId, Consumer<EvaluationResultRow> consumer) {
+        stream(COMPLETED_SQL, campaignId, rs -> consumer.accept(new EvaluationResultRow(
+                rs.getString("id"),
+                rs.getString("assignment_id"),
+                rs.getString("evaluator_id"),
+                rs.getString("evaluatee_id"),
+                rs.getBigDecimal("total_score"),
+                instant(rs.getTimestamp("submitted_at")),
+                sectionScores(rs.getString("section_scores_json")))));
+    }
+
+    @Override
+    public void forEachCompletedAnswers(CampaignId campaignId, Consumer<EvaluationAnswersRow> consumer) {
+        stream(COMPLETED_ANSWERS_SQL, campaignId, rs -> consumer.accept(new EvaluationAnswersRow(
+                rs.getString("id"),
+                rs.getString("assignment_id"),
+                rs.getString("evaluator_id"),
+                rs.getString("evaluatee_id"),
+                instant(rs.getTimestamp("submitted_at")),
+                answers(rs.getString("answers_json")))));
+    }
+
+    private void stream(String sql, CampaignId campaignId, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setString(1, campaignId.value());
+            return statement;
+        }, handler);
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    private static List<Answer> answers(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return ANSWERS_READER.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read answers", e);
+        }
+    }
+
+    private static Map<String, BigDecimal> sectionScores(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            JsonNode sections = JSON.readTree(json);
+            Map<String, BigDecimal> scores = new HashMap<>();
+            for (JsonNode section : sections) {
+                JsonNode value = section.path("score").path("value");
+                if (section.hasNonNull("sectionId") && value.isNumber()) {
+                    scores.putIfAbsent(section.get("sectionId").asText(), value.decimalValue());
+                }
+            }
+            return scores;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read section scores", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.EvaluatorInboxPort;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * JDBC-backed evaluator inbox over {@code campaign_assignments} joined to
+ * the campaign header columns. The (evaluator_id, completed, campaign_id)
+ * index narrows the scan to the caller's rows; only one page of them is
+ * returned.
+ * <p>
+ * JSON assignment storage has no assignment rows to query, so in that mode
+ * the evaluator's campaigns are loaded and filtered in memory as before;
+ * {@link #findAll} loads them once rather than once per page.
+ */
+@Component
+public class EvaluatorInboxAdapter implements EvaluatorInboxPort {
+
+    private static final int FIND_ALL_PAGE_SIZE = 500;
+
+    private static final Comparator<InboxRow> ORDER = Comparator
+            .comparing(InboxRow::endDate)
+            .thenComparing(InboxRow::campaignId)
+            .thenComparing(InboxRow::assignmentId);
+
+    private static final String SELECT_SQL = """
+            SELECT a.id, a.campaign_id, c.name, c.status, c.end_date, a.evaluatee_id, a.completed, a.evaluation_id
+              FROM campaign_assignments a
+              JOIN campaigns c ON c.id = a.campaign_id
+             WHERE a.evaluator_id = ?
+            """;
+
+    private static final String ORDER_SQL = """
+             ORDER BY c.end_date, a.campaign_id, a.id
+             LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CampaignPersistencePort campaignPersistencePort;
+    private final EvaluationServiceProperties.AssignmentStorageMode assignmentStorageMode;
+
+    public EvaluatorInboxAdapter(
+            JdbcTemplate jdbcTemplate,
+            CampaignPersistencePort campaignPersistencePort,
+            EvaluationServiceProperties properties) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.campaignPersistencePort = Objects.requireNonNull(campaignPersistencePort);
+        this.assignmentStorageMode = properties.getAssignment().getStorageMode();
+    }
+
+    @Override
+    public List<InboxRow> findPage(String evaluatorId, InboxFilter filter, InboxPosition after, int limit) {
+        if (assignmentStorageMode == EvaluationServiceProperties.AssignmentStorageMode.JSON) {
+            return findPageInCampaigns(evaluatorId, filter, after, limit);
+        }
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(evaluatorId);
+        if (filter.completed() != null) {
+            sql.append("   AND a.completed = ?\n");
+            args.add(filter.completed());
+        }
+        if (filter.dueBefore() != null) {
+            sql.append("   AND c.end_date <= ?\n");
+            args.add(Timestamp.from(filter.dueBefore()));
+        }
+        if (after != null) {
+            sql.append("   AND (c.end_date, a.campaign_id, a.id) > (?, ?, ?)\n");
+            args.add(Timestamp.from(after.endDate()));
+            args.add(after.campaignId());
+            args.add(after.assignmentId());
+        }
+        sql.append(ORDER_SQL);
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new InboxRow(
+                rs.getString("id"),
+                rs.getString("campaign_id"),
+                rs.getString("name"),
+                CampaignStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("end_date").toInstant(),
+                rs.getString("evaluatee_id"),
+                rs.getBoolean("completed"),
+                rs.getString("evaluation_id")), args.toArray());
+    }
+
+    @Override
+    public List<InboxRow> findAll(String evaluatorId, InboxFilter filter) {
+        if (assignmentStorageMode == EvaluationServiceProperties.AssignmentStorageMode.JSON) {
+            return rowsInCampaigns(evaluatorId, filter).sorted(ORDER).toList();
+        }
+        List<InboxRow> all = new ArrayList<>();
+        InboxPosition after = null;
+        while (true) {
+            List<InboxRow> rows = findPage(evaluatorId, filter, after, FIND_ALL_PAGE_SIZE);
+            all.addAll(rows);
+            if (rows.size() < FIND_ALL_PAGE_SIZE) {
+                return all;
+            }
+            after = rows.getLast().position();
+        }
+    }
+
+    private List<InboxRow> findPageInCampaigns(
+            String evaluatorId, InboxFilter filter, InboxPosition after, int limit) {
+        return rowsInCampaigns(evaluatorId, filter)
+                .filter(row -> after == null || ORDER.compare(row, positionRow(after)) > 0)
+                .sorted(ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    private Stream<InboxRow> rowsInCampaigns(String evaluatorId, InboxFilter filter) {
+        return campaignPersistencePort.findByEvaluatorId(evaluatorId).stream()
+                .filter(c -> filter.dueBefore() == null || !c.getDateRange().endDate().isAfter(filter.dueBefore()))
+                .flatMap(c -> c.getAssignments().stream()
+                        .filter(a -> a.getEvaluatorId().equals(evaluatorId))
+                        .filter(a -> filter.completed() == null || a.isCompleted() == filter.completed())
+                        .map(a -> new InboxRow(
+                                a.getId(),
+                                c.getId().value(),
+                                c.getName(),
+                                c.getStatus(),
+                                c.getDateRange().endDate(),
+                                a.getEvaluateeId(),
+                                a.isCompleted(),
+                                a.getEvaluationId())));
+    }
+
+    private static InboxRow positionRow(InboxPosition position) {
+        return new InboxRow(position.assignmentId(), position.campaignId(), null, null,
+                position.endDate(), null, false, null);
+    }
+}
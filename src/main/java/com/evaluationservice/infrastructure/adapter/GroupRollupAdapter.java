@@ -0,0 +1,218 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.GroupRollupPersistencePort;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.ScoreAggregate;
+import com.evaluationservice.infrastructure.repository.GroupRollupRebuildRepository;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * JDBC-backed rollup cube over {@code group_score_rollups}. Drill-down reads
+ * go from the parent index on {@code audience_groups} straight to the cube's
+ * primary key, so they touch only the rows returned. The cell with group ID
+ * {@code ''} marks a campaign's cube as built; pending rebuilds are kept in
+ * {@code group_rollup_rebuilds}, found and claimed through
+ * {@link GroupRollupRebuildRepository} and requested with an insert that
+ * ignores an already pending request.
+ */
+@Component
+public class GroupRollupAdapter implements GroupRollupPersistencePort {
+
+    private static final String BUILT_MARKER = "";
+    private static final int IN_CHUNK_SIZE = 500;
+
+    private static final String MEMBERSHIPS_SQL = """
+            SELECT m.person_id, m.group_id
+              FROM audience_memberships m
+              JOIN audience_groups g ON g.id = m.group_id
+             WHERE m.person_id IN (%s)
+               AND m.active = TRUE
+               AND g.active = TRUE
+               AND (m.valid_from IS NULL OR m.valid_from <= ?)
+               AND (m.valid_to IS NULL OR m.valid_to > ?)
+            """;
+
+    private static final String GROUPS_SQL = """
+            SELECT id, parent_group_id, group_type, name
+              FROM audience_groups
+             WHERE id IN (%s)
+            """;
+
+    private static final String IS_BUILT_SQL = """
+            SELECT COUNT(*)
+              FROM group_score_rollups
+             WHERE campaign_id = ? AND group_id = '' AND section_key = ''
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM group_score_rollups WHERE campaign_id = ?";
+
+    private static final String REQUEST_REBUILD_SQL = """
+            INSERT INTO group_rollup_rebuilds (campaign_id, requested_at)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO group_score_rollups (
+                campaign_id, group_id, section_key, member_count,
+                score_count, score_sum, score_sum_squares, score_min, score_max, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String CELLS_SQL = """
+            SELECT g.id, g.parent_group_id, g.group_type, g.name,
+                   r.section_key, r.member_count,
+                   r.score_count, r.score_sum, r.score_sum_squares, r.score_min, r.score_max
+              FROM group_score_rollups r
+              JOIN audience_groups g ON g.id = r.group_id
+             WHERE r.campaign_id = ?
+            """;
+
+    private static final RowMapper<GroupRollupRow> CELL_MAPPER = (rs, rowNum) -> new GroupRollupRow(
+            new GroupNode(rs.getString("id"), rs.getString("parent_group_id"),
+                    rs.getString("group_type"), rs.getString("name")),
+            rs.getString("section_key"),
+            rs.getInt("member_count"),
+            new ScoreAggregate(
+                    rs.getLong("score_count"),
+                    rs.getDouble("score_sum"),
+                    rs.getDouble("score_sum_squares"),
+                    rs.getDouble("score_min"),
+                    rs.getDouble("score_max")));
+
+    private final GroupRollupRebuildRepository rebuildRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public GroupRollupAdapter(GroupRollupRebuildRepository rebuildRepository, JdbcTemplate jdbcTemplate) {
+        this.rebuildRepository = Objects.requireNonNull(rebuildRepository);
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    @Override
+    public Map<String, List<String>> findGroupIdsByPerson(Collection<String> personIds) {
+        Map<String, Set<String>> groupIds = new LinkedHashMap<>();
+        Timestamp now = Timestamp.from(Instant.now());
+        for (List<String> chunk : chunks(personIds)) {
+            List<Object> args = new ArrayList<>(chunk);
+            args.add(now);
+            args.add(now);
+            jdbcTemplate.query(MEMBERSHIPS_SQL.formatted(placeholders(chunk.size())), rs -> {
+                groupIds.computeIfAbsent(rs.getString("person_id"), ignored -> new LinkedHashSet<>())
+                        .add(rs.getString("group_id"));
+            }, args.toArray());
+        }
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        groupIds.forEach((personId, groups) -> result.put(personId, List.copyOf(groups)));
+        return result;
+    }
+
+    @Override
+    public Map<String, GroupNode> findGroups(Collection<String> groupIds) {
+        Map<String, GroupNode> groups = new LinkedHashMap<>();
+        for (List<String> chunk : chunks(groupIds)) {
+            jdbcTemplate.query(GROUPS_SQL.formatted(placeholders(chunk.size())), rs -> {
+                groups.put(rs.getString("id"), new GroupNode(rs.getString("id"), rs.getString("parent_group_id"),
+                        rs.getString("group_type"), rs.getString("name")));
+            }, chunk.toArray());
+        }
+        return groups;
+    }
+
+    @Override
+    public boolean isBuilt(CampaignId campaignId) {
+        Long rows = jdbcTemplate.queryForObject(IS_BUILT_SQL, Long.class, campaignId.value());
+        return rows != null && rows > 0;
+    }
+
+    @Override
+    public void replace(CampaignId campaignId, List<GroupRollupRow> rows) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<Object[]> cells = new ArrayList<>(rows.size() + 1);
+        for (GroupRollupRow row : rows) {
+            ScoreAggregate aggregate = row.aggregate();
+            cells.add(new Object[] {
+                    campaignId.value(),
+                    row.group().groupId(),
+                    row.sectionKey(),
+                    row.memberCount(),
+                    aggregate.count(),
+                    aggregate.sum(),
+                    aggregate.sumOfSquares(),
+                    aggregate.min(),
+                    aggregate.max(),
+                    now });
+        }
+        cells.add(new Object[] { campaignId.value(), BUILT_MARKER, "", 0, 0L, 0.0, 0.0, 0.0, 0.0, now });
+        jdbcTemplate.update(DELETE_SQL, campaignId.value());
+        // A concurrent rebuild writes the same cells; whichever lands second is skipped
+        jdbcTemplate.batchUpdate(INSERT_SQL, cells);
+    }
+
+    @Override
+    public void requestRebuild(CampaignId campaignId) {
+        jdbcTemplate.update(REQUEST_REBUILD_SQL, campaignId.value(), OffsetDateTime.now(ZoneOffset.UTC));
+    }
+
+    @Override
+    public List<CampaignId> findRebuildRequests(Instant requestedBefore, int limit) {
+        return rebuildRepository.findByRequestedAtBeforeOrderByRequestedAt(requestedBefore, PageRequest.of(0, limit))
+                .stream()
+                .map(request -> CampaignId.of(request.getCampaignId()))
+                .toList();
+    }
+
+    @Override
+    public boolean claimRebuild(CampaignId campaignId) {
+        return rebuildRepository.deleteByCampaignId(campaignId.value()) > 0;
+    }
+
+    @Override
+    public List<GroupRollupRow> findByGroup(CampaignId campaignId, String groupId) {
+        return jdbcTemplate.query(CELLS_SQL + " AND r.group_id = ?", CELL_MAPPER, campaignId.value(), groupId);
+    }
+
+    @Override
+    public List<GroupRollupRow> findByParent(CampaignId campaignId, String parentGroupId) {
+        if (parentGroupId == null) {
+            return jdbcTemplate.query(CELLS_SQL + " AND g.parent_group_id IS NULL ORDER BY g.name, g.id",
+                    CELL_MAPPER, campaignId.value());
+        }
+        return jdbcTemplate.query(CELLS_SQL + " AND g.parent_group_id = ? ORDER BY g.name, g.id",
+                CELL_MAPPER, campaignId.value(), parentGroupId);
+    }
+
+    private static List<List<String>> chunks(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> all = List.copyOf(new LinkedHashSet<>(ids));
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(all.subList(from, Math.min(all.size(), from + IN_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,167 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.ReportSnapshotPort;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import com.evaluationservice.infrastructure.entity.ReportSnapshotEntity;
+import com.evaluationservice.infrastructure.repository.ReportSnapshotRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Report snapshot store. Each report is a gzip-compressed JSON
+ * document in its own row, so reading one evaluatee's report touches one
+ * row. Snapshots are serialized and compressed on virtual threads, at most
+ * {@code evaluation.service.reports.snapshot-parallelism} at a time.
+ * Reads and deletes go through {@link ReportSnapshotRepository}; the rows of
+ * a snapshot are inserted in one JDBC batch, where {@code saveAll} would
+ * first select each assigned key.
+ */
+@Component
+public class ReportSnapshotAdapter implements ReportSnapshotPort {
+
+    /** Evaluatee ID of the campaign report row. */
+    private static final String CAMPAIGN_REPORT = "";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO report_snapshots (campaign_id, evaluatee_id, payload, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final ReportSnapshotRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int parallelism;
+
+    public ReportSnapshotAdapter(
+            ReportSnapshotRepository repository,
+            JdbcTemplate jdbcTemplate,
+            EvaluationServiceProperties properties) {
+        this.repository = Objects.requireNonNull(repository);
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.parallelism = Math.max(1, properties.getReports().getSnapshotParallelism());
+    }
+
+    @Override
+    public <C, I> void replace(CampaignId campaignId, C campaignReport, Map<String, I> individualReports) {
+        List<String> evaluateeIds = new ArrayList<>();
+        List<Object> reports = new ArrayList<>();
+        evaluateeIds.add(CAMPAIGN_REPORT);
+        reports.add(Objects.requireNonNull(campaignReport));
+        individualReports.forEach((evaluateeId, report) -> {
+            evaluateeIds.add(evaluateeId);
+            reports.add(report);
+        });
+        byte[][] payloads = compressAll(reports);
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<Object[]> rows = new ArrayList<>(payloads.length);
+        for (int i = 0; i < payloads.length; i++) {
+            rows.add(new Object[] { campaignId.value(), evaluateeIds.get(i), payloads[i], now });
+        }
+        repository.deleteByCampaignId(campaignId.value());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Override
+    public <T> Optional<T> find(CampaignId campaignId, String evaluateeId, Class<T> type) {
+        return repository.findById(new ReportSnapshotEntity.ReportSnapshotKey(
+                        campaignId.value(), evaluateeId != null ? evaluateeId : CAMPAIGN_REPORT))
+                .map(snapshot -> decompress(snapshot.getPayload(), type));
+    }
+
+    @Override
+    public <T> Optional<List<T>> findAllIndividual(CampaignId campaignId, Class<T> type) {
+        List<ReportSnapshotEntity> snapshots = repository.findByCampaignIdOrderByEvaluateeId(campaignId.value());
+        if (snapshots.isEmpty()) {
+            return Optional.empty();
+        }
+        List<T> reports = new ArrayList<>(snapshots.size());
+        for (ReportSnapshotEntity snapshot : snapshots) {
+            if (!CAMPAIGN_REPORT.equals(snapshot.getEvaluateeId())) {
+                reports.add(decompress(snapshot.getPayload(), type));
+            }
+        }
+        return Optional.of(reports);
+    }
+
+    @Override
+    public boolean exists(CampaignId campaignId) {
+        return repository.existsByCampaignIdAndEvaluateeId(campaignId.value(), CAMPAIGN_REPORT);
+    }
+
+    @Override
+    public void delete(CampaignId campaignId) {
+        repository.deleteByCampaignId(campaignId.value());
+    }
+
+    private byte[][] compressAll(List<Object> reports) {
+        byte[][] payloads = new byte[reports.size()][];
+        int workers = Math.min(parallelism, reports.size());
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("report-snapshot-", 0).factory())) {
+            List<Future<?>> slices = new ArrayList<>(workers);
+            for (int worker = 0; worker < workers; worker++) {
+                int first = worker;
+                slices.add(executor.submit(() -> {
+                    for (int i = first; i < payloads.length; i += workers) {
+                        payloads[i] = compress(reports.get(i));
+                    }
+                }));
+            }
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing report snapshot", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to write report snapshot", e.getCause());
+        }
+        return payloads;
+    }
+
+    private static byte[] compress(Object report) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            JSON.writeValue(gzip, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize report snapshot", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T decompress(byte[] payload, Class<T> type) {
+        try (InputStream json = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return JSON.readValue(json, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read report snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,626 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.QuantileSketch;
+import com.evaluationservice.domain.value.ScoreAggregate;
+import com.evaluationservice.infrastructure.entity.ScoreAggregateEntity;
+import com.evaluationservice.infrastructure.repository.ScoreAggregateRepository;
+import com.evaluationservice.infrastructure.repository.ScoreSketchRebuildRepository;
+import com.evaluationservice.infrastructure.repository.ScoreSketchRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * JDBC-backed score aggregate store. Increments are applied in the database
+ * ({@code count = count + 1}) so concurrent submissions for the same
+ * evaluatee never lose an update; they serialize on the row lock instead.
+ * On PostgreSQL a campaign rebuild is a single {@code INSERT ... SELECT} over
+ * the evaluations, unnesting section scores with {@code jsonb_array_elements},
+ * so no evaluation is loaded into the application.
+ * <p>
+ * Each section key also has up to {@value #SKETCH_SHARDS} quantile sketch
+ * rows per campaign, which readers merge. Submissions only append their
+ * scores to {@code score_sketch_buffer}; a background merge folds each batch
+ * into one randomly picked shard, so merges on different nodes rarely wait
+ * on each other. Sketch rows are always locked in (section key, shard) order
+ * after any buffer rows, by merges and rebuilds alike.
+ * <p>
+ * Plain reads and the conditional delete of a rebuild request go through
+ * Spring Data repositories. Writes that rely on {@code ON CONFLICT},
+ * {@code FOR UPDATE} lock order or in-place increments stay on JDBC.
+ */
+@Component
+public class ScoreAggregateAdapter implements ScoreAggregatePersistencePort {
+
+    private static final String INCREMENT_SQL = """
+            UPDATE score_aggregates
+               SET score_count = score_count + 1,
+                   score_sum = score_sum + ?,
+                   score_sum_squares = score_sum_squares + ?,
+                   score_min = CASE WHEN score_count = 0 OR ? < score_min THEN ? ELSE score_min END,
+                   score_max = CASE WHEN score_count = 0 OR ? > score_max THEN ? ELSE score_max END,
+                   updated_at = ?
+             WHERE campaign_id = ? AND evaluatee_id = ? AND section_key = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO score_aggregates (
+                campaign_id, evaluatee_id, section_key,
+                score_count, score_sum, score_sum_squares, score_min, score_max, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /** First values of rows an increment did not find; a concurrent insert wins. */
+    private static final String INSERT_ABSENT_SQL = INSERT_SQL.strip() + " ON CONFLICT DO NOTHING";
+
+    private static final String LOCK_EVALUATEE_SQL = """
+            SELECT section_key
+              FROM score_aggregates
+             WHERE campaign_id = ? AND evaluatee_id = ?
+             ORDER BY section_key
+               FOR UPDATE
+            """;
+
+    private static final String DELETE_CAMPAIGN_SQL = "DELETE FROM score_aggregates WHERE campaign_id = ?";
+
+    private static final String REBUILD_OVERALL_SQL = """
+            INSERT INTO score_aggregates (
+                campaign_id, evaluatee_id, section_key,
+                score_count, score_sum, score_sum_squares, score_min, score_max, updated_at)
+            SELECT e.campaign_id,
+                   e.evaluatee_id,
+                   '',
+                   COUNT(*),
+                   SUM(e.total_score),
+                   SUM(e.total_score * e.total_score),
+                   MIN(e.total_score),
+                   MAX(e.total_score),
+                   NOW()
+              FROM evaluations e
+             WHERE e.campaign_id = ?
+               AND e.status = 'COMPLETED'
+               AND e.total_score IS NOT NULL
+             GROUP BY e.campaign_id, e.evaluatee_id
+            """;
+
+    private static final String REBUILD_SECTIONS_SQL = """
+            INSERT INTO score_aggregates (
+                campaign_id, evaluatee_id, section_key,
+                score_count, score_sum, score_sum_squares, score_min, score_max, updated_at)
+            SELECT e.campaign_id,
+                   e.evaluatee_id,
+                   s->>'sectionTitle',
+                   COUNT(*),
+                   SUM((s->'score'->>'value')::double precision),
+                   SUM((s->'score'->>'value')::double precision * (s->'score'->>'value')::double precision),
+                   MIN((s->'score'->>'value')::double precision),
+                   MAX((s->'score'->>'value')::double precision),
+                   NOW()
+              FROM evaluations e
+             CROSS JOIN LATERAL jsonb_array_elements(COALESCE(e.section_scores_json, '[]')::jsonb) AS s
+             WHERE e.campaign_id = ?
+               AND e.status = 'COMPLETED'
+               AND e.total_score IS NOT NULL
+               AND COALESCE(s->>'sectionTitle', '') <> ''
+             GROUP BY e.campaign_id, e.evaluatee_id, s->>'sectionTitle'
+            """;
+
+    private static final String BUFFER_SQL = """
+            INSERT INTO score_sketch_buffer (campaign_id, section_key, score, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String PENDING_BUFFER_SQL = """
+            SELECT id, campaign_id, section_key, score
+              FROM score_sketch_buffer
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String CAMPAIGN_BUFFER_SQL = """
+            SELECT id, campaign_id, section_key, score
+              FROM score_sketch_buffer
+             WHERE campaign_id = ?
+             ORDER BY id
+            """;
+
+    private static final String CLAIM_BUFFER_SQL = "DELETE FROM score_sketch_buffer WHERE id = ?";
+
+    private static final String ENSURE_SKETCH_SQL = """
+            INSERT INTO score_sketches (campaign_id, section_key, shard, sketch, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String LOCK_SKETCH_SQL = """
+            SELECT sketch
+              FROM score_sketches
+             WHERE campaign_id = ? AND section_key = ? AND shard = ?
+               FOR UPDATE
+            """;
+
+    private static final String LOCK_SKETCHES_SQL = """
+            SELECT section_key, shard
+              FROM score_sketches
+             WHERE campaign_id = ?
+             ORDER BY section_key, shard
+               FOR UPDATE
+            """;
+
+    private static final String UPDATE_SKETCH_SQL = """
+            UPDATE score_sketches
+               SET sketch = ?, updated_at = ?
+             WHERE campaign_id = ? AND section_key = ? AND shard = ?
+            """;
+
+    private static final String DELETE_SKETCH_SQL = """
+            DELETE FROM score_sketches
+             WHERE campaign_id = ? AND section_key = ? AND shard = ?
+            """;
+
+    private static final String FIND_BUFFERED_SQL = """
+            SELECT section_key, score
+              FROM score_sketch_buffer
+             WHERE campaign_id = ?
+            """;
+
+    private static final String BUMP_REBUILD_SQL = """
+            UPDATE score_sketch_rebuilds
+               SET requested_at = ?
+             WHERE campaign_id = ?
+            """;
+
+    private static final String REQUEST_REBUILD_SQL = """
+            INSERT INTO score_sketch_rebuilds (campaign_id, requested_at)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SCORES_SQL = """
+            SELECT e.id, '' AS section_key, e.total_score AS score
+              FROM evaluations e
+             WHERE e.campaign_id = ?
+               AND e.status = 'COMPLETED'
+               AND e.total_score IS NOT NULL
+            UNION ALL
+            SELECT e.id, s->>'sectionTitle', (s->'score'->>'value')::double precision
+              FROM evaluations e
+             CROSS JOIN LATERAL jsonb_array_elements(COALESCE(e.section_scores_json, '[]')::jsonb) AS s
+             WHERE e.campaign_id = ?
+               AND e.status = 'COMPLETED'
+               AND e.total_score IS NOT NULL
+               AND COALESCE(s->>'sectionTitle', '') <> ''
+            """;
+
+    private static final String SCORES_JSON_SQL = """
+            SELECT id, total_score, section_scores_json
+              FROM evaluations
+             WHERE campaign_id = ?
+               AND status = 'COMPLETED'
+               AND total_score IS NOT NULL
+            """;
+
+    private static final String COUNT_OVERALL_SQL = """
+            SELECT COALESCE(SUM(score_count), 0)
+              FROM score_aggregates
+             WHERE campaign_id = ? AND section_key = ''
+            """;
+
+    /** Sketch rows per section key; each merge batch picks one. */
+    static final int SKETCH_SHARDS = 8;
+
+    private static final int SCAN_FETCH_SIZE = 1000;
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final ScoreAggregateRepository repository;
+    private final ScoreSketchRepository sketchRepository;
+    private final ScoreSketchRebuildRepository rebuildRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public ScoreAggregateAdapter(
+            ScoreAggregateRepository repository,
+            ScoreSketchRepository sketchRepository,
+            ScoreSketchRebuildRepository rebuildRepository,
+            JdbcTemplate jdbcTemplate) {
+        this.repository = Objects.requireNonNull(repository);
+        this.sketchRepository = Objects.requireNonNull(sketchRepository);
+        this.rebuildRepository = Objects.requireNonNull(rebuildRepository);
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    /**
+     * Increments existing rows in one batch. Rows missing for a new evaluatee
+     * or section are inserted with their first values in a second batch; the
+     * contributions of a row another transaction inserted in between are
+     * applied as increments after all. Submissions for an evaluatee that
+     * already has scores therefore cost one aggregate statement.
+     */
+    @Override
+    public void increment(CampaignId campaignId, List<Contribution> contributions) {
+        if (contributions == null || contributions.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT_SQL, contributions.stream()
+                .map(c -> incrementArgs(campaignId, c, now))
+                .toList());
+        Map<List<String>, List<Contribution>> missing = new LinkedHashMap<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                Contribution c = contributions.get(i);
+                missing.computeIfAbsent(List.of(c.evaluateeId(), c.sectionKey()), key -> new ArrayList<>()).add(c);
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<List<Contribution>> absent = new ArrayList<>(missing.values());
+            int[] inserted = jdbcTemplate.batchUpdate(INSERT_ABSENT_SQL, absent.stream()
+                    .map(rowContributions -> {
+                        ScoreAggregate first = ScoreAggregate.EMPTY;
+                        for (Contribution c : rowContributions) {
+                            first = first.plus(c.score());
+                        }
+                        Contribution key = rowContributions.getFirst();
+                        return new Object[] {
+                                campaignId.value(), key.evaluateeId(), key.sectionKey(),
+                                first.count(), first.sum(), first.sumOfSquares(), first.min(), first.max(), now };
+                    })
+                    .toList());
+            List<Object[]> raced = new ArrayList<>();
+            for (int i = 0; i < inserted.length; i++) {
+                if (inserted[i] == 0) {
+                    absent.get(i).forEach(c -> raced.add(incrementArgs(campaignId, c, now)));
+                }
+            }
+            if (!raced.isEmpty()) {
+                jdbcTemplate.batchUpdate(INCREMENT_SQL, raced);
+            }
+        }
+        jdbcTemplate.batchUpdate(BUFFER_SQL, contributions.stream()
+                .map(c -> new Object[] { campaignId.value(), c.sectionKey(), c.score(), now })
+                .toList());
+    }
+
+    private static Object[] incrementArgs(CampaignId campaignId, Contribution c, OffsetDateTime now) {
+        return new Object[] {
+                c.score(),
+                c.score() * c.score(),
+                c.score(), c.score(),
+                c.score(), c.score(),
+                now,
+                campaignId.value(), c.evaluateeId(), c.sectionKey() };
+    }
+
+    /**
+     * Claims buffered scores by deleting them, so a score claimed by a
+     * concurrent merge is skipped, then adds the claimed ones to one shard
+     * per section, read-modify-write under the shard's row lock. Rows are
+     * created and locked in key order.
+     */
+    @Override
+    public int mergeSketchBuffer(int limit) {
+        List<Buffered> claimed = claim(jdbcTemplate.query(PENDING_BUFFER_SQL, BUFFERED, limit));
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        int shard = ThreadLocalRandom.current().nextInt(SKETCH_SHARDS);
+        Map<SketchKey, List<Double>> scores = new TreeMap<>();
+        claimed.forEach(b -> scores.computeIfAbsent(
+                new SketchKey(b.campaignId(), b.sectionKey(), shard), ignored -> new ArrayList<>()).add(b.score()));
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        String empty = encode(new QuantileSketch());
+        jdbcTemplate.batchUpdate(ENSURE_SKETCH_SQL, scores.keySet().stream()
+                .map(key -> new Object[] { key.campaignId(), key.sectionKey(), key.shard(), empty, now })
+                .toList());
+        List<Object[]> updates = new ArrayList<>();
+        scores.forEach((key, values) -> {
+            QuantileSketch sketch = decode(jdbcTemplate.queryForObject(
+                    LOCK_SKETCH_SQL, String.class, key.campaignId(), key.sectionKey(), key.shard()));
+            values.forEach(sketch::add);
+            updates.add(new Object[] { encode(sketch), now, key.campaignId(), key.sectionKey(), key.shard() });
+        });
+        jdbcTemplate.batchUpdate(UPDATE_SKETCH_SQL, updates);
+        return claimed.size();
+    }
+
+    private List<Buffered> claim(List<Buffered> buffered) {
+        if (buffered.isEmpty()) {
+            return buffered;
+        }
+        int[] deleted = jdbcTemplate.batchUpdate(CLAIM_BUFFER_SQL, buffered.stream()
+                .map(b -> new Object[] { b.id() })
+                .toList());
+        List<Buffered> claimed = new ArrayList<>(buffered.size());
+        for (int i = 0; i < deleted.length; i++) {
+            if (deleted[i] > 0) {
+                claimed.add(buffered.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public void lockEvaluatee(CampaignId campaignId, String evaluateeId) {
+        jdbcTemplate.queryForList(LOCK_EVALUATEE_SQL, String.class, campaignId.value(), evaluateeId);
+    }
+
+    @Override
+    public void replaceEvaluatee(CampaignId campaignId, String evaluateeId, Map<String, ScoreAggregate> aggregates) {
+        repository.deleteByCampaignIdAndEvaluateeId(campaignId.value(), evaluateeId);
+        insert(campaignId, Map.of(evaluateeId, aggregates));
+    }
+
+    @Override
+    public void replaceCampaign(CampaignId campaignId, Map<String, Map<String, ScoreAggregate>> aggregatesByEvaluatee) {
+        repository.deleteByCampaignId(campaignId.value());
+        insert(campaignId, aggregatesByEvaluatee);
+    }
+
+    @Override
+    public OptionalInt rebuildFromEvaluations(CampaignId campaignId) {
+        if (!isPostgres()) {
+            return OptionalInt.empty();
+        }
+        jdbcTemplate.update(DELETE_CAMPAIGN_SQL, campaignId.value());
+        jdbcTemplate.update(REBUILD_OVERALL_SQL, campaignId.value());
+        jdbcTemplate.update(REBUILD_SECTIONS_SQL, campaignId.value());
+        Long aggregated = jdbcTemplate.queryForObject(COUNT_OVERALL_SQL, Long.class, campaignId.value());
+        return OptionalInt.of(aggregated != null ? aggregated.intValue() : 0);
+    }
+
+    @Override
+    public void requestSketchRebuild(CampaignId campaignId) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        if (jdbcTemplate.update(BUMP_REBUILD_SQL, now, campaignId.value()) == 0) {
+            jdbcTemplate.update(REQUEST_REBUILD_SQL, campaignId.value(), now);
+        }
+    }
+
+    @Override
+    public List<CampaignId> findSketchRebuilds(Instant requestedBefore, int limit) {
+        return rebuildRepository.findByRequestedAtBeforeOrderByRequestedAt(requestedBefore, PageRequest.of(0, limit))
+                .stream()
+                .map(request -> CampaignId.of(request.getCampaignId()))
+                .toList();
+    }
+
+    /**
+     * Absorbs the campaign's buffered scores first (they are in the scanned
+     * evaluations too) and spreads each section's scores round robin over
+     * the shards. Missing rows are then created and all rows locked in
+     * (section key, shard) order, as a merge does, before they are rewritten.
+     */
+    @Override
+    public void rebuildSketches(CampaignId campaignId) {
+        Optional<Instant> request = rebuildRepository.findRequestedAt(campaignId.value());
+        claim(jdbcTemplate.query(CAMPAIGN_BUFFER_SQL, BUFFERED, campaignId.value()));
+
+        Map<String, QuantileSketch[]> sketches = new TreeMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        ScoreSink sink = (sectionKey, score) -> {
+            QuantileSketch[] shards = sketches.computeIfAbsent(sectionKey, ignored -> new QuantileSketch[SKETCH_SHARDS]);
+            int shard = counts.merge(sectionKey, 1, Integer::sum) % SKETCH_SHARDS;
+            if (shards[shard] == null) {
+                shards[shard] = new QuantileSketch();
+            }
+            shards[shard].add(score);
+        };
+        if (isPostgres()) {
+            scan(SCORES_SQL, rs -> sink.add(rs.getString("section_key"), rs.getDouble("score")),
+                    campaignId.value(), campaignId.value());
+        } else {
+            scan(SCORES_JSON_SQL, rs -> {
+                sink.add(OVERALL, rs.getDouble("total_score"));
+                addSectionScores(sink, rs.getString("section_scores_json"));
+            }, campaignId.value());
+        }
+
+        Map<SketchKey, String> rebuilt = new TreeMap<>();
+        sketches.forEach((sectionKey, shards) -> {
+            for (int shard = 0; shard < shards.length; shard++) {
+                if (shards[shard] != null) {
+                    rebuilt.put(new SketchKey(campaignId.value(), sectionKey, shard), encode(shards[shard]));
+                }
+            }
+        });
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        String empty = encode(new QuantileSketch());
+        jdbcTemplate.batchUpdate(ENSURE_SKETCH_SQL, rebuilt.keySet().stream()
+                .map(key -> new Object[] { key.campaignId(), key.sectionKey(), key.shard(), empty, now })
+                .toList());
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        jdbcTemplate.query(LOCK_SKETCHES_SQL, rs -> {
+            SketchKey key = new SketchKey(campaignId.value(), rs.getString("section_key"), rs.getInt("shard"));
+            String sketch = rebuilt.get(key);
+            if (sketch != null) {
+                updates.add(new Object[] { sketch, now, key.campaignId(), key.sectionKey(), key.shard() });
+            } else {
+                deletes.add(new Object[] { key.campaignId(), key.sectionKey(), key.shard() });
+            }
+        }, campaignId.value());
+        jdbcTemplate.batchUpdate(UPDATE_SKETCH_SQL, updates);
+        jdbcTemplate.batchUpdate(DELETE_SKETCH_SQL, deletes);
+        // A request bumped while this ran stays, so the campaign is rebuilt again
+        request.ifPresent(requestedAt -> rebuildRepository.deleteByCampaignIdAndRequestedAt(campaignId.value(), requestedAt));
+    }
+
+    @Override
+    public Map<String, QuantileSketch> findSketches(CampaignId campaignId) {
+        Map<String, QuantileSketch> sketches = new LinkedHashMap<>();
+        for (Object[] row : sketchRepository.findSketchesByCampaignId(campaignId.value())) {
+            sketches.merge((String) row[0], decode((String) row[1]), QuantileSketch::merge);
+        }
+        jdbcTemplate.query(FIND_BUFFERED_SQL, rs -> {
+            sketches.computeIfAbsent(rs.getString("section_key"), ignored -> new QuantileSketch())
+                    .add(rs.getDouble("score"));
+        }, campaignId.value());
+        sketches.values().removeIf(QuantileSketch::isEmpty);
+        return sketches;
+    }
+
+    @Override
+    public Map<String, ScoreAggregate> findByEvaluatee(CampaignId campaignId, String evaluateeId) {
+        Map<String, ScoreAggregate> aggregates = new LinkedHashMap<>();
+        for (ScoreAggregateEntity row : repository.findByCampaignIdAndEvaluateeId(campaignId.value(), evaluateeId)) {
+            if (row.getScoreCount() > 0) {
+                aggregates.put(row.getSectionKey(), toAggregate(row));
+            }
+        }
+        return aggregates;
+    }
+
+    @Override
+    public Map<String, Map<String, ScoreAggregate>> findAllByEvaluatee(CampaignId campaignId) {
+        Map<String, Map<String, ScoreAggregate>> aggregates = new LinkedHashMap<>();
+        for (ScoreAggregateEntity row : repository.findByCampaignIdOrderByEvaluateeId(campaignId.value())) {
+            if (row.getScoreCount() > 0) {
+                aggregates.computeIfAbsent(row.getEvaluateeId(), ignored -> new LinkedHashMap<>())
+                        .put(row.getSectionKey(), toAggregate(row));
+            }
+        }
+        return aggregates;
+    }
+
+    @Override
+    public Map<String, ScoreAggregate> findByCampaign(CampaignId campaignId) {
+        Map<String, ScoreAggregate> aggregates = new LinkedHashMap<>();
+        for (Object[] row : repository.sumByCampaignId(campaignId.value())) {
+            aggregates.put((String) row[0], new ScoreAggregate(
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[2]).doubleValue(),
+                    ((Number) row[3]).doubleValue(),
+                    row[4] != null ? ((Number) row[4]).doubleValue() : 0.0,
+                    row[5] != null ? ((Number) row[5]).doubleValue() : 0.0));
+        }
+        return aggregates;
+    }
+
+    private void scan(String sql, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, handler);
+    }
+
+    private static void addSectionScores(ScoreSink sink, String json) {
+        if (json == null || json.isBlank()) {
+            return;
+        }
+        try {
+            for (JsonNode section : JSON.readTree(json)) {
+                String title = section.path("sectionTitle").asText("");
+                JsonNode value = section.path("score").path("value");
+                if (!title.isEmpty() && value.isNumber()) {
+                    sink.add(title, value.asDouble());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read section scores", e);
+        }
+    }
+
+    private static String encode(QuantileSketch sketch) {
+        return Base64.getEncoder().encodeToString(sketch.toBytes());
+    }
+
+    private static QuantileSketch decode(String encoded) {
+        return QuantileSketch.fromBytes(Base64.getDecoder().decode(encoded));
+    }
+
+    private record SketchKey(String campaignId, String sectionKey, int shard) implements Comparable<SketchKey> {
+        @Override
+        public int compareTo(SketchKey other) {
+            int byCampaign = campaignId.compareTo(other.campaignId);
+            if (byCampaign != 0) {
+                return byCampaign;
+            }
+            int bySection = sectionKey.compareTo(other.sectionKey);
+            return bySection != 0 ? bySection : Integer.compare(shard, other.shard);
+        }
+    }
+
+    private record Buffered(long id, String campaignId, String sectionKey, double score) {
+    }
+
+    private static final RowMapper<Buffered> BUFFERED = (rs, rowNum) -> new Buffered(
+            rs.getLong("id"), rs.getString("campaign_id"), rs.getString("section_key"), rs.getDouble("score"));
+
+    @FunctionalInterface
+    private interface ScoreSink {
+        void add(String sectionKey, double score);
+    }
+
+    private boolean isPostgres() {
+        Boolean detected = postgres;
+        if (detected == null) {
+            // The configured dialect is not authoritative: tests run H2 under the PostgreSQL dialect
+            detected = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+            postgres = detected;
+        }
+        return detected;
+    }
+
+    private static ScoreAggregate toAggregate(ScoreAggregateEntity row) {
+        return new ScoreAggregate(
+                row.getScoreCount(),
+                row.getScoreSum(),
+                row.getScoreSumSquares(),
+                row.getScoreMin() != null ? row.getScoreMin() : 0.0,
+                row.getScoreMax() != null ? row.getScoreMax() : 0.0);
+    }
+
+    private void insert(CampaignId campaignId, Map<String, Map<String, ScoreAggregate>> aggregatesByEvaluatee) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<Object[]> rows = new ArrayList<>();
+        aggregatesByEvaluatee.forEach((evaluateeId, aggregates) -> aggregates.forEach((sectionKey, aggregate) -> {
+            if (aggregate.count() > 0) {
+                rows.add(new Object[] {
+                        campaignId.value(),
+                        evaluateeId,
+                        sectionKey,
+                        aggregate.count(),
+                        aggregate.sum(),
+                        aggregate.sumOfSquares(),
+                        aggregate.min(),
+                        aggregate.max(),
+                        now });
+            }
+        }));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.ScoreTrendPersistencePort;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.ScoreAggregate;
+import com.evaluationservice.infrastructure.repository.ScoreTrendRepository;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Trend store over {@code score_trends}. Each row packs one evaluatee's
+ * aggregates in one campaign column-wise: the section keys, then one
+ * primitive array per aggregate field. Reading an evaluatee's history is one
+ * range scan of the (evaluatee, cycle end) index, through
+ * {@link ScoreTrendRepository}; a campaign's rows are written in one JDBC
+ * batch.
+ */
+@Component
+public class ScoreTrendAdapter implements ScoreTrendPersistencePort {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO score_trends (evaluatee_id, campaign_id, campaign_name, cycle_end, summary, recorded_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final ScoreTrendRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ScoreTrendAdapter(ScoreTrendRepository repository, JdbcTemplate jdbcTemplate) {
+        this.repository = Objects.requireNonNull(repository);
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    @Override
+    public void record(
+            CampaignId campaignId,
+            String campaignName,
+            Instant cycleEnd,
+            Map<String, Map<String, ScoreAggregate>> aggregatesByEvaluatee) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        Timestamp end = Timestamp.from(cycleEnd);
+        List<Object[]> rows = new ArrayList<>(aggregatesByEvaluatee.size());
+        aggregatesByEvaluatee.forEach((evaluateeId, aggregates) -> {
+            if (!aggregates.isEmpty()) {
+                rows.add(new Object[] { evaluateeId, campaignId.value(), campaignName, end, encode(aggregates), now });
+            }
+        });
+        repository.deleteByCampaignId(campaignId.value());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Override
+    public List<TrendEntry> findByEvaluatee(String evaluateeId, int limit) {
+        return repository.findByEvaluateeIdOrderByCycleEndDescCampaignIdAsc(evaluateeId, PageRequest.of(0, limit))
+                .stream()
+                .map(row -> new TrendEntry(
+                        CampaignId.of(row.getCampaignId()),
+                        row.getCampaignName(),
+                        row.getCycleEnd(),
+                        decode(row.getSummary())))
+                .toList();
+    }
+
+    @Override
+    public boolean exists(CampaignId campaignId) {
+        return repository.existsByCampaignId(campaignId.value());
+    }
+
+    @Override
+    public void delete(CampaignId campaignId) {
+        repository.deleteByCampaignId(campaignId.value());
+    }
+
+    static byte[] encode(Map<String, ScoreAggregate> aggregates) {
+        Map<String, ScoreAggregate> sorted = new TreeMap<>(aggregates);
+        int n = sorted.size();
+        byte[][] keys = new byte[n][];
+        long[] counts = new long[n];
+        double[] sums = new double[n];
+        double[] sumsOfSquares = new double[n];
+        double[] mins = new double[n];
+        double[] maxs = new double[n];
+        int size = 1 + Integer.BYTES + n * (Integer.BYTES + Long.BYTES + Double.BYTES * 4);
+        int i = 0;
+        for (Map.Entry<String, ScoreAggregate> entry : sorted.entrySet()) {
+            ScoreAggregate aggregate = entry.getValue();
+            keys[i] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            size += keys[i].length;
+            counts[i] = aggregate.count();
+            sums[i] = aggregate.sum();
+            sumsOfSquares[i] = aggregate.sumOfSquares();
+            mins[i] = aggregate.min();
+            maxs[i] = aggregate.max();
+            i++;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(FORMAT_VERSION).putInt(n);
+        for (byte[] key : keys) {
+            buffer.putInt(key.length).put(key);
+        }
+        buffer.asLongBuffer().put(counts);
+        buffer.position(buffer.position() + n * Long.BYTES);
+        for (double[] column : new double[][] { sums, sumsOfSquares, mins, maxs }) {
+            buffer.asDoubleBuffer().put(column);
+            buffer.position(buffer.position() + n * Double.BYTES);
+        }
+        return buffer.array();
+    }
+
+    static Map<String, ScoreAggregate> decode(byte[] summary) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(summary);
+            byte version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported trend summary format: " + version);
+            }
+            int n = buffer.getInt();
+            String[] keys = new String[n];
+            for (int i = 0; i < n; i++) {
+                byte[] key = new byte[buffer.getInt()];
+                buffer.get(key);
+                keys[i] = new String(key, StandardCharsets.UTF_8);
+            }
+            long[] counts = new long[n];
+            buffer.asLongBuffer().get(counts);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            double[][] columns = new double[4][n];
+            for (double[] column : columns) {
+                buffer.asDoubleBuffer().get(column);
+                buffer.position(buffer.position() + n * Double.BYTES);
+            }
+            Map<String, ScoreAggregate> aggregates = new LinkedHashMap<>();
+            for (int i = 0; i < n; i++) {
+                aggregates.put(keys[i], new ScoreAggregate(
+                        counts[i], columns[0][i], columns[1][i], columns[2][i], columns[3][i]));
+            }
+            return aggregates;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated trend summary", e);
+        }
+    }
+}
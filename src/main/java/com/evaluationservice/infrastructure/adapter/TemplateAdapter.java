@@ -27,13 +27,13 @@ public class TemplateAdapter implements TemplatePersistencePort {
     public Template save(Template template) {
         var entity = mapper.toJpaEntity(template);
         var saved = repository.save(entity);
-        return mapper.toDomainTemplate(saved);
+        return UnitOfWorkCache.remember(UnitOfWorkCache.TEMPLATES, saved.getId(), mapper.toDomainTemplate(saved));
     }
 
     @Override
     public Optional<Template> findById(TemplateId templateId) {
-        return repository.findById(templateId.value())
-                .map(mapper::toDomainTemplate);
+        return UnitOfWorkCache.readThrough(UnitOfWorkCache.TEMPLATES, templateId.value(),
+                () -> repository.findById(templateId.value()).map(mapper::toDomainTemplate));
     }
 
     @Override
@@ -58,6 +58,7 @@ public class TemplateAdapter implements TemplatePersistencePort {
     @Override
     public void deleteById(TemplateId templateId) {
         repository.deleteById(templateId.value());
+        UnitOfWorkCache.evict(UnitOfWorkCache.TEMPLATES, templateId.value());
     }
 
     @Override
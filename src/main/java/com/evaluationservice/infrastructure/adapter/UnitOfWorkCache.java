@@ -0,0 +1,131 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Transaction-scoped identity map for mapped domain aggregates.
+ * <p>
+ * Within one transaction an aggregate is loaded and mapped at most once;
+ * later lookups return the same instance, the way the persistence context
+ * does for JPA entities. Adapters record what they save and evict what their
+ * bulk statements change. Outside a transaction every lookup reads through.
+ * <p>
+ * Code that changes these rows without going through the adapters, inside a
+ * transaction that also reads them through the adapters, must call
+ * {@link #clear()} afterwards.
+ */
+public final class UnitOfWorkCache {
+
+    static final String ASSIGNMENTS = "assignment";
+    static final String CAMPAIGNS = "campaign";
+    static final String CAMPAIGN_HEADERS = "campaign-header";
+    static final String TEMPLATES = "template";
+
+    private static final Object RESOURCE_KEY = new Object();
+
+    private UnitOfWorkCache() {
+    }
+
+    /**
+     * Returns the cached lookup result, loading it on first use in this transaction.
+     */
+    @SuppressWarnings("unchecked")
+    static <V> Optional<V> readThrough(String region, String id, Supplier<Optional<V>> loader) {
+        Map<String, Optional<?>> entries = entries();
+        if (entries == null) {
+            return loader.get();
+        }
+        String key = key(region, id);
+        Optional<?> cached = entries.get(key);
+        if (cached != null) {
+            return (Optional<V>) cached;
+        }
+        Optional<V> loaded = loader.get();
+        entries.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * Returns the cached value, or {@code null} when it has not been looked up
+     * in this transaction. A cached absence is reported as an empty optional.
+     */
+    static Optional<?> peek(String region, String id) {
+        Map<String, Optional<?>> entries = entries();
+        return entries != null ? entries.get(key(region, id)) : null;
+    }
+
+    static <V> V remember(String region, String id, V value) {
+        Map<String, Optional<?>> entries = entries();
+        if (entries != null) {
+            entries.put(key(region, id), Optional.ofNullable(value));
+        }
+        return value;
+    }
+
+    static void evict(String region, String id) {
+        Map<String, Optional<?>> entries = entries();
+        if (entries != null) {
+            entries.remove(key(region, id));
+        }
+    }
+
+    static void evictRegion(String region) {
+        Map<String, Optional<?>> entries = entries();
+        if (entries != null) {
+            String prefix = region + ':';
+            entries.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    /**
+     * Drops everything cached in the current transaction.
+     */
+    public static void clear() {
+        Map<String, Optional<?>> entries = entries();
+        if (entries != null) {
+            entries.clear();
+        }
+    }
+
+    private static String key(String region, String id) {
+        return region + ':' + id;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Optional<?>> entries() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<String, Optional<?>> entries =
+                (Map<String, Optional<?>>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (entries == null) {
+            Map<String, Optional<?>> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(RESOURCE_KEY, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    // A nested REQUIRES_NEW transaction gets its own map
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(RESOURCE_KEY, created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+                }
+            });
+            entries = created;
+        }
+        return entries;
+    }
+}
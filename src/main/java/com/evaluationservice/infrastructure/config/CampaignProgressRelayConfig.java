@@ -0,0 +1,27 @@
+package com.evaluationservice.infrastructure.config;
+
+import com.evaluationservice.infrastructure.service.CampaignProgressRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes the campaign progress relay to its Redis channel.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "evaluation.service.progress", name = "redis-relay-enabled", havingValue = "true")
+public class CampaignProgressRelayConfig {
+
+    @Bean
+    RedisMessageListenerContainer campaignProgressListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CampaignProgressRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(relay.getChannel()));
+        return container;
+    }
+}
@@ -46,6 +46,9 @@ public class DatabaseConfig {
     @Value("${spring.jpa.properties.hibernate.dialect:org.hibernate.dialect.PostgreSQLDialect}")
     private String hibernateDialect;
 
+    @Value("${spring.jpa.properties.hibernate.generate_statistics:false}")
+    private boolean generateStatistics;
+
     @Value("${spring.flyway.locations:classpath:db/migration}")
     private String flywayLocations;
 
@@ -118,7 +121,7 @@ public class DatabaseConfig {
         properties.setProperty("hibernate.order_inserts", "true");
         properties.setProperty("hibernate.order_updates", "true");
         properties.setProperty("hibernate.jdbc.batch_versioned_data", "true");
-        properties.setProperty("hibernate.generate_statistics", "false");
+        properties.setProperty("hibernate.generate_statistics", String.valueOf(generateStatistics));
         properties.setProperty("hibernate.connection.provider_disables_autocommit", "true");
 
         em.setJpaProperties(properties);
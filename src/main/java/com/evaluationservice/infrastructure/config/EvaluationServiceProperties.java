@@ -34,8 +34,13 @@ public class EvaluationServiceProperties {
     private Notification notification = new Notification();
     private Features features = new Features();
     private Assignment assignment = new Assignment();
+    private Submission submission = new Submission();
     private Audience audience = new Audience();
     private Admin admin = new Admin();
+    private Settings settings = new Settings();
+    private Reports reports = new Reports();
+    private Dashboard dashboard = new Dashboard();
+    private Progress progress = new Progress();
 
     // --- Scoring Configuration ---
 
@@ -370,6 +375,10 @@ public class EvaluationServiceProperties {
         private String reconciliationCron = "0 */30 * * * *";
         /** Max campaigns scanned per run. */
         private int reconciliationMaxCampaigns = 500;
+        /** How often pending completion deltas are folded into the assignment counters. */
+        private long counterFoldIntervalMs = 1_000L;
+        /** Max completion deltas folded per transaction. */
+        private int counterFoldBatchSize = 5_000;
 
         public AssignmentStorageMode getStorageMode() {
             return storageMode;
@@ -402,6 +411,155 @@ public class EvaluationServiceProperties {
         public void setReconciliationMaxCampaigns(int reconciliationMaxCampaigns) {
             this.reconciliationMaxCampaigns = reconciliationMaxCampaigns;
         }
+
+        public long getCounterFoldIntervalMs() {
+            return counterFoldIntervalMs;
+        }
+
+        public void setCounterFoldIntervalMs(long counterFoldIntervalMs) {
+            this.counterFoldIntervalMs = counterFoldIntervalMs;
+        }
+
+        public int getCounterFoldBatchSize() {
+            return counterFoldBatchSize;
+        }
+
+        public void setCounterFoldBatchSize(int counterFoldBatchSize) {
+            this.counterFoldBatchSize = counterFoldBatchSize;
+        }
+    }
+
+    /**
+     * Controls how evaluation submissions touch the campaign aggregate.
+     */
+    public static class Submission {
+        /**
+         * Validates against a campaign header projection and completes only the
+         * submitted assignment row instead of loading and re-saving the whole
+         * campaign. Ignored when assignment storage mode is JSON.
+         */
+        private boolean leanMode = false;
+        /** Upper bound on the number of items accepted by one batch submission. */
+        private int maxBatchSize = 500;
+        /**
+         * Acknowledges submissions in SCORING state and scores them on a background
+         * worker pool. Submissions are scored inline while the queue is full.
+         */
+        private boolean asyncScoring = false;
+        /** Number of virtual-thread scoring workers. */
+        private int scoringWorkers = Runtime.getRuntime().availableProcessors();
+        /** Maximum number of evaluations waiting for a scoring worker. */
+        private int scoringQueueCapacity = 10_000;
+        /** How often SCORING rows that no worker holds are re-queued. */
+        private long scoringRecoveryIntervalMs = 60_000;
+        /** Failed scoring attempts after which an evaluation is dead-lettered. */
+        private int scoringMaxAttempts = 5;
+        /** Delay before the first retry of a failed scoring; doubles with each further failure. */
+        private long scoringRetryDelayMs = 60_000;
+        /** A draft's coalesced answer changes are written once it has been idle this long. */
+        private long draftAutosaveQuietMs = 2_000;
+        /** Upper bound on how long an acknowledged answer change may stay unwritten. */
+        private long draftAutosaveMaxDelayMs = 10_000;
+        /** How often the draft buffer is checked for changes due to be written. */
+        private long draftFlushIntervalMs = 1_000;
+        /** Drafts with buffered changes beyond which answer changes are written through. */
+        private int draftAutosaveMaxPending = 50_000;
+
+        public boolean isLeanMode() {
+            return leanMode;
+        }
+
+        public void setLeanMode(boolean leanMode) {
+            this.leanMode = leanMode;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public boolean isAsyncScoring() {
+            return asyncScoring;
+        }
+
+        public void setAsyncScoring(boolean asyncScoring) {
+            this.asyncScoring = asyncScoring;
+        }
+
+        public int getScoringWorkers() {
+            return scoringWorkers;
+        }
+
+        public void setScoringWorkers(int scoringWorkers) {
+            this.scoringWorkers = scoringWorkers;
+        }
+
+        public int getScoringQueueCapacity() {
+            return scoringQueueCapacity;
+        }
+
+        public void setScoringQueueCapacity(int scoringQueueCapacity) {
+            this.scoringQueueCapacity = scoringQueueCapacity;
+        }
+
+        public long getScoringRecoveryIntervalMs() {
+            return scoringRecoveryIntervalMs;
+        }
+
+        public void setScoringRecoveryIntervalMs(long scoringRecoveryIntervalMs) {
+            this.scoringRecoveryIntervalMs = scoringRecoveryIntervalMs;
+        }
+
+        public int getScoringMaxAttempts() {
+            return scoringMaxAttempts;
+        }
+
+        public void setScoringMaxAttempts(int scoringMaxAttempts) {
+            this.scoringMaxAttempts = scoringMaxAttempts;
+        }
+
+        public long getScoringRetryDelayMs() {
+            return scoringRetryDelayMs;
+        }
+
+        public void setScoringRetryDelayMs(long scoringRetryDelayMs) {
+            this.scoringRetryDelayMs = scoringRetryDelayMs;
+        }
+
+        public long getDraftAutosaveQuietMs() {
+            return draftAutosaveQuietMs;
+        }
+
+        public void setDraftAutosaveQuietMs(long draftAutosaveQuietMs) {
+            this.draftAutosaveQuietMs = draftAutosaveQuietMs;
+        }
+
+        public long getDraftAutosaveMaxDelayMs() {
+            return draftAutosaveMaxDelayMs;
+        }
+
+        public void setDraftAutosaveMaxDelayMs(long draftAutosaveMaxDelayMs) {
+            this.draftAutosaveMaxDelayMs = draftAutosaveMaxDelayMs;
+        }
+
+        public long getDraftFlushIntervalMs() {
+            return draftFlushIntervalMs;
+        }
+
+        public void setDraftFlushIntervalMs(long draftFlushIntervalMs) {
+            this.draftFlushIntervalMs = draftFlushIntervalMs;
+        }
+
+        public int getDraftAutosaveMaxPending() {
+            return draftAutosaveMaxPending;
+        }
+
+        public void setDraftAutosaveMaxPending(int draftAutosaveMaxPending) {
+            this.draftAutosaveMaxPending = draftAutosaveMaxPending;
+        }
     }
 
     /**
@@ -866,6 +1024,264 @@ public class EvaluationServiceProperties {
         }
     }
 
+    /**
+     * In-memory snapshot of system settings and campaign overrides used by
+     * SettingsResolverService.
+     */
+    public static class Settings {
+        /**
+         * Maximum age of the snapshot before it is reloaded. Local writes refresh it
+         * immediately; this bounds staleness when a cross-node invalidation is missed.
+         */
+        private long snapshotTtlMs = 60_000;
+        /** Publishes and receives setting invalidations over Redis pub/sub. */
+        private boolean redisInvalidationEnabled = false;
+        /** Redis channel used for setting invalidations. */
+        private String invalidationChannel = "evaluation.settings.invalidate";
+
+        public long getSnapshotTtlMs() {
+            return snapshotTtlMs;
+        }
+
+        public void setSnapshotTtlMs(long snapshotTtlMs) {
+            this.snapshotTtlMs = snapshotTtlMs;
+        }
+
+        public boolean isRedisInvalidationEnabled() {
+            return redisInvalidationEnabled;
+        }
+
+        public void setRedisInvalidationEnabled(boolean redisInvalidationEnabled) {
+            this.redisInvalidationEnabled = redisInvalidationEnabled;
+        }
+
+        public String getInvalidationChannel() {
+            return invalidationChannel;
+        }
+
+        public void setInvalidationChannel(String invalidationChannel) {
+            this.invalidationChannel = invalidationChannel;
+        }
+    }
+
+    /**
+     * Report generation and export.
+     */
+    public static class Reports {
+        /** Rows fetched per database round trip while streaming an export. */
+        private int exportFetchSize = 500;
+        /** Individual PDFs rendered at once during a bulk export. */
+        private int pdfExportParallelism = 8;
+        /** Serves campaign and individual reports from the Redis "reports" cache. */
+        private boolean cacheEnabled = false;
+        /** Lifetime of report cache version counters; must exceed the cache entry TTL. */
+        private long cacheVersionTtlMs = 7_200_000L;
+        /** Reports serialized at once while writing a published-results snapshot. */
+        private int snapshotParallelism = 8;
+        /** How often buffered scores are merged into the distribution sketches. */
+        private long sketchMergeIntervalMs = 1_000L;
+        /** Max buffered scores merged per transaction. */
+        private int sketchMergeBatchSize = 5_000;
+        /** How long a campaign must go without further withdrawals before its sketches are rebuilt. */
+        private long sketchRebuildDelayMs = 10_000L;
+        /** How often pending group rollup rebuilds are checked. */
+        private long rollupRebuildIntervalMs = 5_000L;
+        /** How long after the first score change a campaign's group rollups are rebuilt. */
+        private long rollupRebuildDelayMs = 30_000L;
+
+        public int getExportFetchSize() {
+            return exportFetchSize;
+        }
+
+        public void setExportFetchSize(int exportFetchSize) {
+            this.exportFetchSize = exportFetchSize;
+        }
+
+        public int getPdfExportParallelism() {
+            return pdfExportParallelism;
+        }
+
+        public void setPdfExportParallelism(int pdfExportParallelism) {
+            this.pdfExportParallelism = pdfExportParallelism;
+        }
+
+        public boolean isCacheEnabled() {
+            return cacheEnabled;
+        }
+
+        public void setCacheEnabled(boolean cacheEnabled) {
+            this.cacheEnabled = cacheEnabled;
+        }
+
+        public long getCacheVersionTtlMs() {
+            return cacheVersionTtlMs;
+        }
+
+        public void setCacheVersionTtlMs(long cacheVersionTtlMs) {
+            this.cacheVersionTtlMs = cacheVersionTtlMs;
+        }
+
+        public int getSnapshotParallelism() {
+            return snapshotParallelism;
+        }
+
+        public void setSnapshotParallelism(int snapshotParallelism) {
+            this.snapshotParallelism = snapshotParallelism;
+        }
+
+        public long getSketchMergeIntervalMs() {
+            return sketchMergeIntervalMs;
+        }
+
+        public void setSketchMergeIntervalMs(long sketchMergeIntervalMs) {
+            this.sketchMergeIntervalMs = sketchMergeIntervalMs;
+        }
+
+        public int getSketchMergeBatchSize() {
+            return sketchMergeBatchSize;
+        }
+
+        public void setSketchMergeBatchSize(int sketchMergeBatchSize) {
+            this.sketchMergeBatchSize = sketchMergeBatchSize;
+        }
+
+        public long getSketchRebuildDelayMs() {
+            return sketchRebuildDelayMs;
+        }
+
+        public void setSketchRebuildDelayMs(long sketchRebuildDelayMs) {
+            this.sketchRebuildDelayMs = sketchRebuildDelayMs;
+        }
+
+        public long getRollupRebuildIntervalMs() {
+            return rollupRebuildIntervalMs;
+        }
+
+        public void setRollupRebuildIntervalMs(long rollupRebuildIntervalMs) {
+            this.rollupRebuildIntervalMs = rollupRebuildIntervalMs;
+        }
+
+        public long getRollupRebuildDelayMs() {
+            return rollupRebuildDelayMs;
+        }
+
+        public void setRollupRebuildDelayMs(long rollupRebuildDelayMs) {
+            this.rollupRebuildDelayMs = rollupRebuildDelayMs;
+        }
+    }
+
+    /**
+     * Admin dashboard counters and evaluator dashboard caching.
+     */
+    public static class Dashboard {
+        /** How often campaigns changed since the last run are folded into the counters. */
+        private long statsFlushIntervalMs = 5_000L;
+        /** Whether the counters are periodically recomputed from the source tables. */
+        private boolean statsReconciliationEnabled = true;
+        /** Cron expression for counter reconciliation. */
+        private String statsReconciliationCron = "0 15 * * * *";
+        /** How long an evaluator's dashboard summary is served from memory; 0 disables caching. */
+        private long evaluatorSummaryTtlMs = 10_000L;
+        /** Maximum evaluator summaries held in memory per node. */
+        private int evaluatorSummaryMaxEntries = 100_000;
+
+        public long getStatsFlushIntervalMs() {
+            return statsFlushIntervalMs;
+        }
+
+        public void setStatsFlushIntervalMs(long statsFlushIntervalMs) {
+            this.statsFlushIntervalMs = statsFlushIntervalMs;
+        }
+
+        public boolean isStatsReconciliationEnabled() {
+            return statsReconciliationEnabled;
+        }
+
+        public void setStatsReconciliationEnabled(boolean statsReconciliationEnabled) {
+            this.statsReconciliationEnabled = statsReconciliationEnabled;
+        }
+
+        public String getStatsReconciliationCron() {
+            return statsReconciliationCron;
+        }
+
+        public void setStatsReconciliationCron(String statsReconciliationCron) {
+            this.statsReconciliationCron = statsReconciliationCron;
+        }
+
+        public long getEvaluatorSummaryTtlMs() {
+            return evaluatorSummaryTtlMs;
+        }
+
+        public void setEvaluatorSummaryTtlMs(long evaluatorSummaryTtlMs) {
+            this.evaluatorSummaryTtlMs = evaluatorSummaryTtlMs;
+        }
+
+        public int getEvaluatorSummaryMaxEntries() {
+            return evaluatorSummaryMaxEntries;
+        }
+
+        public void setEvaluatorSummaryMaxEntries(int evaluatorSummaryMaxEntries) {
+            this.evaluatorSummaryMaxEntries = evaluatorSummaryMaxEntries;
+        }
+    }
+
+    /**
+     * Live campaign progress streamed to dashboards over Server-Sent Events.
+     */
+    public static class Progress {
+        /** How often changed campaigns are recounted and pushed to their subscribers. */
+        private long pushIntervalMs = 1_000L;
+        /** How often idle streams get a keep-alive comment. */
+        private long heartbeatIntervalMs = 25_000L;
+        /** How long a stream stays open before the client has to reconnect. */
+        private long streamTimeoutMs = 1_800_000L;
+        /** Relays progress changes between nodes over Redis pub/sub. */
+        private boolean redisRelayEnabled = false;
+        /** Redis channel used for progress changes. */
+        private String relayChannel = "evaluation.campaign.progress";
+
+        public long getPushIntervalMs() {
+            return pushIntervalMs;
+        }
+
+        public void setPushIntervalMs(long pushIntervalMs) {
+            this.pushIntervalMs = pushIntervalMs;
+        }
+
+        public long getHeartbeatIntervalMs() {
+            return heartbeatIntervalMs;
+        }
+
+        public void setHeartbeatIntervalMs(long heartbeatIntervalMs) {
+            this.heartbeatIntervalMs = heartbeatIntervalMs;
+        }
+
+        public long getStreamTimeoutMs() {
+            return streamTimeoutMs;
+        }
+
+        public void setStreamTimeoutMs(long streamTimeoutMs) {
+            this.streamTimeoutMs = streamTimeoutMs;
+        }
+
+        public boolean isRedisRelayEnabled() {
+            return redisRelayEnabled;
+        }
+
+        public void setRedisRelayEnabled(boolean redisRelayEnabled) {
+            this.redisRelayEnabled = redisRelayEnabled;
+        }
+
+        public String getRelayChannel() {
+            return relayChannel;
+        }
+
+        public void setRelayChannel(String relayChannel) {
+            this.relayChannel = relayChannel;
+        }
+    }
+
     public static class Kafka {
         private boolean enabled = false;
         private String topic = "evaluation.outbox.events";
@@ -976,6 +1392,14 @@ public class EvaluationServiceProperties {
         this.assignment = assignment;
     }
 
+    public Submission getSubmission() {
+        return submission;
+    }
+
+    public void setSubmission(Submission submission) {
+        this.submission = submission;
+    }
+
     public Audience getAudience() {
         return audience;
     }
@@ -991,4 +1415,36 @@ public class EvaluationServiceProperties {
     public void setAdmin(Admin admin) {
         this.admin = admin;
     }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public void setSettings(Settings settings) {
+        this.settings = settings;
+    }
+
+    public Reports getReports() {
+        return reports;
+    }
+
+    public void setReports(Reports reports) {
+        this.reports = reports;
+    }
+
+    public Dashboard getDashboard() {
+        return dashboard;
+    }
+
+    public void setDashboard(Dashboard dashboard) {
+        this.dashboard = dashboard;
+    }
+
+    public Progress getProgress() {
+        return progress;
+    }
+
+    public void setProgress(Progress progress) {
+        this.progress = progress;
+    }
 }
@@ -0,0 +1,27 @@
+package com.evaluationservice.infrastructure.config;
+
+import com.evaluationservice.infrastructure.service.SettingsInvalidationRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes the settings invalidation relay to its Redis channel.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "evaluation.service.settings", name = "redis-invalidation-enabled", havingValue = "true")
+public class SettingsInvalidationConfig {
+
+    @Bean
+    RedisMessageListenerContainer settingsInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SettingsInvalidationRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(relay.getChannel()));
+        return container;
+    }
+}
@@ -27,6 +27,9 @@ public class AudienceGroupEntity {
     @Column(name = "external_ref")
     private String externalRef;
 
+    @Column(name = "parent_group_id", length = 128)
+    private String parentGroupId;
+
     @Column(nullable = false)
     private boolean active;
 
@@ -76,6 +79,14 @@ public class AudienceGroupEntity {
         this.externalRef = externalRef;
     }
 
+    public String getParentGroupId() {
+        return parentGroupId;
+    }
+
+    public void setParentGroupId(String parentGroupId) {
+        this.parentGroupId = parentGroupId;
+    }
+
     public boolean isActive() {
         return active;
     }
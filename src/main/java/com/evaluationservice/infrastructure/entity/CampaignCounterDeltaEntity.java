@@ -0,0 +1,82 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for a pending change to a campaign's completed-assignment
+ * counter. Rows are appended and folded with JDBC by
+ * {@code CampaignAssignmentCounters}; the mapping serves schema generation
+ * and validation.
+ */
+@Entity
+@Table(name = "campaign_counter_deltas")
+public class CampaignCounterDeltaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "campaign_id", nullable = false, length = 36)
+    private String campaignId;
+
+    @Column(name = "step_type", nullable = false, length = 30)
+    private String stepType;
+
+    @Column(name = "completed_delta", nullable = false)
+    private int completedDelta;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public CampaignCounterDeltaEntity() {
+    }
+
+    // --- Getters and Setters ---
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public String getStepType() {
+        return stepType;
+    }
+
+    public void setStepType(String stepType) {
+        this.stepType = stepType;
+    }
+
+    public int getCompletedDelta() {
+        return completedDelta;
+    }
+
+    public void setCompletedDelta(int completedDelta) {
+        this.completedDelta = completedDelta;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,76 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for a campaign's contribution to the dashboard counters.
+ * Read and saved through {@code CampaignStatsRepository} while the flush
+ * holds the totals lock; reconciliation replaces every row in one JDBC batch.
+ */
+@Entity
+@Table(name = "campaign_stats")
+public class CampaignStatsEntity {
+
+    @Id
+    @Column(name = "campaign_id", length = 36)
+    private String campaignId;
+
+    @Column(name = "status", length = 32)
+    private String status;
+
+    @Column(name = "total_assignments", nullable = false)
+    private long totalAssignments;
+
+    @Column(name = "completed_assignments", nullable = false)
+    private long completedAssignments;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public CampaignStatsEntity() {
+    }
+
+    // --- Getters and Setters ---
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getTotalAssignments() {
+        return totalAssignments;
+    }
+
+    public void setTotalAssignments(long totalAssignments) {
+        this.totalAssignments = totalAssignments;
+    }
+
+    public long getCompletedAssignments() {
+        return completedAssignments;
+    }
+
+    public void setCompletedAssignments(long completedAssignments) {
+        this.completedAssignments = completedAssignments;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,100 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * JPA entity for a campaign's assignment counters per step type.
+ * Composite PK: (campaignId, stepType). Rows are read and written with JDBC
+ * by {@code CampaignAssignmentCounters}; the mapping serves schema
+ * generation and validation.
+ */
+@Entity
+@Table(name = "campaign_step_counters")
+@IdClass(CampaignStepCounterEntity.CampaignStepCounterKey.class)
+public class CampaignStepCounterEntity {
+
+    @Id
+    @Column(name = "campaign_id", length = 36)
+    private String campaignId;
+
+    @Id
+    @Column(name = "step_type", length = 30)
+    private String stepType;
+
+    @Column(name = "total_assignments", nullable = false)
+    private int totalAssignments;
+
+    @Column(name = "completed_assignments", nullable = false)
+    private int completedAssignments;
+
+    public CampaignStepCounterEntity() {
+    }
+
+    // --- Composite ID class ---
+
+    public static class CampaignStepCounterKey implements Serializable {
+        private String campaignId;
+        private String stepType;
+
+        public CampaignStepCounterKey() {
+        }
+
+        public CampaignStepCounterKey(String campaignId, String stepType) {
+            this.campaignId = campaignId;
+            this.stepType = stepType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            CampaignStepCounterKey that = (CampaignStepCounterKey) o;
+            return Objects.equals(campaignId, that.campaignId) &&
+                    Objects.equals(stepType, that.stepType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(campaignId, stepType);
+        }
+    }
+
+    // --- Getters and Setters ---
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public String getStepType() {
+        return stepType;
+    }
+
+    public void setStepType(String stepType) {
+        this.stepType = stepType;
+    }
+
+    public int getTotalAssignments() {
+        return totalAssignments;
+    }
+
+    public void setTotalAssignments(int totalAssignments) {
+        this.totalAssignments = totalAssignments;
+    }
+
+    public int getCompletedAssignments() {
+        return completedAssignments;
+    }
+
+    public void setCompletedAssignments(int completedAssignments) {
+        this.completedAssignments = completedAssignments;
+    }
+}
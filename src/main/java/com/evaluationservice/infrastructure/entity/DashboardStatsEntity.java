@@ -0,0 +1,109 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for the single row of admin dashboard totals (ID 1).
+ * Read through {@code DashboardStatsRepository}. Writers change the row with
+ * JDBC: they create it idempotently, lock it and add deltas to the counters in
+ * place, so concurrent flushes never overwrite each other's totals.
+ */
+@Entity
+@Table(name = "dashboard_stats")
+public class DashboardStatsEntity {
+
+    @Id
+    private short id;
+
+    @Column(name = "total_campaigns", nullable = false)
+    private long totalCampaigns;
+
+    @Column(name = "active_campaigns", nullable = false)
+    private long activeCampaigns;
+
+    @Column(name = "total_templates", nullable = false)
+    private long totalTemplates;
+
+    @Column(name = "total_assignments", nullable = false)
+    private long totalAssignments;
+
+    @Column(name = "completed_assignments", nullable = false)
+    private long completedAssignments;
+
+    @Column(name = "reconciled_at")
+    private Instant reconciledAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public DashboardStatsEntity() {
+    }
+
+    // --- Getters and Setters ---
+
+    public short getId() {
+        return id;
+    }
+
+    public void setId(short id) {
+        this.id = id;
+    }
+
+    public long getTotalCampaigns() {
+        return totalCampaigns;
+    }
+
+    public void setTotalCampaigns(long totalCampaigns) {
+        this.totalCampaigns = totalCampaigns;
+    }
+
+    public long getActiveCampaigns() {
+        return activeCampaigns;
+    }
+
+    public void setActiveCampaigns(long activeCampaigns) {
+        this.activeCampaigns = activeCampaigns;
+    }
+
+    public long getTotalTemplates() {
+        return totalTemplates;
+    }
+
+    public void setTotalTemplates(long totalTemplates) {
+        this.totalTemplates = totalTemplates;
+    }
+
+    public long getTotalAssignments() {
+        return totalAssignments;
+    }
+
+    public void setTotalAssignments(long totalAssignments) {
+        this.totalAssignments = totalAssignments;
+    }
+
+    public long getCompletedAssignments() {
+        return completedAssignments;
+    }
+
+    public void setCompletedAssignments(long completedAssignments) {
+        this.completedAssignments = completedAssignments;
+    }
+
+    public Instant getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(Instant reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,47 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for a pending rebuild of a campaign's group rollup cube.
+ * Found and claimed through {@code GroupRollupRebuildRepository}; a claim
+ * is a delete, so only one node rebuilds. Requests are inserted with JDBC
+ * and {@code ON CONFLICT DO NOTHING}, keeping the earliest pending time.
+ */
+@Entity
+@Table(name = "group_rollup_rebuilds")
+public class GroupRollupRebuildEntity {
+
+    @Id
+    @Column(name = "campaign_id", length = 36)
+    private String campaignId;
+
+    @Column(name = "requested_at", nullable = false)
+    private Instant requestedAt;
+
+    public GroupRollupRebuildEntity() {
+    }
+
+    // --- Getters and Setters ---
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    public void setRequestedAt(Instant requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+}
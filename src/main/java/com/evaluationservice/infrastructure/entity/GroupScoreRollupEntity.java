@@ -0,0 +1,171 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * JPA entity for the organisational score rollup cube.
+ * Composite PK: (campaignId, groupId, sectionKey). Rows are read and written
+ * with JDBC by {@code GroupRollupAdapter}; the mapping serves schema
+ * generation and validation.
+ */
+@Entity
+@Table(name = "group_score_rollups")
+@IdClass(GroupScoreRollupEntity.GroupScoreRollupKey.class)
+public class GroupScoreRollupEntity {
+
+    @Id
+    @Column(name = "campaign_id", length = 36)
+    private String campaignId;
+
+    @Id
+    @Column(name = "group_id", length = 128)
+    private String groupId;
+
+    @Id
+    @Column(name = "section_key")
+    private String sectionKey;
+
+    @Column(name = "member_count", nullable = false)
+    private int memberCount;
+
+    @Column(name = "score_count", nullable = false)
+    private long scoreCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private double scoreSum;
+
+    @Column(name = "score_sum_squares", nullable = false)
+    private double scoreSumSquares;
+
+    @Column(name = "score_min")
+    private Double scoreMin;
+
+    @Column(name = "score_max")
+    private Double scoreMax;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public GroupScoreRollupEntity() {
+    }
+
+    // --- Composite ID class ---
+
+    public static class GroupScoreRollupKey implements Serializable {
+        private String campaignId;
+        private String groupId;
+        private String sectionKey;
+
+        public GroupScoreRollupKey() {
+        }
+
+        public GroupScoreRollupKey(String campaignId, String groupId, String sectionKey) {
+            this.campaignId = campaignId;
+            this.groupId = groupId;
+            this.sectionKey = sectionKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            GroupScoreRollupKey that = (GroupScoreRollupKey) o;
+            return Objects.equals(campaignId, that.campaignId) &&
+                    Objects.equals(groupId, that.groupId) &&
+                    Objects.equals(sectionKey, that.sectionKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(campaignId, groupId, sectionKey);
+        }
+    }
+
+    // --- Getters and Setters ---
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(String groupId) {
+        this.groupId = groupId;
+    }
+
+    public String getSectionKey() {
+        return sectionKey;
+    }
+
+    public void setSectionKey(String sectionKey) {
+        this.sectionKey = sectionKey;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(int memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public long getScoreCount() {
+        return scoreCount;
+    }
+
+    public void setScoreCount(long scoreCount) {
+        this.scoreCount = scoreCount;
+    }
+
+    public double getScoreSum() {
+        return scoreSum;
+    }
+
+    public void setScoreSum(double scoreSum) {
+        this.scoreSum = scoreSum;
+    }
+
+    public double getScoreSumSquares() {
+        return scoreSumSquares;
+    }
+
+    public void setScoreSumSquares(double scoreSumSquares) {
+        this.scoreSumSquares = scoreSumSquares;
+    }
+
+    public Double getScoreMin() {
+        return scoreMin;
+    }
+
+    public void setScoreMin(Double scoreMin) {
+        this.scoreMin = scoreMin;
+    }
+
+    public Double getScoreMax() {
+        return scoreMax;
+    }
+
+    public void setScoreMax(Double scoreMax) {
+        this.scoreMax = scoreMax;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
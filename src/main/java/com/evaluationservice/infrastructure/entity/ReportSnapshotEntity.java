@@ -0,0 +1,101 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * JPA entity for frozen report snapshots.
+ * Composite PK: (campaignId, evaluateeId), with an empty evaluatee ID for the
+ * campaign report. Read and deleted through {@code ReportSnapshotRepository};
+ * {@code ReportSnapshotAdapter} inserts a campaign's rows in one JDBC batch.
+ */
+@Entity
+@Table(name = "report_snapshots")
+@IdClass(ReportSnapshotEntity.ReportSnapshotKey.class)
+public class ReportSnapshotEntity {
+
+    @Id
+    @Column(name = "campaign_id", length = 36)
+    private String campaignId;
+
+    @Id
+    @Column(name = "evaluatee_id")
+    private String evaluateeId;
+
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public ReportSnapshotEntity() {
+    }
+
+    // --- Composite ID class ---
+
+    public static class ReportSnapshotKey implements Serializable {
+        private String campaignId;
+        private String evaluateeId;
+
+        public ReportSnapshotKey() {
+        }
+
+        public ReportSnapshotKey(String campaignId, String evaluateeId) {
+            this.campaignId = campaignId;
+            this.evaluateeId = evaluateeId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            ReportSnapshotKey that = (ReportSnapshotKey) o;
+            return Objects.equals(campaignId, that.campaignId) &&
+                    Objects.equals(evaluateeId, that.evaluateeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(campaignId, evaluateeId);
+        }
+    }
+
+    // --- Getters and Setters ---
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public String getEvaluateeId() {
+        return evaluateeId;
+    }
+
+    public void setEvaluateeId(String evaluateeId) {
+        this.evaluateeId = evaluateeId;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,160 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * JPA entity for incremental score aggregates.
+ * Composite PK: (campaignId, evaluateeId, sectionKey). Rows are written with
+ * JDBC by {@code ScoreAggregateAdapter}; the mapping serves reads and schema
+ * generation.
+ */
+@Entity
+@Table(name = "score_aggregates")
+@IdClass(ScoreAggregateEntity.ScoreAggregateKey.class)
+public class ScoreAggregateEntity {
+
+    @Id
+    @Column(name = "campaign_id", length = 36)
+    private String campaignId;
+
+    @Id
+    @Column(name = "evaluatee_id")
+    private String evaluateeId;
+
+    @Id
+    @Column(name = "section_key")
+    private String sectionKey;
+
+    @Column(name = "score_count", nullable = false)
+    private long scoreCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private double scoreSum;
+
+    @Column(name = "score_sum_squares", nullable = false)
+    private double scoreSumSquares;
+
+    @Column(name = "score_min")
+    private Double scoreMin;
+
+    @Column(name = "score_max")
+    private Double scoreMax;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public ScoreAggregateEntity() {
+    }
+
+    // --- Composite ID class ---
+
+    public static class ScoreAggregateKey implements Serializable {
+        private String campaignId;
+        private String evaluateeId;
+        private String sectionKey;
+
+        public ScoreAggregateKey() {
+        }
+
+        public ScoreAggregateKey(String campaignId, String evaluateeId, String sectionKey) {
+            this.campaignId = campaignId;
+            this.evaluateeId = evaluateeId;
+            this.sectionKey = sectionKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            ScoreAggregateKey that = (ScoreAggregateKey) o;
+            return Objects.equals(campaignId, that.campaignId) &&
+                    Objects.equals(evaluateeId, that.evaluateeId) &&
+                    Objects.equals(sectionKey, that.sectionKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(campaignId, evaluateeId, sectionKey);
+        }
+    }
+
+    // --- Getters and Setters ---
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public String getEvaluateeId() {
+        return evaluateeId;
+    }
+
+    public void setEvaluateeId(String evaluateeId) {
+        this.evaluateeId = evaluateeId;
+    }
+
+    public String getSectionKey() {
+        return sectionKey;
+    }
+
+    public void setSectionKey(String sectionKey) {
+        this.sectionKey = sectionKey;
+    }
+
+    public long getScoreCount() {
+        return scoreCount;
+    }
+
+    public void setScoreCount(long scoreCount) {
+        this.scoreCount = scoreCount;
+    }
+
+    public double getScoreSum() {
+        return scoreSum;
+    }
+
+    public void setScoreSum(double scoreSum) {
+        this.scoreSum = scoreSum;
+    }
+
+    public double getScoreSumSquares() {
+        return scoreSumSquares;
+    }
+
+    public void setScoreSumSquares(double scoreSumSquares) {
+        this.scoreSumSquares = scoreSumSquares;
+    }
+
+    public Double getScoreMin() {
+        return scoreMin;
+    }
+
+    public void setScoreMin(Double scoreMin) {
+        this.scoreMin = scoreMin;
+    }
+
+    public Double getScoreMax() {
+        return scoreMax;
+    }
+
+    public void setScoreMax(Double scoreMax) {
+        this.scoreMax = scoreMax;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,82 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for a score not yet merged into the campaign's distribution
+ * sketches. Rows are appended and merged with JDBC by
+ * {@code ScoreAggregateAdapter}; the mapping serves schema generation and
+ * validation.
+ */
+@Entity
+@Table(name = "score_sketch_buffer")
+public class ScoreSketchBufferEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "campaign_id", nullable = false, length = 36)
+    private String campaignId;
+
+    @Column(name = "section_key", nullable = false)
+    private String sectionKey;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public ScoreSketchBufferEntity() {
+    }
+
+    // --- Getters and Setters ---
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public String getSectionKey() {
+        return sectionKey;
+    }
+
+    public void setSectionKey(String sectionKey) {
+        this.sectionKey = sectionKey;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
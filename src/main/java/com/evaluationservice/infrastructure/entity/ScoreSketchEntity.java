@@ -0,0 +1,117 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * JPA entity for serialized score distribution sketches.
+ * Composite PK: (campaignId, sectionKey, shard). Read through
+ * {@code ScoreSketchRepository}. Merges and rebuilds write the rows with
+ * JDBC, since they create missing shards with {@code ON CONFLICT DO NOTHING}
+ * and lock rows in key order with {@code FOR UPDATE}.
+ */
+@Entity
+@Table(name = "score_sketches")
+@IdClass(ScoreSketchEntity.ScoreSketchKey.class)
+public class ScoreSketchEntity {
+
+    @Id
+    @Column(name = "campaign_id", length = 36)
+    private String campaignId;
+
+    @Id
+    @Column(name = "section_key")
+    private String sectionKey;
+
+    @Id
+    @Column(name = "shard")
+    private int shard;
+
+    @Column(name = "sketch", nullable = false, columnDefinition = "TEXT")
+    private String sketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public ScoreSketchEntity() {
+    }
+
+    // --- Composite ID class ---
+
+    public static class ScoreSketchKey implements Serializable {
+        private String campaignId;
+        private String sectionKey;
+        private int shard;
+
+        public ScoreSketchKey() {
+        }
+
+        public ScoreSketchKey(String campaignId, String sectionKey, int shard) {
+            this.campaignId = campaignId;
+            this.sectionKey = sectionKey;
+            this.shard = shard;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            ScoreSketchKey that = (ScoreSketchKey) o;
+            return shard == that.shard &&
+                    Objects.equals(campaignId, that.campaignId) &&
+                    Objects.equals(sectionKey, that.sectionKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(campaignId, sectionKey, shard);
+        }
+    }
+
+    // --- Getters and Setters ---
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public String getSectionKey() {
+        return sectionKey;
+    }
+
+    public void setSectionKey(String sectionKey) {
+        this.sectionKey = sectionKey;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public void setShard(int shard) {
+        this.shard = shard;
+    }
+
+    public String getSketch() {
+        return sketch;
+    }
+
+    public void setSketch(String sketch) {
+        this.sketch = sketch;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
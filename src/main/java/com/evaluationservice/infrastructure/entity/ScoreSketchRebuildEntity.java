@@ -0,0 +1,47 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for a pending rebuild of a campaign's distribution sketches.
+ * Read and cleared through {@code ScoreSketchRebuildRepository}. Requests
+ * are written with JDBC, as a bump of the existing row followed by an insert
+ * that tolerates a concurrent request ({@code ON CONFLICT DO NOTHING}).
+ */
+@Entity
+@Table(name = "score_sketch_rebuilds")
+public class ScoreSketchRebuildEntity {
+
+    @Id
+    @Column(name = "campaign_id", length = 36)
+    private String campaignId;
+
+    @Column(name = "requested_at", nullable = false)
+    private Instant requestedAt;
+
+    public ScoreSketchRebuildEntity() {
+    }
+
+    // --- Getters and Setters ---
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    public void setRequestedAt(Instant requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+}
@@ -0,0 +1,123 @@
+package com.evaluationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * JPA entity for cross-campaign score trends.
+ * Composite PK: (evaluateeId, campaignId). Read and deleted through
+ * {@code ScoreTrendRepository}. Recording a campaign replaces its rows with
+ * a bulk delete and one JDBC batch insert of a row per evaluatee.
+ */
+@Entity
+@Table(name = "score_trends")
+@IdClass(ScoreTrendEntity.ScoreTrendKey.class)
+public class ScoreTrendEntity {
+
+    @Id
+    @Column(name = "evaluatee_id")
+    private String evaluateeId;
+
+    @Id
+    @Column(name = "campaign_id", length = 36)
+    private String campaignId;
+
+    @Column(name = "campaign_name", nullable = false)
+    private String campaignName;
+
+    @Column(name = "cycle_end", nullable = false)
+    private Instant cycleEnd;
+
+    @Column(name = "summary", nullable = false)
+    private byte[] summary;
+
+    @Column(name = "recorded_at", nullable = false)
+    private Instant recordedAt;
+
+    public ScoreTrendEntity() {
+    }
+
+    // --- Composite ID class ---
+
+    public static class ScoreTrendKey implements Serializable {
+        private String evaluateeId;
+        private String campaignId;
+
+        public ScoreTrendKey() {
+        }
+
+        public ScoreTrendKey(String evaluateeId, String campaignId) {
+            this.evaluateeId = evaluateeId;
+            this.campaignId = campaignId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            ScoreTrendKey that = (ScoreTrendKey) o;
+            return Objects.equals(evaluateeId, that.evaluateeId) &&
+                    Objects.equals(campaignId, that.campaignId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(evaluateeId, campaignId);
+        }
+    }
+
+    // --- Getters and Setters ---
+
+    public String getEvaluateeId() {
+        return evaluateeId;
+    }
+
+    public void setEvaluateeId(String evaluateeId) {
+        this.evaluateeId = evaluateeId;
+    }
+
+    public String getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(String campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public String getCampaignName() {
+        return campaignName;
+    }
+
+    public void setCampaignName(String campaignName) {
+        this.campaignName = campaignName;
+    }
+
+    public Instant getCycleEnd() {
+        return cycleEnd;
+    }
+
+    public void setCycleEnd(Instant cycleEnd) {
+        this.cycleEnd = cycleEnd;
+    }
+
+    public byte[] getSummary() {
+        return summary;
+    }
+
+    public void setSummary(byte[] summary) {
+        this.summary = summary;
+    }
+
+    public Instant getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(Instant recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+}
@@ -27,6 +27,27 @@ public interface CampaignAssignmentRepository extends JpaRepository<CampaignAssi
 
     long countByEvaluatorIdAndCompletedTrue(String evaluatorId);
 
+    /**
+     * An evaluator's assignment counts by completion and evaluation counts by
+     * status in one round-trip. Rows are (kind, key, count): kind
+     * {@code ASSIGNMENT} is keyed {@code COMPLETED} or {@code PENDING}, kind
+     * {@code EVALUATION} by evaluation status.
+     */
+    @Query(value = """
+            SELECT 'ASSIGNMENT' AS kind,
+                   CASE WHEN a.completed THEN 'COMPLETED' ELSE 'PENDING' END AS count_key,
+                   COUNT(*) AS total
+              FROM campaign_assignments a
+             WHERE a.evaluator_id = :evaluatorId
+             GROUP BY a.completed
+            UNION ALL
+            SELECT 'EVALUATION', e.status, COUNT(*)
+              FROM evaluations e
+             WHERE e.evaluator_id = :evaluatorId
+             GROUP BY e.status
+            """, nativeQuery = true)
+    List<Object[]> countDashboardByEvaluatorId(@Param("evaluatorId") String evaluatorId);
+
     @Query("""
             SELECT a FROM CampaignAssignmentEntity a
              WHERE (:campaignId IS NULL OR a.campaignId = :campaignId)
@@ -107,4 +128,30 @@ public interface CampaignAssignmentRepository extends JpaRepository<CampaignAssi
              WHERE a.id = :assignmentId
             """)
     int markReopened(@Param("assignmentId") String assignmentId, @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("""
+            UPDATE CampaignAssignmentEntity a
+               SET a.completed = true,
+                   a.evaluationId = :evaluationId,
+                   a.status = 'COMPLETED',
+                   a.updatedAt = :updatedAt
+             WHERE a.id = :assignmentId
+               AND a.completed = false
+            """)
+    int markCompletedIfOpen(@Param("assignmentId") String assignmentId,
+            @Param("evaluationId") String evaluationId,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("""
+            UPDATE CampaignAssignmentEntity a
+               SET a.completed = false,
+                   a.evaluationId = null,
+                   a.status = 'ACTIVE',
+                   a.updatedAt = :updatedAt
+             WHERE a.id = :assignmentId
+               AND a.completed = true
+            """)
+    int markReopenedIfCompleted(@Param("assignmentId") String assignmentId, @Param("updatedAt") Instant updatedAt);
 }
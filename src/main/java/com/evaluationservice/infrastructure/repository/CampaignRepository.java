@@ -8,14 +8,29 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CampaignRepository extends JpaRepository<CampaignEntity, String> {
 
     Page<CampaignEntity> findByStatus(String status, Pageable pageable);
 
+    @Query("""
+            SELECT c.id AS id,
+                   c.templateId AS templateId,
+                   c.templateVersion AS templateVersion,
+                   c.status AS status,
+                   c.startDate AS startDate,
+                   c.endDate AS endDate,
+                   c.locked AS locked
+              FROM CampaignEntity c
+             WHERE c.id = :campaignId
+            """)
+    Optional<CampaignHeaderView> findHeaderById(@Param("campaignId") String campaignId);
+
     long countByStatus(String status);
 
     @Query(value = """
@@ -50,4 +65,23 @@ public interface CampaignRepository extends JpaRepository<CampaignEntity, String
     List<CampaignEntity> findByIdIn(Collection<String> ids);
 
     List<CampaignEntity> findAllByOrderByUpdatedAtDesc(Pageable pageable);
+
+    /**
+     * Column projection of the campaign row that skips the JSON payload columns.
+     */
+    interface CampaignHeaderView {
+        String getId();
+
+        String getTemplateId();
+
+        Integer getTemplateVersion();
+
+        String getStatus();
+
+        Instant getStartDate();
+
+        Instant getEndDate();
+
+        Boolean getLocked();
+    }
 }
@@ -0,0 +1,9 @@
+package com.evaluationservice.infrastructure.repository;
+
+import com.evaluationservice.infrastructure.entity.CampaignStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CampaignStatsRepository extends JpaRepository<CampaignStatsEntity, String> {
+}
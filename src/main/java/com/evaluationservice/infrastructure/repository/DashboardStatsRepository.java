@@ -0,0 +1,13 @@
+package com.evaluationservice.infrastructure.repository;
+
+import com.evaluationservice.infrastructure.entity.DashboardStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DashboardStatsRepository extends JpaRepository<DashboardStatsEntity, Short> {
+
+    Optional<DashboardStatsEntity> findByIdAndReconciledAtIsNotNull(short id);
+}
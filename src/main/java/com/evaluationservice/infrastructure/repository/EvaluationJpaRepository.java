@@ -3,9 +3,16 @@ package com.evaluationservice.infrastructure.repository;
 import com.evaluationservice.infrastructure.entity.EvaluationEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +21,12 @@ public interface EvaluationJpaRepository extends JpaRepository<EvaluationEntity,
 
     Optional<EvaluationEntity> findByAssignmentId(String assignmentId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM EvaluationEntity e WHERE e.id = :id")
+    Optional<EvaluationEntity> findByIdForUpdate(@Param("id") String id);
+
+    List<EvaluationEntity> findByAssignmentIdIn(Collection<String> assignmentIds);
+
     Page<EvaluationEntity> findByCampaignId(String campaignId, Pageable pageable);
 
     Page<EvaluationEntity> findByEvaluateeId(String evaluateeId, Pageable pageable);
@@ -28,4 +41,34 @@ public interface EvaluationJpaRepository extends JpaRepository<EvaluationEntity,
     long countByStatus(String status);
 
     List<EvaluationEntity> findAllByOrderByUpdatedAtDesc(Pageable pageable);
+
+    @Query("""
+            SELECT e.id FROM EvaluationEntity e
+             WHERE e.status = 'SCORING'
+               AND e.updatedAt < :updatedBefore
+               AND NOT EXISTS (
+                   SELECT f.evaluationId FROM ScoringFailureEntity f
+                    WHERE f.evaluationId = e.id
+                      AND (f.deadLetteredAt IS NOT NULL OR f.nextAttemptAt > :now))
+             ORDER BY e.updatedAt ASC
+            """)
+    List<String> findScoringDue(
+            @Param("updatedBefore") Instant updatedBefore,
+            @Param("now") Instant now,
+            Pageable pageable);
+
+    @Modifying
+    @Query("""
+            UPDATE EvaluationEntity e
+               SET e.status = 'COMPLETED',
+                   e.totalScore = :totalScore,
+                   e.sectionScoresJson = :sectionScoresJson,
+                   e.updatedAt = :updatedAt
+             WHERE e.id = :id
+               AND e.status = 'SCORING'
+            """)
+    int completeScoring(@Param("id") String id,
+            @Param("totalScore") Double totalScore,
+            @Param("sectionScoresJson") String sectionScoresJson,
+            @Param("updatedAt") Instant updatedAt);
 }
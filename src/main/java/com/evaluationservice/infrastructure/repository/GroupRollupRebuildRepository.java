@@ -0,0 +1,22 @@
+package com.evaluationservice.infrastructure.repository;
+
+import com.evaluationservice.infrastructure.entity.GroupRollupRebuildEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface GroupRollupRebuildRepository extends JpaRepository<GroupRollupRebuildEntity, String> {
+
+    List<GroupRollupRebuildEntity> findByRequestedAtBeforeOrderByRequestedAt(Instant requestedBefore, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM GroupRollupRebuildEntity r WHERE r.campaignId = :campaignId")
+    int deleteByCampaignId(@Param("campaignId") String campaignId);
+}
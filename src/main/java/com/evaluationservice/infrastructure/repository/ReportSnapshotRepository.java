@@ -0,0 +1,23 @@
+package com.evaluationservice.infrastructure.repository;
+
+import com.evaluationservice.infrastructure.entity.ReportSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReportSnapshotRepository
+        extends JpaRepository<ReportSnapshotEntity, ReportSnapshotEntity.ReportSnapshotKey> {
+
+    List<ReportSnapshotEntity> findByCampaignIdOrderByEvaluateeId(String campaignId);
+
+    boolean existsByCampaignIdAndEvaluateeId(String campaignId, String evaluateeId);
+
+    @Modifying
+    @Query("DELETE FROM ReportSnapshotEntity s WHERE s.campaignId = :campaignId")
+    int deleteByCampaignId(@Param("campaignId") String campaignId);
+}
@@ -0,0 +1,42 @@
+package com.evaluationservice.infrastructure.repository;
+
+import com.evaluationservice.infrastructure.entity.ScoreAggregateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ScoreAggregateRepository
+        extends JpaRepository<ScoreAggregateEntity, ScoreAggregateEntity.ScoreAggregateKey> {
+
+    List<ScoreAggregateEntity> findByCampaignIdAndEvaluateeId(String campaignId, String evaluateeId);
+
+    List<ScoreAggregateEntity> findByCampaignIdOrderByEvaluateeId(String campaignId);
+
+    /**
+     * Per section key: count, sum, sum of squares, min and max merged across evaluatees.
+     */
+    @Query("""
+            SELECT a.sectionKey, SUM(a.scoreCount), SUM(a.scoreSum), SUM(a.scoreSumSquares),
+                   MIN(a.scoreMin), MAX(a.scoreMax)
+              FROM ScoreAggregateEntity a
+             WHERE a.campaignId = :campaignId
+               AND a.scoreCount > 0
+             GROUP BY a.sectionKey
+            """)
+    List<Object[]> sumByCampaignId(@Param("campaignId") String campaignId);
+
+    @Modifying
+    @Query("DELETE FROM ScoreAggregateEntity a WHERE a.campaignId = :campaignId")
+    int deleteByCampaignId(@Param("campaignId") String campaignId);
+
+    @Modifying
+    @Query("DELETE FROM ScoreAggregateEntity a WHERE a.campaignId = :campaignId AND a.evaluateeId = :evaluateeId")
+    int deleteByCampaignIdAndEvaluateeId(
+            @Param("campaignId") String campaignId,
+            @Param("evaluateeId") String evaluateeId);
+}
@@ -0,0 +1,34 @@
+package com.evaluationservice.infrastructure.repository;
+
+import com.evaluationservice.infrastructure.entity.ScoreSketchRebuildEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScoreSketchRebuildRepository extends JpaRepository<ScoreSketchRebuildEntity, String> {
+
+    List<ScoreSketchRebuildEntity> findByRequestedAtBeforeOrderByRequestedAt(Instant requestedBefore, Pageable pageable);
+
+    @Query("SELECT r.requestedAt FROM ScoreSketchRebuildEntity r WHERE r.campaignId = :campaignId")
+    Optional<Instant> findRequestedAt(@Param("campaignId") String campaignId);
+
+    /**
+     * Deletes the request unless it was bumped after {@code requestedAt} was read.
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM ScoreSketchRebuildEntity r
+             WHERE r.campaignId = :campaignId AND r.requestedAt = :requestedAt
+            """)
+    int deleteByCampaignIdAndRequestedAt(
+            @Param("campaignId") String campaignId,
+            @Param("requestedAt") Instant requestedAt);
+}
@@ -0,0 +1,19 @@
+package com.evaluationservice.infrastructure.repository;
+
+import com.evaluationservice.infrastructure.entity.ScoreSketchEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ScoreSketchRepository extends JpaRepository<ScoreSketchEntity, ScoreSketchEntity.ScoreSketchKey> {
+
+    /**
+     * Per shard of the campaign: section key and serialized sketch.
+     */
+    @Query("SELECT s.sectionKey, s.sketch FROM ScoreSketchEntity s WHERE s.campaignId = :campaignId")
+    List<Object[]> findSketchesByCampaignId(@Param("campaignId") String campaignId);
+}
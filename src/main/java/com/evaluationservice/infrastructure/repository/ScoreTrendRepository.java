@@ -0,0 +1,23 @@
+package com.evaluationservice.infrastructure.repository;
+
+import com.evaluationservice.infrastructure.entity.ScoreTrendEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ScoreTrendRepository extends JpaRepository<ScoreTrendEntity, ScoreTrendEntity.ScoreTrendKey> {
+
+    List<ScoreTrendEntity> findByEvaluateeIdOrderByCycleEndDescCampaignIdAsc(String evaluateeId, Pageable pageable);
+
+    boolean existsByCampaignId(String campaignId);
+
+    @Modifying
+    @Query("DELETE FROM ScoreTrendEntity t WHERE t.campaignId = :campaignId")
+    int deleteByCampaignId(@Param("campaignId") String campaignId);
+}
@@ -0,0 +1,45 @@
+package com.evaluationservice.infrastructure.scheduler;
+
+import com.evaluationservice.infrastructure.adapter.CampaignAssignmentCounters;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Folds pending completion deltas into the assignment counters, one batch
+ * per transaction until the backlog is drained.
+ */
+@Component
+public class AssignmentCounterFoldScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AssignmentCounterFoldScheduler.class);
+
+    private final CampaignAssignmentCounters counters;
+    private final EvaluationServiceProperties.Assignment assignmentConfig;
+
+    public AssignmentCounterFoldScheduler(
+            CampaignAssignmentCounters counters,
+            EvaluationServiceProperties properties) {
+        this.counters = counters;
+        this.assignmentConfig = properties.getAssignment();
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.service.assignment.counter-fold-interval-ms:1000}")
+    public void fold() {
+        int batchSize = Math.max(assignmentConfig.getCounterFoldBatchSize(), 1);
+        try {
+            int folded;
+            do {
+                folded = counters.fold(batchSize);
+                if (folded > 0) {
+                    log.debug("Folded {} assignment counter delta(s)", folded);
+                }
+            } while (folded >= batchSize);
+        } catch (RuntimeException ex) {
+            // Unfolded deltas stay pending and are retried on the next run
+            log.warn("Assignment counter fold failed: {}", ex.getMessage());
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Periodic reconciliation scanner for legacy JSON vs relational assignments.
+ * Also checks each campaign's assignment counters and repairs drift.
  */
 @Component
 public class AssignmentReconciliationScheduler {
@@ -40,6 +41,7 @@ public class AssignmentReconciliationScheduler {
         int maxCampaigns = Math.max(assignmentConfig.getReconciliationMaxCampaigns(), 1);
         AtomicInteger scanned = new AtomicInteger();
         AtomicInteger inconsistent = new AtomicInteger();
+        AtomicInteger repairedCounters = new AtomicInteger();
 
         int page = 0;
         int size = 100;
@@ -62,6 +64,17 @@ public class AssignmentReconciliationScheduler {
                             result.onlyInRelationalCount(),
                             result.completionMismatchCount());
                 }
+                var counterCheck = reconciliationService.checkCounters(campaign.getId().value(), true);
+                if (counterCheck.repaired()) {
+                    repairedCounters.incrementAndGet();
+                    log.warn("Repaired assignment counters for campaign {}: total {} -> {}, completed {} -> {}, drifted steps={}",
+                            counterCheck.campaignId(),
+                            counterCheck.storedTotal(),
+                            counterCheck.countedTotal(),
+                            counterCheck.storedCompleted(),
+                            counterCheck.countedCompleted(),
+                            counterCheck.driftedSteps());
+                }
             }
 
             if (campaigns.size() < size) {
@@ -71,7 +84,8 @@ public class AssignmentReconciliationScheduler {
         }
 
         if (scanned.get() > 0) {
-            log.info("Assignment reconciliation run finished. scanned={}, inconsistent={}", scanned.get(), inconsistent.get());
+            log.info("Assignment reconciliation run finished. scanned={}, inconsistent={}, repairedCounters={}",
+                    scanned.get(), inconsistent.get(), repairedCounters.get());
         }
     }
 }
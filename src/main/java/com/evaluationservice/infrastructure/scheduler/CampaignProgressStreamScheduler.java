@@ -0,0 +1,38 @@
+package com.evaluationservice.infrastructure.scheduler;
+
+import com.evaluationservice.infrastructure.service.CampaignProgressBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pushes changed campaign progress to open streams and keeps idle streams
+ * alive.
+ */
+@Component
+public class CampaignProgressStreamScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CampaignProgressStreamScheduler.class);
+
+    private final CampaignProgressBroadcaster broadcaster;
+
+    public CampaignProgressStreamScheduler(CampaignProgressBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.service.progress.push-interval-ms:1000}")
+    public void push() {
+        int pushed = broadcaster.pushChanged();
+        if (pushed > 0) {
+            log.debug("Pushed progress for {} campaign(s)", pushed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.service.progress.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        if (broadcaster.openStreams() > 0) {
+            broadcaster.heartbeat();
+        }
+    }
+}
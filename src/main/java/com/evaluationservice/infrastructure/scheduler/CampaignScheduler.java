@@ -4,10 +4,12 @@ import com.evaluationservice.application.port.out.CampaignPersistencePort;
 import com.evaluationservice.application.port.out.NotificationPort;
 import com.evaluationservice.domain.entity.Campaign;
 import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.event.CampaignChangedEvent;
 import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -28,6 +30,7 @@ public class CampaignScheduler {
 
     private final CampaignPersistencePort campaignPersistencePort;
     private final NotificationPort notificationPort;
+    private final ApplicationEventPublisher eventPublisher;
     private final EvaluationServiceProperties.Campaign campaignConfig;
     private final boolean sendReminders;
     private final int reminderDays;
@@ -35,9 +38,11 @@ public class CampaignScheduler {
     public CampaignScheduler(
             CampaignPersistencePort campaignPersistencePort,
             NotificationPort notificationPort,
+            ApplicationEventPublisher eventPublisher,
             EvaluationServiceProperties properties) {
         this.campaignPersistencePort = campaignPersistencePort;
         this.notificationPort = notificationPort;
+        this.eventPublisher = eventPublisher;
         this.campaignConfig = properties.getCampaign();
         this.sendReminders = campaignConfig.isSendDeadlineReminders();
         this.reminderDays = campaignConfig.getReminderDaysBeforeDeadline();
@@ -75,6 +80,7 @@ public class CampaignScheduler {
                 try {
                     campaign.activate();
                     campaignPersistencePort.save(campaign);
+                    eventPublisher.publishEvent(CampaignChangedEvent.of(campaign.getId(), "ACTIVATE"));
                     activated++;
                     log.info("Auto-activated campaign: {} ({})", campaign.getName(), campaign.getId().value());
                 } catch (Exception e) {
@@ -99,6 +105,7 @@ public class CampaignScheduler {
                 try {
                     campaign.close();
                     campaignPersistencePort.save(campaign);
+                    eventPublisher.publishEvent(CampaignChangedEvent.of(campaign.getId(), "CLOSE"));
                     closed++;
                     log.info("Auto-closed campaign: {} ({})", campaign.getName(), campaign.getId().value());
                 } catch (Exception e) {
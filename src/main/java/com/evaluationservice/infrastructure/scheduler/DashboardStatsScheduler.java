@@ -0,0 +1,53 @@
+package com.evaluationservice.infrastructure.scheduler;
+
+import com.evaluationservice.application.service.DashboardStatsService;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Folds changed campaigns into the dashboard counters and periodically
+ * reconciles the counters against the source tables.
+ */
+@Component
+public class DashboardStatsScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStatsScheduler.class);
+
+    private final DashboardStatsService dashboardStatsService;
+    private final EvaluationServiceProperties.Dashboard dashboardConfig;
+
+    public DashboardStatsScheduler(
+            DashboardStatsService dashboardStatsService,
+            EvaluationServiceProperties properties) {
+        this.dashboardStatsService = dashboardStatsService;
+        this.dashboardConfig = properties.getDashboard();
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.service.dashboard.stats-flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            int refreshed = dashboardStatsService.flush();
+            if (refreshed > 0) {
+                log.debug("Refreshed dashboard counters for {} campaign(s)", refreshed);
+            }
+        } catch (RuntimeException ex) {
+            // Changed campaigns stay marked and are retried on the next run
+            log.warn("Dashboard counter flush failed: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${evaluation.service.dashboard.stats-reconciliation-cron:0 15 * * * *}")
+    public void reconcile() {
+        if (!dashboardConfig.isStatsReconciliationEnabled()) {
+            return;
+        }
+        var result = dashboardStatsService.reconcile();
+        if (result.drifted() && result.previous() != null) {
+            log.warn("Dashboard counters drifted and were repaired: before={}, after={}",
+                    result.previous(), result.current());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.evaluationservice.infrastructure.scheduler;
+
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.infrastructure.service.InMemoryDraftAnswerBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes coalesced draft answer changes once they are due, and everything
+ * still buffered on graceful shutdown.
+ */
+@Component
+public class DraftFlushScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftFlushScheduler.class);
+
+    private final InMemoryDraftAnswerBuffer draftBuffer;
+    private final EvaluationSubmissionUseCase evaluationUseCase;
+    private final MeterRegistry meterRegistry;
+
+    public DraftFlushScheduler(
+            InMemoryDraftAnswerBuffer draftBuffer,
+            EvaluationSubmissionUseCase evaluationUseCase,
+            MeterRegistry meterRegistry) {
+        this.draftBuffer = draftBuffer;
+        this.evaluationUseCase = evaluationUseCase;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.service.submission.draft-flush-interval-ms:1000}")
+    public void run() {
+        flush(draftBuffer.dueForFlush(Instant.now()));
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        List<EvaluationId> buffered = draftBuffer.bufferedIds();
+        if (!buffered.isEmpty()) {
+            log.info("Flushing buffered draft changes for {} evaluation(s) before shutdown", buffered.size());
+            flush(buffered);
+        }
+    }
+
+    private void flush(List<EvaluationId> evaluationIds) {
+        for (EvaluationId evaluationId : evaluationIds) {
+            String result;
+            try {
+                result = evaluationUseCase.flushDraft(evaluationId) ? "written" : "skipped";
+            } catch (RuntimeException ex) {
+                // Changes were put back and are retried on the next run
+                result = "failed";
+                log.warn("Draft flush failed for evaluation {}: {}", evaluationId.value(), ex.getMessage());
+            }
+            meterRegistry.counter("evaluation.draft.autosave.flushes", "result", result).increment();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.evaluationservice.infrastructure.scheduler;
+
+import com.evaluationservice.application.service.GroupRollupService;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Rebuilds the group rollup cubes of campaigns whose scores changed, at most
+ * once per rebuild delay, off the request path.
+ */
+@Component
+public class GroupRollupScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupRollupScheduler.class);
+    private static final int REBUILDS_PER_RUN = 20;
+
+    private final GroupRollupService groupRollupService;
+    private final EvaluationServiceProperties.Reports reportsConfig;
+
+    public GroupRollupScheduler(GroupRollupService groupRollupService, EvaluationServiceProperties properties) {
+        this.groupRollupService = groupRollupService;
+        this.reportsConfig = properties.getReports();
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.service.reports.rollup-rebuild-interval-ms:5000}")
+    public void run() {
+        try {
+            groupRollupService.flushRebuildRequests();
+        } catch (RuntimeException ex) {
+            // Changed campaigns stay marked and are requested on the next run
+            log.warn("Group rollup rebuild request flush failed: {}", ex.getMessage());
+        }
+        Instant requestedBefore = Instant.now().minusMillis(reportsConfig.getRollupRebuildDelayMs());
+        for (CampaignId campaignId : groupRollupService.findRebuildRequests(requestedBefore, REBUILDS_PER_RUN)) {
+            try {
+                if (groupRollupService.rebuildRequested(campaignId)) {
+                    log.debug("Rebuilt group rollups for campaign {}", campaignId.value());
+                }
+            } catch (RuntimeException ex) {
+                // The request stays and the rebuild is retried on the next run
+                log.warn("Group rollup rebuild failed for campaign {}: {}", campaignId.value(), ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.evaluationservice.infrastructure.scheduler;
+
+import com.evaluationservice.application.service.ScoreAggregateService;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Merges buffered scores into the distribution sketches and runs the sketch
+ * rebuilds requested by withdrawals, off the request path.
+ */
+@Component
+public class ScoreSketchScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreSketchScheduler.class);
+    private static final int REBUILDS_PER_RUN = 20;
+
+    private final ScoreAggregateService scoreAggregateService;
+    private final EvaluationServiceProperties.Reports reportsConfig;
+
+    public ScoreSketchScheduler(
+            ScoreAggregateService scoreAggregateService,
+            EvaluationServiceProperties properties) {
+        this.scoreAggregateService = scoreAggregateService;
+        this.reportsConfig = properties.getReports();
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.service.reports.sketch-merge-interval-ms:1000}")
+    public void run() {
+        merge();
+        rebuild();
+    }
+
+    private void merge() {
+        int batchSize = Math.max(reportsConfig.getSketchMergeBatchSize(), 1);
+        try {
+            int merged;
+            do {
+                merged = scoreAggregateService.mergeSketchBuffer(batchSize);
+                if (merged > 0) {
+                    log.debug("Merged {} buffered score(s) into sketches", merged);
+                }
+            } while (merged >= batchSize);
+        } catch (RuntimeException ex) {
+            // Unmerged scores stay buffered and are retried on the next run
+            log.warn("Sketch buffer merge failed: {}", ex.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        Instant quietSince = Instant.now().minusMillis(reportsConfig.getSketchRebuildDelayMs());
+        for (CampaignId campaignId : scoreAggregateService.findSketchRebuilds(quietSince, REBUILDS_PER_RUN)) {
+            try {
+                scoreAggregateService.rebuildSketches(campaignId);
+            } catch (RuntimeException ex) {
+                // The request stays and the rebuild is retried on the next run
+                log.warn("Sketch rebuild failed for campaign {}: {}", campaignId.value(), ex.getMessage());
+            }
+        }
+    }
+}
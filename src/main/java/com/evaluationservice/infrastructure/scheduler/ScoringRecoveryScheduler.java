@@ -0,0 +1,37 @@
+package com.evaluationservice.infrastructure.scheduler;
+
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import com.evaluationservice.infrastructure.service.AsyncScoringWorkerPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Re-queues evaluations that have been sitting in SCORING for longer than one
+ * recovery interval, e.g. because the queue was full or a node went down.
+ */
+@Component
+public class ScoringRecoveryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringRecoveryScheduler.class);
+
+    private final AsyncScoringWorkerPool workerPool;
+    private final EvaluationServiceProperties.Submission submissionConfig;
+
+    public ScoringRecoveryScheduler(AsyncScoringWorkerPool workerPool, EvaluationServiceProperties properties) {
+        this.workerPool = workerPool;
+        this.submissionConfig = properties.getSubmission();
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.service.submission.scoring-recovery-interval-ms:60000}")
+    public void run() {
+        Instant cutoff = Instant.now().minusMillis(Math.max(1, submissionConfig.getScoringRecoveryIntervalMs()));
+        int resumed = workerPool.resumeStalled(cutoff);
+        if (resumed > 0) {
+            log.info("Scoring recovery re-queued {} evaluation(s)", resumed);
+        }
+    }
+}
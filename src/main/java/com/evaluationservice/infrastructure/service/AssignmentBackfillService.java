@@ -1,6 +1,7 @@
 package com.evaluationservice.infrastructure.service;
 
 import com.evaluationservice.api.dto.response.AssignmentBackfillResponse;
+import com.evaluationservice.infrastructure.adapter.CampaignAssignmentCounters;
 import com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity;
 import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
 import com.evaluationservice.infrastructure.repository.CampaignRepository;
@@ -27,12 +28,15 @@ public class AssignmentBackfillService {
 
     private final CampaignRepository campaignRepository;
     private final CampaignAssignmentRepository assignmentRepository;
+    private final CampaignAssignmentCounters counters;
 
     public AssignmentBackfillService(
             CampaignRepository campaignRepository,
-            CampaignAssignmentRepository assignmentRepository) {
+            CampaignAssignmentRepository assignmentRepository,
+            CampaignAssignmentCounters counters) {
         this.campaignRepository = campaignRepository;
         this.assignmentRepository = assignmentRepository;
+        this.counters = counters;
     }
 
     @Transactional
@@ -76,6 +80,8 @@ public class AssignmentBackfillService {
 
                 if (!dryRun && !toInsert.isEmpty()) {
                     assignmentRepository.saveAll(toInsert);
+                    assignmentRepository.flush();
+                    counters.recount(campaign.getId());
                     insertedAssignments += toInsert.size();
                 }
             }
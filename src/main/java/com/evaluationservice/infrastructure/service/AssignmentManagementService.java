@@ -6,9 +6,13 @@ import com.evaluationservice.api.dto.response.AssignmentListResponse;
 import com.evaluationservice.api.dto.response.AssignmentResponse;
 import com.evaluationservice.api.exception.DuplicateAssignmentException;
 import com.evaluationservice.domain.enums.EvaluatorRole;
+import com.evaluationservice.domain.event.CampaignChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.adapter.CampaignAssignmentCounters;
 import com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity;
 import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
 import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.PageRequest;
@@ -29,12 +33,18 @@ public class AssignmentManagementService {
 
     private final CampaignAssignmentRepository assignmentRepository;
     private final CampaignRepository campaignRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CampaignAssignmentCounters counters;
 
     public AssignmentManagementService(
             CampaignAssignmentRepository assignmentRepository,
-            CampaignRepository campaignRepository) {
+            CampaignRepository campaignRepository,
+            ApplicationEventPublisher eventPublisher,
+            CampaignAssignmentCounters counters) {
         this.assignmentRepository = Objects.requireNonNull(assignmentRepository);
         this.campaignRepository = Objects.requireNonNull(campaignRepository);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.counters = Objects.requireNonNull(counters);
     }
 
     @Transactional(readOnly = true)
@@ -117,13 +127,17 @@ public class AssignmentManagementService {
         entity.setCreatedAt(now);
         entity.setUpdatedAt(now);
 
-        return toResponse(assignmentRepository.save(entity));
+        CampaignAssignmentEntity saved = assignmentRepository.saveAndFlush(entity);
+        counters.recount(campaignId);
+        eventPublisher.publishEvent(CampaignChangedEvent.of(CampaignId.of(campaignId), "ASSIGNMENTS"));
+        return toResponse(saved);
     }
 
     @Transactional
     public AssignmentResponse update(String id, UpdateAssignmentRequest request) {
         CampaignAssignmentEntity entity = assignmentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Assignment not found: " + id));
+        String previousStepType = entity.getStepType();
         entity.setStepType(normalizeAllowed(request.stepType(), ALLOWED_STEP_TYPES, "stepType"));
         entity.setSectionId(normalize(request.sectionId()));
         entity.setFacultyId(normalize(request.facultyId()));
@@ -132,7 +146,13 @@ public class AssignmentManagementService {
             entity.setStatus(normalizeAllowed(request.status(), ALLOWED_STATUSES, "status"));
         }
         entity.setUpdatedAt(Instant.now());
-        return toResponse(assignmentRepository.save(entity));
+        if (Objects.equals(previousStepType, entity.getStepType())) {
+            return toResponse(assignmentRepository.save(entity));
+        }
+        // Moving steps shifts the per-step counters
+        CampaignAssignmentEntity saved = assignmentRepository.saveAndFlush(entity);
+        counters.recount(saved.getCampaignId());
+        return toResponse(saved);
     }
 
     private String normalizeEvaluatorRole(String value) {
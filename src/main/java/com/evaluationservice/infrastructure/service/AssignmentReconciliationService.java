@@ -1,19 +1,27 @@
 package com.evaluationservice.infrastructure.service;
 
+import com.evaluationservice.api.dto.response.AssignmentCounterCheckResponse;
 import com.evaluationservice.api.dto.response.AssignmentReconciliationResponse;
+import com.evaluationservice.application.port.out.CampaignProgressPort.StepCount;
+import com.evaluationservice.infrastructure.adapter.CampaignAssignmentCounters;
+import com.evaluationservice.infrastructure.adapter.CampaignAssignmentCounters.Counters;
 import com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity;
 import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
 import com.evaluationservice.infrastructure.repository.CampaignRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 public class AssignmentReconciliationService {
@@ -22,12 +30,15 @@ public class AssignmentReconciliationService {
 
     private final CampaignRepository campaignRepository;
     private final CampaignAssignmentRepository assignmentRepository;
+    private final CampaignAssignmentCounters counters;
 
     public AssignmentReconciliationService(
             CampaignRepository campaignRepository,
-            CampaignAssignmentRepository assignmentRepository) {
+            CampaignAssignmentRepository assignmentRepository,
+            CampaignAssignmentCounters counters) {
         this.campaignRepository = campaignRepository;
         this.assignmentRepository = assignmentRepository;
+        this.counters = counters;
     }
 
     public AssignmentReconciliationResponse reconcile(String campaignId) {
@@ -62,6 +73,46 @@ public class AssignmentReconciliationService {
                 completionMismatches);
     }
 
+    /**
+     * Compares the campaign's stored assignment counters with a direct count
+     * of its assignment rows and, when {@code repair} is set, rewrites drifted
+     * counters from the rows.
+     */
+    @Transactional
+    public AssignmentCounterCheckResponse checkCounters(String campaignId, boolean repair) {
+        Counters stored = counters.find(campaignId)
+                .orElseThrow(() -> new IllegalArgumentException("Campaign not found: " + campaignId));
+        Counters counted = counters.count(campaignId);
+
+        Map<String, StepCount> storedSteps = new HashMap<>();
+        stored.steps().forEach(step -> storedSteps.put(step.stepType(), step));
+        Map<String, StepCount> countedSteps = new HashMap<>();
+        counted.steps().forEach(step -> countedSteps.put(step.stepType(), step));
+        Set<String> stepTypes = new TreeSet<>(storedSteps.keySet());
+        stepTypes.addAll(countedSteps.keySet());
+        List<String> driftedSteps = stepTypes.stream()
+                .filter(stepType -> !Objects.equals(storedSteps.get(stepType), countedSteps.get(stepType)))
+                .toList();
+
+        boolean consistent = stored.totalAssignments() == counted.totalAssignments()
+                && stored.completedAssignments() == counted.completedAssignments()
+                && driftedSteps.isEmpty();
+        boolean repaired = !consistent && repair;
+        if (repaired) {
+            counters.recount(campaignId);
+        }
+
+        return new AssignmentCounterCheckResponse(
+                campaignId,
+                stored.totalAssignments(),
+                counted.totalAssignments(),
+                stored.completedAssignments(),
+                counted.completedAssignments(),
+                driftedSteps,
+                consistent,
+                repaired);
+    }
+
     private Map<String, Boolean> legacyAssignments(String campaignId) {
         String rawJson = campaignRepository.findAssignmentsJsonByCampaignId(campaignId);
         if (rawJson == null || rawJson.isBlank()) {
@@ -0,0 +1,211 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.application.port.out.ScoringQueuePort;
+import com.evaluationservice.application.service.DeferredScoringService;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of virtual-thread workers that score evaluations accepted in
+ * SCORING state.
+ * <p>
+ * The queue only holds evaluation IDs; the SCORING row is the durable record.
+ * Anything lost from the queue (full queue, crash, shutdown) is picked up again
+ * on startup and by {@link #resumeStalled}, and {@link DeferredScoringService}
+ * completes each row at most once. A failed attempt is retried with backoff
+ * and dead-lettered after {@code scoring-max-attempts} failures.
+ */
+@Service
+public class AsyncScoringWorkerPool implements ScoringQueuePort {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncScoringWorkerPool.class);
+
+    private final DeferredScoringService deferredScoringService;
+    private final MeterRegistry meterRegistry;
+    private final EvaluationServiceProperties.Submission submissionConfig;
+    private final BlockingQueue<EvaluationId> queue;
+    private final Set<String> queuedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public AsyncScoringWorkerPool(
+            DeferredScoringService deferredScoringService,
+            EvaluationServiceProperties properties,
+            MeterRegistry meterRegistry) {
+        this.deferredScoringService = Objects.requireNonNull(deferredScoringService);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.submissionConfig = Objects.requireNonNull(properties).getSubmission();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, submissionConfig.getScoringQueueCapacity()));
+
+        Gauge.builder("evaluation.scoring.queue.depth", queue, BlockingQueue::size)
+                .description("Evaluations waiting for a scoring worker")
+                .register(meterRegistry);
+        Gauge.builder("evaluation.scoring.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free slots in the scoring queue")
+                .register(meterRegistry);
+        Gauge.builder("evaluation.scoring.workers.busy", busyWorkers, AtomicInteger::get)
+                .description("Scoring workers currently scoring an evaluation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the workers; evaluations queued before then wait in the queue.
+     * Workers are started even when async scoring is off so that SCORING rows
+     * left behind by an earlier async period still complete.
+     */
+    public synchronized void start() {
+        if (!running || !workers.isEmpty()) {
+            return;
+        }
+        int workerCount = Math.max(1, submissionConfig.getScoringWorkers());
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("scoring-worker-" + i).start(this::runWorker));
+        }
+    }
+
+    @Override
+    public boolean hasCapacity() {
+        if (queue.remainingCapacity() > 0) {
+            return true;
+        }
+        meterRegistry.counter("evaluation.scoring.jobs", "result", "backpressure").increment();
+        return false;
+    }
+
+    @Override
+    public void enqueueAfterCommit(EvaluationId evaluationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(evaluationId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(evaluationId);
+            }
+        });
+    }
+
+    /**
+     * Re-queues SCORING rows last touched before the cutoff.
+     *
+     * @return number of evaluations queued
+     */
+    public int resumeStalled(Instant updatedBefore) {
+        int limit = queue.remainingCapacity();
+        if (limit == 0) {
+            return 0;
+        }
+        int queued = 0;
+        for (EvaluationId id : deferredScoringService.findStalledScoring(updatedBefore, limit)) {
+            if (!queuedIds.contains(id.value()) && enqueue(id)) {
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        start();
+        int resumed = resumeStalled(Instant.now());
+        if (resumed > 0) {
+            log.info("Resumed scoring for {} evaluation(s) left in SCORING", resumed);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    private boolean enqueue(EvaluationId evaluationId) {
+        if (!queuedIds.add(evaluationId.value())) {
+            return true;
+        }
+        if (queue.offer(evaluationId)) {
+            return true;
+        }
+        queuedIds.remove(evaluationId.value());
+        meterRegistry.counter("evaluation.scoring.jobs", "result", "deferred").increment();
+        return false;
+    }
+
+    private void recordFailure(EvaluationId evaluationId, RuntimeException failure) {
+        try {
+            boolean deadLettered = deferredScoringService.recordFailure(
+                    evaluationId,
+                    String.valueOf(failure.getMessage()),
+                    submissionConfig.getScoringMaxAttempts(),
+                    Duration.ofMillis(Math.max(1, submissionConfig.getScoringRetryDelayMs())));
+            if (deadLettered) {
+                meterRegistry.counter("evaluation.scoring.dead_lettered").increment();
+                log.error("Deferred scoring for evaluation {} dead-lettered after {} attempts: {}",
+                        evaluationId.value(), submissionConfig.getScoringMaxAttempts(), failure.getMessage());
+                return;
+            }
+        } catch (RuntimeException ex) {
+            // Not counted; the row stays due and is retried by the recovery sweep.
+            log.warn("Recording scoring failure for evaluation {} failed: {}", evaluationId.value(), ex.getMessage());
+        }
+        log.warn("Deferred scoring failed for evaluation {}: {}", evaluationId.value(), failure.getMessage());
+    }
+
+    private void runWorker() {
+        while (running) {
+            EvaluationId evaluationId;
+            try {
+                evaluationId = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (evaluationId == null) {
+                continue;
+            }
+            busyWorkers.incrementAndGet();
+            long startedAtNanos = System.nanoTime();
+            String result;
+            try {
+                result = deferredScoringService.completeScoring(evaluationId) ? "completed" : "skipped";
+            } catch (RuntimeException ex) {
+                result = "failed";
+                recordFailure(evaluationId, ex);
+            } finally {
+                queuedIds.remove(evaluationId.value());
+                busyWorkers.decrementAndGet();
+            }
+            meterRegistry.counter("evaluation.scoring.jobs", "result", result).increment();
+            meterRegistry.timer("evaluation.scoring.duration")
+                    .record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.api.dto.response.CampaignProgressResponse;
+import com.evaluationservice.api.dto.response.CampaignProgressResponse.StepProgressResponse;
+import com.evaluationservice.application.port.in.CampaignProgressUseCase;
+import com.evaluationservice.application.port.in.CampaignProgressUseCase.CampaignProgress;
+import com.evaluationservice.domain.event.CampaignChangedEvent;
+import com.evaluationservice.domain.event.EvaluationSubmittedEvent;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Node-local fan-out of campaign progress to Server-Sent Event streams.
+ * <p>
+ * A committed change only marks its campaign, and only if this node has
+ * subscribers for it; each push run recounts the marked campaigns once and
+ * sends the result to their streams when it differs from the last one sent.
+ * Open streams hold no thread: sends run on virtual threads so one slow
+ * client cannot hold up the others. Changes committed on other nodes arrive
+ * through {@link CampaignProgressRelay} when it is enabled.
+ */
+@Service
+public class CampaignProgressBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(CampaignProgressBroadcaster.class);
+    private static final String EVENT_NAME = "progress";
+
+    private final CampaignProgressUseCase campaignProgressUseCase;
+    private final EvaluationServiceProperties.Progress progressConfig;
+
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, CampaignProgress> lastSent = new ConcurrentHashMap<>();
+    private final Set<String> changedCampaigns = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("progress-sse-", 0).factory());
+
+    public CampaignProgressBroadcaster(
+            CampaignProgressUseCase campaignProgressUseCase,
+            EvaluationServiceProperties properties,
+            MeterRegistry meterRegistry) {
+        this.campaignProgressUseCase = Objects.requireNonNull(campaignProgressUseCase);
+        this.progressConfig = Objects.requireNonNull(properties).getProgress();
+        Gauge.builder("evaluation.progress.streams.open", openStreams, AtomicInteger::get)
+                .description("Open campaign progress streams on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the campaign and sends its current progress as the
+     * first event.
+     */
+    public SseEmitter subscribe(CampaignId campaignId) {
+        CampaignProgress current = campaignProgressUseCase.getProgress(campaignId);
+        String key = campaignId.value();
+        SseEmitter emitter = new SseEmitter(progressConfig.getStreamTimeoutMs());
+        subscribers.compute(key, (id, emitters) -> {
+            Set<SseEmitter> target = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            target.add(emitter);
+            return target;
+        });
+        openStreams.incrementAndGet();
+        lastSent.putIfAbsent(key, current);
+        emitter.onCompletion(() -> unsubscribe(key, emitter));
+        emitter.onTimeout(() -> unsubscribe(key, emitter));
+        emitter.onError(ex -> unsubscribe(key, emitter));
+        send(key, emitter, SseEmitter.event().name(EVENT_NAME).data(toResponse(current)));
+        return emitter;
+    }
+
+    public void markChanged(CampaignId campaignId) {
+        if (subscribers.containsKey(campaignId.value())) {
+            changedCampaigns.add(campaignId.value());
+        }
+    }
+
+    /**
+     * Recounts campaigns changed since the last run and pushes the ones whose
+     * progress moved.
+     *
+     * @return number of campaigns pushed
+     */
+    public int pushChanged() {
+        List<String> campaignIds = List.copyOf(changedCampaigns);
+        campaignIds.forEach(changedCampaigns::remove);
+        int pushed = 0;
+        for (String campaignId : campaignIds) {
+            Set<SseEmitter> emitters = subscribers.get(campaignId);
+            if (emitters == null) {
+                continue;
+            }
+            CampaignProgress progress;
+            try {
+                progress = campaignProgressUseCase.getProgress(CampaignId.of(campaignId));
+            } catch (RuntimeException ex) {
+                log.warn("Could not count progress for campaign {}: {}", campaignId, ex.getMessage());
+                continue;
+            }
+            if (progress.equals(lastSent.put(campaignId, progress))) {
+                continue;
+            }
+            CampaignProgressResponse response = toResponse(progress);
+            for (SseEmitter emitter : emitters) {
+                sender.execute(() -> send(campaignId, emitter, SseEmitter.event().name(EVENT_NAME).data(response)));
+            }
+            pushed++;
+        }
+        return pushed;
+    }
+
+    /**
+     * Sends a comment on every open stream so proxies keep idle connections
+     * open and closed ones are noticed.
+     */
+    public void heartbeat() {
+        subscribers.forEach((campaignId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                sender.execute(() -> send(campaignId, emitter, SseEmitter.event().comment("keep-alive")));
+            }
+        });
+    }
+
+    public int openStreams() {
+        return openStreams.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEvaluationSubmitted(EvaluationSubmittedEvent event) {
+        markChanged(event.campaignId());
+    }
+
+    /**
+     * Reopening or invalidating an evaluation can reopen its assignment.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScoreAggregatesChanged(ScoreAggregatesChangedEvent event) {
+        markChanged(event.campaignId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        markChanged(event.campaignId());
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        sender.shutdownNow();
+    }
+
+    private void send(String campaignId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException ex) {
+            // The client went away
+            unsubscribe(campaignId, emitter);
+            emitter.completeWithError(ex);
+        }
+    }
+
+    private void unsubscribe(String campaignId, SseEmitter emitter) {
+        subscribers.computeIfPresent(campaignId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                openStreams.decrementAndGet();
+            }
+            if (emitters.isEmpty()) {
+                lastSent.remove(id);
+                return null;
+            }
+            return emitters;
+        });
+    }
+
+    private static CampaignProgressResponse toResponse(CampaignProgress progress) {
+        Map<String, StepProgressResponse> steps = new LinkedHashMap<>();
+        progress.steps().forEach((step, count) ->
+                steps.put(step, new StepProgressResponse(count.totalAssignments(), count.completedAssignments())));
+        return new CampaignProgressResponse(
+                progress.campaignId().value(),
+                progress.totalAssignments(),
+                progress.completedAssignments(),
+                progress.completionPercentage(),
+                steps);
+    }
+}
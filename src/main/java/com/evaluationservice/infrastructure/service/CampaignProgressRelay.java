@@ -0,0 +1,86 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.domain.event.CampaignChangedEvent;
+import com.evaluationservice.domain.event.EvaluationSubmittedEvent;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Relays campaign progress changes between nodes over Redis pub/sub, so a
+ * stream is pushed to whichever node it is connected to.
+ * <p>
+ * Messages are {@code <nodeId>|<campaignId>}; each receiving node recounts
+ * the campaign only if it has streams open for it. A lost message delays the
+ * update until the campaign's next change.
+ */
+@Service
+@ConditionalOnProperty(prefix = "evaluation.service.progress", name = "redis-relay-enabled", havingValue = "true")
+public class CampaignProgressRelay implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CampaignProgressRelay.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CampaignProgressBroadcaster broadcaster;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+
+    public CampaignProgressRelay(
+            CampaignProgressBroadcaster broadcaster,
+            StringRedisTemplate redisTemplate,
+            EvaluationServiceProperties properties) {
+        this.broadcaster = Objects.requireNonNull(broadcaster);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+        this.channel = Objects.requireNonNull(properties).getProgress().getRelayChannel();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEvaluationSubmitted(EvaluationSubmittedEvent event) {
+        relay(event.campaignId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScoreAggregatesChanged(ScoreAggregatesChangedEvent event) {
+        relay(event.campaignId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        relay(event.campaignId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.indexOf('|');
+        if (separator < 0 || payload.startsWith(nodeId + "|")) {
+            return;
+        }
+        broadcaster.markChanged(CampaignId.of(payload.substring(separator + 1)));
+    }
+
+    private void relay(CampaignId campaignId) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + "|" + campaignId.value());
+        } catch (RuntimeException ex) {
+            log.warn("Could not relay progress change for campaign {}: {}", campaignId.value(), ex.getMessage());
+        }
+    }
+}
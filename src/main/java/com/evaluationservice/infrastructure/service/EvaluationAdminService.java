@@ -2,13 +2,13 @@ package com.evaluationservice.infrastructure.service;
 
 import com.evaluationservice.api.dto.response.AdminSubmissionDetailResponse;
 import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase;
+import com.evaluationservice.application.port.out.AssignmentPersistencePort;
 import com.evaluationservice.domain.value.EvaluationId;
 import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
 import com.evaluationservice.infrastructure.repository.CampaignRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
 import java.util.Objects;
 
 @Service
@@ -17,14 +17,17 @@ public class EvaluationAdminService {
     private final EvaluationSubmissionUseCase evaluationUseCase;
     private final CampaignAssignmentRepository assignmentRepository;
     private final CampaignRepository campaignRepository;
+    private final AssignmentPersistencePort assignmentPersistencePort;
 
     public EvaluationAdminService(
             EvaluationSubmissionUseCase evaluationUseCase,
             CampaignAssignmentRepository assignmentRepository,
-            CampaignRepository campaignRepository) {
+            CampaignRepository campaignRepository,
+            AssignmentPersistencePort assignmentPersistencePort) {
         this.evaluationUseCase = Objects.requireNonNull(evaluationUseCase);
         this.assignmentRepository = Objects.requireNonNull(assignmentRepository);
         this.campaignRepository = Objects.requireNonNull(campaignRepository);
+        this.assignmentPersistencePort = Objects.requireNonNull(assignmentPersistencePort);
     }
 
     @Transactional(readOnly = true)
@@ -57,9 +60,6 @@ public class EvaluationAdminService {
     @Transactional
     public void reopenSubmission(String evaluationId) {
         var evaluation = evaluationUseCase.reopenEvaluation(EvaluationId.of(evaluationId));
-        int updated = assignmentRepository.markReopened(evaluation.getAssignmentId(), Instant.now());
-        if (updated == 0) {
-            throw new IllegalStateException("Assignment not found for reopen: " + evaluation.getAssignmentId());
-        }
+        assignmentPersistencePort.markReopened(evaluation.getAssignmentId());
     }
 }
@@ -1,40 +1,126 @@
 package com.evaluationservice.infrastructure.service;
 
 import com.evaluationservice.api.dto.response.EvaluatorDashboardResponse;
+import com.evaluationservice.domain.event.EvaluationDraftSavedEvent;
+import com.evaluationservice.domain.event.EvaluationSubmittedEvent;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
 import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
-import com.evaluationservice.infrastructure.repository.EvaluationJpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Evaluator home page summary.
+ * <p>
+ * Counts come from one grouped query over the evaluator's assignments and
+ * evaluations, and the result is kept per evaluator for
+ * {@code evaluation.service.dashboard.evaluator-summary-ttl-ms}. Submitting
+ * or saving a draft drops the evaluator's entry on this node after commit;
+ * other changes (and submissions scored asynchronously, until their score is
+ * recorded) show up once the entry expires.
+ */
 @Service
 public class EvaluatorDashboardService {
 
+    private static final Set<String> SUBMITTED_STATUSES = Set.of("SUBMITTED", "SCORING", "COMPLETED");
+
     private final CampaignAssignmentRepository assignmentRepository;
-    private final EvaluationJpaRepository evaluationRepository;
+    private final EvaluationServiceProperties.Dashboard dashboardConfig;
+
+    private final Map<String, CachedSummary> summaries = new ConcurrentHashMap<>();
 
     public EvaluatorDashboardService(
             CampaignAssignmentRepository assignmentRepository,
-            EvaluationJpaRepository evaluationRepository) {
+            EvaluationServiceProperties properties) {
         this.assignmentRepository = Objects.requireNonNull(assignmentRepository);
-        this.evaluationRepository = Objects.requireNonNull(evaluationRepository);
+        this.dashboardConfig = Objects.requireNonNull(properties).getDashboard();
     }
 
     @Transactional(readOnly = true)
     public EvaluatorDashboardResponse getSummary(String evaluatorId) {
-        long assigned = assignmentRepository.countByEvaluatorId(evaluatorId);
-        long completed = assignmentRepository.countByEvaluatorIdAndCompletedTrue(evaluatorId);
-        long pending = Math.max(0, assigned - completed);
-
-        long draft = evaluationRepository.findByEvaluatorId(evaluatorId).stream()
-                .filter(e -> "DRAFT".equalsIgnoreCase(e.getStatus()))
-                .count();
-        long submitted = evaluationRepository.findByEvaluatorId(evaluatorId).stream()
-                .filter(e -> "SUBMITTED".equalsIgnoreCase(e.getStatus())
-                        || "SCORING".equalsIgnoreCase(e.getStatus())
-                        || "COMPLETED".equalsIgnoreCase(e.getStatus()))
-                .count();
+        long ttlMs = dashboardConfig.getEvaluatorSummaryTtlMs();
+        if (ttlMs <= 0) {
+            return load(evaluatorId);
+        }
+        CachedSummary cached = summaries.get(evaluatorId);
+        if (cached != null && cached.summary() != null && !cached.isExpired(ttlMs)) {
+            return cached.summary();
+        }
+        int maxEntries = Math.max(1, dashboardConfig.getEvaluatorSummaryMaxEntries());
+        if (summaries.size() >= maxEntries) {
+            evict(ttlMs, maxEntries);
+        }
+        // The marker holds the evaluator's slot while loading. An invalidation
+        // removes it, and the result is only kept if the marker is still there.
+        CachedSummary marker = CachedSummary.loading();
+        summaries.put(evaluatorId, marker);
+        EvaluatorDashboardResponse summary = load(evaluatorId);
+        summaries.replace(evaluatorId, marker, new CachedSummary(summary, marker.loadedAtNanos()));
+        return summary;
+    }
+
+    public void invalidate(String evaluatorId) {
+        summaries.remove(evaluatorId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEvaluationSubmitted(EvaluationSubmittedEvent event) {
+        invalidate(event.evaluatorId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDraftSaved(EvaluationDraftSavedEvent event) {
+        invalidate(event.evaluatorId());
+    }
+
+    /**
+     * Drops expired entries and, if that is not enough, the oldest entries
+     * down to nine tenths of the limit, so a full scan is not repeated on
+     * every miss.
+     */
+    private void evict(long ttlMs, int maxEntries) {
+        summaries.values().removeIf(entry -> entry.isExpired(ttlMs));
+        int excess = summaries.size() - maxEntries * 9 / 10;
+        if (excess <= 0) {
+            return;
+        }
+        summaries.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAtNanos()))
+                .limit(excess)
+                .toList()
+                .forEach(entry -> summaries.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private EvaluatorDashboardResponse load(String evaluatorId) {
+        long completed = 0;
+        long pending = 0;
+        long draft = 0;
+        long submitted = 0;
+        for (Object[] row : assignmentRepository.countDashboardByEvaluatorId(evaluatorId)) {
+            String kind = (String) row[0];
+            String key = (String) row[1];
+            long count = ((Number) row[2]).longValue();
+            if ("ASSIGNMENT".equals(kind)) {
+                if ("COMPLETED".equals(key)) {
+                    completed += count;
+                } else {
+                    pending += count;
+                }
+            } else if ("DRAFT".equalsIgnoreCase(key)) {
+                draft += count;
+            } else if (key != null && SUBMITTED_STATUSES.contains(key.toUpperCase(Locale.ROOT))) {
+                submitted += count;
+            }
+        }
+        long assigned = completed + pending;
 
         double completionPercentage = assigned == 0 ? 0.0 : ((double) completed / (double) assigned) * 100.0;
         return new EvaluatorDashboardResponse(
@@ -46,4 +132,34 @@ public class EvaluatorDashboardService {
                 submitted,
                 completionPercentage);
     }
+
+    /**
+     * A cached summary, or a loading marker when {@code summary} is null.
+     * Compared by identity, so a marker only matches itself.
+     */
+    private static final class CachedSummary {
+        private final EvaluatorDashboardResponse summary;
+        private final long loadedAtNanos;
+
+        CachedSummary(EvaluatorDashboardResponse summary, long loadedAtNanos) {
+            this.summary = summary;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+
+        static CachedSummary loading() {
+            return new CachedSummary(null, System.nanoTime());
+        }
+
+        EvaluatorDashboardResponse summary() {
+            return summary;
+        }
+
+        long loadedAtNanos() {
+            return loadedAtNanos;
+        }
+
+        boolean isExpired(long ttlMs) {
+            return System.nanoTime() - loadedAtNanos > ttlMs * 1_000_000L;
+        }
+    }
 }
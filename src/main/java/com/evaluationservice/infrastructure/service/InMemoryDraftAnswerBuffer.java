@@ -0,0 +1,174 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.application.port.out.DraftAnswerBufferPort;
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local write-behind buffer for per-question draft changes.
+ * <p>
+ * Changes to the same question within one window collapse into one, and all
+ * changes to a draft are written by a single flush. A draft is due once it has
+ * been idle for the quiet period or has held changes for the maximum delay,
+ * whichever comes first. Changes drained for a submit or full save are put
+ * back if that transaction rolls back.
+ * <p>
+ * Buffered changes are not durable and are only visible on the node that
+ * accepted them. A crash loses at most one maximum delay's worth of
+ * acknowledged changes. A submit handled by another node does not see them
+ * either: they are flushed after the evaluation has left the draft state and
+ * are dropped. Deployments with more than one node should therefore route an
+ * evaluation's requests to the same node.
+ */
+@Service
+public class InMemoryDraftAnswerBuffer implements DraftAnswerBufferPort {
+
+    private final MeterRegistry meterRegistry;
+    private final EvaluationServiceProperties.Submission submissionConfig;
+    private final Map<String, PendingDraft> drafts = new ConcurrentHashMap<>();
+
+    public InMemoryDraftAnswerBuffer(EvaluationServiceProperties properties, MeterRegistry meterRegistry) {
+        this.submissionConfig = Objects.requireNonNull(properties).getSubmission();
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        Gauge.builder("evaluation.draft.autosave.pending", drafts, Map::size)
+                .description("Drafts with answer changes not yet written")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean buffer(EvaluationId evaluationId, Answer answer) {
+        if (!drafts.containsKey(evaluationId.value())
+                && drafts.size() >= Math.max(1, submissionConfig.getDraftAutosaveMaxPending())) {
+            meterRegistry.counter("evaluation.draft.autosave.deltas", "result", "write_through").increment();
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        drafts.compute(evaluationId.value(), (id, draft) -> {
+            PendingDraft target = draft != null ? draft : new PendingDraft(now);
+            target.put(answer, now);
+            return target;
+        });
+        meterRegistry.counter("evaluation.draft.autosave.deltas", "result", "buffered").increment();
+        return true;
+    }
+
+    @Override
+    public boolean isBuffered(EvaluationId evaluationId) {
+        return drafts.containsKey(evaluationId.value());
+    }
+
+    @Override
+    public List<Answer> pending(EvaluationId evaluationId) {
+        PendingDraft draft = drafts.get(evaluationId.value());
+        return draft != null ? draft.answers() : List.of();
+    }
+
+    @Override
+    public List<Answer> drain(EvaluationId evaluationId) {
+        PendingDraft draft = drafts.remove(evaluationId.value());
+        if (draft == null) {
+            return List.of();
+        }
+        // Every change beyond the first would have been its own row rewrite
+        meterRegistry.counter("evaluation.draft.autosave.writes.saved").increment(draft.deltas() - 1);
+        return draft.answers();
+    }
+
+    @Override
+    public List<Answer> drainForTransaction(EvaluationId evaluationId) {
+        List<Answer> drained = drain(evaluationId);
+        if (!drained.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        restore(evaluationId, drained);
+                    }
+                }
+            });
+        }
+        return drained;
+    }
+
+    @Override
+    public void restore(EvaluationId evaluationId, List<Answer> answers) {
+        long now = System.currentTimeMillis();
+        drafts.compute(evaluationId.value(), (id, draft) -> {
+            PendingDraft target = draft != null ? draft : new PendingDraft(now);
+            answers.forEach(target::putIfAbsent);
+            return target;
+        });
+    }
+
+    /**
+     * Drafts whose changes should be written now.
+     */
+    public List<EvaluationId> dueForFlush(Instant now) {
+        long nowMillis = now.toEpochMilli();
+        long quietMs = submissionConfig.getDraftAutosaveQuietMs();
+        long maxDelayMs = submissionConfig.getDraftAutosaveMaxDelayMs();
+        List<EvaluationId> due = new ArrayList<>();
+        drafts.forEach((id, draft) -> {
+            if (draft.isDue(nowMillis, quietMs, maxDelayMs)) {
+                due.add(EvaluationId.of(id));
+            }
+        });
+        return due;
+    }
+
+    /**
+     * Every draft with buffered changes, for flushing on shutdown.
+     */
+    public List<EvaluationId> bufferedIds() {
+        return drafts.keySet().stream().map(EvaluationId::of).toList();
+    }
+
+    private static final class PendingDraft {
+        private final Map<String, Answer> answersByQuestion = new LinkedHashMap<>();
+        private final long firstChangedAt;
+        private long lastChangedAt;
+        private int deltas;
+
+        private PendingDraft(long now) {
+            this.firstChangedAt = now;
+            this.lastChangedAt = now;
+        }
+
+        synchronized void put(Answer answer, long now) {
+            answersByQuestion.put(answer.questionId(), answer);
+            lastChangedAt = now;
+            deltas++;
+        }
+
+        synchronized void putIfAbsent(Answer answer) {
+            answersByQuestion.putIfAbsent(answer.questionId(), answer);
+            deltas = Math.max(deltas, 1);
+        }
+
+        synchronized List<Answer> answers() {
+            return List.copyOf(answersByQuestion.values());
+        }
+
+        synchronized int deltas() {
+            return deltas;
+        }
+
+        synchronized boolean isDue(long now, long quietMs, long maxDelayMs) {
+            return now - lastChangedAt >= quietMs || now - firstChangedAt >= maxDelayMs;
+        }
+    }
+}
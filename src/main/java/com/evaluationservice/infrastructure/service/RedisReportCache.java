@@ -0,0 +1,239 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.application.port.out.ReportCachePort;
+import com.evaluationservice.domain.event.CampaignChangedEvent;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Report cache on the declared Redis {@code reports} cache.
+ * <p>
+ * Keys carry version counters kept in Redis rather than being deleted on
+ * change, so a report computed from data that changed mid-load is stored under
+ * a version nobody reads any more:
+ * <ul>
+ * <li>{@code <campaign>} — bumped on campaign changes and whole-campaign
+ * aggregate rebuilds; part of every key of the campaign.</li>
+ * <li>{@code <campaign>:*} — bumped on any aggregate change; part of the
+ * campaign report key.</li>
+ * <li>{@code <campaign>:<evaluatee>} — bumped when that evaluatee's aggregates
+ * change; part of its individual report key.</li>
+ * </ul>
+ * Versions are bumped after commit. Redis failures fall back to computing the
+ * report.
+ * <p>
+ * A hit costs two round trips: one {@code MGET} of the versions, then the
+ * entry read. The entry key is derived from the versions, so the reads cannot
+ * share a pipeline, and a script would bypass the cache's serializer and
+ * need every key in one cluster slot.
+ * <p>
+ * Concurrent misses collapse into a single computation per node only; nodes
+ * that miss together each compute the report once. The loader runs on the
+ * leading caller's thread inside that caller's read-only transaction, while
+ * the other callers wait on it in theirs.
+ */
+@Service
+public class RedisReportCache implements ReportCachePort {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisReportCache.class);
+    private static final String CACHE_NAME = "reports";
+    private static final String VERSION_PREFIX = "reports:version:";
+    private static final String CAMPAIGN_AGGREGATES = "*";
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long versionTtlSeconds;
+    private final Timer loadTimer;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public RedisReportCache(
+            CacheManager cacheManager,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            EvaluationServiceProperties properties) {
+        this.cacheManager = Objects.requireNonNull(cacheManager);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        EvaluationServiceProperties.Reports reports = Objects.requireNonNull(properties).getReports();
+        this.enabled = reports.isCacheEnabled();
+        this.versionTtlSeconds = Math.max(1L, reports.getCacheVersionTtlMs() / 1000L);
+        this.loadTimer = Timer.builder("evaluation.reports.cache.load").register(meterRegistry);
+    }
+
+    @Override
+    public <T> T get(CampaignId campaignId, String evaluateeId, Class<T> type, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key;
+        Cache cache;
+        try {
+            key = versionedKey(campaignId, evaluateeId);
+            cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "reports cache is not declared");
+            String cached = cache.get(key, String.class);
+            if (cached != null) {
+                T value = JSON.readValue(cached, type);
+                count("hit");
+                return value;
+            }
+        } catch (RuntimeException | JsonProcessingException ex) {
+            count("error");
+            log.warn("Report cache unavailable for campaign {}: {}", campaignId.value(), ex.getMessage());
+            return loader.get();
+        }
+        count("miss");
+        return type.cast(loadOnce(key, () -> {
+            T value = loadTimer.record(loader);
+            store(cache, key, campaignId, evaluateeId, value);
+            return value;
+        }));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScoreAggregatesChanged(ScoreAggregatesChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<String> versions = new ArrayList<>();
+        if (event.wholeCampaign()) {
+            versions.add(versionKey(event.campaignId(), null));
+        } else {
+            versions.add(versionKey(event.campaignId(), CAMPAIGN_AGGREGATES));
+            event.evaluateeIds().forEach(evaluateeId -> versions.add(versionKey(event.campaignId(), evaluateeId)));
+        }
+        bump(versions, event.wholeCampaign() ? "campaign" : "evaluatee");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        if (enabled) {
+            bump(List.of(versionKey(event.campaignId(), null)), "campaign");
+        }
+    }
+
+    private Object loadOnce(String key, Supplier<Object> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            meterRegistry.counter("evaluation.reports.cache.collapsed").increment();
+            try {
+                return running.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+        try {
+            Object value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void store(Cache cache, String key, CampaignId campaignId, String evaluateeId, Object value) {
+        try {
+            cache.put(key, JSON.writeValueAsString(value));
+            // Keep the versions alive at least as long as entries written under them
+            List<String> versions = versionKeys(campaignId, evaluateeId);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String version : versions) {
+                    connection.keyCommands().expire(bytes(version), versionTtlSeconds);
+                }
+                return null;
+            });
+        } catch (RuntimeException | JsonProcessingException ex) {
+            count("error");
+            log.warn("Could not cache report for campaign {}: {}", campaignId.value(), ex.getMessage());
+        }
+    }
+
+    private void bump(List<String> versions, String scope) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String version : versions) {
+                    increment(connection, version);
+                }
+                return null;
+            });
+            meterRegistry.counter("evaluation.reports.cache.evictions", "scope", scope).increment(versions.size());
+        } catch (RuntimeException ex) {
+            // Entries then live until their TTL
+            log.warn("Could not invalidate cached reports {}: {}", versions, ex.getMessage());
+        }
+    }
+
+    private void increment(RedisConnection connection, String version) {
+        byte[] key = bytes(version);
+        connection.stringCommands().incr(key);
+        connection.keyCommands().expire(key, versionTtlSeconds);
+    }
+
+    private String versionedKey(CampaignId campaignId, String evaluateeId) {
+        List<String> values = redisTemplate.opsForValue().multiGet(versionKeys(campaignId, evaluateeId));
+        String generation = version(values, 0);
+        String detail = version(values, 1);
+        return evaluateeId == null
+                ? "campaign:" + campaignId.value() + ":v" + generation + "." + detail
+                : "individual:" + campaignId.value() + ":" + evaluateeId + ":v" + generation + "." + detail;
+    }
+
+    private static List<String> versionKeys(CampaignId campaignId, String evaluateeId) {
+        return List.of(
+                versionKey(campaignId, null),
+                versionKey(campaignId, evaluateeId == null ? CAMPAIGN_AGGREGATES : evaluateeId));
+    }
+
+    private static String versionKey(CampaignId campaignId, String scope) {
+        return scope == null
+                ? VERSION_PREFIX + campaignId.value()
+                : VERSION_PREFIX + campaignId.value() + ":" + scope;
+    }
+
+    private static String version(List<String> values, int index) {
+        String value = values != null && values.size() > index ? values.get(index) : null;
+        return value != null ? value : "0";
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("evaluation.reports.cache.requests", "result", result).increment();
+    }
+}
@@ -6,14 +6,12 @@ import com.evaluationservice.api.dto.response.ScoringPreviewResponse;
 import com.evaluationservice.application.port.out.TemplatePersistencePort;
 import com.evaluationservice.application.service.ScoringService;
 import com.evaluationservice.domain.entity.Answer;
-import com.evaluationservice.domain.entity.Evaluation;
 import com.evaluationservice.domain.entity.Template;
-import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.enums.ScoringMethod;
 import com.evaluationservice.domain.exception.EntityNotFoundException;
-import com.evaluationservice.domain.value.CampaignId;
-import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.domain.rule.ScoringPlan;
+import com.evaluationservice.domain.rule.formula.Formula;
 import com.evaluationservice.domain.value.TemplateId;
-import com.evaluationservice.domain.value.Timestamp;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,29 +40,22 @@ public class ScoringPreviewService {
         Template template = templatePersistencePort.findById(TemplateId.of(request.templateId()))
                 .orElseThrow(() -> new EntityNotFoundException("Template", request.templateId()));
         Template effectiveTemplate = applyOverrides(template, request);
+        if (effectiveTemplate.getScoringMethod() == ScoringMethod.CUSTOM_FORMULA) {
+            // Scoring falls back for stored formulas that do not compile; a preview reports them.
+            Formula.compile(effectiveTemplate.getCustomFormula());
+        }
         List<Answer> answers = toAnswers(request.answers());
         var validation = validationService.validate(request.templateId(), answers);
         if (!validation.valid()) {
             throw new IllegalArgumentException("Scoring preview validation failed with " + validation.issueCount() + " issue(s)");
         }
 
-        Evaluation evaluation = new Evaluation(
-                EvaluationId.generate(),
-                CampaignId.generate(),
-                UUID.randomUUID().toString(),
-                "preview-evaluator",
-                "preview-evaluatee",
-                request.templateId(),
-                EvaluationStatus.DRAFT,
-                answers,
-                null,
-                List.of(),
-                Timestamp.now(),
-                Timestamp.now(),
-                null);
-
-        var sectionScores = scoringService.computeSectionScores(evaluation, effectiveTemplate);
-        var total = scoringService.computeTotalScore(sectionScores, effectiveTemplate);
+        // Overrides must not displace the template's cached plan, so they compile a throwaway one.
+        ScoringPlan plan = effectiveTemplate == template
+                ? scoringService.planFor(template)
+                : ScoringPlan.compile(effectiveTemplate);
+        var sectionScores = plan.scoreSections(answers);
+        var total = plan.totalScore(sectionScores);
         List<ScoringPreviewResponse.SectionPreview> sections = sectionScores.stream()
                 .map(s -> new ScoringPreviewResponse.SectionPreview(
                         s.sectionId(),
@@ -92,7 +83,7 @@ public class ScoringPreviewService {
                 template.getCategory(),
                 template.getStatus(),
                 template.getCurrentVersion(),
-                request.scoringMethodOverride() != null ? request.scoringMethodOverride() : template.getScoringMethod(),
+                effectiveMethod(template, request),
                 template.getSections(),
                 template.getCreatedBy(),
                 template.getCreatedAt(),
@@ -102,6 +93,20 @@ public class ScoringPreviewService {
                         : template.getCustomFormula());
     }
 
+    /**
+     * A formula override on its own means "try this formula", so it implies
+     * {@code CUSTOM_FORMULA} unless a method override says otherwise.
+     */
+    private ScoringMethod effectiveMethod(Template template, ScoringPreviewRequest request) {
+        if (request.scoringMethodOverride() != null) {
+            return request.scoringMethodOverride();
+        }
+        if (request.customFormulaOverride() != null && !request.customFormulaOverride().isBlank()) {
+            return ScoringMethod.CUSTOM_FORMULA;
+        }
+        return template.getScoringMethod();
+    }
+
     private List<Answer> toAnswers(List<AnswerRequest> answerRequests) {
         return answerRequests.stream()
                 .map(a -> new Answer(
@@ -0,0 +1,74 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.application.service.SettingsResolverService;
+import com.evaluationservice.domain.event.SettingsChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Relays settings changes between nodes over Redis pub/sub so every node's
+ * {@link SettingsResolverService} snapshot is invalidated, not just the one
+ * that handled the write.
+ * <p>
+ * Messages are {@code <nodeId>|<campaignId>}, with {@code *} for system-level
+ * changes. A lost message only delays the change until the snapshot TTL.
+ */
+@Service
+@ConditionalOnProperty(prefix = "evaluation.service.settings", name = "redis-invalidation-enabled", havingValue = "true")
+public class SettingsInvalidationRelay implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SettingsInvalidationRelay.class);
+    private static final String ALL_CAMPAIGNS = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SettingsResolverService settingsResolverService;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+
+    public SettingsInvalidationRelay(
+            SettingsResolverService settingsResolverService,
+            StringRedisTemplate redisTemplate,
+            EvaluationServiceProperties properties) {
+        this.settingsResolverService = Objects.requireNonNull(settingsResolverService);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+        this.channel = Objects.requireNonNull(properties).getSettings().getInvalidationChannel();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSettingsChanged(SettingsChangedEvent event) {
+        String scope = event.campaignId() != null ? event.campaignId().value() : ALL_CAMPAIGNS;
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + "|" + scope);
+        } catch (RuntimeException ex) {
+            log.warn("Could not broadcast settings invalidation for {}: {}", event.settingKey(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.indexOf('|');
+        if (separator < 0 || payload.startsWith(nodeId + "|")) {
+            return;
+        }
+        String scope = payload.substring(separator + 1);
+        settingsResolverService.invalidate(ALL_CAMPAIGNS.equals(scope) ? null : CampaignId.of(scope));
+    }
+}
@@ -0,0 +1,59 @@
+-- ============================================================================
+-- V16: Incremental score aggregates
+-- One row per (campaign, evaluatee, section key), maintained as evaluations
+-- complete, are flagged, invalidated or reopened. section_key is the section
+-- title, or '' for the evaluation total score. Campaign-level figures are the
+-- sum of the evaluatee rows. Rebuild with POST /api/v1/reports/campaign/{id}/aggregates/rebuild.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS score_aggregates (
+    campaign_id         VARCHAR(36)         NOT NULL REFERENCES campaigns(id) ON DELETE CASCADE,
+    evaluatee_id        VARCHAR(255)        NOT NULL,
+    section_key         VARCHAR(255)        NOT NULL,
+    score_count         BIGINT              NOT NULL DEFAULT 0,
+    score_sum           DOUBLE PRECISION    NOT NULL DEFAULT 0,
+    score_sum_squares   DOUBLE PRECISION    NOT NULL DEFAULT 0,
+    score_min           DOUBLE PRECISION,
+    score_max           DOUBLE PRECISION,
+    updated_at          TIMESTAMPTZ         NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (campaign_id, evaluatee_id, section_key)
+);
+
+-- Backfill from completed evaluations so reports keep their history.
+INSERT INTO score_aggregates (
+    campaign_id, evaluatee_id, section_key,
+    score_count, score_sum, score_sum_squares, score_min, score_max, updated_at)
+SELECT e.campaign_id,
+       e.evaluatee_id,
+       '',
+       COUNT(*),
+       SUM(e.total_score),
+       SUM(e.total_score * e.total_score),
+       MIN(e.total_score),
+       MAX(e.total_score),
+       NOW()
+  FROM evaluations e
+ WHERE e.status = 'COMPLETED'
+   AND e.total_score IS NOT NULL
+ GROUP BY e.campaign_id, e.evaluatee_id
+ON CONFLICT DO NOTHING;
+
+INSERT INTO score_aggregates (
+    campaign_id, evaluatee_id, section_key,
+    score_count, score_sum, score_sum_squares, score_min, score_max, updated_at)
+SELECT e.campaign_id,
+       e.evaluatee_id,
+       s->>'sectionTitle',
+       COUNT(*),
+       SUM((s->'score'->>'value')::double precision),
+       SUM((s->'score'->>'value')::double precision * (s->'score'->>'value')::double precision),
+       MIN((s->'score'->>'value')::double precision),
+       MAX((s->'score'->>'value')::double precision),
+       NOW()
+  FROM evaluations e
+ CROSS JOIN LATERAL jsonb_array_elements(COALESCE(e.section_scores_json, '[]')::jsonb) AS s
+ WHERE e.status = 'COMPLETED'
+   AND e.total_score IS NOT NULL
+   AND COALESCE(s->>'sectionTitle', '') <> ''
+ GROUP BY e.campaign_id, e.evaluatee_id, s->>'sectionTitle'
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,17 @@
+-- ============================================================================
+-- V17: Score distribution sketches
+-- Serialized KLL quantile sketches per (campaign, section key, shard), with
+-- section_key as in score_aggregates. Submissions update the shard picked by
+-- the evaluatee so concurrent submissions rarely contend on one row; readers
+-- merge the shards. Sketches cannot be computed in SQL, so existing campaigns
+-- get theirs from POST /api/v1/reports/campaign/{id}/aggregates/rebuild.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS score_sketches (
+    campaign_id         VARCHAR(36)         NOT NULL REFERENCES campaigns(id) ON DELETE CASCADE,
+    section_key         VARCHAR(255)        NOT NULL,
+    shard               INTEGER             NOT NULL,
+    sketch              TEXT                NOT NULL,
+    updated_at          TIMESTAMPTZ         NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (campaign_id, section_key, shard)
+);
@@ -0,0 +1,14 @@
+-- ============================================================================
+-- V18: Frozen report snapshots
+-- Written when a campaign's results are published: one row for the campaign
+-- report (evaluatee_id '') and one per evaluatee, each a gzip-compressed JSON
+-- document. Rebuilt when aggregates change afterwards, dropped on reopen.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS report_snapshots (
+    campaign_id         VARCHAR(36)         NOT NULL REFERENCES campaigns(id) ON DELETE CASCADE,
+    evaluatee_id        VARCHAR(255)        NOT NULL,
+    payload             BYTEA               NOT NULL,
+    created_at          TIMESTAMPTZ         NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (campaign_id, evaluatee_id)
+);
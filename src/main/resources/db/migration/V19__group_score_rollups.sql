@@ -0,0 +1,27 @@
+-- ============================================================================
+-- V19: Organisational score rollups
+-- audience_groups gains an optional parent so departments roll up into
+-- faculties. group_score_rollups is a cube of score aggregates per
+-- (campaign, group, section key), where a group covers the evaluatees who are
+-- active members of it or of any descendant group, each counted once. The
+-- row with group_id '' marks a campaign's cube as built; score changes
+-- remove it and the next read rebuilds the cube in one pass.
+-- ============================================================================
+
+ALTER TABLE audience_groups ADD COLUMN IF NOT EXISTS parent_group_id VARCHAR(128);
+
+CREATE INDEX IF NOT EXISTS idx_audience_groups_parent ON audience_groups(parent_group_id);
+
+CREATE TABLE IF NOT EXISTS group_score_rollups (
+    campaign_id         VARCHAR(36)         NOT NULL REFERENCES campaigns(id) ON DELETE CASCADE,
+    group_id            VARCHAR(128)        NOT NULL,
+    section_key         VARCHAR(255)        NOT NULL,
+    member_count        INTEGER             NOT NULL DEFAULT 0,
+    score_count         BIGINT              NOT NULL DEFAULT 0,
+    score_sum           DOUBLE PRECISION    NOT NULL DEFAULT 0,
+    score_sum_squares   DOUBLE PRECISION    NOT NULL DEFAULT 0,
+    score_min           DOUBLE PRECISION,
+    score_max           DOUBLE PRECISION,
+    updated_at          TIMESTAMPTZ         NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (campaign_id, group_id, section_key)
+);
@@ -0,0 +1,21 @@
+-- ============================================================================
+-- V20: Cross-campaign score trends
+-- One row per (evaluatee, campaign), written when the campaign closes. The
+-- summary packs the evaluatee's aggregates column-wise: the section keys,
+-- then the counts, sums, sums of squares, minimums and maximums as primitive
+-- arrays. An evaluatee's history across cycles is one range scan of the
+-- (evaluatee_id, cycle_end) index.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS score_trends (
+    evaluatee_id        VARCHAR(255)        NOT NULL,
+    campaign_id         VARCHAR(36)         NOT NULL REFERENCES campaigns(id) ON DELETE CASCADE,
+    campaign_name       VARCHAR(255)        NOT NULL,
+    cycle_end           TIMESTAMPTZ         NOT NULL,
+    summary             BYTEA               NOT NULL,
+    recorded_at         TIMESTAMPTZ         NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (evaluatee_id, campaign_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_score_trends_evaluatee_cycle ON score_trends(evaluatee_id, cycle_end DESC);
+CREATE INDEX IF NOT EXISTS idx_score_trends_campaign ON score_trends(campaign_id);
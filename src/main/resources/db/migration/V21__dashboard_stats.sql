@@ -0,0 +1,29 @@
+-- ============================================================================
+-- V21: Counter-backed admin dashboard statistics
+-- campaign_stats keeps each campaign's status and assignment counts as last
+-- folded into the totals; dashboard_stats is the single row of totals the
+-- dashboard reads. A refresh replaces a campaign's row and adds the
+-- difference to the totals. Reconciliation rewrites both from the source
+-- tables; until it first runs reconciled_at is NULL.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS campaign_stats (
+    campaign_id             VARCHAR(36)     PRIMARY KEY REFERENCES campaigns(id) ON DELETE CASCADE,
+    status                  VARCHAR(32),
+    total_assignments       BIGINT          NOT NULL DEFAULT 0,
+    completed_assignments   BIGINT          NOT NULL DEFAULT 0,
+    updated_at              TIMESTAMPTZ     NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE IF NOT EXISTS dashboard_stats (
+    id                      SMALLINT        PRIMARY KEY,
+    total_campaigns         BIGINT          NOT NULL DEFAULT 0,
+    active_campaigns        BIGINT          NOT NULL DEFAULT 0,
+    total_templates         BIGINT          NOT NULL DEFAULT 0,
+    total_assignments       BIGINT          NOT NULL DEFAULT 0,
+    completed_assignments   BIGINT          NOT NULL DEFAULT 0,
+    reconciled_at           TIMESTAMPTZ,
+    updated_at              TIMESTAMPTZ     NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO dashboard_stats (id) VALUES (1) ON CONFLICT DO NOTHING;
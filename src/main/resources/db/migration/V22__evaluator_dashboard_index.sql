@@ -0,0 +1,10 @@
+-- ============================================================================
+-- V22: Evaluator dashboard counts
+-- The evaluator summary groups an evaluator's evaluations by status; with
+-- status in the index the count is answered from the index alone. The new
+-- index supersedes the single-column evaluator index.
+-- ============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_evaluations_evaluator_status ON evaluations(evaluator_id, status);
+
+DROP INDEX IF EXISTS idx_evaluations_evaluator;
@@ -0,0 +1,11 @@
+-- ============================================================================
+-- V23: Evaluator assignment inbox
+-- The inbox reads one evaluator's assignments, optionally only pending or
+-- completed ones, and joins them to their campaigns. The composite index
+-- serves that lookup and supersedes the single-column evaluator index.
+-- ============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_campaign_assignments_evaluator_inbox
+    ON campaign_assignments(evaluator_id, completed, campaign_id);
+
+DROP INDEX IF EXISTS idx_campaign_assignments_evaluator;
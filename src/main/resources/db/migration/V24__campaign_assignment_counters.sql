@@ -0,0 +1,41 @@
+-- ============================================================================
+-- V24: Denormalized assignment counters
+-- campaigns carries its total and completed assignment counts and
+-- campaign_step_counters the same per step type (NONE for assignments
+-- without a step), so progress reads never scan campaign_assignments.
+-- Completing an assignment increments the counters in the same transaction;
+-- bulk assignment writes and reopens recount the campaign. Assignment
+-- reconciliation reports and repairs drift.
+-- ============================================================================
+
+ALTER TABLE campaigns ADD COLUMN IF NOT EXISTS total_assignments INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE campaigns ADD COLUMN IF NOT EXISTS completed_assignments INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS campaign_step_counters (
+    campaign_id             VARCHAR(36)     NOT NULL REFERENCES campaigns(id) ON DELETE CASCADE,
+    step_type               VARCHAR(30)     NOT NULL,
+    total_assignments       INTEGER         NOT NULL DEFAULT 0,
+    completed_assignments   INTEGER         NOT NULL DEFAULT 0,
+    PRIMARY KEY (campaign_id, step_type)
+);
+
+UPDATE campaigns c
+   SET total_assignments = counts.total,
+       completed_assignments = counts.completed
+  FROM (
+        SELECT campaign_id,
+               COUNT(*) AS total,
+               COUNT(*) FILTER (WHERE completed) AS completed
+          FROM campaign_assignments
+         GROUP BY campaign_id
+       ) counts
+ WHERE counts.campaign_id = c.id;
+
+INSERT INTO campaign_step_counters (campaign_id, step_type, total_assignments, completed_assignments)
+SELECT campaign_id,
+       COALESCE(step_type, 'NONE'),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE completed)
+  FROM campaign_assignments
+ GROUP BY campaign_id, COALESCE(step_type, 'NONE')
+ON CONFLICT DO NOTHING;
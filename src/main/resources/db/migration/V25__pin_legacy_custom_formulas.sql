@@ -0,0 +1,25 @@
+-- ============================================================================
+-- V25: Pin legacy custom formulas
+-- Before the formula language, a CUSTOM_FORMULA template understood only AVG,
+-- WEIGHTED, MIN and MAX and scored anything else as WEIGHTED. Formulas such as
+-- SUM or AVG * 2 now compile with a different meaning, so every stored formula
+-- other than those four keywords is rewritten to WEIGHTED and keeps scoring as
+-- before. The original text is kept in legacy_custom_formulas for review.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS legacy_custom_formulas (
+    template_id     VARCHAR(36)     PRIMARY KEY,
+    custom_formula  TEXT,
+    pinned_at       TIMESTAMPTZ     NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO legacy_custom_formulas (template_id, custom_formula)
+SELECT id, custom_formula
+FROM templates
+WHERE scoring_method = 'CUSTOM_FORMULA'
+  AND UPPER(TRIM(COALESCE(custom_formula, ''))) NOT IN ('AVG', 'WEIGHTED', 'MIN', 'MAX');
+
+UPDATE templates
+SET custom_formula = 'WEIGHTED'
+WHERE scoring_method = 'CUSTOM_FORMULA'
+  AND UPPER(TRIM(COALESCE(custom_formula, ''))) NOT IN ('AVG', 'WEIGHTED', 'MIN', 'MAX');
@@ -0,0 +1,24 @@
+-- ============================================================================
+-- V26: Append-only completion deltas
+-- Completing or reopening an assignment appends a +1/-1 row to
+-- campaign_counter_deltas instead of updating a counter row, so concurrent
+-- submissions in one campaign never wait on each other's counter locks. A
+-- background fold adds the deltas to campaign_step_counters and deletes them;
+-- reads add the pending deltas, so counts stay exact. Campaign totals are the
+-- sum of the step counters, so the campaigns row no longer carries them.
+-- There is no foreign key, so appends take no lock on the campaign row.
+-- ============================================================================
+
+ALTER TABLE campaigns DROP COLUMN IF EXISTS total_assignments;
+ALTER TABLE campaigns DROP COLUMN IF EXISTS completed_assignments;
+
+CREATE TABLE IF NOT EXISTS campaign_counter_deltas (
+    id                  BIGSERIAL       PRIMARY KEY,
+    campaign_id         VARCHAR(36)     NOT NULL,
+    step_type           VARCHAR(30)     NOT NULL,
+    completed_delta     INTEGER         NOT NULL,
+    created_at          TIMESTAMPTZ     NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_campaign_counter_deltas_campaign
+    ON campaign_counter_deltas(campaign_id, step_type);
@@ -0,0 +1,24 @@
+-- ============================================================================
+-- V27: Buffered sketch updates and deferred sketch rebuilds
+-- Submissions append their scores to score_sketch_buffer instead of
+-- rewriting sketch rows, so no sketch row is locked by a submission. A
+-- background merge adds buffered scores to one sketch shard per batch and
+-- deletes them; readers add the scores still buffered. An evaluation leaving
+-- COMPLETED requests a rebuild in score_sketch_rebuilds, which a background
+-- job runs once the campaign has been quiet for the rebuild delay.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS score_sketch_buffer (
+    id                  BIGSERIAL           PRIMARY KEY,
+    campaign_id         VARCHAR(36)         NOT NULL,
+    section_key         VARCHAR(255)        NOT NULL,
+    score               DOUBLE PRECISION    NOT NULL,
+    created_at          TIMESTAMPTZ         NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_score_sketch_buffer_campaign ON score_sketch_buffer(campaign_id);
+
+CREATE TABLE IF NOT EXISTS score_sketch_rebuilds (
+    campaign_id         VARCHAR(36)         PRIMARY KEY,
+    requested_at        TIMESTAMPTZ         NOT NULL
+);
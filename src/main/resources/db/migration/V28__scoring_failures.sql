@@ -0,0 +1,17 @@
+-- ============================================================================
+-- V28: Deferred scoring failures
+-- A failed scoring attempt leaves the evaluation in SCORING and records the
+-- failure here. The recovery sweep skips rows whose next attempt is still in
+-- the future, so retries back off, and once the attempt limit is reached the
+-- row is dead-lettered and no longer retried. Deleting a row re-drives the
+-- evaluation on the next sweep.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS scoring_failures (
+    evaluation_id       VARCHAR(36)     PRIMARY KEY,
+    attempts            INTEGER         NOT NULL,
+    last_error          VARCHAR(1000),
+    next_attempt_at     TIMESTAMPTZ,
+    dead_lettered_at    TIMESTAMPTZ,
+    updated_at          TIMESTAMPTZ     NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,13 @@
+-- ============================================================================
+-- V29: Deferred group rollup rebuilds
+-- Score changes no longer remove the built marker of the rollup cube, which
+-- made the next drill-down read rebuild the whole cube. They record a
+-- request in group_rollup_rebuilds instead, keeping the time of the first
+-- change; a background job rebuilds the cube once that request is older than
+-- the rebuild delay, and reads serve the last built cube meanwhile.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS group_rollup_rebuilds (
+    campaign_id         VARCHAR(36)         PRIMARY KEY,
+    requested_at        TIMESTAMPTZ         NOT NULL
+);
@@ -2,10 +2,13 @@ package com.evaluationservice.application.service;
 
 import com.evaluationservice.application.port.out.AssignmentPersistencePort;
 import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.CampaignProgressPort;
+import com.evaluationservice.application.port.out.CampaignProgressPort.AssignmentTotals;
 import com.evaluationservice.application.port.out.TemplatePersistencePort;
 import com.evaluationservice.domain.entity.Campaign;
 import com.evaluationservice.domain.enums.CampaignStatus;
 import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.event.CampaignClosedEvent;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.domain.value.DateRange;
 import com.evaluationservice.domain.value.TemplateId;
@@ -14,17 +17,22 @@ import com.evaluationservice.infrastructure.service.CampaignLifecycleEventServic
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,6 +51,8 @@ class CampaignManagementServiceTest {
     private DynamicAssignmentEngine dynamicAssignmentEngine;
     @Mock
     private CampaignLifecycleEventService campaignLifecycleEventService;
+    @Mock
+    private CampaignProgressPort campaignProgressPort;
 
     private CampaignManagementService service;
 
@@ -54,14 +64,16 @@ class CampaignManagementServiceTest {
                 assignmentPersistencePort,
                 eventPublisher,
                 dynamicAssignmentEngine,
-                campaignLifecycleEventService);
+                campaignLifecycleEventService,
+                campaignProgressPort);
     }
 
     @Test
     void publishCampaignLogsActorAndReason() {
         Campaign campaign = draftCampaign();
-        when(campaignPersistencePort.findById(campaign.getId())).thenReturn(Optional.of(campaign));
-        when(campaignPersistencePort.save(any(Campaign.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(campaignPersistencePort.findByIdWithoutAssignments(campaign.getId())).thenReturn(Optional.of(campaign));
+        when(campaignPersistencePort.saveLifecycleState(any(Campaign.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
         service.publishCampaign(campaign.getId(), "admin-user", "go-live");
 
@@ -75,6 +87,41 @@ class CampaignManagementServiceTest {
                 org.mockito.ArgumentMatchers.<Map<String, Object>>any());
     }
 
+    @Test
+    void closeCampaignTakesCountsFromCountersWithoutLoadingAssignments() {
+        Campaign campaign = draftCampaign();
+        campaign.activate();
+        when(campaignPersistencePort.findByIdWithoutAssignments(campaign.getId())).thenReturn(Optional.of(campaign));
+        when(campaignPersistencePort.saveLifecycleState(any(Campaign.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(campaignProgressPort.countAssignments(List.of(campaign.getId())))
+                .thenReturn(Map.of(campaign.getId(), new AssignmentTotals(8, 2)));
+
+        Campaign closed = service.closeCampaign(campaign.getId());
+
+        assertThat(closed.getStatus()).isEqualTo(CampaignStatus.CLOSED);
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        CampaignClosedEvent closedEvent = events.getAllValues().stream()
+                .filter(CampaignClosedEvent.class::isInstance)
+                .map(CampaignClosedEvent.class::cast)
+                .findFirst()
+                .orElseThrow();
+        assertThat(closedEvent.totalAssignments()).isEqualTo(8);
+        assertThat(closedEvent.completedAssignments()).isEqualTo(2);
+        assertThat(closedEvent.completionPercentage()).isEqualTo(25.0);
+        verify(campaignLifecycleEventService).logTransition(
+                eq(campaign.getId().value()),
+                eq("ACTIVE"),
+                eq("CLOSED"),
+                eq("CLOSE"),
+                eq(null),
+                eq(null),
+                eq(Map.of("campaignName", "Campaign", "completionPercentage", 25.0)));
+        verify(campaignPersistencePort, never()).findById(any());
+        verify(campaignPersistencePort, never()).save(any());
+    }
+
     private Campaign draftCampaign() {
         Instant now = Instant.now();
         return new Campaign(
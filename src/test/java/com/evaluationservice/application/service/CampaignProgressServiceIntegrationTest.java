@@ -0,0 +1,162 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.CampaignProgressUseCase;
+import com.evaluationservice.application.port.in.CampaignProgressUseCase.CampaignProgress;
+import com.evaluationservice.application.port.in.CampaignProgressUseCase.StepProgress;
+import com.evaluationservice.application.port.out.AssignmentPersistencePort;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.exception.EntityNotFoundException;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.adapter.CampaignAssignmentCounters;
+import com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity;
+import com.evaluationservice.infrastructure.entity.CampaignEntity;
+import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
+import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import com.evaluationservice.infrastructure.service.CampaignProgressBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "evaluation.service.security.dev-mode=true",
+        "spring.datasource.url=jdbc:h2:mem:campaign-progress-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "eureka.client.enabled=false",
+        "evaluation.service.assignment.storage-mode=V2"
+})
+@DisplayName("CampaignProgressService Integration")
+class CampaignProgressServiceIntegrationTest {
+
+    private static final CampaignId CAMPAIGN = CampaignId.of("camp-progress-1");
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private CampaignProgressUseCase campaignProgressUseCase;
+
+    @Autowired
+    private CampaignProgressBroadcaster campaignProgressBroadcaster;
+
+    @Autowired
+    private AssignmentPersistencePort assignmentPersistencePort;
+
+    @Autowired
+    private CampaignAssignmentCounters counters;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private CampaignAssignmentRepository assignmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setup() {
+        assignmentRepository.deleteAll();
+        campaignRepository.deleteAll();
+        seedCampaign(CAMPAIGN.value());
+        seedAssignment("a-peer-1", "PEER", true);
+        seedAssignment("a-peer-2", "PEER", false);
+        seedAssignment("a-mgr-1", "MANAGER", true);
+        seedAssignment("a-none-1", null, false);
+        counters.recount(CAMPAIGN.value());
+    }
+
+    @Test
+    @DisplayName("counts completion overall and per step")
+    void countsPerStep() {
+        CampaignProgress progress = campaignProgressUseCase.getProgress(CAMPAIGN);
+
+        assertThat(progress.totalAssignments()).isEqualTo(4);
+        assertThat(progress.completedAssignments()).isEqualTo(2);
+        assertThat(progress.completionPercentage()).isEqualTo(50.0);
+        assertThat(progress.steps()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "PEER", new StepProgress(2, 1),
+                "MANAGER", new StepProgress(1, 1),
+                "NONE", new StepProgress(1, 0)));
+    }
+
+    @Test
+    @DisplayName("rejects unknown campaigns")
+    void rejectsUnknownCampaign() {
+        assertThatThrownBy(() -> campaignProgressUseCase.getProgress(CampaignId.of("camp-missing")))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("pushes a subscribed campaign only when its counts move")
+    void pushesOnlyChangedProgress() {
+        campaignProgressBroadcaster.subscribe(CAMPAIGN);
+
+        campaignProgressBroadcaster.markChanged(CAMPAIGN);
+        assertThat(campaignProgressBroadcaster.pushChanged()).isZero();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                assignmentPersistencePort.markCompleted("a-peer-2", "eval-a-peer-2"));
+        campaignProgressBroadcaster.markChanged(CAMPAIGN);
+        assertThat(campaignProgressBroadcaster.pushChanged()).isEqualTo(1);
+        assertThat(campaignProgressBroadcaster.pushChanged()).isZero();
+
+        campaignProgressBroadcaster.markChanged(CampaignId.of("camp-unwatched"));
+        assertThat(campaignProgressBroadcaster.pushChanged()).isZero();
+    }
+
+    private void seedCampaign(String campaignId) {
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(campaignId);
+        campaign.setName("Progress Review");
+        campaign.setTemplateId("tmpl-progress-1");
+        campaign.setTemplateVersion(1);
+        campaign.setStatus(CampaignStatus.ACTIVE.name());
+        campaign.setStartDate(NOW.minus(1, ChronoUnit.DAYS));
+        campaign.setEndDate(NOW.plus(14, ChronoUnit.DAYS));
+        campaign.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        campaign.setAnonymousMode(false);
+        campaign.setAnonymousRolesJson("[]");
+        campaign.setMinimumRespondents(1);
+        campaign.setAudienceSourceType("INLINE");
+        campaign.setAudienceSourceConfigJson("{}");
+        campaign.setAssignmentRuleType("ALL_TO_ALL");
+        campaign.setAssignmentRuleConfigJson("{}");
+        campaign.setAssignmentsJson("[]");
+        campaign.setCreatedBy("it-test");
+        campaign.setCreatedAt(NOW);
+        campaign.setUpdatedAt(NOW);
+        campaignRepository.save(campaign);
+    }
+
+    private void seedAssignment(String assignmentId, String stepType, boolean completed) {
+        CampaignAssignmentEntity assignment = new CampaignAssignmentEntity();
+        assignment.setId(assignmentId);
+        assignment.setCampaignId(CAMPAIGN.value());
+        assignment.setEvaluatorId("evaluator-" + assignmentId);
+        assignment.setEvaluateeId("evaluatee-" + assignmentId);
+        assignment.setEvaluatorRole("PEER");
+        assignment.setStepType(stepType);
+        assignment.setCompleted(completed);
+        assignment.setEvaluationId(completed ? "eval-" + assignmentId : null);
+        assignment.setStatus("ACTIVE");
+        assignment.setCreatedAt(NOW);
+        assignment.setUpdatedAt(NOW);
+        assignmentRepository.save(assignment);
+    }
+}
@@ -0,0 +1,137 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.api.dto.response.DashboardStatsResponse;
+import com.evaluationservice.application.port.in.CampaignManagementUseCase;
+import com.evaluationservice.application.port.in.CampaignManagementUseCase.AssignmentEntry;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.EvaluatorRole;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.entity.CampaignEntity;
+import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "evaluation.service.security.dev-mode=true",
+        "spring.datasource.url=jdbc:h2:mem:dashboard-stats-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "eureka.client.enabled=false",
+        "evaluation.service.assignment.storage-mode=JSON",
+        "evaluation.service.dashboard.stats-flush-interval-ms=3600000",
+        "evaluation.service.dashboard.stats-reconciliation-enabled=false"
+})
+@DisplayName("DashboardStatsService Integration")
+class DashboardStatsServiceIntegrationTest {
+
+    private static final CampaignId FIRST = CampaignId.of("camp-dash-1");
+    private static final CampaignId SECOND = CampaignId.of("camp-dash-2");
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private CampaignManagementUseCase campaignManagementUseCase;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("DELETE FROM campaign_stats");
+        jdbcTemplate.update("DELETE FROM dashboard_stats");
+        campaignRepository.deleteAll();
+        seedCampaign(FIRST);
+        seedCampaign(SECOND);
+    }
+
+    @Test
+    @DisplayName("reconciles on first read and folds changed campaigns in on flush")
+    void followsChangesThroughFlush() {
+        DashboardStatsResponse initial = dashboardService.getStats();
+        assertThat(initial.totalCampaigns()).isEqualTo(2);
+        assertThat(initial.activeCampaigns()).isZero();
+        assertThat(initial.activeEvaluations()).isZero();
+
+        campaignManagementUseCase.addAssignments(FIRST, List.of(
+                new AssignmentEntry("evaluator-1", "evaluatee-1", EvaluatorRole.PEER),
+                new AssignmentEntry("evaluator-2", "evaluatee-1", EvaluatorRole.PEER),
+                new AssignmentEntry("evaluator-1", "evaluatee-2", EvaluatorRole.PEER)));
+        campaignManagementUseCase.activateCampaign(FIRST);
+        assertThat(dashboardService.getStats().activeCampaigns()).isZero();
+
+        assertThat(dashboardStatsService.flush()).isEqualTo(1);
+        DashboardStatsResponse flushed = dashboardService.getStats();
+        assertThat(flushed.totalCampaigns()).isEqualTo(2);
+        assertThat(flushed.activeCampaigns()).isEqualTo(1);
+        assertThat(flushed.activeEvaluations()).isEqualTo(3);
+        assertThat(dashboardStatsService.flush()).isZero();
+
+        campaignManagementUseCase.closeCampaign(FIRST);
+        dashboardStatsService.flush();
+        assertThat(dashboardService.getStats().activeCampaigns()).isZero();
+        assertThat(dashboardStatsService.reconcile().drifted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("reconciliation repairs drifted counters")
+    void repairsDrift() {
+        dashboardStatsService.reconcile();
+        jdbcTemplate.update("UPDATE dashboard_stats SET total_campaigns = 99, active_campaigns = 7");
+
+        var result = dashboardStatsService.reconcile();
+
+        assertThat(result.drifted()).isTrue();
+        assertThat(result.previous().totalCampaigns()).isEqualTo(99);
+        assertThat(result.current().totalCampaigns()).isEqualTo(2);
+        assertThat(result.current().activeCampaigns()).isZero();
+        assertThat(dashboardService.getStats().totalCampaigns()).isEqualTo(2);
+    }
+
+    private void seedCampaign(CampaignId campaignId) {
+        Instant now = Instant.now();
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(campaignId.value());
+        campaign.setName("Dashboard " + campaignId.value());
+        campaign.setTemplateId("tmpl-dash-1");
+        campaign.setTemplateVersion(1);
+        campaign.setStatus(CampaignStatus.DRAFT.name());
+        campaign.setStartDate(now.minus(1, ChronoUnit.DAYS));
+        campaign.setEndDate(now.plus(14, ChronoUnit.DAYS));
+        campaign.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        campaign.setAnonymousMode(false);
+        campaign.setAnonymousRolesJson("[]");
+        campaign.setMinimumRespondents(1);
+        campaign.setAudienceSourceType("INLINE");
+        campaign.setAudienceSourceConfigJson("{}");
+        campaign.setAssignmentRuleType("ALL_TO_ALL");
+        campaign.setAssignmentRuleConfigJson("{}");
+        campaign.setAssignmentsJson("[]");
+        campaign.setCreatedBy("it-test");
+        campaign.setCreatedAt(now);
+        campaign.setUpdatedAt(now);
+        campaignRepository.save(campaign);
+    }
+}
@@ -0,0 +1,139 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.TemplatePersistencePort;
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.Template;
+import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.event.EvaluationSubmittedEvent;
+import com.evaluationservice.domain.event.ScoreComputedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.TemplateId;
+import com.evaluationservice.domain.value.Timestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DeferredScoringService")
+class DeferredScoringServiceTest {
+
+    private final EvaluationPersistencePort evaluationPort = mock(EvaluationPersistencePort.class);
+    private final TemplatePersistencePort templatePort = mock(TemplatePersistencePort.class);
+    private final ScoringService scoringService = mock(ScoringService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ScoreAggregateService scoreAggregateService = mock(ScoreAggregateService.class);
+    private final DeferredScoringService service = new DeferredScoringService(
+            evaluationPort, templatePort, scoringService, eventPublisher, scoreAggregateService);
+
+    @Test
+    @DisplayName("completes an evaluation in SCORING and publishes submitted and score events")
+    void completesScoringEvaluation() {
+        Evaluation evaluation = evaluation(EvaluationStatus.SCORING);
+        when(evaluationPort.findById(evaluation.getId())).thenReturn(Optional.of(evaluation));
+        when(templatePort.findById(TemplateId.of("tmpl-1"))).thenReturn(Optional.of(template()));
+        when(scoringService.computeSectionScores(any(Evaluation.class), any(Template.class))).thenReturn(List.of());
+        when(scoringService.computeTotalScore(anyList(), any(Template.class))).thenReturn(Score.of(4.5));
+        when(evaluationPort.completeScoring(evaluation)).thenReturn(true);
+
+        assertThat(service.completeScoring(evaluation.getId())).isTrue();
+
+        assertThat(evaluation.getStatus()).isEqualTo(EvaluationStatus.COMPLETED);
+        assertThat(evaluation.getTotalScore()).isEqualTo(Score.of(4.5));
+        verify(eventPublisher).publishEvent(any(EvaluationSubmittedEvent.class));
+        verify(eventPublisher).publishEvent(any(ScoreComputedEvent.class));
+        verify(scoreAggregateService).recordCompleted(evaluation);
+    }
+
+    @Test
+    @DisplayName("skips evaluations that are no longer in SCORING")
+    void skipsEvaluationsNotInScoring() {
+        Evaluation evaluation = evaluation(EvaluationStatus.INVALIDATED);
+        when(evaluationPort.findById(evaluation.getId())).thenReturn(Optional.of(evaluation));
+
+        assertThat(service.completeScoring(evaluation.getId())).isFalse();
+
+        verifyNoInteractions(scoringService, eventPublisher);
+        verify(evaluationPort, never()).completeScoring(any());
+    }
+
+    @Test
+    @DisplayName("publishes nothing when another worker completed the row first")
+    void publishesNothingWhenCompletionLosesRace() {
+        Evaluation evaluation = evaluation(EvaluationStatus.SCORING);
+        when(evaluationPort.findById(evaluation.getId())).thenReturn(Optional.of(evaluation));
+        when(templatePort.findById(TemplateId.of("tmpl-1"))).thenReturn(Optional.of(template()));
+        when(scoringService.computeSectionScores(any(Evaluation.class), any(Template.class))).thenReturn(List.of());
+        when(scoringService.computeTotalScore(anyList(), any(Template.class))).thenReturn(Score.ZERO);
+        when(evaluationPort.completeScoring(evaluation)).thenReturn(false);
+
+        assertThat(service.completeScoring(evaluation.getId())).isFalse();
+
+        verifyNoInteractions(eventPublisher, scoreAggregateService);
+    }
+
+    @Test
+    @DisplayName("backs off failed attempts and dead-letters at the attempt limit")
+    void backsOffAndDeadLettersFailures() {
+        EvaluationId id = EvaluationId.of("eval-1");
+        when(evaluationPort.recordScoringFailure(id, "boom")).thenReturn(3, 4);
+        ArgumentCaptor<Instant> nextAttempt = ArgumentCaptor.forClass(Instant.class);
+        Instant before = Instant.now();
+
+        assertThat(service.recordFailure(id, "boom", 4, Duration.ofMinutes(1))).isFalse();
+        verify(evaluationPort).deferScoring(eq(id), nextAttempt.capture());
+        assertThat(nextAttempt.getValue()).isAfterOrEqualTo(before.plus(Duration.ofMinutes(4)));
+
+        assertThat(service.recordFailure(id, "boom", 4, Duration.ofMinutes(1))).isTrue();
+        verify(evaluationPort).deferScoring(id, null);
+    }
+
+    private Evaluation evaluation(EvaluationStatus status) {
+        return new Evaluation(
+                EvaluationId.of("eval-1"),
+                CampaignId.of("camp-1"),
+                "assign-1",
+                "evaluator-1",
+                "evaluatee-1",
+                "tmpl-1",
+                status,
+                List.of(new Answer("a1", "q1", 5, List.of(), null, Map.of())),
+                null,
+                List.of(),
+                Timestamp.now(),
+                Timestamp.now(),
+                Timestamp.now());
+    }
+
+    private Template template() {
+        return new Template(
+                TemplateId.of("tmpl-1"),
+                "Template",
+                null,
+                null,
+                TemplateStatus.PUBLISHED,
+                1,
+                ScoringMethod.WEIGHTED_AVERAGE,
+                List.of(),
+                "tester",
+                Timestamp.now(),
+                Timestamp.now(),
+                null);
+    }
+}
@@ -0,0 +1,180 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase;
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity;
+import com.evaluationservice.infrastructure.entity.CampaignEntity;
+import com.evaluationservice.infrastructure.entity.TemplateEntity;
+import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
+import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import com.evaluationservice.infrastructure.repository.EvaluationJpaRepository;
+import com.evaluationservice.infrastructure.repository.TemplateRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "evaluation.service.security.dev-mode=true",
+        "spring.datasource.url=jdbc:h2:mem:lean-submit-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "eureka.client.enabled=false",
+        "evaluation.service.assignment.storage-mode=V2",
+        "evaluation.service.submission.lean-mode=true"
+})
+@DisplayName("Lean Submission Path Integration")
+class EvaluationSubmissionLeanPathIntegrationTest {
+
+    private static final String TEMPLATE_ID = "tmpl-lean-1";
+    private static final String SMALL_CAMPAIGN = "camp-lean-small";
+    private static final String LARGE_CAMPAIGN = "camp-lean-large";
+
+    private static final String INSERT_ASSIGNMENT_SQL = """
+            INSERT INTO campaign_assignments (
+                id, campaign_id, evaluator_id, evaluatee_id, evaluator_role,
+                completed, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 'PEER', FALSE, 'ACTIVE', ?, ?)
+            """;
+
+    @Autowired
+    private EvaluationSubmissionUseCase submissionUseCase;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private CampaignAssignmentRepository assignmentRepository;
+
+    @Autowired
+    private EvaluationJpaRepository evaluationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        evaluationRepository.deleteAll();
+        assignmentRepository.deleteAll();
+        campaignRepository.deleteAll();
+        templateRepository.deleteAll();
+        seedTemplate();
+    }
+
+    @Test
+    @DisplayName("runs the same statements for a submit in a 20,000-assignment campaign as in a 10-assignment one")
+    void submitCostIndependentOfCampaignSize() {
+        seedCampaign(SMALL_CAMPAIGN, 10);
+        seedCampaign(LARGE_CAMPAIGN, 20_000);
+
+        SubmitCost small = measureSubmit(SMALL_CAMPAIGN);
+        SubmitCost large = measureSubmit(LARGE_CAMPAIGN);
+
+        assertThat(large).isEqualTo(small);
+        // Only the submitted assignment is read; the campaign row is read as a header projection
+        assertThat(large.assignmentLoads()).isEqualTo(1);
+        assertThat(large.campaignLoads()).isZero();
+    }
+
+    private record SubmitCost(long statements, long assignmentLoads, long campaignLoads) {
+    }
+
+    private SubmitCost measureSubmit(String campaignId) {
+        // The first submit warms the settings snapshot and the compiled scoring plan
+        submissionUseCase.submitEvaluation(command(campaignId, 0));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        submissionUseCase.submitEvaluation(command(campaignId, 1));
+        return new SubmitCost(
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityStatistics(CampaignAssignmentEntity.class.getName()).getLoadCount(),
+                statistics.getEntityStatistics(CampaignEntity.class.getName()).getLoadCount());
+    }
+
+    private EvaluationSubmissionUseCase.SubmitEvaluationCommand command(String campaignId, int index) {
+        return new EvaluationSubmissionUseCase.SubmitEvaluationCommand(
+                CampaignId.of(campaignId),
+                campaignId + "-a" + index,
+                "evaluator-" + index,
+                "evaluatee-" + index,
+                TEMPLATE_ID,
+                List.of(new Answer("answer-" + campaignId + "-" + index, "q1", 8, List.of(), null, Map.of())));
+    }
+
+    private void seedTemplate() {
+        TemplateEntity template = new TemplateEntity();
+        template.setId(TEMPLATE_ID);
+        template.setName("Lean Submission Template");
+        template.setDescription("Template for lean submission integration tests");
+        template.setCategory("INTEGRATION");
+        template.setStatus(TemplateStatus.PUBLISHED.name());
+        template.setCurrentVersion(1);
+        template.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        template.setSectionsJson("[]");
+        template.setCreatedBy("it-test");
+        template.setCreatedAt(Instant.now());
+        template.setUpdatedAt(Instant.now());
+        templateRepository.save(template);
+    }
+
+    private void seedCampaign(String campaignId, int assignmentCount) {
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(campaignId);
+        campaign.setName("Lean Submission Campaign " + assignmentCount);
+        campaign.setTemplateId(TEMPLATE_ID);
+        campaign.setTemplateVersion(1);
+        campaign.setStatus(CampaignStatus.ACTIVE.name());
+        campaign.setStartDate(Instant.now().minusSeconds(3600));
+        campaign.setEndDate(Instant.now().plusSeconds(86400));
+        campaign.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        campaign.setAnonymousMode(false);
+        campaign.setAnonymousRolesJson("[]");
+        campaign.setMinimumRespondents(1);
+        campaign.setAudienceSourceType("INLINE");
+        campaign.setAudienceSourceConfigJson("{}");
+        campaign.setAssignmentRuleType("ALL_TO_ALL");
+        campaign.setAssignmentRuleConfigJson("{}");
+        campaign.setAssignmentsJson("[]");
+        campaign.setCreatedBy("it-test");
+        campaign.setCreatedAt(Instant.now());
+        campaign.setUpdatedAt(Instant.now());
+        campaignRepository.save(campaign);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(assignmentCount);
+        for (int i = 0; i < assignmentCount; i++) {
+            rows.add(new Object[] { campaignId + "-a" + i, campaignId, "evaluator-" + i, "evaluatee-" + i, now, now });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT_SQL, rows);
+    }
+}
@@ -165,6 +165,43 @@ class EvaluationSubmissionServiceIntegrationTest {
         assertThat(assignmentRepository.findById(assignmentId)).isEmpty();
     }
 
+    @Test
+    @DisplayName("batch submit persists every item with batched writes and stays idempotent on retry")
+    void batchSubmitIsIdempotentOnRetry() {
+        String templateId = "tmpl-batch-1";
+        String campaignId = "camp-batch-1";
+        seedTemplate(templateId);
+        seedCampaign(campaignId, templateId, "assign-batch-1", "evaluator-batch", "evaluatee-batch-1");
+        seedAssignment(campaignId, "assign-batch-1", "evaluator-batch", "evaluatee-batch-1");
+        seedAssignment(campaignId, "assign-batch-2", "evaluator-batch", "evaluatee-batch-2");
+
+        List<Answer> answers = List.of(new Answer(UUID.randomUUID().toString(), "q1", 7, List.of(), null, Map.of()));
+        var command = new EvaluationSubmissionUseCase.SubmitEvaluationBatchCommand(
+                CampaignId.of(campaignId),
+                templateId,
+                List.of(
+                        new EvaluationSubmissionUseCase.BatchSubmission(
+                                "assign-batch-1", "evaluator-batch", "evaluatee-batch-1", answers),
+                        new EvaluationSubmissionUseCase.BatchSubmission(
+                                "assign-batch-2", "evaluator-batch", "evaluatee-batch-2", answers)));
+
+        var first = submissionUseCase.submitEvaluationBatch(command);
+        assertThat(first).extracting(EvaluationSubmissionUseCase.BatchItemResult::status)
+                .containsOnly(EvaluationSubmissionUseCase.BatchItemStatus.SUBMITTED);
+        assertThat(evaluationRepository.count()).isEqualTo(2);
+        for (var result : first) {
+            var assignment = assignmentRepository.findById(result.assignmentId()).orElseThrow();
+            assertThat(assignment.isCompleted()).isTrue();
+            assertThat(assignment.getEvaluationId()).isEqualTo(result.evaluation().getId().value());
+        }
+
+        var retry = submissionUseCase.submitEvaluationBatch(command);
+        assertThat(retry).extracting(EvaluationSubmissionUseCase.BatchItemResult::status)
+                .containsOnly(EvaluationSubmissionUseCase.BatchItemStatus.ALREADY_SUBMITTED);
+        assertThat(retry.get(0).evaluation().getId()).isEqualTo(first.get(0).evaluation().getId());
+        assertThat(evaluationRepository.count()).isEqualTo(2);
+    }
+
     private void seedTemplate(String templateId) {
         TemplateEntity template = new TemplateEntity();
         template.setId(templateId);
@@ -3,7 +3,9 @@ package com.evaluationservice.application.service;
 import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.SubmitEvaluationCommand;
 import com.evaluationservice.application.port.out.AssignmentPersistencePort;
 import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.DraftAnswerBufferPort;
 import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.ScoringQueuePort;
 import com.evaluationservice.application.port.out.TemplatePersistencePort;
 import com.evaluationservice.domain.entity.Answer;
 import com.evaluationservice.domain.entity.Campaign;
@@ -94,7 +96,10 @@ class EvaluationSubmissionServiceStepWindowTest {
                 scoringService,
                 eventPublisher,
                 settingsResolverService,
-                campaignStepRepository);
+                campaignStepRepository,
+                mock(ScoringQueuePort.class),
+                mock(DraftAnswerBufferPort.class),
+                mock(ScoreAggregateService.class));
 
         CampaignId campaignId = CampaignId.of("camp-step");
         CampaignAssignment assignment = new CampaignAssignment(
@@ -1,25 +1,43 @@
 package com.evaluationservice.application.service;
 
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.BatchItemResult;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.BatchItemStatus;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.BatchSubmission;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.PatchAnswerCommand;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.SubmitEvaluationBatchCommand;
 import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase.SubmitEvaluationCommand;
 import com.evaluationservice.application.port.out.AssignmentPersistencePort;
 import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.DraftAnswerBufferPort;
 import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.ScoringQueuePort;
 import com.evaluationservice.application.port.out.TemplatePersistencePort;
+import com.evaluationservice.domain.entity.Answer;
 import com.evaluationservice.domain.entity.Campaign;
 import com.evaluationservice.domain.entity.CampaignAssignment;
 import com.evaluationservice.domain.entity.Evaluation;
 import com.evaluationservice.domain.entity.Template;
 import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.EvaluationStatus;
 import com.evaluationservice.domain.enums.EvaluatorRole;
 import com.evaluationservice.domain.enums.ScoringMethod;
 import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.exception.CampaignNotActiveException;
+import com.evaluationservice.domain.value.CampaignHeader;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.domain.value.DateRange;
+import com.evaluationservice.domain.value.EvaluationId;
 import com.evaluationservice.domain.value.TemplateId;
 import com.evaluationservice.domain.value.Timestamp;
 import com.evaluationservice.infrastructure.repository.CampaignStepRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Instant;
@@ -27,26 +45,46 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+@ExtendWith(MockitoExtension.class)
+// Settings are stubbed per key; unstubbed keys must fall through to the default false/0
+@MockitoSettings(strictness = Strictness.LENIENT)
 @DisplayName("EvaluationSubmissionService")
 class EvaluationSubmissionServiceTest {
 
-    @Test
-    @DisplayName("rejects submit when assignment tuple does not match evaluator/evaluatee")
-    void rejectsSubmitWhenAssignmentMismatched() {
-        EvaluationPersistencePort evaluationPort = mock(EvaluationPersistencePort.class);
-        CampaignPersistencePort campaignPort = mock(CampaignPersistencePort.class);
-        AssignmentPersistencePort assignmentPort = mock(AssignmentPersistencePort.class);
-        TemplatePersistencePort templatePort = mock(TemplatePersistencePort.class);
-        ScoringService scoringService = mock(ScoringService.class);
-        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
-        SettingsResolverService settingsResolverService = mock(SettingsResolverService.class);
-        CampaignStepRepository campaignStepRepository = mock(CampaignStepRepository.class);
-
-        EvaluationSubmissionService service = new EvaluationSubmissionService(
+    @Mock
+    private EvaluationPersistencePort evaluationPort;
+    @Mock
+    private CampaignPersistencePort campaignPort;
+    @Mock
+    private AssignmentPersistencePort assignmentPort;
+    @Mock
+    private TemplatePersistencePort templatePort;
+    @Mock
+    private ScoringService scoringService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private SettingsResolverService settingsResolverService;
+    @Mock
+    private CampaignStepRepository campaignStepRepository;
+    @Mock
+    private ScoringQueuePort scoringQueuePort;
+    @Mock
+    private DraftAnswerBufferPort draftBuffer;
+    @Mock
+    private ScoreAggregateService scoreAggregateService;
+
+    private EvaluationSubmissionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EvaluationSubmissionService(
                 evaluationPort,
                 campaignPort,
                 assignmentPort,
@@ -54,7 +92,15 @@ class EvaluationSubmissionServiceTest {
                 scoringService,
                 eventPublisher,
                 settingsResolverService,
-                campaignStepRepository);
+                campaignStepRepository,
+                scoringQueuePort,
+                draftBuffer,
+                scoreAggregateService);
+    }
+
+    @Test
+    @DisplayName("rejects submit when assignment tuple does not match evaluator/evaluatee")
+    void rejectsSubmitWhenAssignmentMismatched() {
         when(settingsResolverService.resolveBoolean("features.enable-step-windows")).thenReturn(false);
 
         CampaignId campaignId = CampaignId.of("camp-1");
@@ -85,24 +131,6 @@ class EvaluationSubmissionServiceTest {
     @Test
     @DisplayName("accepts submit when assignment tuple matches relational assignment")
     void acceptsSubmitWhenAssignmentMatches() {
-        EvaluationPersistencePort evaluationPort = mock(EvaluationPersistencePort.class);
-        CampaignPersistencePort campaignPort = mock(CampaignPersistencePort.class);
-        AssignmentPersistencePort assignmentPort = mock(AssignmentPersistencePort.class);
-        TemplatePersistencePort templatePort = mock(TemplatePersistencePort.class);
-        ScoringService scoringService = mock(ScoringService.class);
-        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
-        SettingsResolverService settingsResolverService = mock(SettingsResolverService.class);
-        CampaignStepRepository campaignStepRepository = mock(CampaignStepRepository.class);
-
-        EvaluationSubmissionService service = new EvaluationSubmissionService(
-                evaluationPort,
-                campaignPort,
-                assignmentPort,
-                templatePort,
-                scoringService,
-                eventPublisher,
-                settingsResolverService,
-                campaignStepRepository);
         when(settingsResolverService.resolveBoolean("features.enable-step-windows")).thenReturn(false);
 
         CampaignId campaignId = CampaignId.of("camp-2");
@@ -142,6 +170,349 @@ class EvaluationSubmissionServiceTest {
         verify(assignmentPort).markCompleted(eq("assign-2"), anyString());
     }
 
+    @Test
+    @DisplayName("lean mode completes the assignment row without loading or saving the campaign aggregate")
+    void leanModeSkipsCampaignAggregate() {
+        when(settingsResolverService.resolveBoolean("submission.lean-mode", CampaignId.of("camp-lean"))).thenReturn(true);
+        when(settingsResolverService.resolveBoolean("features.enable-step-windows")).thenReturn(false);
+
+        CampaignId campaignId = CampaignId.of("camp-lean");
+        when(evaluationPort.findByAssignmentId("assign-lean")).thenReturn(Optional.empty());
+        when(campaignPort.findHeaderById(campaignId)).thenReturn(Optional.of(new CampaignHeader(
+                campaignId,
+                TemplateId.of("tmpl-1"),
+                1,
+                CampaignStatus.ACTIVE,
+                DateRange.of(Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-12-31T23:59:59Z")),
+                true)));
+        when(assignmentPort.findById("assign-lean")).thenReturn(Optional.of(new CampaignAssignment(
+                "assign-lean",
+                campaignId,
+                "evaluator-lean",
+                "evaluatee-lean",
+                EvaluatorRole.PEER,
+                false,
+                null)));
+        when(templatePort.findById(TemplateId.of("tmpl-1"))).thenReturn(Optional.of(template()));
+        when(scoringService.computeSectionScores(any(Evaluation.class), any(Template.class))).thenReturn(List.of());
+        when(scoringService.computeTotalScore(anyList(), any(Template.class)))
+                .thenReturn(com.evaluationservice.domain.value.Score.ZERO);
+        when(evaluationPort.save(any(Evaluation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        service.submitEvaluation(new SubmitEvaluationCommand(
+                campaignId,
+                "assign-lean",
+                "evaluator-lean",
+                "evaluatee-lean",
+                "tmpl-1",
+                List.of(new com.evaluationservice.domain.entity.Answer("a1", "q1", 5, List.of(), null, Map.of()))));
+
+        verify(assignmentPort).markCompleted(eq("assign-lean"), anyString());
+        verify(campaignPort, never()).findById(any());
+        verify(campaignPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("lean mode rejects submit when campaign header is not active")
+    void leanModeRejectsInactiveCampaign() {
+        when(settingsResolverService.resolveBoolean("submission.lean-mode", CampaignId.of("camp-closed"))).thenReturn(true);
+
+        CampaignId campaignId = CampaignId.of("camp-closed");
+        when(evaluationPort.findByAssignmentId("assign-closed")).thenReturn(Optional.empty());
+        when(campaignPort.findHeaderById(campaignId)).thenReturn(Optional.of(new CampaignHeader(
+                campaignId,
+                TemplateId.of("tmpl-1"),
+                1,
+                CampaignStatus.CLOSED,
+                DateRange.of(Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-12-31T23:59:59Z")),
+                true)));
+        when(assignmentPort.findById("assign-closed")).thenReturn(Optional.of(new CampaignAssignment(
+                "assign-closed", campaignId, "evaluator-1", "evaluatee-1", EvaluatorRole.PEER, false, null)));
+
+        assertThatThrownBy(() -> service.submitEvaluation(new SubmitEvaluationCommand(
+                campaignId,
+                "assign-closed",
+                "evaluator-1",
+                "evaluatee-1",
+                "tmpl-1",
+                List.of())))
+                .isInstanceOf(CampaignNotActiveException.class);
+    }
+
+    @Test
+    @DisplayName("lean mode falls back to the campaign aggregate when the assignment has no relational row")
+    void leanModeFallsBackForUnbackfilledAssignment() {
+        when(settingsResolverService.resolveBoolean("submission.lean-mode", CampaignId.of("camp-dual"))).thenReturn(true);
+        when(settingsResolverService.resolveBoolean("features.enable-step-windows")).thenReturn(false);
+
+        CampaignId campaignId = CampaignId.of("camp-dual");
+        Campaign campaign = activeCampaign(campaignId);
+        when(evaluationPort.findByAssignmentId("assign-2")).thenReturn(Optional.empty());
+        when(assignmentPort.findById("assign-2")).thenReturn(Optional.empty());
+        when(campaignPort.findById(campaignId)).thenReturn(Optional.of(campaign));
+        when(templatePort.findById(TemplateId.of("tmpl-1"))).thenReturn(Optional.of(template()));
+        when(scoringService.computeSectionScores(any(Evaluation.class), any(Template.class))).thenReturn(List.of());
+        when(scoringService.computeTotalScore(anyList(), any(Template.class)))
+                .thenReturn(com.evaluationservice.domain.value.Score.ZERO);
+        when(evaluationPort.save(any(Evaluation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        service.submitEvaluation(new SubmitEvaluationCommand(
+                campaignId,
+                "assign-2",
+                "evaluator-2",
+                "evaluatee-2",
+                "tmpl-1",
+                List.of(new com.evaluationservice.domain.entity.Answer("a1", "q1", 5, List.of(), null, Map.of()))));
+
+        verify(campaignPort, never()).findHeaderById(any());
+        verify(campaignPort).save(campaign);
+        assertThat(campaign.getAssignments().getFirst().isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("batch submit resolves shared state once and reports each item")
+    void batchSubmitReportsPerItemResults() {
+        when(settingsResolverService.resolveInt("submission.max-batch-size")).thenReturn(500);
+        when(settingsResolverService.resolveBoolean("submission.lean-mode", CampaignId.of("camp-batch"))).thenReturn(true);
+        when(settingsResolverService.resolveBoolean("features.enable-step-windows")).thenReturn(false);
+
+        CampaignId campaignId = CampaignId.of("camp-batch");
+        when(campaignPort.findHeaderById(campaignId)).thenReturn(Optional.of(new CampaignHeader(
+                campaignId,
+                TemplateId.of("tmpl-1"),
+                1,
+                CampaignStatus.ACTIVE,
+                DateRange.of(Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-12-31T23:59:59Z")),
+                true)));
+        when(templatePort.findById(TemplateId.of("tmpl-1"))).thenReturn(Optional.of(template()));
+        Evaluation alreadyCompleted = new Evaluation(
+                EvaluationId.of("eval-done"),
+                campaignId,
+                "assign-done",
+                "evaluator-1",
+                "evaluatee-done",
+                "tmpl-1",
+                EvaluationStatus.COMPLETED,
+                List.of(),
+                com.evaluationservice.domain.value.Score.ZERO,
+                List.of(),
+                Timestamp.now(),
+                Timestamp.now(),
+                Timestamp.now());
+        when(evaluationPort.findByAssignmentIds(anyCollection())).thenReturn(List.of(alreadyCompleted));
+        when(assignmentPort.findByIds(anyCollection())).thenReturn(List.of(
+                new CampaignAssignment("assign-a", campaignId, "evaluator-1", "evaluatee-a", EvaluatorRole.PEER, false, null),
+                new CampaignAssignment("assign-b", campaignId, "evaluator-1", "evaluatee-b", EvaluatorRole.PEER, false, null),
+                new CampaignAssignment("assign-c", campaignId, "evaluator-1", "evaluatee-c", EvaluatorRole.PEER, false, null),
+                new CampaignAssignment("assign-done", campaignId, "evaluator-1", "evaluatee-done", EvaluatorRole.PEER, true, "eval-done")));
+        when(scoringService.computeSectionScores(any(Evaluation.class), any(Template.class))).thenReturn(List.of());
+        when(scoringService.computeTotalScore(anyList(), any(Template.class)))
+                .thenReturn(com.evaluationservice.domain.value.Score.ZERO);
+
+        List<com.evaluationservice.domain.entity.Answer> answers = List.of(
+                new com.evaluationservice.domain.entity.Answer("a1", "q1", 5, List.of(), null, Map.of()));
+        List<BatchItemResult> results = service.submitEvaluationBatch(new SubmitEvaluationBatchCommand(
+                campaignId,
+                "tmpl-1",
+                List.of(
+                        new BatchSubmission("assign-a", "evaluator-1", "evaluatee-a", answers),
+                        new BatchSubmission("assign-done", "evaluator-1", "evaluatee-done", answers),
+                        new BatchSubmission("assign-b", "evaluator-1", "someone-else", answers),
+                        new BatchSubmission("assign-c", "evaluator-1", "evaluatee-c", answers),
+                        new BatchSubmission("assign-a", "evaluator-1", "evaluatee-a", answers))));
+
+        assertThat(results).extracting(BatchItemResult::status).containsExactly(
+                BatchItemStatus.SUBMITTED,
+                BatchItemStatus.ALREADY_SUBMITTED,
+                BatchItemStatus.REJECTED,
+                BatchItemStatus.SUBMITTED,
+                BatchItemStatus.REJECTED);
+        assertThat(results.get(0).evaluation().getStatus()).isEqualTo(EvaluationStatus.COMPLETED);
+        assertThat(results.get(1).evaluation()).isSameAs(alreadyCompleted);
+        assertThat(results.get(2).error()).contains("Assignment does not match");
+        assertThat(results.get(4).error()).contains("more than once");
+
+        verify(campaignPort, times(1)).findHeaderById(campaignId);
+        verify(templatePort, times(1)).findById(TemplateId.of("tmpl-1"));
+        verify(evaluationPort).saveAll(argThat(saved -> saved.size() == 2));
+        verify(assignmentPort).markCompletedAll(argThat(completions -> completions.keySet().equals(
+                java.util.Set.of("assign-a", "assign-c"))));
+        verify(evaluationPort, never()).save(any());
+        verify(assignmentPort, never()).markCompleted(anyString(), anyString());
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("batch submit rejects only the item whose scoring fails")
+    void batchSubmitRejectsItemThatFailsToScore() {
+        when(settingsResolverService.resolveInt("submission.max-batch-size")).thenReturn(500);
+        when(settingsResolverService.resolveBoolean("submission.lean-mode", CampaignId.of("camp-batch"))).thenReturn(true);
+        when(settingsResolverService.resolveBoolean("features.enable-step-windows")).thenReturn(false);
+
+        CampaignId campaignId = CampaignId.of("camp-batch");
+        when(campaignPort.findHeaderById(campaignId)).thenReturn(Optional.of(new CampaignHeader(
+                campaignId,
+                TemplateId.of("tmpl-1"),
+                1,
+                CampaignStatus.ACTIVE,
+                DateRange.of(Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-12-31T23:59:59Z")),
+                true)));
+        when(templatePort.findById(TemplateId.of("tmpl-1"))).thenReturn(Optional.of(template()));
+        when(evaluationPort.findByAssignmentIds(anyCollection())).thenReturn(List.of());
+        when(assignmentPort.findByIds(anyCollection())).thenReturn(List.of(
+                new CampaignAssignment("assign-a", campaignId, "evaluator-1", "evaluatee-a", EvaluatorRole.PEER, false, null),
+                new CampaignAssignment("assign-b", campaignId, "evaluator-1", "evaluatee-b", EvaluatorRole.PEER, false, null)));
+        when(scoringService.computeSectionScores(any(Evaluation.class), any(Template.class))).thenAnswer(invocation -> {
+            Evaluation evaluation = invocation.getArgument(0);
+            if (evaluation.getEvaluateeId().equals("evaluatee-b")) {
+                throw new IllegalArgumentException("Answer out of range for question q1");
+            }
+            return List.of();
+        });
+        when(scoringService.computeTotalScore(anyList(), any(Template.class)))
+                .thenReturn(com.evaluationservice.domain.value.Score.ZERO);
+
+        List<com.evaluationservice.domain.entity.Answer> answers = List.of(
+                new com.evaluationservice.domain.entity.Answer("a1", "q1", 5, List.of(), null, Map.of()));
+        List<BatchItemResult> results = service.submitEvaluationBatch(new SubmitEvaluationBatchCommand(
+                campaignId,
+                "tmpl-1",
+                List.of(
+                        new BatchSubmission("assign-a", "evaluator-1", "evaluatee-a", answers),
+                        new BatchSubmission("assign-b", "evaluator-1", "evaluatee-b", answers))));
+
+        assertThat(results).extracting(BatchItemResult::status)
+                .containsExactly(BatchItemStatus.SUBMITTED, BatchItemStatus.REJECTED);
+        assertThat(results.get(1).error()).contains("out of range");
+        verify(evaluationPort).saveAll(argThat(saved -> saved.size() == 1));
+        verify(assignmentPort).markCompletedAll(argThat(completions -> completions.keySet().equals(
+                java.util.Set.of("assign-a"))));
+    }
+
+    @Test
+    @DisplayName("batch submit rejects batches above the configured maximum")
+    void batchSubmitRejectsOversizedBatch() {
+        when(settingsResolverService.resolveInt("submission.max-batch-size")).thenReturn(1);
+
+        BatchSubmission submission = new BatchSubmission("assign-1", "evaluator-1", "evaluatee-1", List.of());
+        assertThatThrownBy(() -> service.submitEvaluationBatch(new SubmitEvaluationBatchCommand(
+                CampaignId.of("camp-1"), "tmpl-1", List.of(submission, submission))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exceeds the maximum");
+    }
+
+    @Test
+    @DisplayName("async scoring acknowledges in SCORING and hands the evaluation to the queue")
+    void asyncScoringDefersScoring() {
+        when(settingsResolverService.resolveBoolean("submission.lean-mode", CampaignId.of("camp-async"))).thenReturn(true);
+        when(settingsResolverService.resolveBoolean("submission.async-scoring")).thenReturn(true);
+        when(scoringQueuePort.hasCapacity()).thenReturn(true);
+
+        CampaignId campaignId = CampaignId.of("camp-async");
+        when(evaluationPort.findByAssignmentId("assign-async")).thenReturn(Optional.empty());
+        when(campaignPort.findHeaderById(campaignId)).thenReturn(Optional.of(new CampaignHeader(
+                campaignId,
+                TemplateId.of("tmpl-1"),
+                1,
+                CampaignStatus.ACTIVE,
+                DateRange.of(Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-12-31T23:59:59Z")),
+                true)));
+        when(assignmentPort.findById("assign-async")).thenReturn(Optional.of(new CampaignAssignment(
+                "assign-async",
+                campaignId,
+                "evaluator-async",
+                "evaluatee-async",
+                EvaluatorRole.PEER,
+                false,
+                null)));
+        when(templatePort.findById(TemplateId.of("tmpl-1"))).thenReturn(Optional.of(template()));
+        when(evaluationPort.save(any(Evaluation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        Evaluation accepted = service.submitEvaluation(new SubmitEvaluationCommand(
+                campaignId,
+                "assign-async",
+                "evaluator-async",
+                "evaluatee-async",
+                "tmpl-1",
+                List.of(new com.evaluationservice.domain.entity.Answer("a1", "q1", 5, List.of(), null, Map.of()))));
+
+        assertThat(accepted.getStatus()).isEqualTo(EvaluationStatus.SCORING);
+        verify(scoringQueuePort).enqueueAfterCommit(accepted.getId());
+        verify(assignmentPort).markCompleted(eq("assign-async"), anyString());
+        verifyNoInteractions(scoringService, eventPublisher);
+
+        // A retry while scoring is pending returns the accepted evaluation
+        when(evaluationPort.findByAssignmentId("assign-async")).thenReturn(Optional.of(accepted));
+        Evaluation retried = service.submitEvaluation(new SubmitEvaluationCommand(
+                campaignId, "assign-async", "evaluator-async", "evaluatee-async", "tmpl-1", List.of()));
+        assertThat(retried).isSameAs(accepted);
+        verify(evaluationPort, times(1)).save(any(Evaluation.class));
+    }
+
+    @Test
+    @DisplayName("per-question patches are buffered and flushed as one merged draft write")
+    void patchAnswerCoalescesIntoOneWrite() {
+        EvaluationId evaluationId = EvaluationId.of("eval-draft");
+        Evaluation draft = draft(evaluationId, List.of(
+                new Answer("a-1", "q1", 3, List.of(), null, Map.of()),
+                new Answer("a-2", "q2", 4, List.of(), null, Map.of())));
+        when(evaluationPort.findById(evaluationId)).thenReturn(Optional.of(draft));
+        when(evaluationPort.findByIdForUpdate(evaluationId)).thenReturn(Optional.of(draft));
+        when(draftBuffer.isBuffered(evaluationId)).thenReturn(false, true);
+        when(draftBuffer.buffer(eq(evaluationId), any(Answer.class))).thenReturn(true);
+
+        Answer first = new Answer("a-3", "q1", 5, List.of(), null, Map.of());
+        Answer second = new Answer("a-4", "q1", 6, List.of(), null, Map.of());
+        service.patchAnswer(new PatchAnswerCommand(evaluationId, first));
+        service.patchAnswer(new PatchAnswerCommand(evaluationId, second));
+
+        verify(evaluationPort, times(1)).findById(evaluationId);
+        verify(evaluationPort, never()).save(any(Evaluation.class));
+
+        when(draftBuffer.drain(evaluationId)).thenReturn(List.of(second));
+        assertThat(service.flushDraft(evaluationId)).isTrue();
+
+        verify(evaluationPort, times(1)).save(draft);
+        assertThat(draft.getAnswers()).extracting(Answer::questionId).containsExactly("q1", "q2");
+        assertThat(draft.getAnswers().getFirst().value()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("patches to a submitted evaluation are rejected and late flushes are dropped")
+    void patchAnswerRejectsNonDraft() {
+        EvaluationId evaluationId = EvaluationId.of("eval-submitted");
+        Evaluation submitted = draft(evaluationId, List.of(new Answer("a-1", "q1", 3, List.of(), null, Map.of())));
+        submitted.submit();
+        when(evaluationPort.findById(evaluationId)).thenReturn(Optional.of(submitted));
+        when(evaluationPort.findByIdForUpdate(evaluationId)).thenReturn(Optional.of(submitted));
+
+        Answer change = new Answer("a-2", "q1", 9, List.of(), null, Map.of());
+        assertThatThrownBy(() -> service.patchAnswer(new PatchAnswerCommand(evaluationId, change)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(draftBuffer, never()).buffer(any(), any());
+
+        when(draftBuffer.drain(evaluationId)).thenReturn(List.of(change));
+        assertThat(service.flushDraft(evaluationId)).isFalse();
+        verify(evaluationPort, never()).save(any(Evaluation.class));
+    }
+
+    private Evaluation draft(EvaluationId id, List<Answer> answers) {
+        return new Evaluation(
+                id,
+                CampaignId.of("camp-draft"),
+                "assign-draft",
+                "evaluator-1",
+                "evaluatee-1",
+                "tmpl-1",
+                EvaluationStatus.DRAFT,
+                answers,
+                null,
+                List.of(),
+                Timestamp.now(),
+                Timestamp.now(),
+                null);
+    }
+
     private Campaign activeCampaign(CampaignId id) {
         return new Campaign(
                 id,
@@ -0,0 +1,155 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.EvaluatorInboxUseCase;
+import com.evaluationservice.application.port.in.EvaluatorInboxUseCase.InboxPage;
+import com.evaluationservice.application.port.out.EvaluatorInboxPort.InboxRow;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity;
+import com.evaluationservice.infrastructure.entity.CampaignEntity;
+import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
+import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "evaluation.service.security.dev-mode=true",
+        "spring.datasource.url=jdbc:h2:mem:evaluator-inbox-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "eureka.client.enabled=false",
+        "evaluation.service.assignment.storage-mode=V2"
+})
+@DisplayName("EvaluatorInboxService Integration")
+class EvaluatorInboxServiceIntegrationTest {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private EvaluatorInboxUseCase evaluatorInboxUseCase;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private CampaignAssignmentRepository assignmentRepository;
+
+    @BeforeEach
+    void setup() {
+        assignmentRepository.deleteAll();
+        campaignRepository.deleteAll();
+        seedCampaign("camp-inbox-late", "Late Review", NOW.plus(30, ChronoUnit.DAYS));
+        seedCampaign("camp-inbox-soon", "Soon Review", NOW.plus(3, ChronoUnit.DAYS));
+        seedCampaign("camp-inbox-mid", "Mid Review", NOW.plus(10, ChronoUnit.DAYS));
+        seedAssignment("a-late-1", "camp-inbox-late", "evaluator-1", false);
+        seedAssignment("a-late-2", "camp-inbox-late", "evaluator-1", true);
+        seedAssignment("a-soon-1", "camp-inbox-soon", "evaluator-1", false);
+        seedAssignment("a-mid-1", "camp-inbox-mid", "evaluator-1", true);
+        seedAssignment("a-mid-2", "camp-inbox-mid", "evaluator-1", false);
+        seedAssignment("a-mid-other", "camp-inbox-mid", "evaluator-2", false);
+    }
+
+    @Test
+    @DisplayName("pages through the caller's assignments by due date without gaps or repeats")
+    void pagesInDueDateOrder() {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            InboxPage page = evaluatorInboxUseCase.listAssignments("evaluator-1", null, null, cursor, 2);
+            page.items().forEach(row -> seen.add(row.assignmentId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactly("a-soon-1", "a-mid-1", "a-mid-2", "a-late-1", "a-late-2");
+        assertThat(evaluatorInboxUseCase.listAllAssignments("evaluator-1"))
+                .extracting(InboxRow::assignmentId)
+                .containsExactlyElementsOf(seen);
+    }
+
+    @Test
+    @DisplayName("filters by completion and due date and carries the campaign header")
+    void filtersByStatusAndDueDate() {
+        InboxPage pending = evaluatorInboxUseCase.listAssignments(
+                "evaluator-1", "pending", NOW.plus(10, ChronoUnit.DAYS), null, 20);
+
+        assertThat(pending.nextCursor()).isNull();
+        assertThat(pending.items()).extracting(InboxRow::assignmentId).containsExactly("a-soon-1", "a-mid-2");
+        assertThat(pending.items().getFirst()).satisfies(row -> {
+            assertThat(row.campaignName()).isEqualTo("Soon Review");
+            assertThat(row.campaignStatus()).isEqualTo(CampaignStatus.ACTIVE);
+            assertThat(row.endDate()).isEqualTo(NOW.plus(3, ChronoUnit.DAYS));
+            assertThat(row.completed()).isFalse();
+        });
+
+        assertThat(evaluatorInboxUseCase.listAssignments("evaluator-1", "COMPLETED", null, null, 20).items())
+                .extracting(InboxRow::assignmentId)
+                .containsExactly("a-mid-1", "a-late-2");
+    }
+
+    @Test
+    @DisplayName("rejects unknown statuses and malformed cursors")
+    void rejectsBadInput() {
+        assertThatThrownBy(() -> evaluatorInboxUseCase.listAssignments("evaluator-1", "OVERDUE", null, null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> evaluatorInboxUseCase.listAssignments("evaluator-1", null, null, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void seedCampaign(String campaignId, String name, Instant endDate) {
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(campaignId);
+        campaign.setName(name);
+        campaign.setTemplateId("tmpl-inbox-1");
+        campaign.setTemplateVersion(1);
+        campaign.setStatus(CampaignStatus.ACTIVE.name());
+        campaign.setStartDate(NOW.minus(1, ChronoUnit.DAYS));
+        campaign.setEndDate(endDate);
+        campaign.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        campaign.setAnonymousMode(false);
+        campaign.setAnonymousRolesJson("[]");
+        campaign.setMinimumRespondents(1);
+        campaign.setAudienceSourceType("INLINE");
+        campaign.setAudienceSourceConfigJson("{}");
+        campaign.setAssignmentRuleType("ALL_TO_ALL");
+        campaign.setAssignmentRuleConfigJson("{}");
+        campaign.setAssignmentsJson("[]");
+        campaign.setCreatedBy("it-test");
+        campaign.setCreatedAt(NOW);
+        campaign.setUpdatedAt(NOW);
+        campaignRepository.save(campaign);
+    }
+
+    private void seedAssignment(String assignmentId, String campaignId, String evaluatorId, boolean completed) {
+        CampaignAssignmentEntity assignment = new CampaignAssignmentEntity();
+        assignment.setId(assignmentId);
+        assignment.setCampaignId(campaignId);
+        assignment.setEvaluatorId(evaluatorId);
+        assignment.setEvaluateeId("evaluatee-" + assignmentId);
+        assignment.setEvaluatorRole("PEER");
+        assignment.setCompleted(completed);
+        assignment.setEvaluationId(completed ? "eval-" + assignmentId : null);
+        assignment.setStatus("ACTIVE");
+        assignment.setCreatedAt(NOW);
+        assignment.setUpdatedAt(NOW);
+        assignmentRepository.save(assignment);
+    }
+}
@@ -0,0 +1,288 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.GroupRollupUseCase;
+import com.evaluationservice.application.port.in.GroupRollupUseCase.GroupRollupResult;
+import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.exception.EntityNotFoundException;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.infrastructure.entity.CampaignEntity;
+import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import com.evaluationservice.infrastructure.repository.ScoreAggregateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "evaluation.service.security.dev-mode=true",
+        "spring.datasource.url=jdbc:h2:mem:group-rollup-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "eureka.client.enabled=false",
+        "evaluation.service.assignment.storage-mode=JSON",
+        "evaluation.service.reports.rollup-rebuild-interval-ms=3600000"
+})
+@DisplayName("GroupRollupService Integration")
+class GroupRollupServiceIntegrationTest {
+
+    private static final CampaignId CAMPAIGN = CampaignId.of("camp-rollup-1");
+    private static final int FACULTIES = 10;
+    private static final int DEPARTMENTS_PER_FACULTY = 99;
+    private static final int EVALUATEES = 3000;
+
+    @Autowired
+    private GroupRollupUseCase groupRollupUseCase;
+
+    @Autowired
+    private GroupRollupService groupRollupService;
+
+    @Autowired
+    private ScoreAggregateService scoreAggregateService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private ScoreAggregateRepository scoreAggregateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Expected member count per department, including second memberships. */
+    private final Map<String, Integer> departmentMembers = new HashMap<>();
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("DELETE FROM group_score_rollups");
+        jdbcTemplate.update("DELETE FROM score_sketches");
+        jdbcTemplate.update("DELETE FROM audience_memberships");
+        jdbcTemplate.update("DELETE FROM audience_groups");
+        scoreAggregateRepository.deleteAll();
+        campaignRepository.deleteAll();
+        departmentMembers.clear();
+        seedCampaign();
+        seedHierarchy();
+        seedScores();
+        jdbcTemplate.update("DELETE FROM group_rollup_rebuilds");
+    }
+
+    @Test
+    @DisplayName("rolls departments up into faculties and the university, counting each evaluatee once")
+    void rollsUpHierarchy() {
+        List<GroupRollupResult> roots = groupRollupUseCase.listGroupRollups(CAMPAIGN, null);
+        assertThat(roots).singleElement().satisfies(root -> {
+            assertThat(root.groupId()).isEqualTo("university");
+            assertThat(root.memberCount()).isEqualTo(EVALUATEES);
+            assertThat(root.evaluationCount()).isEqualTo(EVALUATEES);
+            assertThat(root.averageScore()).isEqualTo(5.5);
+            assertThat(root.sectionAverages()).containsExactlyEntriesOf(Map.of("Leadership", 2.75));
+        });
+
+        List<GroupRollupResult> faculties = groupRollupUseCase.listGroupRollups(CAMPAIGN, "university");
+        assertThat(faculties).extracting(GroupRollupResult::name)
+                .containsExactly("Faculty 00", "Faculty 01", "Faculty 02", "Faculty 03", "Faculty 04",
+                        "Faculty 05", "Faculty 06", "Faculty 07", "Faculty 08", "Faculty 09");
+        // Second memberships stay within a faculty and the expired one is ignored
+        assertThat(faculties.stream().mapToInt(GroupRollupResult::memberCount).sum()).isEqualTo(EVALUATEES);
+
+        List<GroupRollupResult> departments = groupRollupUseCase.listGroupRollups(CAMPAIGN, "faculty-03");
+        assertThat(departments).hasSize(DEPARTMENTS_PER_FACULTY);
+        departments.forEach(department -> assertThat(department.memberCount())
+                .as(department.groupId())
+                .isEqualTo(departmentMembers.get(department.groupId())));
+
+        assertThat(groupRollupUseCase.rebuildGroupRollups(CAMPAIGN))
+                .isEqualTo(1 + FACULTIES + FACULTIES * DEPARTMENTS_PER_FACULTY);
+    }
+
+    @Test
+    @DisplayName("rebuilds in the background after score changes and rejects unknown groups")
+    void rebuildsAfterScoreChanges() {
+        assertThat(groupRollupUseCase.getGroupRollup(CAMPAIGN, "university").evaluationCount())
+                .isEqualTo(EVALUATEES);
+
+        record(List.of(evaluation("eval-extra", 0, 10.0)));
+
+        // Reads keep serving the last built cube until the requested rebuild runs
+        assertThat(groupRollupUseCase.getGroupRollup(CAMPAIGN, "university").evaluationCount())
+                .isEqualTo(EVALUATEES);
+        // The change is only marked until the scheduler flushes the requests
+        assertThat(groupRollupService.findRebuildRequests(Instant.now().plusSeconds(1), 10)).isEmpty();
+        assertThat(groupRollupService.flushRebuildRequests()).isEqualTo(1);
+        assertThat(groupRollupService.flushRebuildRequests()).isZero();
+        assertThat(groupRollupService.findRebuildRequests(Instant.now().plusSeconds(1), 10))
+                .containsExactly(CAMPAIGN);
+        assertThat(groupRollupService.findRebuildRequests(Instant.now().minusSeconds(60), 10)).isEmpty();
+
+        assertThat(groupRollupService.rebuildRequested(CAMPAIGN)).isTrue();
+        assertThat(groupRollupService.rebuildRequested(CAMPAIGN)).isFalse();
+
+        GroupRollupResult university = groupRollupUseCase.getGroupRollup(CAMPAIGN, "university");
+        assertThat(university.evaluationCount()).isEqualTo(EVALUATEES + 1);
+        assertThat(university.memberCount()).isEqualTo(EVALUATEES);
+
+        assertThatThrownBy(() -> groupRollupUseCase.getGroupRollup(CAMPAIGN, "missing"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("answers drill-down queries over a thousand groups within the latency budget")
+    void drillDownLatency() {
+        groupRollupUseCase.listGroupRollups(CAMPAIGN, null);
+        for (int i = 0; i < 20; i++) {
+            groupRollupUseCase.listGroupRollups(CAMPAIGN, "faculty-0" + (i % FACULTIES));
+        }
+
+        int queries = 50;
+        long started = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            assertThat(groupRollupUseCase.listGroupRollups(CAMPAIGN, "faculty-0" + (i % FACULTIES)))
+                    .hasSize(DEPARTMENTS_PER_FACULTY);
+        }
+        long averageMillis = (System.nanoTime() - started) / queries / 1_000_000;
+
+        // Relaxed budget; the target is well under 100 ms on production hardware
+        assertThat(averageMillis).isLessThan(100);
+    }
+
+    private void seedHierarchy() {
+        Instant now = Instant.now();
+        List<Object[]> groups = new ArrayList<>();
+        groups.add(group("university", null, "UNIVERSITY", "University", now));
+        for (int f = 0; f < FACULTIES; f++) {
+            groups.add(group(faculty(f), "university", "FACULTY", "Faculty 0" + f, now));
+            for (int d = 0; d < DEPARTMENTS_PER_FACULTY; d++) {
+                groups.add(group(department(f, d), faculty(f), "DEPARTMENT", "Department %d-%02d".formatted(f, d), now));
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO audience_groups (id, tenant_id, group_type, name, parent_group_id, active, created_at, updated_at)
+                VALUES (?, 'tenant-1', ?, ?, ?, TRUE, ?, ?)
+                """, groups);
+
+        List<Object[]> memberships = new ArrayList<>();
+        for (int i = 0; i < EVALUATEES; i++) {
+            int slot = i % (FACULTIES * DEPARTMENTS_PER_FACULTY);
+            int f = slot / DEPARTMENTS_PER_FACULTY;
+            int d = slot % DEPARTMENTS_PER_FACULTY;
+            memberships.add(membership(i, department(f, d), null, now));
+            if (i % 7 == 0) {
+                memberships.add(membership(i, department(f, (d + 1) % DEPARTMENTS_PER_FACULTY), null, now));
+            }
+        }
+        // An expired membership in another faculty must not count
+        memberships.add(membership(1, department(9, 0), java.sql.Timestamp.from(now.minus(1, ChronoUnit.DAYS)), now));
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO audience_memberships (tenant_id, person_id, group_id, active, valid_to, created_at, updated_at)
+                VALUES ('tenant-1', ?, ?, TRUE, ?, ?, ?)
+                """, memberships);
+    }
+
+    private Object[] group(String id, String parentId, String type, String name, Instant now) {
+        java.sql.Timestamp at = java.sql.Timestamp.from(now);
+        return new Object[] { id, type, name, parentId, at, at };
+    }
+
+    private Object[] membership(int evaluatee, String groupId, java.sql.Timestamp validTo, Instant now) {
+        if (validTo == null) {
+            departmentMembers.merge(groupId, 1, Integer::sum);
+        }
+        java.sql.Timestamp at = java.sql.Timestamp.from(now);
+        return new Object[] { evaluateeId(evaluatee), groupId, validTo, at, at };
+    }
+
+    private void seedScores() {
+        List<Evaluation> evaluations = new ArrayList<>();
+        for (int i = 0; i < EVALUATEES; i++) {
+            evaluations.add(evaluation("eval-" + i, i, (i % 10) + 1));
+        }
+        record(evaluations);
+    }
+
+    private void record(List<Evaluation> evaluations) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                scoreAggregateService.recordCompleted(CAMPAIGN, evaluations));
+    }
+
+    private static Evaluation evaluation(String evaluationId, int evaluatee, double total) {
+        return new Evaluation(
+                EvaluationId.of(evaluationId),
+                CAMPAIGN,
+                "assign-" + evaluationId,
+                "evaluator-" + evaluationId,
+                evaluateeId(evaluatee),
+                "tmpl-rollup-1",
+                EvaluationStatus.COMPLETED,
+                List.of(),
+                Score.of(total),
+                List.of(new SectionScore("s1", "Leadership", Score.of(total / 2), Score.of(10), 1, 1)),
+                Timestamp.now(),
+                Timestamp.now(),
+                Timestamp.now());
+    }
+
+    private static String evaluateeId(int evaluatee) {
+        return "person-" + evaluatee;
+    }
+
+    private static String faculty(int f) {
+        return "faculty-0" + f;
+    }
+
+    private static String department(int f, int d) {
+        return "dept-%d-%02d".formatted(f, d);
+    }
+
+    private void seedCampaign() {
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(CAMPAIGN.value());
+        campaign.setName("Rollup Campaign");
+        campaign.setTemplateId("tmpl-rollup-1");
+        campaign.setTemplateVersion(1);
+        campaign.setStatus(CampaignStatus.ACTIVE.name());
+        campaign.setStartDate(Instant.now().minusSeconds(3600));
+        campaign.setEndDate(Instant.now().plusSeconds(86400));
+        campaign.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        campaign.setAnonymousMode(false);
+        campaign.setAnonymousRolesJson("[]");
+        campaign.setMinimumRespondents(1);
+        campaign.setAudienceSourceType("INLINE");
+        campaign.setAudienceSourceConfigJson("{}");
+        campaign.setAssignmentRuleType("ALL_TO_ALL");
+        campaign.setAssignmentRuleConfigJson("{}");
+        campaign.setAssignmentsJson("[]");
+        campaign.setCreatedBy("it-test");
+        campaign.setCreatedAt(Instant.now());
+        campaign.setUpdatedAt(Instant.now());
+        campaignRepository.save(campaign);
+    }
+}
@@ -0,0 +1,437 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.CampaignManagementUseCase;
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase;
+import com.evaluationservice.application.port.in.ReportGenerationUseCase;
+import com.evaluationservice.application.port.in.ReportGenerationUseCase.IndividualReportResult;
+import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.infrastructure.entity.CampaignEntity;
+import com.evaluationservice.infrastructure.entity.TemplateEntity;
+import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import com.evaluationservice.infrastructure.repository.EvaluationJpaRepository;
+import com.evaluationservice.infrastructure.repository.ScoreAggregateRepository;
+import com.evaluationservice.infrastructure.repository.TemplateRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "evaluation.service.security.dev-mode=true",
+        "spring.datasource.url=jdbc:h2:mem:report-aggregates-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "eureka.client.enabled=false",
+        "evaluation.service.assignment.storage-mode=JSON"
+})
+@DisplayName("ReportGenerationService Integration")
+class ReportGenerationServiceIntegrationTest {
+
+    private static final CampaignId CAMPAIGN = CampaignId.of("camp-report-1");
+
+    @Autowired
+    private ReportGenerationUseCase reportUseCase;
+
+    @Autowired
+    private EvaluationSubmissionUseCase submissionUseCase;
+
+    @Autowired
+    private CampaignManagementUseCase campaignManagementUseCase;
+
+    @Autowired
+    private ScoreAggregateService scoreAggregateService;
+
+    @Autowired
+    private EvaluationPersistencePort evaluationPersistencePort;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private EvaluationJpaRepository evaluationRepository;
+
+    @Autowired
+    private ScoreAggregateRepository scoreAggregateRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        scoreAggregateRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM score_sketches");
+        jdbcTemplate.update("DELETE FROM score_sketch_buffer");
+        jdbcTemplate.update("DELETE FROM score_sketch_rebuilds");
+        jdbcTemplate.update("DELETE FROM report_snapshots");
+        evaluationRepository.deleteAll();
+        campaignRepository.deleteAll();
+        templateRepository.deleteAll();
+        seedTemplate();
+        seedCampaign();
+    }
+
+    @Test
+    @DisplayName("serves both reports from aggregates kept current through invalidate, reopen and rebuild")
+    void maintainsAggregatesAcrossLifecycle() {
+        complete("eval-1", "evaluatee-a", 6.0, 5.0);
+        complete("eval-2", "evaluatee-a", 8.0, 7.0);
+        complete("eval-3", "evaluatee-a", 10.0, 9.0);
+        complete("eval-4", "evaluatee-b", 4.0, 3.0);
+
+        var campaignReport = reportUseCase.generateCampaignReport(CAMPAIGN);
+        assertThat(campaignReport.averageScore()).isEqualTo(7.0);
+        assertThat(campaignReport.totalAssignments()).isEqualTo(4);
+        assertThat(campaignReport.completedAssignments()).isEqualTo(4);
+        assertThat(campaignReport.completionPercentage()).isEqualTo(100.0);
+        assertThat(campaignReport.sectionAverages()).containsExactlyEntriesOf(Map.of("Leadership", 6.0));
+        assertThat(campaignReport.scoreDistribution())
+                .isEqualTo(new ReportGenerationUseCase.ScoreDistribution(4.0, 6.0, 10.0));
+        assertThat(campaignReport.sectionDistributions()).containsOnlyKeys("Leadership");
+
+        var individualReport = reportUseCase.generateIndividualReport("evaluatee-a", CAMPAIGN);
+        assertThat(individualReport.overallScore()).isEqualTo(8.0);
+        assertThat(individualReport.totalEvaluations()).isEqualTo(3);
+        assertThat(individualReport.sectionScores()).containsExactlyEntriesOf(Map.of("Leadership", 7.0));
+        assertThat(individualReport.campaignPercentile()).isEqualTo(62.5);
+        assertThat(individualReport.sectionPercentiles()).containsExactlyEntriesOf(Map.of("Leadership", 62.5));
+
+        submissionUseCase.invalidateEvaluation(EvaluationId.of("eval-3"));
+        var overall = scoreAggregateService.findByEvaluatee(CAMPAIGN, "evaluatee-a")
+                .get(ScoreAggregatePersistencePort.OVERALL);
+        assertThat(overall.count()).isEqualTo(2);
+        assertThat(overall.max()).isEqualTo(8.0);
+        // Sketches are rebuilt in the background once the campaign is quiet
+        assertThat(scoreAggregateService.findSketchRebuilds(Instant.now().plusSeconds(1), 10)).containsExactly(CAMPAIGN);
+        scoreAggregateService.rebuildSketches(CAMPAIGN);
+        assertThat(scoreAggregateService.findSketchRebuilds(Instant.now().plusSeconds(1), 10)).isEmpty();
+        var afterInvalidation = reportUseCase.generateIndividualReport("evaluatee-a", CAMPAIGN);
+        assertThat(afterInvalidation.overallScore()).isEqualTo(7.0);
+        // The invalidated 10.0 left the distribution: 7.0 is above 6.0 and 4.0 of the remaining three
+        assertThat(afterInvalidation.campaignPercentile()).isEqualTo(66.67);
+
+        submissionUseCase.reopenEvaluation(EvaluationId.of("eval-4"));
+        assertThat(reportUseCase.generateIndividualReport("evaluatee-b", CAMPAIGN).totalEvaluations()).isZero();
+        assertThat(reportUseCase.generateCampaignReport(CAMPAIGN).completedAssignments()).isEqualTo(2);
+
+        scoreAggregateRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM score_sketches");
+        assertThat(reportUseCase.rebuildScoreAggregates(CAMPAIGN)).isEqualTo(2);
+        scoreAggregateService.rebuildSketches(CAMPAIGN);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT shard) FROM score_sketches WHERE campaign_id = ? AND section_key = ''",
+                Integer.class, CAMPAIGN.value())).isEqualTo(2);
+        var rebuilt = reportUseCase.generateCampaignReport(CAMPAIGN);
+        assertThat(rebuilt.averageScore()).isEqualTo(7.0);
+        assertThat(rebuilt.scoreDistribution())
+                .isEqualTo(new ReportGenerationUseCase.ScoreDistribution(6.0, 6.0, 8.0));
+        assertThat(rebuilt.sectionAverages()).containsExactlyEntriesOf(Map.of("Leadership", 6.0));
+    }
+
+    @Test
+    @DisplayName("counts only completed evaluations in the individual report and all assignments in the campaign report")
+    void countsCompletedEvaluationsOnly() {
+        complete("eval-1", "evaluatee-a", 6.0, 5.0);
+        evaluationPersistencePort.save(new Evaluation(
+                EvaluationId.of("eval-draft"),
+                CAMPAIGN,
+                "assign-eval-draft",
+                "evaluator-eval-draft",
+                "evaluatee-a",
+                "tmpl-report-1",
+                EvaluationStatus.DRAFT,
+                List.of(new Answer("a-eval-draft", "q1", 9.0, List.of(), null, Map.of())),
+                null,
+                List.of(),
+                Timestamp.now(),
+                Timestamp.now(),
+                null));
+
+        var individualReport = reportUseCase.generateIndividualReport("evaluatee-a", CAMPAIGN);
+        assertThat(individualReport.totalEvaluations()).isEqualTo(1);
+        assertThat(individualReport.respondentCount()).isEqualTo(1);
+        assertThat(individualReport.overallScore()).isEqualTo(6.0);
+
+        var campaignReport = reportUseCase.generateCampaignReport(CAMPAIGN);
+        assertThat(campaignReport.campaignName()).isEqualTo("Report Campaign");
+        assertThat(campaignReport.totalAssignments()).isEqualTo(4);
+        assertThat(campaignReport.completedAssignments()).isEqualTo(1);
+        assertThat(campaignReport.completionPercentage()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("freezes every report when results are published and rewrites them on later changes")
+    void snapshotsPublishedResults() {
+        complete("eval-1", "evaluatee-a", 6.0, 5.0);
+        complete("eval-2", "evaluatee-b", 8.0, 7.0);
+        campaignManagementUseCase.closeCampaign(CAMPAIGN);
+        campaignManagementUseCase.publishResults(CAMPAIGN);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM report_snapshots WHERE campaign_id = ?", Integer.class, CAMPAIGN.value()))
+                .isEqualTo(3);
+
+        // Served from the snapshot without touching the aggregates
+        scoreAggregateRepository.deleteAll();
+        assertThat(reportUseCase.generateCampaignReport(CAMPAIGN).averageScore()).isEqualTo(7.0);
+        var frozen = reportUseCase.generateIndividualReport("evaluatee-b", CAMPAIGN);
+        assertThat(frozen.overallScore()).isEqualTo(8.0);
+        assertThat(frozen.campaignPercentile()).isEqualTo(75.0);
+        assertThat(reportUseCase.prepareBulkPdfExport(CAMPAIGN).reports())
+                .extracting(IndividualReportResult::evaluateeId)
+                .containsExactly("evaluatee-a", "evaluatee-b");
+
+        assertThat(reportUseCase.rebuildScoreAggregates(CAMPAIGN)).isEqualTo(2);
+        submissionUseCase.invalidateEvaluation(EvaluationId.of("eval-2"));
+        assertThat(reportUseCase.generateCampaignReport(CAMPAIGN).averageScore()).isEqualTo(6.0);
+        assertThat(reportUseCase.prepareBulkPdfExport(CAMPAIGN).reports())
+                .extracting(IndividualReportResult::evaluateeId)
+                .containsExactly("evaluatee-a");
+
+        reportUseCase.discardResultsSnapshot(CAMPAIGN);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM report_snapshots WHERE campaign_id = ?", Integer.class, CAMPAIGN.value()))
+                .isZero();
+        assertThat(reportUseCase.generateCampaignReport(CAMPAIGN).averageScore()).isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("streams one CSV row per completed evaluation with a column per template section")
+    void streamsResultsCsv() {
+        complete("eval-1", "evaluatee-a", 6.0, 5.0);
+        complete("eval-2", "evaluatee-b", 8.5, 7.25);
+        submissionUseCase.invalidateEvaluation(EvaluationId.of("eval-2"));
+        complete("eval-3", "evaluatee-b", 9.0, 8.0);
+
+        var export = reportUseCase.prepareResultsExport(CAMPAIGN);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportUseCase.writeResultsCsv(export, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.getFirst()).isEqualTo(
+                "Evaluation ID,Assignment ID,Evaluator ID,Evaluatee ID,Submitted At,Total Score,Leadership,\"Team, Work\"");
+        assertThat(lines.subList(1, lines.size()))
+                .hasSize(2)
+                .anySatisfy(line -> assertThat(line)
+                        .startsWith("eval-1,assign-eval-1,evaluator-eval-1,evaluatee-a,")
+                        .endsWith(",6.00,5.00,"))
+                .anySatisfy(line -> assertThat(line)
+                        .startsWith("eval-3,assign-eval-3,evaluator-eval-3,evaluatee-b,")
+                        .endsWith(",9.00,8.00,"));
+    }
+
+    @Test
+    @DisplayName("pivots raw answers into one column per template question as CSV and NDJSON")
+    void streamsPivotedAnswers() throws Exception {
+        complete("eval-1", "evaluatee-a", 6.0, 5.0);
+        complete("eval-2", "evaluatee-b", 8.5, 7.0, List.of(
+                new Answer("a-2", "q2", null, List.of(), "Great, \"really\"", Map.of()),
+                new Answer("a-1", "q1", 8.5, List.of(), null, Map.of()),
+                new Answer("a-x", "q-removed", 1, List.of(), null, Map.of())));
+        complete("eval-3", "evaluatee-b", 9.0, 8.0, List.of(
+                new Answer("a-3", "q2", null, List.of("Often", "Always"), null, Map.of())));
+
+        var export = reportUseCase.prepareResultsExport(CAMPAIGN);
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        reportUseCase.writeAnswersCsv(export, csv);
+
+        List<String> lines = csv.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.getFirst()).isEqualTo(
+                "Evaluation ID,Assignment ID,Evaluator ID,Evaluatee ID,Submitted At,Leadership: Rate,\"Team, Work: Rate\"");
+        assertThat(lines.subList(1, lines.size()))
+                .hasSize(3)
+                .anySatisfy(line -> assertThat(line).startsWith("eval-1,").endsWith(",6,"))
+                .anySatisfy(line -> assertThat(line).startsWith("eval-2,").endsWith(",8.5,\"Great, \"\"really\"\"\""))
+                .anySatisfy(line -> assertThat(line).startsWith("eval-3,").endsWith(",,Often|Always"));
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        reportUseCase.writeAnswersNdjson(export, ndjson);
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> byId = ndjson.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> {
+                    try {
+                        return mapper.readTree(line);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .collect(Collectors.toMap(node -> node.get("evaluationId").asText(), node -> node));
+        assertThat(byId).containsOnlyKeys("eval-1", "eval-2", "eval-3");
+        assertThat(byId.get("eval-1").get("evaluatorId").asText()).isEqualTo("evaluator-eval-1");
+        assertThat(byId.get("eval-1").get("answers").get("q1").decimalValue()).isEqualByComparingTo("6");
+        assertThat(byId.get("eval-1").get("answers").get("q2").isNull()).isTrue();
+        assertThat(byId.get("eval-2").get("answers").get("q2").asText()).isEqualTo("Great, \"really\"");
+        assertThat(byId.get("eval-2").get("answers").has("q-removed")).isFalse();
+        assertThat(byId.get("eval-3").get("answers").get("q2").toString()).isEqualTo("[\"Often\",\"Always\"]");
+    }
+
+    @Test
+    @DisplayName("zips one PDF per evaluatee from a single aggregate read and reports progress")
+    void writesBulkPdfZip() throws Exception {
+        complete("eval-1", "evaluatee-a", 6.0, 5.0);
+        complete("eval-2", "evaluatee-a", 8.0, 7.0);
+        complete("eval-3", "evaluatee-b", 9.0, 8.0);
+        complete("eval-4", "team/lead c", 4.0, 3.0);
+
+        var export = reportUseCase.prepareBulkPdfExport(CAMPAIGN);
+        assertThat(export.reports())
+                .extracting(IndividualReportResult::evaluateeId, IndividualReportResult::totalEvaluations)
+                .containsExactly(
+                        tuple("evaluatee-a", 2),
+                        tuple("evaluatee-b", 1),
+                        tuple("team/lead c", 1));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        reportUseCase.writeBulkPdfZip(export, out, progress::add);
+
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertThat(entries).containsOnlyKeys(
+                "report-evaluatee-a.pdf", "report-evaluatee-b.pdf", "report-team_lead_c.pdf");
+        assertThat(entries.get("report-evaluatee-a.pdf"))
+                .startsWith("%PDF-1.4")
+                .contains("Overall Score: 7.00");
+        assertThat(progress).containsExactly(1, 2, 3);
+    }
+
+    private void complete(String evaluationId, String evaluateeId, double total, double section) {
+        complete(evaluationId, evaluateeId, total, section,
+                List.of(new Answer("a-" + evaluationId, "q1", total, List.of(), null, Map.of())));
+    }
+
+    private void complete(String evaluationId, String evaluateeId, double total, double section, List<Answer> answers) {
+        Evaluation evaluation = new Evaluation(
+                EvaluationId.of(evaluationId),
+                CAMPAIGN,
+                "assign-" + evaluationId,
+                "evaluator-" + evaluationId,
+                evaluateeId,
+                "tmpl-report-1",
+                EvaluationStatus.COMPLETED,
+                answers,
+                Score.of(total),
+                List.of(new SectionScore("s1", "Leadership", Score.of(section), Score.of(10), 1, 1)),
+                Timestamp.now(),
+                Timestamp.now(),
+                Timestamp.now());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                scoreAggregateService.recordCompleted(evaluationPersistencePort.save(evaluation)));
+    }
+
+    private void seedTemplate() {
+        TemplateEntity template = new TemplateEntity();
+        template.setId("tmpl-report-1");
+        template.setName("Report Template");
+        template.setDescription("Template for report integration tests");
+        template.setCategory("INTEGRATION");
+        template.setStatus(TemplateStatus.PUBLISHED.name());
+        template.setCurrentVersion(1);
+        template.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        template.setSectionsJson("""
+                [
+                  {
+                    "id":"s1",
+                    "title":"Leadership",
+                    "orderIndex":1,
+                    "weight":1.0,
+                    "questions":[
+                      {"id":"q1","text":"Rate","type":"NUMERIC_RATING","orderIndex":1,"required":true,"options":[],"weight":1.0,"metadata":{}}
+                    ]
+                  },
+                  {
+                    "id":"s2",
+                    "title":"Team, Work",
+                    "orderIndex":2,
+                    "weight":1.0,
+                    "questions":[
+                      {"id":"q2","text":"Rate","type":"NUMERIC_RATING","orderIndex":1,"required":false,"options":[],"weight":1.0,"metadata":{}}
+                    ]
+                  }
+                ]
+                """);
+        template.setCreatedBy("it-test");
+        template.setCreatedAt(Instant.now());
+        template.setUpdatedAt(Instant.now());
+        templateRepository.save(template);
+    }
+
+    private void seedCampaign() {
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(CAMPAIGN.value());
+        campaign.setName("Report Campaign");
+        campaign.setTemplateId("tmpl-report-1");
+        campaign.setTemplateVersion(1);
+        campaign.setStatus(CampaignStatus.ACTIVE.name());
+        campaign.setStartDate(Instant.now().minusSeconds(3600));
+        campaign.setEndDate(Instant.now().plusSeconds(86400));
+        campaign.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        campaign.setAnonymousMode(false);
+        campaign.setAnonymousRolesJson("[]");
+        campaign.setMinimumRespondents(1);
+        campaign.setAudienceSourceType("INLINE");
+        campaign.setAudienceSourceConfigJson("{}");
+        campaign.setAssignmentRuleType("ALL_TO_ALL");
+        campaign.setAssignmentRuleConfigJson("{}");
+        campaign.setAssignmentsJson("""
+                [
+                  {"id":"assign-eval-1","evaluatorId":"evaluator-eval-1","evaluateeId":"evaluatee-a","evaluatorRole":"PEER","completed":true},
+                  {"id":"assign-eval-2","evaluatorId":"evaluator-eval-2","evaluateeId":"evaluatee-a","evaluatorRole":"PEER","completed":true},
+                  {"id":"assign-eval-3","evaluatorId":"evaluator-eval-3","evaluateeId":"evaluatee-a","evaluatorRole":"PEER","completed":true},
+                  {"id":"assign-eval-4","evaluatorId":"evaluator-eval-4","evaluateeId":"evaluatee-b","evaluatorRole":"PEER","completed":true}
+                ]
+                """);
+        campaign.setCreatedBy("it-test");
+        campaign.setCreatedAt(Instant.now());
+        campaign.setUpdatedAt(Instant.now());
+        campaignRepository.save(campaign);
+    }
+}
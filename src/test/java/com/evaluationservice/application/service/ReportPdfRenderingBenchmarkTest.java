@@ -0,0 +1,85 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.CampaignProgressPort;
+import com.evaluationservice.application.port.out.EvaluationExportPort;
+import com.evaluationservice.application.port.out.ReportCachePort;
+import com.evaluationservice.application.port.out.ReportSnapshotPort;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.application.port.out.TemplatePersistencePort;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.ScoreAggregate;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Report PDF Rendering Benchmark")
+class ReportPdfRenderingBenchmarkTest {
+
+    private static final CampaignId CAMPAIGN = CampaignId.of("camp-bench");
+    private static final int SECTIONS = 2_700;
+    private static final int RENDERS = 200;
+
+    @Test
+    @DisplayName("renders a 50-page individual report with a section table in a few milliseconds")
+    void rendersFiftyPageReportQuickly() {
+        CampaignPersistencePort campaignPort = mock(CampaignPersistencePort.class);
+        ScoreAggregateService aggregateService = mock(ScoreAggregateService.class);
+        when(campaignPort.existsById(CAMPAIGN)).thenReturn(true);
+        when(aggregateService.findByEvaluatee(CAMPAIGN, "evaluatee-1")).thenReturn(aggregates());
+        ReportGenerationService service = new ReportGenerationService(
+                campaignPort,
+                mock(TemplatePersistencePort.class),
+                aggregateService,
+                mock(EvaluationExportPort.class),
+                new EvaluationServiceProperties(),
+                new ReportCachePort() {
+                    @Override
+                    public <T> T get(CampaignId campaignId, String evaluateeId, Class<T> type, Supplier<T> loader) {
+                        return loader.get();
+                    }
+                },
+                mock(ReportSnapshotPort.class),
+                mock(CampaignProgressPort.class));
+
+        byte[] pdf = service.exportReportAsPdf("evaluatee-1", CAMPAIGN);
+        Matcher count = Pattern.compile("/Type /Pages /Kids \\[[^]]*] /Count (\\d+)")
+                .matcher(new String(pdf, StandardCharsets.ISO_8859_1));
+        assertThat(count.find()).isTrue();
+        assertThat(Integer.parseInt(count.group(1))).isGreaterThanOrEqualTo(50);
+
+        // A quarter of the timed renders, so the writer's page and font paths are compiled first
+        for (int i = 0; i < RENDERS / 4; i++) {
+            service.exportReportAsPdf("evaluatee-1", CAMPAIGN);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RENDERS; i++) {
+            service.exportReportAsPdf("evaluatee-1", CAMPAIGN);
+        }
+        long perReportNanos = (System.nanoTime() - start) / RENDERS;
+
+        // The bulk export renders one report per evaluatee, so 25 ms each keeps a few thousand
+        // evaluatees within a minute at the default export parallelism.
+        assertThat(perReportNanos).isLessThan(25_000_000L);
+    }
+
+    private Map<String, ScoreAggregate> aggregates() {
+        Map<String, ScoreAggregate> aggregates = new LinkedHashMap<>();
+        aggregates.put(ScoreAggregatePersistencePort.OVERALL, ScoreAggregate.of(7.5));
+        for (int s = 0; s < SECTIONS; s++) {
+            aggregates.put(String.format("Section %04d", s), ScoreAggregate.of(s % 11));
+        }
+        return aggregates;
+    }
+}
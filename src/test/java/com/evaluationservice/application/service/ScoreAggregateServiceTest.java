@@ -0,0 +1,158 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort.Contribution;
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.ScoreAggregate;
+import com.evaluationservice.domain.value.Timestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ScoreAggregateService")
+class ScoreAggregateServiceTest {
+
+    private static final CampaignId CAMPAIGN = CampaignId.of("camp-1");
+
+    private final ScoreAggregatePersistencePort aggregatePort = mock(ScoreAggregatePersistencePort.class);
+    private final EvaluationPersistencePort evaluationPort = mock(EvaluationPersistencePort.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ScoreAggregateService service =
+            new ScoreAggregateService(aggregatePort, evaluationPort, eventPublisher);
+
+    @Test
+    @DisplayName("adds total and section scores of completed evaluations in a fixed row order")
+    @SuppressWarnings("unchecked")
+    void recordsCompletedEvaluations() {
+        Evaluation second = evaluation("eval-2", "evaluatee-b", EvaluationStatus.COMPLETED, 6.0, 5.0);
+        Evaluation first = evaluation("eval-1", "evaluatee-a", EvaluationStatus.COMPLETED, 8.0, 7.0);
+        Evaluation draft = evaluation("eval-3", "evaluatee-a", EvaluationStatus.DRAFT, 9.0, 9.0);
+
+        service.recordCompleted(CAMPAIGN, List.of(second, first, draft));
+
+        ArgumentCaptor<List<Contribution>> captor = ArgumentCaptor.forClass(List.class);
+        verify(aggregatePort).increment(eq(CAMPAIGN), captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new Contribution("evaluatee-a", ScoreAggregatePersistencePort.OVERALL, 8.0),
+                new Contribution("evaluatee-a", "Leadership", 7.0),
+                new Contribution("evaluatee-b", ScoreAggregatePersistencePort.OVERALL, 6.0),
+                new Contribution("evaluatee-b", "Leadership", 5.0));
+
+        ArgumentCaptor<ScoreAggregatesChangedEvent> event = ArgumentCaptor.forClass(ScoreAggregatesChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().evaluateeIds()).isEqualTo(Set.of("evaluatee-a", "evaluatee-b"));
+    }
+
+    @Test
+    @DisplayName("skips the store when nothing completed")
+    void ignoresUncompletedEvaluations() {
+        service.recordCompleted(CAMPAIGN, List.of(
+                evaluation("eval-1", "evaluatee-a", EvaluationStatus.SCORING, 8.0, 7.0)));
+
+        verifyNoInteractions(aggregatePort, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("recomputes the evaluatee from its remaining completed evaluations on withdrawal")
+    @SuppressWarnings("unchecked")
+    void recomputesEvaluateeOnWithdrawal() {
+        Evaluation withdrawn = evaluation("eval-1", "evaluatee-a", EvaluationStatus.INVALIDATED, 10.0, 9.0);
+        when(evaluationPort.findCompletedByCampaignAndEvaluatee(CAMPAIGN, "evaluatee-a")).thenReturn(List.of(
+                evaluation("eval-1", "evaluatee-a", EvaluationStatus.COMPLETED, 10.0, 9.0),
+                evaluation("eval-2", "evaluatee-a", EvaluationStatus.COMPLETED, 6.0, 5.0),
+                evaluation("eval-3", "evaluatee-a", EvaluationStatus.COMPLETED, 8.0, 3.0)));
+
+        service.recordWithdrawn(withdrawn);
+
+        ArgumentCaptor<Map<String, ScoreAggregate>> captor = ArgumentCaptor.forClass(Map.class);
+        InOrder order = inOrder(aggregatePort, evaluationPort);
+        order.verify(aggregatePort).lockEvaluatee(CAMPAIGN, "evaluatee-a");
+        order.verify(evaluationPort).findCompletedByCampaignAndEvaluatee(CAMPAIGN, "evaluatee-a");
+        order.verify(aggregatePort).replaceEvaluatee(eq(CAMPAIGN), eq("evaluatee-a"), captor.capture());
+        ScoreAggregate overall = captor.getValue().get(ScoreAggregatePersistencePort.OVERALL);
+        assertThat(overall.count()).isEqualTo(2);
+        assertThat(overall.mean()).isEqualTo(7.0);
+        assertThat(overall.max()).isEqualTo(8.0);
+        assertThat(overall.standardDeviation()).isCloseTo(1.0, within(1e-9));
+        assertThat(captor.getValue().get("Leadership").min()).isEqualTo(3.0);
+        verify(aggregatePort).requestSketchRebuild(CAMPAIGN);
+    }
+
+    @Test
+    @DisplayName("rebuilds a campaign from every page of completed evaluations")
+    @SuppressWarnings("unchecked")
+    void rebuildsCampaign() {
+        when(evaluationPort.findByCampaignId(eq(CAMPAIGN), anyInt(), anyInt())).thenReturn(List.of(
+                evaluation("eval-1", "evaluatee-a", EvaluationStatus.COMPLETED, 8.0, 7.0),
+                evaluation("eval-2", "evaluatee-b", EvaluationStatus.COMPLETED, 6.0, 5.0),
+                evaluation("eval-3", "evaluatee-b", EvaluationStatus.FLAGGED, 2.0, 2.0)));
+
+        assertThat(service.rebuild(CAMPAIGN)).isEqualTo(2);
+
+        ArgumentCaptor<Map<String, Map<String, ScoreAggregate>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(aggregatePort).replaceCampaign(eq(CAMPAIGN), captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys("evaluatee-a", "evaluatee-b");
+        assertThat(captor.getValue().get("evaluatee-b").get(ScoreAggregatePersistencePort.OVERALL).count())
+                .isEqualTo(1);
+        verify(aggregatePort, never()).increment(any(), anyList());
+        verify(aggregatePort).requestSketchRebuild(CAMPAIGN);
+        ArgumentCaptor<ScoreAggregatesChangedEvent> event = ArgumentCaptor.forClass(ScoreAggregatesChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().wholeCampaign()).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuilds in the database when the store supports it")
+    void rebuildsInDatabase() {
+        when(aggregatePort.rebuildFromEvaluations(CAMPAIGN)).thenReturn(OptionalInt.of(3));
+
+        assertThat(service.rebuild(CAMPAIGN)).isEqualTo(3);
+
+        verifyNoInteractions(evaluationPort);
+        verify(aggregatePort, never()).replaceCampaign(any(), any());
+        verify(aggregatePort).requestSketchRebuild(CAMPAIGN);
+        ArgumentCaptor<ScoreAggregatesChangedEvent> event = ArgumentCaptor.forClass(ScoreAggregatesChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().wholeCampaign()).isTrue();
+    }
+
+    private Evaluation evaluation(String id, String evaluateeId, EvaluationStatus status, double total, double section) {
+        return new Evaluation(
+                EvaluationId.of(id),
+                CAMPAIGN,
+                "assign-" + id,
+                "evaluator-1",
+                evaluateeId,
+                "tmpl-1",
+                status,
+                List.of(new Answer("a-" + id, "q1", total, List.of(), null, Map.of())),
+                Score.of(total),
+                List.of(new SectionScore("s1", "Leadership", Score.of(section), Score.of(10), 1, 1)),
+                Timestamp.now(),
+                Timestamp.now(),
+                Timestamp.now());
+    }
+}
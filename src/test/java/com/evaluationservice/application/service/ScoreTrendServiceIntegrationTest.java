@@ -0,0 +1,179 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.application.port.in.CampaignManagementUseCase;
+import com.evaluationservice.application.port.in.ScoreTrendUseCase;
+import com.evaluationservice.application.port.in.ScoreTrendUseCase.TrendPoint;
+import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.infrastructure.entity.CampaignEntity;
+import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import com.evaluationservice.infrastructure.repository.ScoreAggregateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "evaluation.service.security.dev-mode=true",
+        "spring.datasource.url=jdbc:h2:mem:score-trend-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "eureka.client.enabled=false",
+        "evaluation.service.assignment.storage-mode=JSON"
+})
+@DisplayName("ScoreTrendService Integration")
+class ScoreTrendServiceIntegrationTest {
+
+    private static final CampaignId SPRING = CampaignId.of("camp-trend-1");
+    private static final CampaignId SUMMER = CampaignId.of("camp-trend-2");
+    private static final CampaignId AUTUMN = CampaignId.of("camp-trend-3");
+
+    @Autowired
+    private ScoreTrendUseCase scoreTrendUseCase;
+
+    @Autowired
+    private CampaignManagementUseCase campaignManagementUseCase;
+
+    @Autowired
+    private ScoreAggregateService scoreAggregateService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private ScoreAggregateRepository scoreAggregateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("DELETE FROM score_trends");
+        jdbcTemplate.update("DELETE FROM score_sketches");
+        scoreAggregateRepository.deleteAll();
+        campaignRepository.deleteAll();
+        seedCampaign(SPRING, "Spring Review", 90);
+        seedCampaign(SUMMER, "Summer Review", 60);
+        seedCampaign(AUTUMN, "Autumn Review", 30);
+    }
+
+    @Test
+    @DisplayName("records campaigns on close and answers an evaluatee's history oldest first")
+    void recordsOnClose() {
+        complete(SPRING, "eval-1", "evaluatee-a", 6.0);
+        complete(SUMMER, "eval-2", "evaluatee-a", 7.0);
+        complete(SUMMER, "eval-3", "evaluatee-b", 4.0);
+        complete(AUTUMN, "eval-4", "evaluatee-a", 8.0);
+        campaignManagementUseCase.closeCampaign(SPRING);
+        campaignManagementUseCase.closeCampaign(SUMMER);
+        campaignManagementUseCase.closeCampaign(AUTUMN);
+
+        var trend = scoreTrendUseCase.getEvaluateeTrend("evaluatee-a", 8);
+        assertThat(trend.cycles())
+                .extracting(TrendPoint::campaignName, TrendPoint::overallScore, TrendPoint::evaluationCount)
+                .containsExactly(
+                        tuple("Spring Review", 6.0, 1L),
+                        tuple("Summer Review", 7.0, 1L),
+                        tuple("Autumn Review", 8.0, 1L));
+        assertThat(trend.cycles().getFirst().sectionScores()).containsExactlyEntriesOf(Map.of("Leadership", 3.0));
+
+        assertThat(scoreTrendUseCase.getEvaluateeTrend("evaluatee-a", 2).cycles())
+                .extracting(TrendPoint::campaignId)
+                .containsExactly(SUMMER, AUTUMN);
+        assertThat(scoreTrendUseCase.getEvaluateeTrend("evaluatee-b", 8).cycles())
+                .extracting(TrendPoint::campaignId)
+                .containsExactly(SUMMER);
+    }
+
+    @Test
+    @DisplayName("rewrites a closed campaign on late score changes and drops it on reopen")
+    void followsLifecycle() {
+        complete(AUTUMN, "eval-1", "evaluatee-a", 8.0);
+        campaignManagementUseCase.closeCampaign(AUTUMN);
+
+        complete(AUTUMN, "eval-2", "evaluatee-a", 10.0);
+        assertThat(scoreTrendUseCase.getEvaluateeTrend("evaluatee-a", 8).cycles())
+                .singleElement()
+                .satisfies(point -> {
+                    assertThat(point.overallScore()).isEqualTo(9.0);
+                    assertThat(point.evaluationCount()).isEqualTo(2);
+                });
+
+        campaignManagementUseCase.reopenCampaign(AUTUMN);
+        assertThat(scoreTrendUseCase.getEvaluateeTrend("evaluatee-a", 8).cycles()).isEmpty();
+        assertThatThrownBy(() -> scoreTrendUseCase.recordCampaignTrend(AUTUMN))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void complete(CampaignId campaignId, String evaluationId, String evaluateeId, double total) {
+        Evaluation evaluation = new Evaluation(
+                EvaluationId.of(evaluationId),
+                campaignId,
+                "assign-" + evaluationId,
+                "evaluator-" + evaluationId,
+                evaluateeId,
+                "tmpl-trend-1",
+                EvaluationStatus.COMPLETED,
+                List.of(),
+                Score.of(total),
+                List.of(new SectionScore("s1", "Leadership", Score.of(total / 2), Score.of(10), 1, 1)),
+                Timestamp.now(),
+                Timestamp.now(),
+                Timestamp.now());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                scoreAggregateService.recordCompleted(evaluation));
+    }
+
+    private void seedCampaign(CampaignId campaignId, String name, int endedDaysAgo) {
+        Instant end = Instant.now().minus(endedDaysAgo, ChronoUnit.DAYS);
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(campaignId.value());
+        campaign.setName(name);
+        campaign.setTemplateId("tmpl-trend-1");
+        campaign.setTemplateVersion(1);
+        campaign.setStatus(CampaignStatus.ACTIVE.name());
+        campaign.setStartDate(end.minus(14, ChronoUnit.DAYS));
+        campaign.setEndDate(end);
+        campaign.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        campaign.setAnonymousMode(false);
+        campaign.setAnonymousRolesJson("[]");
+        campaign.setMinimumRespondents(1);
+        campaign.setAudienceSourceType("INLINE");
+        campaign.setAudienceSourceConfigJson("{}");
+        campaign.setAssignmentRuleType("ALL_TO_ALL");
+        campaign.setAssignmentRuleConfigJson("{}");
+        campaign.setAssignmentsJson("[]");
+        campaign.setCreatedBy("it-test");
+        campaign.setCreatedAt(Instant.now());
+        campaign.setUpdatedAt(Instant.now());
+        campaignRepository.save(campaign);
+    }
+}
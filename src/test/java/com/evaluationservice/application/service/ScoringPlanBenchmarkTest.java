@@ -0,0 +1,167 @@
+package com.evaluationservice.application.service;
+
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.Question;
+import com.evaluationservice.domain.entity.Section;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.entity.Template;
+import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.enums.QuestionType;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.rule.ScoringStrategy;
+import com.evaluationservice.domain.rule.ScoringStrategyFactory;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.TemplateId;
+import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.domain.value.Weight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Scoring Plan Benchmark")
+class ScoringPlanBenchmarkTest {
+
+    private static final int SECTIONS = 10;
+    private static final int QUESTIONS_PER_SECTION = 20;
+    private static final int SUBMITS = 2_000;
+
+    @Test
+    @DisplayName("scores 200-question templates through a cached plan faster than section-by-section scoring")
+    void cachedPlanBeatsPerSectionScoring() {
+        ScoringPlanCache planCache = new ScoringPlanCache();
+        ScoringService scoringService = new ScoringService(planCache);
+        Template template = template();
+        List<Evaluation> evaluations = evaluations(template);
+
+        // Results must be identical before timing means anything.
+        for (Evaluation evaluation : evaluations.subList(0, 50)) {
+            List<SectionScore> legacy = legacySectionScores(evaluation, template);
+            assertThat(scoringService.computeSectionScores(evaluation, template)).isEqualTo(legacy);
+        }
+
+        // One untimed pass per path, so neither pays class loading or compilation in the timed pass
+        runLegacy(evaluations, template);
+        runPlan(scoringService, evaluations, template);
+
+        long legacyNanos = runLegacy(evaluations, template);
+        long planNanos = runPlan(scoringService, evaluations, template);
+
+        assertThat(planCache.size()).isEqualTo(1);
+        // Both paths run on the same host, so the ratio holds on slow runners and the factor of two
+        // only absorbs run-to-run noise. The per-submit ceiling bounds the plan path on its own.
+        assertThat(planNanos).isLessThan(legacyNanos * 2);
+        assertThat(planNanos / SUBMITS).isLessThan(2_000_000L);
+    }
+
+    private long runLegacy(List<Evaluation> evaluations, Template template) {
+        long start = System.nanoTime();
+        for (Evaluation evaluation : evaluations) {
+            legacySectionScores(evaluation, template);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runPlan(ScoringService scoringService, List<Evaluation> evaluations, Template template) {
+        long start = System.nanoTime();
+        for (Evaluation evaluation : evaluations) {
+            List<SectionScore> sectionScores = scoringService.computeSectionScores(evaluation, template);
+            scoringService.computeTotalScore(sectionScores, template);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Section-by-section scoring as performed before plans were introduced:
+     * a strategy lookup per call and a question-ID set per section.
+     */
+    private List<SectionScore> legacySectionScores(Evaluation evaluation, Template template) {
+        ScoringStrategy strategy = ScoringStrategyFactory.forMethod(template.getScoringMethod());
+        List<SectionScore> scores = new ArrayList<>();
+        for (Section section : template.getSections()) {
+            List<Answer> sectionAnswers = evaluation.answersForSection(section);
+            scores.add(new SectionScore(
+                    section.getId(),
+                    section.getTitle(),
+                    strategy.compute(sectionAnswers, section.getQuestions()),
+                    Score.of(section.getQuestions().size() * 10.0),
+                    sectionAnswers.size(),
+                    section.getQuestions().size()));
+        }
+        return scores;
+    }
+
+    private List<Evaluation> evaluations(Template template) {
+        List<Evaluation> evaluations = new ArrayList<>(SUBMITS);
+        for (int i = 0; i < SUBMITS; i++) {
+            List<Answer> answers = new ArrayList<>(SECTIONS * QUESTIONS_PER_SECTION);
+            for (Section section : template.getSections()) {
+                for (Question question : section.getQuestions()) {
+                    answers.add(new Answer(
+                            "a-" + i + "-" + question.getId(),
+                            question.getId(),
+                            (i + question.getOrderIndex()) % 11,
+                            List.of(),
+                            null,
+                            Map.of()));
+                }
+            }
+            evaluations.add(new Evaluation(
+                    EvaluationId.of("eval-" + i),
+                    CampaignId.of("camp-bench"),
+                    "assign-" + i,
+                    "evaluator-" + i,
+                    "evaluatee-" + i,
+                    template.getId().value(),
+                    EvaluationStatus.DRAFT,
+                    answers,
+                    null,
+                    List.of(),
+                    Timestamp.now(),
+                    Timestamp.now(),
+                    null));
+        }
+        return evaluations;
+    }
+
+    private Template template() {
+        List<Section> sections = new ArrayList<>(SECTIONS);
+        for (int s = 0; s < SECTIONS; s++) {
+            List<Question> questions = new ArrayList<>(QUESTIONS_PER_SECTION);
+            for (int q = 0; q < QUESTIONS_PER_SECTION; q++) {
+                questions.add(new Question(
+                        "s" + s + "q" + q,
+                        "Question " + q,
+                        QuestionType.NUMERIC_RATING,
+                        q,
+                        true,
+                        List.of(),
+                        Weight.of(0.1 + (q % 9) * 0.1),
+                        Map.of(),
+                        null));
+            }
+            sections.add(new Section("s" + s, "Section " + s, null, s, Weight.of(0.1 + s * 0.05), questions));
+        }
+        return new Template(
+                TemplateId.of("tmpl-bench"),
+                "Benchmark Template",
+                null,
+                null,
+                TemplateStatus.PUBLISHED,
+                1,
+                ScoringMethod.WEIGHTED_AVERAGE,
+                sections,
+                "tester",
+                Timestamp.now(),
+                Timestamp.now(),
+                null);
+    }
+}
@@ -5,6 +5,7 @@ import com.evaluationservice.application.port.out.SystemSettingsPersistencePort;
 import com.evaluationservice.domain.entity.CampaignSettingOverride;
 import com.evaluationservice.domain.entity.SystemSetting;
 import com.evaluationservice.domain.enums.SystemSettingCategory;
+import com.evaluationservice.domain.event.SettingsChangedEvent;
 import com.evaluationservice.domain.value.CampaignId;
 import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
 
@@ -17,7 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -58,8 +59,7 @@ class SettingsResolverServiceTest {
             CampaignSettingOverride override = new CampaignSettingOverride(
                     campaignId, "scoring.passing-score-threshold", "85.0", "admin", Instant.now());
 
-            when(campaignSettingsPort.findByCampaignIdAndKey(campaignId, "scoring.passing-score-threshold"))
-                    .thenReturn(Optional.of(override));
+            when(campaignSettingsPort.findByCampaignId(campaignId)).thenReturn(List.of(override));
 
             String result = resolver.resolve("scoring.passing-score-threshold", campaignId);
 
@@ -75,10 +75,8 @@ class SettingsResolverServiceTest {
                     "scoring.passing-score-threshold", "80.0", SystemSettingCategory.SCORING,
                     "Pass threshold", "admin", Instant.now());
 
-            when(campaignSettingsPort.findByCampaignIdAndKey(campaignId, "scoring.passing-score-threshold"))
-                    .thenReturn(Optional.empty());
-            when(systemSettingsPort.findByKey("scoring.passing-score-threshold"))
-                    .thenReturn(Optional.of(systemSetting));
+            when(campaignSettingsPort.findByCampaignId(campaignId)).thenReturn(List.of());
+            when(systemSettingsPort.findAll()).thenReturn(List.of(systemSetting));
 
             String result = resolver.resolve("scoring.passing-score-threshold", campaignId);
 
@@ -90,10 +88,8 @@ class SettingsResolverServiceTest {
         void shouldFallbackToApplicationYml() {
             CampaignId campaignId = CampaignId.of("campaign-1");
 
-            when(campaignSettingsPort.findByCampaignIdAndKey(campaignId, "scoring.passing-score-threshold"))
-                    .thenReturn(Optional.empty());
-            when(systemSettingsPort.findByKey("scoring.passing-score-threshold"))
-                    .thenReturn(Optional.empty());
+            when(campaignSettingsPort.findByCampaignId(campaignId)).thenReturn(List.of());
+            when(systemSettingsPort.findAll()).thenReturn(List.of());
 
             String result = resolver.resolve("scoring.passing-score-threshold", campaignId);
 
@@ -107,8 +103,7 @@ class SettingsResolverServiceTest {
                     "pagination.default-page-size", "50", SystemSettingCategory.PAGINATION,
                     "Page size", "admin", Instant.now());
 
-            when(systemSettingsPort.findByKey("pagination.default-page-size"))
-                    .thenReturn(Optional.of(systemSetting));
+            when(systemSettingsPort.findAll()).thenReturn(List.of(systemSetting));
 
             String result = resolver.resolve("pagination.default-page-size");
 
@@ -124,8 +119,7 @@ class SettingsResolverServiceTest {
         @Test
         @DisplayName("resolveInt returns parsed integer")
         void shouldResolveInt() {
-            when(systemSettingsPort.findByKey("pagination.default-page-size"))
-                    .thenReturn(Optional.empty());
+            when(systemSettingsPort.findAll()).thenReturn(List.of());
 
             int result = resolver.resolveInt("pagination.default-page-size");
 
@@ -135,8 +129,7 @@ class SettingsResolverServiceTest {
         @Test
         @DisplayName("resolveDouble returns parsed double")
         void shouldResolveDouble() {
-            when(systemSettingsPort.findByKey("scoring.passing-score-threshold"))
-                    .thenReturn(Optional.empty());
+            when(systemSettingsPort.findAll()).thenReturn(List.of());
 
             double result = resolver.resolveDouble("scoring.passing-score-threshold");
 
@@ -146,8 +139,7 @@ class SettingsResolverServiceTest {
         @Test
         @DisplayName("resolveBoolean returns parsed boolean")
         void shouldResolveBoolean() {
-            when(systemSettingsPort.findByKey("features.enable-reports"))
-                    .thenReturn(Optional.empty());
+            when(systemSettingsPort.findAll()).thenReturn(List.of());
 
             boolean result = resolver.resolveBoolean("features.enable-reports");
 
@@ -155,6 +147,39 @@ class SettingsResolverServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Storage-dependent settings")
+    class StorageDependentSettings {
+
+        @Test
+        @DisplayName("lean mode stays off in JSON storage mode even when overridden")
+        void shouldIgnoreLeanModeOverridesInJsonStorage() {
+            defaultProperties.getAssignment().setStorageMode(EvaluationServiceProperties.AssignmentStorageMode.JSON);
+            defaultProperties.getSubmission().setLeanMode(true);
+            CampaignId campaignId = CampaignId.of("campaign-1");
+            when(systemSettingsPort.findAll()).thenReturn(List.of(new SystemSetting(
+                    "submission.lean-mode", "true", SystemSettingCategory.FEATURES,
+                    "Lean submit", "admin", Instant.now())));
+            when(campaignSettingsPort.findByCampaignId(campaignId)).thenReturn(List.of(new CampaignSettingOverride(
+                    campaignId, "submission.lean-mode", "true", "admin", Instant.now())));
+
+            assertThat(resolver.resolveBoolean("submission.lean-mode", campaignId)).isFalse();
+            assertThat(resolver.resolveBoolean("submission.lean-mode")).isFalse();
+            assertThat(resolver.resolve("submission.lean-mode", campaignId)).isEqualTo("false");
+        }
+
+        @Test
+        @DisplayName("lean mode honours a system override outside JSON storage mode")
+        void shouldHonourLeanModeOverrideInV2Storage() {
+            defaultProperties.getAssignment().setStorageMode(EvaluationServiceProperties.AssignmentStorageMode.V2);
+            when(systemSettingsPort.findAll()).thenReturn(List.of(new SystemSetting(
+                    "submission.lean-mode", "true", SystemSettingCategory.FEATURES,
+                    "Lean submit", "admin", Instant.now())));
+
+            assertThat(resolver.resolveBoolean("submission.lean-mode")).isTrue();
+        }
+    }
+
     @Nested
     @DisplayName("Error handling")
     class ErrorHandling {
@@ -162,12 +187,102 @@ class SettingsResolverServiceTest {
         @Test
         @DisplayName("throws on unknown setting key")
         void shouldThrowOnUnknownKey() {
-            when(systemSettingsPort.findByKey("unknown.key"))
-                    .thenReturn(Optional.empty());
+            when(systemSettingsPort.findAll()).thenReturn(List.of());
 
             assertThatThrownBy(() -> resolver.resolve("unknown.key"))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("Unknown setting key");
         }
     }
+
+    @Nested
+    @DisplayName("Snapshot cache")
+    class SnapshotCache {
+
+        @Test
+        @DisplayName("serves repeated lookups from one snapshot load")
+        void shouldLoadSnapshotOnce() {
+            CampaignId campaignId = CampaignId.of("campaign-1");
+            when(systemSettingsPort.findAll()).thenReturn(List.of(new SystemSetting(
+                    "features.enable-step-windows", "true", SystemSettingCategory.FEATURES,
+                    "Step windows", "admin", Instant.now())));
+            when(campaignSettingsPort.findByCampaignId(campaignId)).thenReturn(List.of(new CampaignSettingOverride(
+                    campaignId, "pagination.default-page-size", "5", "admin", Instant.now())));
+
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(resolver.resolveBoolean("features.enable-step-windows")).isTrue();
+                assertThat(resolver.resolveInt("pagination.default-page-size", campaignId)).isEqualTo(5);
+                assertThat(resolver.resolveInt("pagination.default-page-size")).isEqualTo(20);
+            }
+
+            verify(systemSettingsPort, times(1)).findAll();
+            verify(campaignSettingsPort, times(1)).findByCampaignId(campaignId);
+            verify(systemSettingsPort, never()).findByKey(any());
+            verify(campaignSettingsPort, never()).findByCampaignIdAndKey(any(), any());
+        }
+
+        @Test
+        @DisplayName("swaps in fresh values after a system-level change")
+        void shouldRefreshOnSystemChange() {
+            when(systemSettingsPort.findAll())
+                    .thenReturn(List.of(new SystemSetting(
+                            "notification.enabled", "true", SystemSettingCategory.NOTIFICATION,
+                            "Notifications", "admin", Instant.now())))
+                    .thenReturn(List.of(new SystemSetting(
+                            "notification.enabled", "false", SystemSettingCategory.NOTIFICATION,
+                            "Notifications", "admin", Instant.now())));
+
+            assertThat(resolver.resolveBoolean("notification.enabled")).isTrue();
+
+            resolver.onSettingsChanged(new SettingsChangedEvent("notification.enabled", null, null));
+
+            assertThat(resolver.resolveBoolean("notification.enabled")).isFalse();
+            assertThat(resolver.resolve("notification.enabled")).isEqualTo("false");
+            verify(systemSettingsPort, times(2)).findAll();
+        }
+
+        @Test
+        @DisplayName("reloads only the changed campaign's overrides")
+        void shouldReloadChangedCampaignOnly() {
+            CampaignId changed = CampaignId.of("campaign-1");
+            CampaignId untouched = CampaignId.of("campaign-2");
+            when(systemSettingsPort.findAll()).thenReturn(List.of());
+            when(campaignSettingsPort.findByCampaignId(changed))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(new CampaignSettingOverride(
+                            changed, "campaign.auto-close", "true", "admin", Instant.now())));
+            when(campaignSettingsPort.findByCampaignId(untouched)).thenReturn(List.of());
+
+            assertThat(resolver.resolve("pagination.max-page-size", untouched)).isEqualTo("100");
+            assertThat(resolver.resolve("campaign.auto-close", changed)).isEqualTo("false");
+
+            resolver.invalidate(changed);
+
+            assertThat(resolver.resolve("campaign.auto-close", changed)).isEqualTo("true");
+            assertThat(resolver.resolve("pagination.max-page-size", untouched)).isEqualTo("100");
+            verify(systemSettingsPort, times(1)).findAll();
+            verify(campaignSettingsPort, times(1)).findByCampaignId(untouched);
+        }
+
+        @Test
+        @DisplayName("reloads the snapshot once it is older than the TTL")
+        void shouldReloadExpiredSnapshot() {
+            defaultProperties.getSettings().setSnapshotTtlMs(1);
+            when(systemSettingsPort.findAll()).thenReturn(List.of());
+
+            resolver.resolve("pagination.max-page-size");
+            await();
+            resolver.resolve("pagination.max-page-size");
+
+            verify(systemSettingsPort, times(2)).findAll();
+        }
+
+        private void await() {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
@@ -5,6 +5,7 @@ import com.evaluationservice.application.port.out.SystemSettingsPersistencePort;
 import com.evaluationservice.domain.entity.CampaignSettingOverride;
 import com.evaluationservice.domain.entity.SystemSetting;
 import com.evaluationservice.domain.enums.SystemSettingCategory;
+import com.evaluationservice.domain.event.SettingsChangedEvent;
 import com.evaluationservice.domain.exception.EntityNotFoundException;
 import com.evaluationservice.domain.value.CampaignId;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Instant;
 import java.util.List;
@@ -34,11 +36,14 @@ class SystemSettingsServiceTest {
     @Mock
     private CampaignSettingsPersistencePort campaignSettingsPort;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private SystemSettingsService service;
 
     @BeforeEach
     void setUp() {
-        service = new SystemSettingsService(systemSettingsPort, campaignSettingsPort);
+        service = new SystemSettingsService(systemSettingsPort, campaignSettingsPort, eventPublisher);
     }
 
     @Nested
@@ -92,6 +97,9 @@ class SystemSettingsServiceTest {
 
             assertThat(result.getSettingValue()).isEqualTo("85.0");
             assertThat(result.getUpdatedBy()).isEqualTo("admin-user");
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof SettingsChangedEvent changed
+                    && changed.settingKey().equals("scoring.passing-score-threshold")
+                    && changed.campaignId() == null));
         }
     }
 
@@ -170,6 +178,8 @@ class SystemSettingsServiceTest {
             service.removeCampaignOverride(campaignId, key);
 
             verify(campaignSettingsPort).deleteByCampaignIdAndKey(campaignId, key);
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof SettingsChangedEvent changed
+                    && campaignId.equals(changed.campaignId())));
         }
     }
 
@@ -0,0 +1,84 @@
+package com.evaluationservice.application.service.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StreamingPdfWriter")
+class StreamingPdfWriterTest {
+
+    @Test
+    @DisplayName("points every xref entry at its object even with non-ASCII text")
+    void xrefOffsetsAreByteAccurate() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingPdfWriter writer = new StreamingPdfWriter(out);
+        writer.heading("Évaluation – Zoë €")
+                .text("Naïve café (draft) \\ 漢字");
+        writer.finish();
+
+        // ISO-8859-1 maps each byte to one char, so string indices are byte offsets
+        String pdf = out.toString(StandardCharsets.ISO_8859_1);
+        assertThat(pdf).startsWith("%PDF-1.4\n").endsWith("%%EOF\n");
+
+        Matcher startxref = Pattern.compile("startxref\n(\\d+)\n").matcher(pdf);
+        assertThat(startxref.find()).isTrue();
+        int xref = Integer.parseInt(startxref.group(1));
+        assertThat(pdf.startsWith("xref\n", xref)).isTrue();
+
+        Matcher entries = Pattern.compile("(\\d{10}) 00000 n \n").matcher(pdf.substring(xref));
+        int object = 1;
+        while (entries.find()) {
+            assertThat(pdf.startsWith(object + " 0 obj\n", Integer.parseInt(entries.group(1))))
+                    .as("offset of object %d", object)
+                    .isTrue();
+            object++;
+        }
+        assertThat(object - 1).isEqualTo(7);
+
+        // WinAnsi bytes for the accented letters and the euro sign; CJK falls back to '?'
+        assertThat(pdf).contains("(Évaluation \u0096 Zoë \u0080) Tj");
+        assertThat(pdf).contains("(Naïve café \\(draft\\) \\\\ ??) Tj");
+    }
+
+    @Test
+    @DisplayName("breaks pages automatically and repeats the table header on each")
+    void breaksPagesAndRepeatsTableHeader() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingPdfWriter writer = new StreamingPdfWriter(out);
+        writer.heading("Section Scores").beginTable(new String[] { "Section", "Score" }, 0.8f, 0.2f);
+        for (int i = 0; i < 200; i++) {
+            writer.row("Section " + i, "7.50");
+        }
+        writer.endTable().text("x ".repeat(200));
+        int pages = writer.pageCount();
+        writer.finish();
+
+        String pdf = out.toString(StandardCharsets.ISO_8859_1);
+        assertThat(pages).isEqualTo(4);
+        assertThat(pdf).contains("/Count 4 >>");
+        assertThat(pdf.split("/Type /Page /Parent", -1)).hasSize(pages + 1);
+        assertThat(pdf.split("\\(Section\\) Tj", -1)).hasSize(pages + 1);
+        assertThat(pdf).contains("(Section 199) Tj");
+        // Wrapped rather than run off the page
+        assertThat(pdf.split("\\(x x x", -1).length).isGreaterThan(2);
+    }
+
+    @Test
+    @DisplayName("cuts cells that do not fit their column")
+    void truncatesWideCells() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingPdfWriter writer = new StreamingPdfWriter(out);
+        writer.beginTable(new String[] { "Section", "Score" }, 0.1f, 0.9f)
+                .row("A very long section title that cannot fit", "1.00");
+        writer.finish();
+
+        String pdf = out.toString(StandardCharsets.ISO_8859_1);
+        assertThat(pdf).contains("...) Tj").doesNotContain("cannot fit");
+    }
+}
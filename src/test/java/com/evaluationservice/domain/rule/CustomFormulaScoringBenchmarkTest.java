@@ -0,0 +1,126 @@
+package com.evaluationservice.domain.rule;
+
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.entity.Question;
+import com.evaluationservice.domain.entity.Section;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.entity.Template;
+import com.evaluationservice.domain.enums.QuestionType;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.TemplateId;
+import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.domain.value.Weight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Custom Formula Scoring Benchmark")
+class CustomFormulaScoringBenchmarkTest {
+
+    private static final int SECTIONS = 5;
+    private static final int QUESTIONS_PER_SECTION = 10;
+    private static final int CAMPAIGN_EVALUATIONS = 100_000;
+    private static final int DISTINCT_ANSWER_SETS = 1_000;
+
+    private static final String FORMULA = """
+            answered('s0q9')
+                ? clamp(0.6 * WEIGHTED + 0.3 * median(q('s0q0'), q('s0q1'), MEDIAN) + 0.1 * q('s0q9'), 0, 10)
+                : COUNT >= QUESTIONS / 2 ? round(AVG * SECTION_WEIGHT * 5, 2) : MIN
+            """;
+
+    @Test
+    @DisplayName("re-scores a 100k-evaluation campaign with a compound formula within seconds")
+    void rescoresLargeCampaignQuickly() {
+        Template template = template();
+        ScoringPlan plan = ScoringPlan.compile(template);
+        List<List<Answer>> answerSets = answerSets(template);
+
+        // Same formula text compiles to the same strategy instance.
+        assertThat(ScoringStrategyFactory.forCustomFormula(FORMULA)).isSameAs(plan.getStrategy());
+
+        // A tenth of the campaign is enough for the compiled formula to reach steady state
+        rescore(plan, answerSets, CAMPAIGN_EVALUATIONS / 10);
+
+        long start = System.nanoTime();
+        BigDecimal checksum = rescore(plan, answerSets, CAMPAIGN_EVALUATIONS);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(checksum.signum()).isEqualTo(1);
+        // 100 µs per evaluation: loose for a formula compiled once, and meant to catch the formula
+        // being parsed again per evaluation rather than small slowdowns of the evaluator.
+        assertThat(elapsedMs).isLessThan(10_000);
+    }
+
+    private BigDecimal rescore(ScoringPlan plan, List<List<Answer>> answerSets, int evaluations) {
+        BigDecimal checksum = BigDecimal.ZERO;
+        for (int i = 0; i < evaluations; i++) {
+            List<SectionScore> sectionScores = plan.scoreSections(answerSets.get(i % answerSets.size()));
+            Score total = plan.totalScore(sectionScores);
+            checksum = checksum.add(total.value());
+        }
+        return checksum;
+    }
+
+    private List<List<Answer>> answerSets(Template template) {
+        List<List<Answer>> answerSets = new ArrayList<>(DISTINCT_ANSWER_SETS);
+        for (int i = 0; i < DISTINCT_ANSWER_SETS; i++) {
+            List<Answer> answers = new ArrayList<>();
+            for (Section section : template.getSections()) {
+                for (Question question : section.getQuestions()) {
+                    if ((i + question.getOrderIndex()) % 7 == 0)
+                        continue; // leave some questions unanswered
+                    answers.add(new Answer(
+                            "a-" + i + "-" + question.getId(),
+                            question.getId(),
+                            (i * 31 + question.getOrderIndex()) % 11,
+                            List.of(),
+                            null,
+                            Map.of()));
+                }
+            }
+            answerSets.add(answers);
+        }
+        return answerSets;
+    }
+
+    private Template template() {
+        List<Section> sections = new ArrayList<>(SECTIONS);
+        for (int s = 0; s < SECTIONS; s++) {
+            List<Question> questions = new ArrayList<>(QUESTIONS_PER_SECTION);
+            for (int q = 0; q < QUESTIONS_PER_SECTION; q++) {
+                questions.add(new Question(
+                        "s" + s + "q" + q,
+                        "Question " + q,
+                        QuestionType.NUMERIC_RATING,
+                        q,
+                        true,
+                        List.of(),
+                        Weight.of((1 + q % 4) / 4.0),
+                        Map.of(),
+                        null));
+            }
+            sections.add(new Section("s" + s, "Section " + s, null, s, Weight.of((1 + s) / 5.0), questions));
+        }
+        return new Template(
+                TemplateId.of("tmpl-formula-bench"),
+                "Formula Benchmark Template",
+                null,
+                null,
+                TemplateStatus.PUBLISHED,
+                1,
+                ScoringMethod.CUSTOM_FORMULA,
+                sections,
+                "tester",
+                Timestamp.now(),
+                Timestamp.now(),
+                FORMULA);
+    }
+}
@@ -0,0 +1,233 @@
+package com.evaluationservice.domain.rule;
+
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.entity.Question;
+import com.evaluationservice.domain.entity.Section;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.entity.Template;
+import com.evaluationservice.domain.enums.QuestionType;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.TemplateId;
+import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.domain.value.Weight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Fixed-Point Scoring Golden Parity")
+class FixedPointScoringParityTest {
+
+    private static final int CASES_PER_METHOD = 2_000;
+
+    @Test
+    @DisplayName("plan scoring matches the BigDecimal strategies bit for bit")
+    void planScoringMatchesBigDecimalStrategies() {
+        Random random = new Random(20260117L);
+        List<Template> templates = List.of(
+                template(random, ScoringMethod.WEIGHTED_AVERAGE, null, true),
+                template(random, ScoringMethod.WEIGHTED_AVERAGE, null, false),
+                template(random, ScoringMethod.SIMPLE_AVERAGE, null, true),
+                template(random, ScoringMethod.MEDIAN, null, true),
+                template(random, ScoringMethod.PERCENTILE_RANK, null, true),
+                template(random, ScoringMethod.CUSTOM_FORMULA, "AVG", true),
+                template(random, ScoringMethod.CUSTOM_FORMULA, "WEIGHTED", true),
+                template(random, ScoringMethod.CUSTOM_FORMULA, "WEIGHTED", false),
+                template(random, ScoringMethod.CUSTOM_FORMULA, "MIN", true),
+                template(random, ScoringMethod.CUSTOM_FORMULA, "MAX", true));
+
+        for (Template template : templates) {
+            ScoringPlan plan = ScoringPlan.compile(template);
+            for (int i = 0; i < CASES_PER_METHOD; i++) {
+                List<Answer> answers = answers(random, template);
+                List<SectionScore> expected = referenceSectionScores(template, answers);
+                List<SectionScore> actual = plan.scoreSections(answers);
+
+                assertThat(actual)
+                        .as("%s %s", template.getScoringMethod(), template.getCustomFormula())
+                        .isEqualTo(expected);
+                assertThat(plan.totalScore(actual)).isEqualTo(referenceTotalScore(template, expected));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("simple average kernel matches the BigDecimal average")
+    void simpleAverageMatchesBigDecimalAverage() {
+        Random random = new Random(7L);
+        SimpleAverageScoring scoring = new SimpleAverageScoring();
+        for (int i = 0; i < 10_000; i++) {
+            List<Answer> answers = new ArrayList<>();
+            int size = 1 + random.nextInt(30);
+            for (int a = 0; a < size; a++) {
+                answers.add(answer("q" + a, value(random)));
+            }
+            assertThat(scoring.compute(answers, List.of())).isEqualTo(referenceSimpleAverage(answers));
+        }
+    }
+
+    @Test
+    @DisplayName("converts only values exactly representable at scale 4")
+    void convertsOnlyExactValues() {
+        assertThat(FixedPointKernel.toUnits(7.0)).isEqualTo(70_000L);
+        assertThat(FixedPointKernel.toUnits(0.1)).isEqualTo(1_000L);
+        assertThat(FixedPointKernel.toUnits(-2.3456)).isEqualTo(-23_456L);
+        assertThat(FixedPointKernel.toUnits(0.1 + 0.2)).isEqualTo(FixedPointKernel.UNREPRESENTABLE);
+        assertThat(FixedPointKernel.toUnits(1.0 / 3)).isEqualTo(FixedPointKernel.UNREPRESENTABLE);
+        assertThat(FixedPointKernel.toUnits(2_000_000.0)).isEqualTo(FixedPointKernel.UNREPRESENTABLE);
+        assertThat(FixedPointKernel.toUnits(Double.NaN)).isEqualTo(FixedPointKernel.UNREPRESENTABLE);
+        assertThat(FixedPointKernel.toUnits(new BigDecimal("0.25000"))).isEqualTo(2_500L);
+        assertThat(FixedPointKernel.toUnits(new BigDecimal("0.33333"))).isEqualTo(FixedPointKernel.UNREPRESENTABLE);
+    }
+
+    @Test
+    @DisplayName("rounds half away from zero like BigDecimal HALF_UP")
+    void roundsHalfUp() {
+        long[][] cases = { { 5, 2 }, { -5, 2 }, { 4, 3 }, { -4, 3 }, { 5, 3 }, { -5, 3 }, { 0, 7 }, { 15, 10 } };
+        for (long[] c : cases) {
+            long expected = BigDecimal.valueOf(c[0])
+                    .divide(BigDecimal.valueOf(c[1]), 0, RoundingMode.HALF_UP)
+                    .longValueExact();
+            assertThat(FixedPointKernel.divideHalfUp(c[0], c[1])).as("%d / %d", c[0], c[1]).isEqualTo(expected);
+        }
+    }
+
+    /**
+     * Section scores as computed before plans existed: the list-based strategy
+     * per section, with the BigDecimal simple average.
+     */
+    private List<SectionScore> referenceSectionScores(Template template, List<Answer> answers) {
+        ScoringStrategy strategy = template.getScoringMethod() == ScoringMethod.CUSTOM_FORMULA
+                ? new CustomFormulaScoring(template.getCustomFormula())
+                : ScoringStrategyFactory.forMethod(template.getScoringMethod());
+        List<SectionScore> scores = new ArrayList<>();
+        for (Section section : template.getSections()) {
+            Set<String> questionIds = new HashSet<>();
+            section.getQuestions().forEach(q -> questionIds.add(q.getId()));
+            List<Answer> sectionAnswers = answers.stream()
+                    .filter(a -> questionIds.contains(a.questionId()))
+                    .toList();
+            Score score = template.getScoringMethod() == ScoringMethod.SIMPLE_AVERAGE
+                    ? referenceSimpleAverage(sectionAnswers)
+                    : strategy.compute(sectionAnswers, section.getQuestions());
+            scores.add(new SectionScore(
+                    section.getId(),
+                    section.getTitle(),
+                    score,
+                    Score.of(section.getQuestions().size() * 10.0),
+                    sectionAnswers.size(),
+                    section.getQuestions().size()));
+        }
+        return scores;
+    }
+
+    private Score referenceTotalScore(Template template, List<SectionScore> sectionScores) {
+        if (sectionScores.isEmpty())
+            return Score.ZERO;
+
+        BigDecimal weightedSum = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+        for (int i = 0; i < sectionScores.size(); i++) {
+            BigDecimal weight = template.getSections().get(i).getWeight().value();
+            weightedSum = weightedSum.add(sectionScores.get(i).score().value().multiply(weight));
+            totalWeight = totalWeight.add(weight);
+        }
+        return Score.of(weightedSum).divide(totalWeight);
+    }
+
+    private Score referenceSimpleAverage(List<Answer> answers) {
+        if (answers.isEmpty()) {
+            return Score.ZERO;
+        }
+        double sum = answers.stream().mapToDouble(Answer::numericValue).sum();
+        return Score.of(BigDecimal.valueOf(sum)
+                .divide(BigDecimal.valueOf(answers.size()), Score.SCALE, RoundingMode.HALF_UP));
+    }
+
+    private Template template(Random random, ScoringMethod method, String formula, boolean gridWeights) {
+        List<Section> sections = new ArrayList<>();
+        int sectionCount = 1 + random.nextInt(6);
+        for (int s = 0; s < sectionCount; s++) {
+            List<Question> questions = new ArrayList<>();
+            int questionCount = 1 + random.nextInt(25);
+            for (int q = 0; q < questionCount; q++) {
+                questions.add(new Question(
+                        "s" + s + "q" + q,
+                        "Question",
+                        QuestionType.NUMERIC_RATING,
+                        q,
+                        true,
+                        List.of(),
+                        weight(random, gridWeights),
+                        Map.of(),
+                        null));
+            }
+            sections.add(new Section("s" + s, "Section " + s, null, s, weight(random, gridWeights), questions));
+        }
+        return new Template(
+                TemplateId.of("tmpl-" + method + "-" + formula + "-" + gridWeights),
+                "Parity",
+                null,
+                null,
+                TemplateStatus.PUBLISHED,
+                1,
+                method,
+                sections,
+                "tester",
+                Timestamp.now(),
+                Timestamp.now(),
+                formula);
+    }
+
+    private Weight weight(Random random, boolean grid) {
+        if (!grid && random.nextInt(3) == 0) {
+            return Weight.of(1.0 / (2 + random.nextInt(5)));
+        }
+        return Weight.of((1 + random.nextInt(10_000)) / 10_000.0);
+    }
+
+    private List<Answer> answers(Random random, Template template) {
+        List<Answer> answers = new ArrayList<>();
+        for (Section section : template.getSections()) {
+            for (Question question : section.getQuestions()) {
+                int roll = random.nextInt(20);
+                if (roll == 0)
+                    continue; // unanswered
+                answers.add(answer(question.getId(), roll == 1 ? "n/a" : value(random)));
+                if (roll == 2) {
+                    answers.add(answer(question.getId(), value(random))); // duplicate answer
+                }
+            }
+        }
+        if (random.nextInt(10) == 0) {
+            answers.add(answer("unknown-question", 5));
+        }
+        return answers;
+    }
+
+    private Object value(Random random) {
+        return switch (random.nextInt(8)) {
+            case 0, 1, 2 -> random.nextInt(11);
+            case 3 -> random.nextInt(1_001) / 100.0;
+            case 4 -> (random.nextInt(200_001) - 100_000) / 10_000.0;
+            case 5 -> random.nextDouble() * 10;
+            case 6 -> random.nextInt(5_000_000) / 2.0;
+            default -> random.nextInt(100) / 3.0;
+        };
+    }
+
+    private Answer answer(String questionId, Object value) {
+        return new Answer("a-" + questionId, questionId, value, List.of(), null, Map.of());
+    }
+}
@@ -0,0 +1,191 @@
+package com.evaluationservice.domain.rule;
+
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.entity.Question;
+import com.evaluationservice.domain.entity.Section;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.entity.Template;
+import com.evaluationservice.domain.enums.QuestionType;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.TemplateId;
+import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.domain.value.Weight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Scoring Kernel Benchmark")
+class ScoringKernelBenchmarkTest {
+
+    private static final int SECTIONS = 10;
+    private static final int QUESTIONS_PER_SECTION = 20;
+    private static final int EVALUATIONS = 5_000;
+
+    @Test
+    @DisplayName("bulk re-scoring with fixed-point kernels allocates less and runs faster than BigDecimal")
+    void fixedPointKernelsReduceAllocationAndTime() {
+        Template template = template();
+        ScoringPlan plan = ScoringPlan.compile(template);
+        List<List<Answer>> evaluations = evaluations(template);
+
+        // The first run of each kernel doubles as the correctness check and is not timed
+        Run bigDecimal = rescoreBigDecimal(template, evaluations);
+        Run fixedPoint = rescoreFixedPoint(plan, evaluations);
+        assertThat(fixedPoint.checksum).isEqualTo(bigDecimal.checksum);
+
+        bigDecimal = rescoreBigDecimal(template, evaluations);
+        fixedPoint = rescoreFixedPoint(plan, evaluations);
+
+        String timings = String.format(
+                "Bulk re-scoring of %d evaluations x %d questions: BigDecimal %s; fixed-point %s",
+                EVALUATIONS, SECTIONS * QUESTIONS_PER_SECTION, bigDecimal, fixedPoint);
+
+        assertThat(fixedPoint.checksum).as(timings).isEqualTo(bigDecimal.checksum);
+        if (bigDecimal.allocatedBytes > 0) {
+            assertThat(fixedPoint.allocatedBytes).as(timings).isLessThan(bigDecimal.allocatedBytes);
+        }
+        // The allocation check carries the claim; time is only held to "not a regression", with
+        // headroom for GC pauses landing in either run.
+        assertThat(fixedPoint.nanos).as(timings).isLessThan(bigDecimal.nanos * 2);
+    }
+
+    /**
+     * Per-section scoring through the BigDecimal strategy and total, as done
+     * before plans and fixed-point kernels.
+     */
+    private Run rescoreBigDecimal(Template template, List<List<Answer>> evaluations) {
+        ScoringStrategy strategy = ScoringStrategyFactory.forMethod(template.getScoringMethod());
+        List<Set<String>> questionIdsBySection = new ArrayList<>();
+        for (Section section : template.getSections()) {
+            Set<String> questionIds = new HashSet<>();
+            section.getQuestions().forEach(q -> questionIds.add(q.getId()));
+            questionIdsBySection.add(questionIds);
+        }
+
+        return measure(() -> {
+            BigDecimal checksum = BigDecimal.ZERO;
+            for (List<Answer> answers : evaluations) {
+                BigDecimal weightedSum = BigDecimal.ZERO;
+                BigDecimal totalWeight = BigDecimal.ZERO;
+                for (int s = 0; s < SECTIONS; s++) {
+                    Section section = template.getSections().get(s);
+                    Set<String> questionIds = questionIdsBySection.get(s);
+                    List<Answer> sectionAnswers = answers.stream()
+                            .filter(a -> questionIds.contains(a.questionId()))
+                            .toList();
+                    Score score = strategy.compute(sectionAnswers, section.getQuestions());
+                    weightedSum = weightedSum.add(score.value().multiply(section.getWeight().value()));
+                    totalWeight = totalWeight.add(section.getWeight().value());
+                }
+                checksum = checksum.add(Score.of(weightedSum).divide(totalWeight).value());
+            }
+            return checksum;
+        });
+    }
+
+    private Run rescoreFixedPoint(ScoringPlan plan, List<List<Answer>> evaluations) {
+        return measure(() -> {
+            BigDecimal checksum = BigDecimal.ZERO;
+            for (List<Answer> answers : evaluations) {
+                List<SectionScore> sectionScores = plan.scoreSections(answers);
+                checksum = checksum.add(plan.totalScore(sectionScores).value());
+            }
+            return checksum;
+        });
+    }
+
+    private Run measure(java.util.function.Supplier<BigDecimal> work) {
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        BigDecimal checksum = work.get();
+        long nanos = System.nanoTime() - start;
+        return new Run(checksum, nanos, allocatedBytes() - bytesBefore);
+    }
+
+    /**
+     * Bytes allocated by the current thread, or 0 where the JVM cannot report it.
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return 0;
+    }
+
+    private record Run(BigDecimal checksum, long nanos, long allocatedBytes) {
+
+        @Override
+        public String toString() {
+            double seconds = nanos / 1_000_000_000.0;
+            return String.format("%,.0f evaluations/s, %,d bytes/evaluation, %,.0f MB/s allocated",
+                    EVALUATIONS / seconds,
+                    allocatedBytes / EVALUATIONS,
+                    allocatedBytes / 1_048_576.0 / seconds);
+        }
+    }
+
+    private List<List<Answer>> evaluations(Template template) {
+        List<List<Answer>> evaluations = new ArrayList<>(EVALUATIONS);
+        for (int i = 0; i < EVALUATIONS; i++) {
+            List<Answer> answers = new ArrayList<>(SECTIONS * QUESTIONS_PER_SECTION);
+            for (Section section : template.getSections()) {
+                for (Question question : section.getQuestions()) {
+                    answers.add(new Answer(
+                            "a-" + i + "-" + question.getId(),
+                            question.getId(),
+                            (i + question.getOrderIndex()) % 11,
+                            List.of(),
+                            null,
+                            Map.of()));
+                }
+            }
+            evaluations.add(answers);
+        }
+        return evaluations;
+    }
+
+    private Template template() {
+        List<Section> sections = new ArrayList<>(SECTIONS);
+        for (int s = 0; s < SECTIONS; s++) {
+            List<Question> questions = new ArrayList<>(QUESTIONS_PER_SECTION);
+            for (int q = 0; q < QUESTIONS_PER_SECTION; q++) {
+                questions.add(new Question(
+                        "s" + s + "q" + q,
+                        "Question " + q,
+                        QuestionType.NUMERIC_RATING,
+                        q,
+                        true,
+                        List.of(),
+                        Weight.of((1 + q % 9) / 10.0),
+                        Map.of(),
+                        null));
+            }
+            sections.add(new Section("s" + s, "Section " + s, null, s, Weight.of((2 + s) / 20.0), questions));
+        }
+        return new Template(
+                TemplateId.of("tmpl-kernel-bench"),
+                "Kernel Benchmark Template",
+                null,
+                null,
+                TemplateStatus.PUBLISHED,
+                1,
+                ScoringMethod.WEIGHTED_AVERAGE,
+                sections,
+                "tester",
+                Timestamp.now(),
+                Timestamp.now(),
+                null);
+    }
+}
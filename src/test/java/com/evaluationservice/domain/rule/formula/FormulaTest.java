@@ -0,0 +1,169 @@
+package com.evaluationservice.domain.rule.formula;
+
+import com.evaluationservice.domain.rule.CustomFormulaScoring;
+import com.evaluationservice.domain.rule.ScoringStrategyFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Custom Formula Engine")
+class FormulaTest {
+
+    private static final Map<String, Integer> SLOTS = Map.of("q1", 0, "q2", 1, "q3", 2, "q4", 3);
+
+    /** q1=8 (w 0.5), q2=6 (w 1), q3=4 (w 0.5), q4 unanswered (w 1). */
+    private FormulaContext context() {
+        FormulaContext context = new FormulaContext();
+        context.reset(id -> SLOTS.getOrDefault(id, -1), 4, 0.4);
+        context.weight(0, 0.5);
+        context.weight(2, 0.5);
+        context.answer(0, 8);
+        context.answer(1, 6);
+        context.answer(2, 4);
+        return context;
+    }
+
+    private double eval(String formula) {
+        return Formula.compile(formula).evaluate(context());
+    }
+
+    @Test
+    @DisplayName("evaluates arithmetic with standard precedence")
+    void evaluatesArithmetic() {
+        assertThat(eval("1 + 2 * 3")).isEqualTo(7.0);
+        assertThat(eval("(1 + 2) * 3")).isEqualTo(9.0);
+        assertThat(eval("10 - 4 - 3")).isEqualTo(3.0);
+        assertThat(eval("-2 ^ 2")).isEqualTo(-4.0);
+        assertThat(eval("2 ^ 3 ^ 2")).isEqualTo(512.0);
+        assertThat(eval("7 % 4 + 0.5")).isEqualTo(3.5);
+        assertThat(eval("5 / 0")).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("exposes section aggregates over answered questions")
+    void exposesSectionVariables() {
+        assertThat(eval("AVG")).isEqualTo(6.0);
+        assertThat(eval("weighted")).isEqualTo(6.0);
+        assertThat(eval("MIN")).isEqualTo(4.0);
+        assertThat(eval("MAX")).isEqualTo(8.0);
+        assertThat(eval("MEDIAN")).isEqualTo(6.0);
+        assertThat(eval("SUM")).isEqualTo(18.0);
+        assertThat(eval("COUNT")).isEqualTo(3.0);
+        assertThat(eval("QUESTIONS")).isEqualTo(4.0);
+        assertThat(eval("SECTION_WEIGHT")).isEqualTo(0.4);
+    }
+
+    @Test
+    @DisplayName("exposes per-question values, weights and answered flags")
+    void exposesQuestionVariables() {
+        assertThat(eval("q('q1') + q(\"q2\")")).isEqualTo(14.0);
+        assertThat(eval("q('q4')")).isEqualTo(0.0);
+        assertThat(eval("q('missing')")).isEqualTo(0.0);
+        assertThat(eval("w('q1') + w('q4')")).isEqualTo(1.5);
+        assertThat(eval("answered('q1') + answered('q4')")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("supports functions and conditionals")
+    void supportsFunctionsAndConditionals() {
+        assertThat(eval("min(q('q1'), q('q2'), 5)")).isEqualTo(5.0);
+        assertThat(eval("max(1, 2, 3)")).isEqualTo(3.0);
+        assertThat(eval("avg(2, 4, 9)")).isEqualTo(5.0);
+        assertThat(eval("sum(1, 2, 3)")).isEqualTo(6.0);
+        assertThat(eval("median(9, 1, 5, 3)")).isEqualTo(4.0);
+        assertThat(eval("median(median(3, 1, 2), 10, 0)")).isEqualTo(2.0);
+        assertThat(eval("abs(MIN - MAX)")).isEqualTo(4.0);
+        assertThat(eval("round(2.5)")).isEqualTo(3.0);
+        assertThat(eval("round(-2.375, 2)")).isEqualTo(-2.38);
+        assertThat(eval("clamp(AVG * 2, 0, 10)")).isEqualTo(10.0);
+        assertThat(eval("answered('q4') ? 1 : 2")).isEqualTo(2.0);
+        assertThat(eval("if(MIN >= 4 and MAX <= 8, 1, 0)")).isEqualTo(1.0);
+        assertThat(eval("not answered('q4') || 1 / 0")).isEqualTo(1.0);
+        assertThat(eval("COUNT == 3 && MAX != 8")).isEqualTo(0.0);
+        assertThat(eval("MIN < 4 ? 0 : MIN > 4 ? 1 : 2")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("yields zero aggregates when nothing is answered")
+    void yieldsZeroAggregatesWhenUnanswered() {
+        FormulaContext context = new FormulaContext();
+        context.reset(id -> -1, 3, 1.0);
+
+        assertThat(context.answeredCount()).isEqualTo(0);
+        assertThat(Formula.compile("AVG + MIN + MAX + MEDIAN + WEIGHTED").evaluate(context)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("reuses the compiled formula for identical text")
+    void cachesCompiledFormulas() {
+        Formula first = Formula.compile("AVG * 0.5 + MAX * 0.5");
+        Formula second = Formula.compile("AVG * 0.5 + MAX * 0.5");
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("rejects malformed formulas with the failing position")
+    void rejectsMalformedFormulas() {
+        assertThrows(IllegalArgumentException.class, () -> Formula.compile(" "));
+        assertThrows(IllegalArgumentException.class, () -> Formula.compile("AVG +"));
+        assertThrows(IllegalArgumentException.class, () -> Formula.compile("(AVG"));
+        assertThrows(IllegalArgumentException.class, () -> Formula.compile("AVERAGE"));
+        assertThrows(IllegalArgumentException.class, () -> Formula.compile("foo(1)"));
+        assertThrows(IllegalArgumentException.class, () -> Formula.compile("q(q1)"));
+        assertThrows(IllegalArgumentException.class, () -> Formula.compile("if(1, 2)"));
+        assertThrows(IllegalArgumentException.class, () -> Formula.compile("1.2.3"));
+        assertThrows(IllegalArgumentException.class, () -> Formula.compile("(".repeat(200) + "1" + ")".repeat(200)));
+
+        IllegalArgumentException error = assertThrows(
+                IllegalArgumentException.class, () -> Formula.compile("AVG * MAXX"));
+        assertThat(error.getMessage()).isEqualTo("Invalid custom formula at position 7: unknown variable 'MAXX'");
+    }
+
+    @Test
+    @DisplayName("scores stored formulas that do not compile as WEIGHTED")
+    void fallsBackForStoredFormulas() {
+        var fallback = (CustomFormulaScoring) ScoringStrategyFactory.forCustomFormula("AVERAGE");
+        var compiled = (CustomFormulaScoring) ScoringStrategyFactory.forCustomFormula("AVG");
+
+        assertThat(fallback.getFormula().singleVariable()).isEqualTo(Formula.SectionVariable.WEIGHTED);
+        assertThat(fallback.getFallbackReason()).contains("unknown variable 'AVERAGE'");
+        assertThat(compiled.getFallbackReason()).isNull();
+        assertThat(CustomFormulaScoring.lenient(null).getFallbackReason()).isNotNull();
+        assertThrows(IllegalArgumentException.class, () -> new CustomFormulaScoring("AVERAGE"));
+    }
+
+    @Test
+    @DisplayName("evaluates without allocating once the context is warm")
+    void evaluatesWithoutAllocating() {
+        Formula formula = Formula.compile(
+                "answered('q4') ? q('q4') : 0.6 * WEIGHTED + 0.4 * median(q('q1'), q('q2'), MEDIAN) - min(1, MIN)");
+        FormulaContext context = context();
+        double expected = formula.evaluate(context);
+
+        long before = allocatedBytes();
+        double checksum = 0;
+        for (int i = 0; i < 100_000; i++) {
+            context.answer(1, 6);
+            checksum += formula.evaluate(context);
+        }
+        long allocated = allocatedBytes() - before;
+
+        assertThat(checksum).isEqualTo(expected * 100_000);
+        // A little slack for the measurement itself; per-evaluation allocation would be megabytes.
+        assertThat(allocated).isLessThan(64 * 1024L);
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return 0;
+    }
+}
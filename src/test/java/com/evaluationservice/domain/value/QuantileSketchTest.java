@@ -0,0 +1,111 @@
+package com.evaluationservice.domain.value;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("QuantileSketch")
+class QuantileSketchTest {
+
+    private static final int SCORES = 100_000;
+
+    @Test
+    @DisplayName("answers quantiles and ranks within the rank error bound")
+    void approximatesQuantiles() {
+        QuantileSketch sketch = new QuantileSketch();
+        // A shuffled permutation of 0..n-1, so the true rank of x is x / n
+        int[] scores = shuffledScores(new Random(17));
+        for (int score : scores) {
+            sketch.add(score);
+        }
+
+        assertThat(sketch.count()).isEqualTo(SCORES);
+        assertThat(sketch.quantile(0.0)).isEqualTo(0.0);
+        assertThat(sketch.quantile(1.0)).isEqualTo(SCORES - 1);
+        for (double fraction : new double[] { 0.1, 0.5, 0.9 }) {
+            assertThat(sketch.quantile(fraction) / SCORES).isCloseTo(fraction, within(0.03));
+            assertThat(sketch.rank(fraction * SCORES)).isCloseTo(fraction, within(0.03));
+        }
+        assertThat(sketch.toBytes().length).isLessThan(16 * 1024);
+    }
+
+    @Test
+    @DisplayName("merges sketches of disjoint streams into the sketch of their union")
+    void mergesShards() {
+        QuantileSketch[] shards = new QuantileSketch[8];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new QuantileSketch();
+        }
+        int[] scores = shuffledScores(new Random(18));
+        for (int i = 0; i < scores.length; i++) {
+            shards[i % shards.length].add(scores[i]);
+        }
+
+        QuantileSketch merged = new QuantileSketch();
+        for (QuantileSketch shard : shards) {
+            merged.merge(shard);
+        }
+
+        assertThat(merged.count()).isEqualTo(SCORES);
+        assertThat(merged.quantile(0.5) / SCORES).isCloseTo(0.5, within(0.03));
+        assertThat(merged.rank(0.9 * SCORES)).isCloseTo(0.9, within(0.03));
+    }
+
+    @Test
+    @DisplayName("round-trips through its serialized form")
+    void serializes() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add(i % 10);
+        }
+
+        QuantileSketch restored = QuantileSketch.fromBytes(sketch.toBytes());
+
+        assertThat(restored.count()).isEqualTo(sketch.count());
+        assertThat(restored.quantile(0.5)).isEqualTo(sketch.quantile(0.5));
+        assertThat(restored.rank(4.0)).isEqualTo(sketch.rank(4.0));
+        assertThat(QuantileSketch.fromBytes(new QuantileSketch().toBytes()).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("counts ties as half below")
+    void ranksTies() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (double score : new double[] { 4.0, 6.0, 8.0, 10.0 }) {
+            sketch.add(score);
+        }
+
+        assertThat(sketch.rank(8.0)).isEqualTo(0.625);
+        assertThat(sketch.rank(3.0)).isZero();
+        assertThat(sketch.rank(11.0)).isEqualTo(1.0);
+        assertThat(sketch.quantile(0.5)).isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("rejects queries on an empty sketch and malformed input")
+    void rejectsInvalidUse() {
+        assertThatThrownBy(() -> new QuantileSketch().quantile(0.5)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new QuantileSketch().add(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuantileSketch.fromBytes(new byte[] { 1, 0 }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int[] shuffledScores(Random random) {
+        int[] scores = new int[SCORES];
+        for (int i = 0; i < SCORES; i++) {
+            scores[i] = i;
+        }
+        for (int i = SCORES - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = scores[i];
+            scores[i] = scores[j];
+            scores[j] = swap;
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,209 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.AssignmentPersistencePort;
+import com.evaluationservice.application.port.out.CampaignProgressPort.AssignmentTotals;
+import com.evaluationservice.application.port.out.CampaignProgressPort.StepCount;
+import com.evaluationservice.domain.entity.CampaignAssignment;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.EvaluatorRole;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.adapter.CampaignAssignmentCounters.Counters;
+import com.evaluationservice.infrastructure.entity.CampaignEntity;
+import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
+import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import com.evaluationservice.infrastructure.service.AssignmentReconciliationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "evaluation.service.security.dev-mode=true",
+        "spring.datasource.url=jdbc:h2:mem:assignment-counters-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "eureka.client.enabled=false",
+        "evaluation.service.assignment.storage-mode=V2",
+        "evaluation.service.assignment.counter-fold-interval-ms=3600000"
+})
+@DisplayName("CampaignAssignmentCounters Integration")
+class CampaignAssignmentCountersIntegrationTest {
+
+    private static final CampaignId CAMPAIGN = CampaignId.of("camp-counters-1");
+
+    @Autowired
+    private AssignmentPersistencePort assignmentPersistencePort;
+
+    @Autowired
+    private CampaignAssignmentCounters counters;
+
+    @Autowired
+    private AssignmentReconciliationService reconciliationService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private CampaignAssignmentRepository assignmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setup() {
+        transaction = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("DELETE FROM campaign_counter_deltas");
+        jdbcTemplate.update("DELETE FROM campaign_step_counters");
+        assignmentRepository.deleteAll();
+        campaignRepository.deleteAll();
+        seedCampaign();
+        transaction.executeWithoutResult(status -> assignmentPersistencePort.upsertAssignments(CAMPAIGN, List.of(
+                assignment("a-peer-1", "PEER"),
+                assignment("a-peer-2", "PEER"),
+                assignment("a-self-1", "SELF"),
+                assignment("a-none-1", null))));
+    }
+
+    @Test
+    @DisplayName("counts each completion once and takes reopened assignments back out")
+    void followsCompletions() {
+        transaction.executeWithoutResult(status -> {
+            assignmentPersistencePort.markCompleted("a-peer-1", "eval-1");
+            assignmentPersistencePort.markCompleted("a-peer-1", "eval-1b");
+            assignmentPersistencePort.markCompletedAll(Map.of("a-self-1", "eval-2", "a-peer-1", "eval-1c"));
+        });
+
+        assertThat(stored()).isEqualTo(new Counters(4, 2, List.of(
+                new StepCount("NONE", 1, 0),
+                new StepCount("PEER", 2, 1),
+                new StepCount("SELF", 1, 1))));
+
+        transaction.executeWithoutResult(status -> {
+            assignmentPersistencePort.markReopened("a-peer-1");
+            assignmentPersistencePort.markReopened("a-peer-1");
+        });
+
+        assertThat(stored().completedAssignments()).isEqualTo(1);
+        assertThat(stored()).isEqualTo(counters.count(CAMPAIGN.value()));
+    }
+
+    @Test
+    @DisplayName("appends completions as deltas and folds them into the step counters")
+    void foldsDeltas() {
+        transaction.executeWithoutResult(status -> {
+            assignmentPersistencePort.markCompleted("a-peer-1", "eval-1");
+            assignmentPersistencePort.markCompleted("a-peer-2", "eval-2");
+            assignmentPersistencePort.markReopened("a-peer-2");
+        });
+
+        assertThat(pendingDeltas()).isEqualTo(3);
+        assertThat(storedCompleted("PEER")).isZero();
+        assertThat(stored().completedAssignments()).isEqualTo(1);
+        assertThat(counters.findTotals(List.of(CAMPAIGN.value(), "camp-missing")))
+                .containsExactly(Map.entry(CAMPAIGN.value(), new AssignmentTotals(4, 1)));
+
+        assertThat(counters.fold(2)).isEqualTo(2);
+        assertThat(counters.fold(2)).isEqualTo(1);
+        assertThat(counters.fold(2)).isZero();
+
+        assertThat(pendingDeltas()).isZero();
+        assertThat(storedCompleted("PEER")).isEqualTo(1);
+        assertThat(stored()).isEqualTo(counters.count(CAMPAIGN.value()));
+    }
+
+    @Test
+    @DisplayName("recounts on replace")
+    void recountsOnReplace() {
+        transaction.executeWithoutResult(status -> assignmentPersistencePort.replaceAssignments(CAMPAIGN, List.of(
+                assignment("a-self-9", "SELF"))));
+
+        assertThat(stored()).isEqualTo(new Counters(1, 0, List.of(new StepCount("SELF", 1, 0))));
+    }
+
+    @Test
+    @DisplayName("reports drifted counters and repairs them on request")
+    void reportsAndRepairsDrift() {
+        assertThat(reconciliationService.checkCounters(CAMPAIGN.value(), false).consistent()).isTrue();
+
+        jdbcTemplate.update("UPDATE campaign_step_counters SET completed_assignments = 3 WHERE step_type = 'PEER'");
+        jdbcTemplate.update("DELETE FROM campaign_step_counters WHERE step_type = 'SELF'");
+
+        var check = reconciliationService.checkCounters(CAMPAIGN.value(), false);
+        assertThat(check.consistent()).isFalse();
+        assertThat(check.repaired()).isFalse();
+        assertThat(check.storedCompleted()).isEqualTo(3);
+        assertThat(check.countedCompleted()).isZero();
+        assertThat(check.storedTotal()).isEqualTo(3);
+        assertThat(check.driftedSteps()).containsExactly("PEER", "SELF");
+
+        assertThat(reconciliationService.checkCounters(CAMPAIGN.value(), true).repaired()).isTrue();
+        assertThat(reconciliationService.checkCounters(CAMPAIGN.value(), false).consistent()).isTrue();
+    }
+
+    private Counters stored() {
+        return counters.find(CAMPAIGN.value()).orElseThrow();
+    }
+
+    private long pendingDeltas() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM campaign_counter_deltas", Long.class);
+    }
+
+    private long storedCompleted(String stepType) {
+        return jdbcTemplate.queryForObject(
+                "SELECT completed_assignments FROM campaign_step_counters WHERE campaign_id = ? AND step_type = ?",
+                Long.class, CAMPAIGN.value(), stepType);
+    }
+
+    private static CampaignAssignment assignment(String id, String stepType) {
+        return new CampaignAssignment(
+                id, CAMPAIGN, "evaluator-" + id, "evaluatee-" + id, EvaluatorRole.PEER,
+                false, null, stepType, null, null, null, null);
+    }
+
+    private void seedCampaign() {
+        Instant now = Instant.now();
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(CAMPAIGN.value());
+        campaign.setName("Counters Review");
+        campaign.setTemplateId("tmpl-counters-1");
+        campaign.setTemplateVersion(1);
+        campaign.setStatus(CampaignStatus.ACTIVE.name());
+        campaign.setStartDate(now.minus(1, ChronoUnit.DAYS));
+        campaign.setEndDate(now.plus(14, ChronoUnit.DAYS));
+        campaign.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        campaign.setAnonymousMode(false);
+        campaign.setAnonymousRolesJson("[]");
+        campaign.setMinimumRespondents(1);
+        campaign.setAudienceSourceType("INLINE");
+        campaign.setAudienceSourceConfigJson("{}");
+        campaign.setAssignmentRuleType("ALL_TO_ALL");
+        campaign.setAssignmentRuleConfigJson("{}");
+        campaign.setAssignmentsJson("[]");
+        campaign.setCreatedBy("it-test");
+        campaign.setCreatedAt(now);
+        campaign.setUpdatedAt(now);
+        campaignRepository.save(campaign);
+    }
+}
@@ -0,0 +1,84 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.EvaluatorInboxPort.InboxFilter;
+import com.evaluationservice.application.port.out.EvaluatorInboxPort.InboxRow;
+import com.evaluationservice.domain.entity.Campaign;
+import com.evaluationservice.domain.entity.CampaignAssignment;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.EvaluatorRole;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.DateRange;
+import com.evaluationservice.domain.value.TemplateId;
+import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EvaluatorInboxAdapter")
+class EvaluatorInboxAdapterTest {
+
+    @Test
+    @DisplayName("loads the evaluator's campaigns once for the full inbox in JSON mode")
+    void loadsCampaignsOnceInJsonMode() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        CampaignPersistencePort campaignPort = mock(CampaignPersistencePort.class);
+        EvaluationServiceProperties props = new EvaluationServiceProperties();
+        props.getAssignment().setStorageMode(EvaluationServiceProperties.AssignmentStorageMode.JSON);
+
+        // More rows than one 500-row page, split over campaigns due in reverse load order
+        when(campaignPort.findByEvaluatorId("u1")).thenReturn(List.of(
+                campaign("c-late", Instant.parse("2026-12-31T00:00:00Z"), 700),
+                campaign("c-soon", Instant.parse("2026-11-30T00:00:00Z"), 400)));
+
+        EvaluatorInboxAdapter adapter = new EvaluatorInboxAdapter(jdbcTemplate, campaignPort, props);
+        List<InboxRow> rows = adapter.findAll("u1", new InboxFilter(null, null));
+
+        assertThat(rows).hasSize(1_100);
+        assertThat(rows.getFirst().campaignId()).isEqualTo("c-soon");
+        assertThat(rows.getLast().campaignId()).isEqualTo("c-late");
+        verify(campaignPort, times(1)).findByEvaluatorId("u1");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private Campaign campaign(String id, Instant endDate, int assignmentCount) {
+        List<CampaignAssignment> assignments = new ArrayList<>(assignmentCount);
+        for (int i = 0; i < assignmentCount; i++) {
+            assignments.add(new CampaignAssignment(
+                    String.format("%s-a%04d", id, i), CampaignId.of(id), "u1", "e" + i, EvaluatorRole.PEER, false, null));
+        }
+        assignments.add(new CampaignAssignment(
+                id + "-other", CampaignId.of(id), "u2", "e-other", EvaluatorRole.PEER, false, null));
+        return new Campaign(
+                CampaignId.of(id),
+                "Campaign " + id,
+                null,
+                TemplateId.of("t1"),
+                1,
+                CampaignStatus.ACTIVE,
+                DateRange.of(Instant.parse("2026-01-01T00:00:00Z"), endDate),
+                ScoringMethod.WEIGHTED_AVERAGE,
+                false,
+                EnumSet.noneOf(EvaluatorRole.class),
+                1,
+                "INLINE",
+                Map.of(),
+                "ALL_TO_ALL",
+                Map.of(),
+                assignments,
+                "tester",
+                Timestamp.now(),
+                Timestamp.now());
+    }
+}
@@ -0,0 +1,182 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.EvaluationPersistencePort;
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.application.service.ScoreAggregateService;
+import com.evaluationservice.domain.entity.Evaluation;
+import com.evaluationservice.domain.entity.SectionScore;
+import com.evaluationservice.domain.enums.EvaluationStatus;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.domain.value.Score;
+import com.evaluationservice.domain.value.ScoreAggregate;
+import com.evaluationservice.domain.value.Timestamp;
+import com.evaluationservice.infrastructure.repository.ScoreAggregateRepository;
+import com.evaluationservice.infrastructure.repository.ScoreSketchRebuildRepository;
+import com.evaluationservice.infrastructure.repository.ScoreSketchRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ScoreAggregateAdapter PostgreSQL Integration")
+class ScoreAggregateAdapterPostgresIntegrationTest {
+
+    private static final CampaignId CAMPAIGN = CampaignId.of("camp-agg-it");
+    private static final String[] SECTIONS = { "Leadership", "Team, Work", "Delivery" };
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("evaluation_aggregates_it")
+            .withUsername("eval")
+            .withPassword("eval");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.update("""
+                INSERT INTO templates (id, name, status, current_version, scoring_method, created_by, created_at, updated_at)
+                VALUES ('tmpl-agg-it', 'Template IT', 'PUBLISHED', 1, 'WEIGHTED_AVERAGE', 'it', NOW(), NOW())
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO campaigns (
+                  id, name, template_id, template_version, status, start_date, end_date, scoring_method,
+                  anonymous_mode, minimum_respondents, assignments_json, created_by, created_at, updated_at
+                ) VALUES (
+                  ?, 'Campaign IT', 'tmpl-agg-it', 1, 'ACTIVE', NOW(), NOW() + INTERVAL '1 day',
+                  'WEIGHTED_AVERAGE', false, 1, '[]', 'it', NOW(), NOW()
+                )
+                """, CAMPAIGN.value());
+    }
+
+    @Test
+    @DisplayName("rebuilds the same aggregates in SQL as the service's in-memory rebuild")
+    void rebuildMatchesInMemoryRebuild() {
+        Random random = new Random(16);
+        List<Evaluation> evaluations = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            String evaluateeId = "evaluatee-" + (i % 25);
+            // Every fifth evaluation is still a draft and must not count
+            EvaluationStatus status = i % 5 != 0 ? EvaluationStatus.COMPLETED : EvaluationStatus.DRAFT;
+            double total = Math.round(random.nextDouble() * 1000) / 100.0;
+            List<SectionScore> sectionScores = new ArrayList<>();
+            StringBuilder sections = new StringBuilder("[");
+            for (int s = 0; s < SECTIONS.length; s++) {
+                double score = Math.round(random.nextDouble() * 1000) / 100.0;
+                sectionScores.add(new SectionScore("s" + s, SECTIONS[s], Score.of(score), Score.of(10), 1, 1));
+                sections.append(s > 0 ? "," : "")
+                        .append("{\"sectionId\":\"s").append(s)
+                        .append("\",\"sectionTitle\":\"").append(SECTIONS[s])
+                        .append("\",\"score\":{\"value\":").append(score).append("}}");
+            }
+            sections.append("]");
+            evaluations.add(new Evaluation(
+                    EvaluationId.of("eval-" + i), CAMPAIGN, "assign-" + i, "evaluator-" + i, evaluateeId,
+                    "tmpl-agg-it", status, List.of(), Score.of(total), sectionScores,
+                    Timestamp.now(), Timestamp.now(), null));
+            rows.add(new Object[] {
+                    "eval-" + i, CAMPAIGN.value(), "assign-" + i, "evaluator-" + i, evaluateeId,
+                    status.name(), total, sections.toString() });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO evaluations (
+                  id, campaign_id, assignment_id, evaluator_id, evaluatee_id, template_id,
+                  status, total_score, section_scores_json)
+                VALUES (?, ?, ?, ?, ?, 'tmpl-agg-it', ?, ?, ?)
+                """, rows);
+
+        ScoreAggregateAdapter adapter = new ScoreAggregateAdapter(
+                mock(ScoreAggregateRepository.class),
+                mock(ScoreSketchRepository.class),
+                mock(ScoreSketchRebuildRepository.class),
+                jdbcTemplate);
+        assertThat(adapter.rebuildFromEvaluations(CAMPAIGN)).hasValue(480);
+
+        Map<String, Map<String, ScoreAggregate>> expected = rebuildInMemory(evaluations);
+        Map<String, Map<String, ScoreAggregate>> actual = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT evaluatee_id, section_key, score_count, score_sum, score_sum_squares, score_min, score_max
+                  FROM score_aggregates
+                 WHERE campaign_id = ?
+                """, rs -> {
+            actual.computeIfAbsent(rs.getString("evaluatee_id"), k -> new HashMap<>())
+                    .put(rs.getString("section_key"), new ScoreAggregate(
+                            rs.getLong("score_count"),
+                            rs.getDouble("score_sum"),
+                            rs.getDouble("score_sum_squares"),
+                            rs.getDouble("score_min"),
+                            rs.getDouble("score_max")));
+        }, CAMPAIGN.value());
+
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        expected.forEach((evaluateeId, aggregates) -> {
+            assertThat(actual.get(evaluateeId).keySet()).isEqualTo(aggregates.keySet());
+            aggregates.forEach((sectionKey, aggregate) -> {
+                ScoreAggregate pushedDown = actual.get(evaluateeId).get(sectionKey);
+                assertThat(pushedDown.count()).isEqualTo(aggregate.count());
+                assertThat(pushedDown.sum()).isCloseTo(aggregate.sum(), within(1e-6));
+                assertThat(pushedDown.sumOfSquares()).isCloseTo(aggregate.sumOfSquares(), within(1e-6));
+                assertThat(pushedDown.min()).isEqualTo(aggregate.min());
+                assertThat(pushedDown.max()).isEqualTo(aggregate.max());
+            });
+        });
+    }
+
+    /**
+     * Aggregates the service writes when the store cannot rebuild in SQL,
+     * paging the same evaluations through the application.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, ScoreAggregate>> rebuildInMemory(List<Evaluation> evaluations) {
+        ScoreAggregatePersistencePort aggregatePort = mock(ScoreAggregatePersistencePort.class);
+        EvaluationPersistencePort evaluationPort = mock(EvaluationPersistencePort.class);
+        when(aggregatePort.rebuildFromEvaluations(CAMPAIGN)).thenReturn(OptionalInt.empty());
+        when(evaluationPort.findByCampaignId(eq(CAMPAIGN), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int page = invocation.getArgument(1);
+            int size = invocation.getArgument(2);
+            int from = Math.min(page * size, evaluations.size());
+            return evaluations.subList(from, Math.min(from + size, evaluations.size()));
+        });
+
+        ScoreAggregateService service = new ScoreAggregateService(
+                aggregatePort, evaluationPort, mock(ApplicationEventPublisher.class));
+        assertThat(service.rebuild(CAMPAIGN)).isEqualTo(480);
+
+        ArgumentCaptor<Map<String, Map<String, ScoreAggregate>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(aggregatePort).replaceCampaign(eq(CAMPAIGN), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,40 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.out.ScoreAggregatePersistencePort;
+import com.evaluationservice.domain.value.ScoreAggregate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScoreTrendAdapter")
+class ScoreTrendAdapterTest {
+
+    @Test
+    @DisplayName("round-trips aggregates through the columnar summary")
+    void roundTripsSummary() {
+        Map<String, ScoreAggregate> aggregates = Map.of(
+                ScoreAggregatePersistencePort.OVERALL, new ScoreAggregate(3, 21.0, 149.0, 6.0, 8.0),
+                "Leadership", ScoreAggregate.of(3.5),
+                "Équipe, Travail", new ScoreAggregate(2, 9.0, 41.0, 4.0, 5.0));
+
+        byte[] summary = ScoreTrendAdapter.encode(aggregates);
+
+        assertThat(ScoreTrendAdapter.decode(summary))
+                .containsExactlyEntriesOf(new TreeMap<>(aggregates));
+    }
+
+    @Test
+    @DisplayName("rejects truncated summaries")
+    void rejectsTruncated() {
+        byte[] summary = ScoreTrendAdapter.encode(Map.of("Leadership", ScoreAggregate.of(3.5)));
+
+        assertThatThrownBy(() -> ScoreTrendAdapter.decode(Arrays.copyOf(summary, summary.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
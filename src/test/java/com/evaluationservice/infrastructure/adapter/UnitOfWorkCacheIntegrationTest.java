@@ -0,0 +1,319 @@
+package com.evaluationservice.infrastructure.adapter;
+
+import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase;
+import com.evaluationservice.application.port.out.AssignmentPersistencePort;
+import com.evaluationservice.application.port.out.CampaignPersistencePort;
+import com.evaluationservice.application.port.out.TemplatePersistencePort;
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.enums.CampaignStatus;
+import com.evaluationservice.domain.enums.ScoringMethod;
+import com.evaluationservice.domain.enums.TemplateStatus;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.TemplateId;
+import com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity;
+import com.evaluationservice.infrastructure.entity.CampaignEntity;
+import com.evaluationservice.infrastructure.entity.EvaluationEntity;
+import com.evaluationservice.infrastructure.entity.TemplateEntity;
+import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
+import com.evaluationservice.infrastructure.repository.CampaignRepository;
+import com.evaluationservice.infrastructure.repository.EvaluationJpaRepository;
+import com.evaluationservice.infrastructure.repository.TemplateRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "evaluation.service.security.dev-mode=true",
+        "spring.datasource.url=jdbc:h2:mem:unit-of-work-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "eureka.client.enabled=false",
+        "evaluation.service.assignment.storage-mode=V2",
+        "evaluation.service.submission.lean-mode=true",
+        "evaluation.service.features.enable-step-windows=true"
+})
+@DisplayName("UnitOfWorkCache Integration")
+class UnitOfWorkCacheIntegrationTest {
+
+    private static final String TEMPLATE_ID = "tmpl-uow-1";
+    private static final String CAMPAIGN_ID = "camp-uow-1";
+
+    @Autowired
+    private EvaluationSubmissionUseCase submissionUseCase;
+
+    @Autowired
+    private CampaignPersistencePort campaignPersistencePort;
+
+    @Autowired
+    private AssignmentPersistencePort assignmentPersistencePort;
+
+    @Autowired
+    private TemplatePersistencePort templatePersistencePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private CampaignAssignmentRepository assignmentRepository;
+
+    @Autowired
+    private EvaluationJpaRepository evaluationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setup() {
+        evaluationRepository.deleteAll();
+        assignmentRepository.deleteAll();
+        campaignRepository.deleteAll();
+        templateRepository.deleteAll();
+        seedTemplate();
+        seedCampaign();
+    }
+
+    @Test
+    @DisplayName("pins the statement count of a lean single submission")
+    void pinsSubmitQueryCount() {
+        seedAssignment("assign-uow-warm", "evaluator-1", "evaluatee-1");
+        seedAssignment("assign-uow-1", "evaluator-2", "evaluatee-1");
+        // Warm the settings snapshot and the compiled scoring plan, and create the
+        // evaluatee's aggregate row so the measured submit takes the common increment path
+        submissionUseCase.submitEvaluation(command("assign-uow-warm", "evaluator-1", "evaluatee-1"));
+
+        Statistics statistics = statistics();
+        statistics.clear();
+        StatementCountingDataSource counter = (StatementCountingDataSource) dataSource;
+        counter.startCounting();
+        try {
+            submissionUseCase.submitEvaluation(command("assign-uow-1", "evaluator-2", "evaluatee-1"));
+        } finally {
+            counter.stopCounting();
+        }
+
+        // Through Hibernate: existing evaluation lookup, campaign header, assignment (shared
+        // by the ownership and step-window checks), template, merge select, evaluation insert,
+        // completion update.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+        // Plus JdbcTemplate: completion delta, aggregate increment and sketch buffer. The
+        // snapshot and trend listeners stop at the cached header of the open campaign, and
+        // the rollup rebuild request is only marked in memory.
+        assertThat(counter.statements()).isEqualTo(10);
+        assertThat(statistics.getEntityStatistics(CampaignAssignmentEntity.class.getName()).getLoadCount())
+                .isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(TemplateEntity.class.getName()).getLoadCount())
+                .isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(CampaignEntity.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(EvaluationEntity.class.getName()).getInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("returns the same aggregate instance within one transaction")
+    void reusesAggregatesWithinTransaction() {
+        seedAssignment("assign-uow-2", "evaluator-3", "evaluatee-3");
+        Statistics statistics = statistics();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            var campaign = campaignPersistencePort.findById(CampaignId.of(CAMPAIGN_ID)).orElseThrow();
+            var template = templatePersistencePort.findById(TemplateId.of(TEMPLATE_ID)).orElseThrow();
+            var assignment = assignmentPersistencePort.findById("assign-uow-2").orElseThrow();
+            statistics.clear();
+
+            // The relational assignment list is a non-PK query the persistence context would re-run
+            assertThat(campaignPersistencePort.findById(CampaignId.of(CAMPAIGN_ID)).orElseThrow())
+                    .isSameAs(campaign);
+            assertThat(templatePersistencePort.findById(TemplateId.of(TEMPLATE_ID)).orElseThrow())
+                    .isSameAs(template);
+            assertThat(assignmentPersistencePort.findByIds(List.of("assign-uow-2")))
+                    .containsExactly(assignment);
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+
+            assignmentPersistencePort.markCompleted("assign-uow-2", "eval-uow-2");
+            // Bulk updates evict, so the next lookup maps the row again
+            assertThat(assignmentPersistencePort.findById("assign-uow-2").orElseThrow()).isNotSameAs(assignment);
+        });
+
+        transaction.executeWithoutResult(status -> assertThat(
+                campaignPersistencePort.findById(CampaignId.of(CAMPAIGN_ID)).orElseThrow().getAssignments())
+                .allMatch(a -> a.isCompleted()));
+    }
+
+    /**
+     * Counts statements prepared on the counting thread, across Hibernate and
+     * JdbcTemplate alike; background schedulers run on other threads.
+     */
+    static final class StatementCountingDataSource extends DelegatingDataSource {
+
+        private final AtomicLong statements = new AtomicLong();
+        private volatile Thread countingThread;
+
+        StatementCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        void startCounting() {
+            statements.set(0);
+            countingThread = Thread.currentThread();
+        }
+
+        void stopCounting() {
+            countingThread = null;
+        }
+
+        long statements() {
+            return statements.get();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (Thread.currentThread() == countingThread
+                                && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                            statements.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource target && !(bean instanceof StatementCountingDataSource)
+                            ? new StatementCountingDataSource(target)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private EvaluationSubmissionUseCase.SubmitEvaluationCommand command(
+            String assignmentId, String evaluatorId, String evaluateeId) {
+        return new EvaluationSubmissionUseCase.SubmitEvaluationCommand(
+                CampaignId.of(CAMPAIGN_ID),
+                assignmentId,
+                evaluatorId,
+                evaluateeId,
+                TEMPLATE_ID,
+                List.of(new Answer(UUID.randomUUID().toString(), "q1", 8, List.of(), null, Map.of())));
+    }
+
+    private void seedTemplate() {
+        TemplateEntity template = new TemplateEntity();
+        template.setId(TEMPLATE_ID);
+        template.setName("Unit Of Work Template");
+        template.setDescription("Template for unit-of-work integration tests");
+        template.setCategory("INTEGRATION");
+        template.setStatus(TemplateStatus.PUBLISHED.name());
+        template.setCurrentVersion(1);
+        template.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        template.setSectionsJson("[]");
+        template.setCreatedBy("it-test");
+        template.setCreatedAt(Instant.now());
+        template.setUpdatedAt(Instant.now());
+        templateRepository.save(template);
+    }
+
+    private void seedCampaign() {
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(CAMPAIGN_ID);
+        campaign.setName("Unit Of Work Campaign");
+        campaign.setTemplateId(TEMPLATE_ID);
+        campaign.setTemplateVersion(1);
+        campaign.setStatus(CampaignStatus.ACTIVE.name());
+        campaign.setStartDate(Instant.now().minusSeconds(3600));
+        campaign.setEndDate(Instant.now().plusSeconds(86400));
+        campaign.setScoringMethod(ScoringMethod.WEIGHTED_AVERAGE.name());
+        campaign.setAnonymousMode(false);
+        campaign.setAnonymousRolesJson("[]");
+        campaign.setMinimumRespondents(1);
+        campaign.setAudienceSourceType("INLINE");
+        campaign.setAudienceSourceConfigJson("{}");
+        campaign.setAssignmentRuleType("ALL_TO_ALL");
+        campaign.setAssignmentRuleConfigJson("{}");
+        campaign.setAssignmentsJson("[]");
+        campaign.setCreatedBy("it-test");
+        campaign.setCreatedAt(Instant.now());
+        campaign.setUpdatedAt(Instant.now());
+        campaignRepository.save(campaign);
+    }
+
+    private void seedAssignment(String assignmentId, String evaluatorId, String evaluateeId) {
+        CampaignAssignmentEntity assignment = new CampaignAssignmentEntity();
+        assignment.setId(assignmentId);
+        assignment.setCampaignId(CAMPAIGN_ID);
+        assignment.setEvaluatorId(evaluatorId);
+        assignment.setEvaluateeId(evaluateeId);
+        assignment.setEvaluatorRole("PEER");
+        assignment.setCompleted(false);
+        assignment.setEvaluationId(null);
+        assignment.setStatus("ACTIVE");
+        assignment.setCreatedAt(Instant.now());
+        assignment.setUpdatedAt(Instant.now());
+        assignmentRepository.save(assignment);
+    }
+}
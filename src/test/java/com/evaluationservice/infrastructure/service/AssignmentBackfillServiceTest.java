@@ -1,5 +1,6 @@
 package com.evaluationservice.infrastructure.service;
 
+import com.evaluationservice.infrastructure.adapter.CampaignAssignmentCounters;
 import com.evaluationservice.infrastructure.entity.CampaignEntity;
 import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
 import com.evaluationservice.infrastructure.repository.CampaignRepository;
@@ -23,7 +24,8 @@ class AssignmentBackfillServiceTest {
     void backfillsValidAssignmentsAndSkipsExisting() {
         CampaignRepository campaignRepository = mock(CampaignRepository.class);
         CampaignAssignmentRepository assignmentRepository = mock(CampaignAssignmentRepository.class);
-        AssignmentBackfillService service = new AssignmentBackfillService(campaignRepository, assignmentRepository);
+        CampaignAssignmentCounters counters = mock(CampaignAssignmentCounters.class);
+        AssignmentBackfillService service = new AssignmentBackfillService(campaignRepository, assignmentRepository, counters);
 
         CampaignEntity campaign = new CampaignEntity();
         campaign.setId("c-1");
@@ -53,6 +55,7 @@ class AssignmentBackfillServiceTest {
         assertThat(result.skippedExistingAssignments()).isEqualTo(1);
         assertThat(result.insertedAssignments()).isEqualTo(1);
         verify(assignmentRepository).saveAll(any());
+        verify(counters).recount("c-1");
     }
 
     private com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity existingAssignment(String id) {
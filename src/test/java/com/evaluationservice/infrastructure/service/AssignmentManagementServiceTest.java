@@ -2,6 +2,7 @@ package com.evaluationservice.infrastructure.service;
 
 import com.evaluationservice.api.dto.request.CreateAssignmentRequest;
 import com.evaluationservice.api.exception.DuplicateAssignmentException;
+import com.evaluationservice.infrastructure.adapter.CampaignAssignmentCounters;
 import com.evaluationservice.infrastructure.entity.CampaignAssignmentEntity;
 import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
 import com.evaluationservice.infrastructure.repository.CampaignRepository;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -24,12 +26,16 @@ class AssignmentManagementServiceTest {
     private CampaignAssignmentRepository assignmentRepository;
     @Mock
     private CampaignRepository campaignRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private CampaignAssignmentCounters counters;
 
     private AssignmentManagementService service;
 
     @BeforeEach
     void setUp() {
-        service = new AssignmentManagementService(assignmentRepository, campaignRepository);
+        service = new AssignmentManagementService(assignmentRepository, campaignRepository, eventPublisher, counters);
     }
 
     @Test
@@ -0,0 +1,150 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.application.service.DeferredScoringService;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AsyncScoringWorkerPool")
+class AsyncScoringWorkerPoolTest {
+
+    @Test
+    @DisplayName("scores queued evaluations on a worker and records the outcome")
+    void scoresQueuedEvaluations() {
+        DeferredScoringService deferredScoringService = mock(DeferredScoringService.class);
+        when(deferredScoringService.completeScoring(any())).thenReturn(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AsyncScoringWorkerPool pool = new AsyncScoringWorkerPool(deferredScoringService, properties(2, 10), meterRegistry);
+        pool.start();
+        try {
+            pool.enqueueAfterCommit(EvaluationId.of("eval-1"));
+            pool.enqueueAfterCommit(EvaluationId.of("eval-2"));
+
+            verify(deferredScoringService, timeout(5_000)).completeScoring(EvaluationId.of("eval-1"));
+            verify(deferredScoringService, timeout(5_000)).completeScoring(EvaluationId.of("eval-2"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("reports no capacity once the queue is full and leaves overflow for recovery")
+    void appliesBackpressureWhenFull() throws Exception {
+        DeferredScoringService deferredScoringService = mock(DeferredScoringService.class);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(deferredScoringService.completeScoring(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AsyncScoringWorkerPool pool = new AsyncScoringWorkerPool(deferredScoringService, properties(1, 1), meterRegistry);
+        pool.start();
+        try {
+            pool.enqueueAfterCommit(EvaluationId.of("eval-busy"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            pool.enqueueAfterCommit(EvaluationId.of("eval-waiting"));
+
+            assertThat(pool.queueDepth()).isEqualTo(1);
+            assertThat(pool.hasCapacity()).isFalse();
+            assertThat(meterRegistry.get("evaluation.scoring.queue.depth").gauge().value()).isEqualTo(1.0d);
+
+            pool.enqueueAfterCommit(EvaluationId.of("eval-overflow"));
+            assertThat(meterRegistry.counter("evaluation.scoring.jobs", "result", "deferred").count()).isEqualTo(1.0d);
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("re-queues evaluations left in SCORING")
+    void resumesStalledEvaluations() {
+        DeferredScoringService deferredScoringService = mock(DeferredScoringService.class);
+        when(deferredScoringService.findStalledScoring(any(Instant.class), anyInt()))
+                .thenReturn(List.of(EvaluationId.of("eval-a"), EvaluationId.of("eval-b")));
+        when(deferredScoringService.completeScoring(any())).thenReturn(true);
+        AsyncScoringWorkerPool pool = new AsyncScoringWorkerPool(
+                deferredScoringService, properties(1, 10), new SimpleMeterRegistry());
+        pool.start();
+        try {
+            assertThat(pool.resumeStalled(Instant.now())).isEqualTo(2);
+
+            verify(deferredScoringService, timeout(5_000)).completeScoring(EvaluationId.of("eval-a"));
+            verify(deferredScoringService, timeout(5_000)).completeScoring(EvaluationId.of("eval-b"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("does not score before the workers are started")
+    void waitsForStart() {
+        DeferredScoringService deferredScoringService = mock(DeferredScoringService.class);
+        when(deferredScoringService.completeScoring(any())).thenReturn(true);
+        AsyncScoringWorkerPool pool = new AsyncScoringWorkerPool(
+                deferredScoringService, properties(1, 10), new SimpleMeterRegistry());
+        try {
+            pool.enqueueAfterCommit(EvaluationId.of("eval-early"));
+            verify(deferredScoringService, after(200).never()).completeScoring(any());
+
+            pool.start();
+            verify(deferredScoringService, timeout(5_000)).completeScoring(EvaluationId.of("eval-early"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("records failed attempts and counts dead-lettered evaluations")
+    void recordsFailures() throws Exception {
+        DeferredScoringService deferredScoringService = mock(DeferredScoringService.class);
+        when(deferredScoringService.completeScoring(any())).thenThrow(new IllegalStateException("boom"));
+        when(deferredScoringService.recordFailure(any(), anyString(), anyInt(), any(Duration.class))).thenReturn(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EvaluationServiceProperties properties = properties(1, 10);
+        properties.getSubmission().setScoringMaxAttempts(3);
+        properties.getSubmission().setScoringRetryDelayMs(1_000);
+        AsyncScoringWorkerPool pool = new AsyncScoringWorkerPool(deferredScoringService, properties, meterRegistry);
+        pool.start();
+        try {
+            pool.enqueueAfterCommit(EvaluationId.of("eval-broken"));
+
+            verify(deferredScoringService, timeout(5_000))
+                    .recordFailure(EvaluationId.of("eval-broken"), "boom", 3, Duration.ofSeconds(1));
+            verify(deferredScoringService, timeout(5_000).times(1)).completeScoring(any());
+            await(() -> meterRegistry.counter("evaluation.scoring.dead_lettered").count() == 1.0d);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private EvaluationServiceProperties properties(int workers, int queueCapacity) {
+        EvaluationServiceProperties properties = new EvaluationServiceProperties();
+        properties.getSubmission().setScoringWorkers(workers);
+        properties.getSubmission().setScoringQueueCapacity(queueCapacity);
+        return properties;
+    }
+}
@@ -1,6 +1,7 @@
 package com.evaluationservice.infrastructure.service;
 
 import com.evaluationservice.application.port.in.EvaluationSubmissionUseCase;
+import com.evaluationservice.application.port.out.AssignmentPersistencePort;
 import com.evaluationservice.domain.entity.Evaluation;
 import com.evaluationservice.domain.enums.EvaluationStatus;
 import com.evaluationservice.domain.value.CampaignId;
@@ -16,7 +17,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,12 +33,15 @@ class EvaluationAdminServiceTest {
     private CampaignAssignmentRepository assignmentRepository;
     @Mock
     private CampaignRepository campaignRepository;
+    @Mock
+    private AssignmentPersistencePort assignmentPersistencePort;
 
     private EvaluationAdminService service;
 
     @BeforeEach
     void setUp() {
-        service = new EvaluationAdminService(evaluationUseCase, assignmentRepository, campaignRepository);
+        service = new EvaluationAdminService(
+                evaluationUseCase, assignmentRepository, campaignRepository, assignmentPersistencePort);
     }
 
     @Test
@@ -96,14 +99,9 @@ class EvaluationAdminServiceTest {
                 Timestamp.now(),
                 null);
         when(evaluationUseCase.reopenEvaluation(EvaluationId.of("ev1"))).thenReturn(evaluation);
-        when(assignmentRepository.markReopened(
-                org.mockito.ArgumentMatchers.eq("a1"),
-                org.mockito.ArgumentMatchers.any(Instant.class))).thenReturn(1);
 
         service.reopenSubmission("ev1");
 
-        verify(assignmentRepository).markReopened(
-                org.mockito.ArgumentMatchers.eq("a1"),
-                org.mockito.ArgumentMatchers.any(Instant.class));
+        verify(assignmentPersistencePort).markReopened("a1");
     }
 }
@@ -0,0 +1,128 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.api.dto.response.EvaluatorDashboardResponse;
+import com.evaluationservice.domain.event.EvaluationDraftSavedEvent;
+import com.evaluationservice.domain.event.EvaluationSubmittedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import com.evaluationservice.infrastructure.repository.CampaignAssignmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("EvaluatorDashboardService")
+class EvaluatorDashboardServiceTest {
+
+    private CampaignAssignmentRepository assignmentRepository;
+    private EvaluationServiceProperties properties;
+    private EvaluatorDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        assignmentRepository = mock(CampaignAssignmentRepository.class);
+        properties = new EvaluationServiceProperties();
+        properties.getDashboard().setEvaluatorSummaryTtlMs(60_000);
+        service = new EvaluatorDashboardService(assignmentRepository, properties);
+        when(assignmentRepository.countDashboardByEvaluatorId("evaluator-1")).thenReturn(List.of(
+                new Object[] { "ASSIGNMENT", "COMPLETED", 3L },
+                new Object[] { "ASSIGNMENT", "PENDING", 5L },
+                new Object[] { "EVALUATION", "DRAFT", 2L },
+                new Object[] { "EVALUATION", "SCORING", 1L },
+                new Object[] { "EVALUATION", "COMPLETED", 2L },
+                new Object[] { "EVALUATION", "INVALIDATED", 4L }));
+    }
+
+    @Test
+    @DisplayName("folds the grouped counts into the summary")
+    void foldsGroupedCounts() {
+        EvaluatorDashboardResponse summary = service.getSummary("evaluator-1");
+
+        assertThat(summary.assignedCount()).isEqualTo(8);
+        assertThat(summary.completedCount()).isEqualTo(3);
+        assertThat(summary.pendingCount()).isEqualTo(5);
+        assertThat(summary.draftCount()).isEqualTo(2);
+        assertThat(summary.submittedCount()).isEqualTo(3);
+        assertThat(summary.completionPercentage()).isEqualTo(37.5);
+    }
+
+    @Test
+    @DisplayName("serves repeat requests from the cache until the evaluator submits or saves a draft")
+    void cachesUntilInvalidated() {
+        service.getSummary("evaluator-1");
+        service.getSummary("evaluator-1");
+        verify(assignmentRepository, times(1)).countDashboardByEvaluatorId("evaluator-1");
+
+        service.onEvaluationSubmitted(EvaluationSubmittedEvent.of(
+                EvaluationId.of("eval-1"), CampaignId.of("camp-1"), "evaluator-1", "evaluatee-1"));
+        service.getSummary("evaluator-1");
+        verify(assignmentRepository, times(2)).countDashboardByEvaluatorId("evaluator-1");
+
+        service.onDraftSaved(EvaluationDraftSavedEvent.of(
+                EvaluationId.of("eval-2"), CampaignId.of("camp-1"), "evaluator-1"));
+        service.getSummary("evaluator-1");
+        verify(assignmentRepository, times(3)).countDashboardByEvaluatorId("evaluator-1");
+    }
+
+    @Test
+    @DisplayName("queries every time when caching is disabled")
+    void bypassesCacheWhenDisabled() {
+        properties.getDashboard().setEvaluatorSummaryTtlMs(0);
+
+        service.getSummary("evaluator-1");
+        service.getSummary("evaluator-1");
+
+        verify(assignmentRepository, times(2)).countDashboardByEvaluatorId("evaluator-1");
+    }
+
+    @Test
+    @DisplayName("keeps caching while other evaluators submit")
+    void ignoresOtherEvaluatorsWrites() {
+        when(assignmentRepository.countDashboardByEvaluatorId("evaluator-1")).thenAnswer(invocation -> {
+            service.invalidate("evaluator-2");
+            return List.of();
+        });
+
+        service.getSummary("evaluator-1");
+        service.getSummary("evaluator-1");
+
+        verify(assignmentRepository, times(1)).countDashboardByEvaluatorId("evaluator-1");
+    }
+
+    @Test
+    @DisplayName("does not cache a summary loaded while the evaluator submitted")
+    void discardsSummaryInvalidatedWhileLoading() {
+        when(assignmentRepository.countDashboardByEvaluatorId("evaluator-1")).thenAnswer(invocation -> {
+            service.invalidate("evaluator-1");
+            return List.of();
+        });
+
+        service.getSummary("evaluator-1");
+        service.getSummary("evaluator-1");
+
+        verify(assignmentRepository, times(2)).countDashboardByEvaluatorId("evaluator-1");
+    }
+
+    @Test
+    @DisplayName("evicts the oldest summaries once the cache is full")
+    void evictsOldestWhenFull() {
+        properties.getDashboard().setEvaluatorSummaryMaxEntries(2);
+
+        service.getSummary("evaluator-1");
+        service.getSummary("evaluator-2");
+        service.getSummary("evaluator-3");
+        service.getSummary("evaluator-3");
+        service.getSummary("evaluator-1");
+
+        verify(assignmentRepository, times(1)).countDashboardByEvaluatorId("evaluator-3");
+        verify(assignmentRepository, times(2)).countDashboardByEvaluatorId("evaluator-1");
+    }
+}
@@ -0,0 +1,121 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.domain.entity.Answer;
+import com.evaluationservice.domain.value.EvaluationId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryDraftAnswerBuffer")
+class InMemoryDraftAnswerBufferTest {
+
+    private static final EvaluationId EVAL = EvaluationId.of("eval-1");
+
+    @Test
+    @DisplayName("keeps the latest change per question and counts the writes it saved")
+    void coalescesChangesPerQuestion() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemoryDraftAnswerBuffer buffer = new InMemoryDraftAnswerBuffer(properties(10), meterRegistry);
+
+        buffer.buffer(EVAL, answer("q1", 1));
+        buffer.buffer(EVAL, answer("q2", 2));
+        buffer.buffer(EVAL, answer("q1", 3));
+
+        assertThat(buffer.isBuffered(EVAL)).isTrue();
+        assertThat(buffer.pending(EVAL)).extracting(Answer::value).containsExactly(3, 2);
+        assertThat(meterRegistry.get("evaluation.draft.autosave.pending").gauge().value()).isEqualTo(1.0d);
+
+        assertThat(buffer.drain(EVAL)).extracting(Answer::questionId).containsExactly("q1", "q2");
+        assertThat(buffer.isBuffered(EVAL)).isFalse();
+        assertThat(buffer.drain(EVAL)).isEmpty();
+        assertThat(meterRegistry.get("evaluation.draft.autosave.writes.saved").counter().count()).isEqualTo(2.0d);
+        assertThat(meterRegistry.get("evaluation.draft.autosave.deltas").tag("result", "buffered").counter().count())
+                .isEqualTo(3.0d);
+    }
+
+    @Test
+    @DisplayName("refuses new drafts once full so the caller writes through")
+    void writesThroughWhenFull() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemoryDraftAnswerBuffer buffer = new InMemoryDraftAnswerBuffer(properties(1), meterRegistry);
+
+        assertThat(buffer.buffer(EVAL, answer("q1", 1))).isTrue();
+        assertThat(buffer.buffer(EvaluationId.of("eval-2"), answer("q1", 1))).isFalse();
+        // Drafts already buffered keep coalescing
+        assertThat(buffer.buffer(EVAL, answer("q2", 1))).isTrue();
+        assertThat(meterRegistry.get("evaluation.draft.autosave.deltas").tag("result", "write_through").counter().count())
+                .isEqualTo(1.0d);
+    }
+
+    @Test
+    @DisplayName("restores drained changes without overwriting newer ones")
+    void restoresAfterFailedWrite() {
+        InMemoryDraftAnswerBuffer buffer = new InMemoryDraftAnswerBuffer(properties(10), new SimpleMeterRegistry());
+        buffer.buffer(EVAL, answer("q1", 1));
+        buffer.buffer(EVAL, answer("q2", 2));
+        List<Answer> drained = buffer.drain(EVAL);
+
+        buffer.buffer(EVAL, answer("q1", 5));
+        buffer.restore(EVAL, drained);
+
+        assertThat(buffer.pending(EVAL)).extracting(Answer::value).containsExactly(5, 2);
+    }
+
+    @Test
+    @DisplayName("puts changes drained for a transaction back when it rolls back")
+    void restoresTransactionalDrainOnRollback() {
+        InMemoryDraftAnswerBuffer buffer = new InMemoryDraftAnswerBuffer(properties(10), new SimpleMeterRegistry());
+        buffer.buffer(EVAL, answer("q1", 1));
+        buffer.buffer(EvaluationId.of("eval-2"), answer("q1", 2));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(buffer.drainForTransaction(EVAL)).extracting(Answer::value).containsExactly(1);
+            assertThat(buffer.drainForTransaction(EvaluationId.of("eval-2"))).hasSize(1);
+            assertThat(buffer.isBuffered(EVAL)).isFalse();
+
+            List<TransactionSynchronization> synchronizations =
+                    TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.getFirst().afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            synchronizations.getLast().afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(buffer.pending(EVAL)).extracting(Answer::value).containsExactly(1);
+        assertThat(buffer.isBuffered(EvaluationId.of("eval-2"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("is due after the quiet period or the maximum delay")
+    void flushesOnQuietPeriodOrMaxDelay() {
+        InMemoryDraftAnswerBuffer buffer = new InMemoryDraftAnswerBuffer(properties(10), new SimpleMeterRegistry());
+        Instant start = Instant.now();
+        buffer.buffer(EVAL, answer("q1", 1));
+
+        assertThat(buffer.dueForFlush(start.minusSeconds(1))).isEmpty();
+        assertThat(buffer.dueForFlush(start.plusSeconds(3))).containsExactly(EVAL);
+        assertThat(buffer.bufferedIds()).containsExactly(EVAL);
+    }
+
+    private static Answer answer(String questionId, int value) {
+        return new Answer("a-" + questionId + "-" + value, questionId, value, List.of(), null, Map.of());
+    }
+
+    private static EvaluationServiceProperties properties(int maxPending) {
+        EvaluationServiceProperties properties = new EvaluationServiceProperties();
+        properties.getSubmission().setDraftAutosaveQuietMs(2_000);
+        properties.getSubmission().setDraftAutosaveMaxDelayMs(10_000);
+        properties.getSubmission().setDraftAutosaveMaxPending(maxPending);
+        return properties;
+    }
+}
@@ -0,0 +1,251 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.application.port.in.ReportGenerationUseCase.IndividualReportResult;
+import com.evaluationservice.domain.event.CampaignChangedEvent;
+import com.evaluationservice.domain.event.ScoreAggregatesChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisReportCache")
+class RedisReportCacheTest {
+
+    private static final CampaignId CAMPAIGN = CampaignId.of("campaign-1");
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager("reports");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private RedisReportCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.multiGet(anyList())).thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).stream()
+                .map(key -> versions.containsKey(key) ? String.valueOf(versions.get(key)) : null)
+                .toList());
+        RedisConnection connection = mock(RedisConnection.class, RETURNS_DEEP_STUBS);
+        when(connection.stringCommands().incr(any(byte[].class))).thenAnswer(invocation -> versions.merge(
+                new String((byte[]) invocation.getArgument(0), StandardCharsets.UTF_8), 1L, Long::sum));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+
+        EvaluationServiceProperties properties = new EvaluationServiceProperties();
+        properties.getReports().setCacheEnabled(true);
+        cache = new RedisReportCache(cacheManager, redisTemplate, meterRegistry, properties);
+    }
+
+    @Test
+    @DisplayName("serves repeat reads from the cache and counts hits and misses")
+    void cachesReports() {
+        IndividualReportResult first = individual("evaluatee-a");
+        IndividualReportResult second = individual("evaluatee-a");
+
+        assertThat(first).isEqualTo(second);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.counter("evaluation.reports.cache.requests", "result", "miss").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("evaluation.reports.cache.requests", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("evaluation.reports.cache.load").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidates only the changed evaluatee and the campaign report")
+    void evictsPrecisely() {
+        individual("evaluatee-a");
+        individual("evaluatee-b");
+        campaign();
+        assertThat(loads).hasValue(3);
+
+        cache.onScoreAggregatesChanged(ScoreAggregatesChangedEvent.forEvaluatees(CAMPAIGN, Set.of("evaluatee-a")));
+
+        individual("evaluatee-a");
+        individual("evaluatee-b");
+        campaign();
+        assertThat(loads).hasValue(5);
+        assertThat(meterRegistry.counter("evaluation.reports.cache.evictions", "scope", "evaluatee").count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("invalidates every report of the campaign on campaign changes")
+    void evictsCampaignOnLifecycleChange() {
+        individual("evaluatee-a");
+        campaign();
+
+        cache.onCampaignChanged(CampaignChangedEvent.of(CAMPAIGN, "CLOSE"));
+
+        individual("evaluatee-a");
+        campaign();
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("collapses concurrent misses into one computation")
+    void singleFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> cache.get(CAMPAIGN, "evaluatee-a", String.class, () -> {
+                loading.countDown();
+                await(release);
+                loads.incrementAndGet();
+                return "report";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> cache.get(CAMPAIGN, "evaluatee-a", String.class, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            }));
+            while (meterRegistry.counter("evaluation.reports.cache.collapsed").count() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("report");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("report");
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("collapses many concurrent misses and caches the shared result")
+    void singleFlightUnderLoad() throws Exception {
+        int callers = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get(CAMPAIGN, "evaluatee-a", String.class, () -> {
+                    await(release);
+                    loads.incrementAndGet();
+                    return "report";
+                })));
+            }
+            while (meterRegistry.counter("evaluation.reports.cache.collapsed").count() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("report");
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(cache.get(CAMPAIGN, "evaluatee-a", String.class, () -> "reloaded")).isEqualTo("report");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("fails waiting misses with the leader's error and loads again afterwards")
+    void singleFlightFailure() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> cache.get(CAMPAIGN, null, String.class, () -> {
+                loading.countDown();
+                await(release);
+                throw new IllegalStateException("campaign not found");
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> cache.get(CAMPAIGN, null, String.class, () -> "duplicate"));
+            while (meterRegistry.counter("evaluation.reports.cache.collapsed").count() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(cache.get(CAMPAIGN, null, String.class, () -> "campaign-report")).isEqualTo("campaign-report");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("computes directly when Redis is unavailable")
+    void fallsBackOnRedisFailure() {
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("down"));
+
+        individual("evaluatee-a");
+        individual("evaluatee-a");
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.counter("evaluation.reports.cache.requests", "result", "error").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("passes straight through when disabled")
+    void disabledPassesThrough() {
+        RedisReportCache disabled = new RedisReportCache(
+                cacheManager, redisTemplate, meterRegistry, new EvaluationServiceProperties());
+
+        disabled.get(CAMPAIGN, "evaluatee-a", String.class, () -> "a");
+        disabled.onCampaignChanged(CampaignChangedEvent.of(CAMPAIGN, "CLOSE"));
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private IndividualReportResult individual(String evaluateeId) {
+        return cache.get(CAMPAIGN, evaluateeId, IndividualReportResult.class, () -> {
+            loads.incrementAndGet();
+            return new IndividualReportResult(evaluateeId, evaluateeId, CAMPAIGN, 7.5,
+                    Map.of("Leadership", 7.5), Map.of(), Map.of(), 2, 2, null, Map.of());
+        });
+    }
+
+    private void campaign() {
+        cache.get(CAMPAIGN, null, String.class, () -> {
+            loads.incrementAndGet();
+            return "campaign-report";
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
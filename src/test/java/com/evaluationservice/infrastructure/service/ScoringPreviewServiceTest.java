@@ -19,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,7 +39,7 @@ class ScoringPreviewServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new ScoringPreviewService(templatePersistencePort, new ScoringService(), new EvaluationValidationService(templatePersistencePort));
+        service = new ScoringPreviewService(templatePersistencePort, new ScoringService(new ScoringPlanCache()), new EvaluationValidationService(templatePersistencePort));
     }
 
     @Test
@@ -67,6 +68,32 @@ class ScoringPreviewServiceTest {
         assertThrows(IllegalArgumentException.class, () -> service.preview(request));
     }
 
+    @Test
+    void formulaOverrideImpliesCustomFormulaScoring() {
+        when(templatePersistencePort.findById(TemplateId.of("t1"))).thenReturn(Optional.of(template()));
+        ScoringPreviewRequest request = new ScoringPreviewRequest(
+                "t1",
+                null,
+                "answered('q1') ? q('q1') / 2 + 1 : 0",
+                List.of(new AnswerRequest("q1", 8, List.of(), null, Map.of())));
+
+        var response = service.preview(request);
+        assertEquals(ScoringMethod.CUSTOM_FORMULA, response.scoringMethod());
+        assertEquals(0, new BigDecimal("5").compareTo(response.sections().get(0).score()));
+    }
+
+    @Test
+    void rejectsMalformedFormulaOverride() {
+        when(templatePersistencePort.findById(TemplateId.of("t1"))).thenReturn(Optional.of(template()));
+        ScoringPreviewRequest request = new ScoringPreviewRequest(
+                "t1",
+                null,
+                "q('q1') +",
+                List.of(new AnswerRequest("q1", 8, List.of(), null, Map.of())));
+
+        assertThrows(IllegalArgumentException.class, () -> service.preview(request));
+    }
+
     private Template template() {
         Question q1 = new Question("q1", "Rate", QuestionType.NUMERIC_RATING, 1, true, List.of(), Weight.EQUAL, Map.of(), null);
         Section s1 = new Section("s1", "Section", null, 1, Weight.EQUAL, List.of(q1));
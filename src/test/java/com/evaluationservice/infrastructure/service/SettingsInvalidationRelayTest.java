@@ -0,0 +1,66 @@
+package com.evaluationservice.infrastructure.service;
+
+import com.evaluationservice.application.service.SettingsResolverService;
+import com.evaluationservice.domain.event.SettingsChangedEvent;
+import com.evaluationservice.domain.value.CampaignId;
+import com.evaluationservice.infrastructure.config.EvaluationServiceProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SettingsInvalidationRelay")
+class SettingsInvalidationRelayTest {
+
+    private final SettingsResolverService resolver = mock(SettingsResolverService.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final SettingsInvalidationRelay relay =
+            new SettingsInvalidationRelay(resolver, redisTemplate, new EvaluationServiceProperties());
+
+    @Test
+    @DisplayName("broadcasts committed changes and ignores its own echo")
+    void broadcastsAndIgnoresOwnMessages() {
+        relay.onSettingsChanged(new SettingsChangedEvent("notification.enabled", CampaignId.of("campaign-1"), null));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("evaluation.settings.invalidate"), payload.capture());
+        assertThat(payload.getValue()).endsWith("|campaign-1");
+
+        relay.onMessage(message(payload.getValue()), null);
+        verifyNoInteractions(resolver);
+    }
+
+    @Test
+    @DisplayName("invalidates the local snapshot for changes made on other nodes")
+    void invalidatesForRemoteChanges() {
+        relay.onMessage(message("other-node|campaign-7"), null);
+        relay.onMessage(message("other-node|*"), null);
+
+        verify(resolver).invalidate(CampaignId.of("campaign-7"));
+        verify(resolver).invalidate(null);
+    }
+
+    @Test
+    @DisplayName("keeps working when Redis is unavailable")
+    void toleratesPublishFailure() {
+        when(redisTemplate.convertAndSend(any(), any())).thenThrow(new IllegalStateException("down"));
+
+        relay.onSettingsChanged(new SettingsChangedEvent("notification.enabled", null, null));
+
+        verifyNoInteractions(resolver);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                "evaluation.settings.invalidate".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}